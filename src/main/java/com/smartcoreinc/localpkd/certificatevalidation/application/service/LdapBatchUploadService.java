@@ -5,6 +5,7 @@ import com.smartcoreinc.localpkd.certificatevalidation.domain.model.Certificate;
 import com.smartcoreinc.localpkd.certificatevalidation.domain.model.CertificateRevocationList;
 import com.smartcoreinc.localpkd.ldapintegration.infrastructure.adapter.LdifConverter;
 import com.smartcoreinc.localpkd.ldapintegration.infrastructure.adapter.UnboundIdLdapAdapter;
+import com.unboundid.ldap.sdk.Entry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -23,7 +24,7 @@ import java.util.UUID;
  * <ul>
  *   <li>인증서 배치 LDAP 업로드</li>
  *   <li>CRL 배치 LDAP 업로드</li>
- *   <li>LDIF 변환 및 업로드 통합</li>
+ *   <li>LDAP Entry 변환 및 업로드 통합 (LDIF 텍스트 경유 없음)</li>
  *   <li>부분 실패 처리 (일부 실패해도 계속 진행)</li>
  * </ul>
  *
@@ -46,7 +47,7 @@ public class LdapBatchUploadService {
     /**
      * 인증서 배치를 LDAP에 업로드
      *
-     * <p>각 인증서를 LDIF 형식으로 변환하고 배치 단위로 LDAP에 업로드합니다.</p>
+     * <p>각 인증서를 LDAP Entry로 직접 변환하고 배치 단위로 LDAP에 업로드합니다.</p>
      * <p>업로드 성공 시 각 인증서의 uploadedToLdap 플래그를 true로 설정합니다.</p>
      *
      * @param certificates 업로드할 인증서 목록
@@ -60,24 +61,23 @@ public class LdapBatchUploadService {
 
         log.info("Uploading {} certificates to LDAP", certificates.size());
 
-        List<String> ldifEntries = new ArrayList<>();
+        List<Entry> entries = new ArrayList<>();
         List<Certificate> validCertificates = new ArrayList<>();
         List<UUID> failedIds = new ArrayList<>();
         List<String> errorMessages = new ArrayList<>();
         int conversionFailedCount = 0;
 
-        // 1. LDIF 변환
+        // 1. Entry 변환
         for (Certificate cert : certificates) {
             try {
-                String ldifEntry = ldifConverter.certificateToLdif(cert);
-                ldifEntries.add(ldifEntry);
+                entries.add(ldifConverter.certificateToEntry(cert));
                 validCertificates.add(cert);
             } catch (Exception e) {
                 conversionFailedCount++;
                 failedIds.add(cert.getId().getId());
-                errorMessages.add(String.format("LDIF conversion failed for cert %s: %s",
+                errorMessages.add(String.format("LDAP entry conversion failed for cert %s: %s",
                     cert.getId().getId(), e.getMessage()));
-                log.error("Failed to convert certificate to LDIF: id={}, error={}",
+                log.error("Failed to convert certificate to LDAP entry: id={}, error={}",
                     cert.getId().getId(), e.getMessage());
             }
         }
@@ -86,10 +86,10 @@ public class LdapBatchUploadService {
         int successCount = 0;
         int skippedCount = 0;
 
-        if (!ldifEntries.isEmpty()) {
+        if (!entries.isEmpty()) {
             try {
-                successCount = ldapAdapter.addLdifEntriesBatch(ldifEntries);
-                skippedCount = ldifEntries.size() - successCount;
+                successCount = ldapAdapter.addEntriesBatch(entries);
+                skippedCount = entries.size() - successCount;
 
                 log.info("LDAP batch upload completed: {} success, {} skipped (duplicates)",
                     successCount, skippedCount);
@@ -135,7 +135,7 @@ public class LdapBatchUploadService {
     /**
      * CRL 배치를 LDAP에 업로드 (RFC 5280 기준 CRL Number 비교 포함)
      *
-     * <p>각 CRL을 LDIF 형식으로 변환하고 배치 단위로 LDAP에 업로드합니다.</p>
+     * <p>각 CRL을 LDAP Entry로 직접 변환하고 배치 단위로 LDAP에 업로드합니다.</p>
      * <p><b>RFC 5280 표준 준수</b>: CRL Number를 비교하여 더 최신 CRL만 업로드합니다.</p>
      *
      * <h3>동작 방식</h3>
@@ -156,22 +156,21 @@ public class LdapBatchUploadService {
 
         log.info("Uploading {} CRLs to LDAP (RFC 5280 CRL Number comparison enabled)", crls.size());
 
-        List<String> ldifEntries = new ArrayList<>();
+        List<Entry> entries = new ArrayList<>();
         List<UUID> failedIds = new ArrayList<>();
         List<String> errorMessages = new ArrayList<>();
         int conversionFailedCount = 0;
 
-        // 1. LDIF 변환
+        // 1. Entry 변환
         for (CertificateRevocationList crl : crls) {
             try {
-                String ldifEntry = ldifConverter.crlToLdif(crl);
-                ldifEntries.add(ldifEntry);
+                entries.add(ldifConverter.crlToEntry(crl));
             } catch (Exception e) {
                 conversionFailedCount++;
                 failedIds.add(crl.getId().getId());
-                errorMessages.add(String.format("LDIF conversion failed for CRL %s: %s",
+                errorMessages.add(String.format("LDAP entry conversion failed for CRL %s: %s",
                     crl.getId().getId(), e.getMessage()));
-                log.error("Failed to convert CRL to LDIF: id={}, error={}",
+                log.error("Failed to convert CRL to LDAP entry: id={}, error={}",
                     crl.getId().getId(), e.getMessage());
             }
         }
@@ -181,11 +180,11 @@ public class LdapBatchUploadService {
         int skippedCount = 0;
         int updatedCount = 0;
 
-        if (!ldifEntries.isEmpty()) {
+        if (!entries.isEmpty()) {
             try {
                 // RFC 5280 표준에 따라 CRL Number를 비교하여 추가/업데이트/스킵 결정
                 UnboundIdLdapAdapter.CrlBatchResult batchResult =
-                    ldapAdapter.addOrUpdateCrlEntriesBatch(ldifEntries);
+                    ldapAdapter.addOrUpdateCrls(entries);
 
                 successCount = batchResult.added();
                 updatedCount = batchResult.updated();
@@ -0,0 +1,140 @@
+package com.smartcoreinc.localpkd.certificatevalidation.application.service;
+
+import com.smartcoreinc.localpkd.certificatevalidation.domain.event.CertificatesValidatedEvent;
+import com.smartcoreinc.localpkd.certificatevalidation.domain.model.Certificate;
+import com.smartcoreinc.localpkd.certificatevalidation.domain.model.CertificateRevocationList;
+import com.smartcoreinc.localpkd.certificatevalidation.domain.port.CertificateBulkLoadPort;
+import com.smartcoreinc.localpkd.fileparsing.domain.model.CertificateData;
+import com.smartcoreinc.localpkd.fileparsing.domain.model.CrlData;
+import com.smartcoreinc.localpkd.fileparsing.domain.model.ParsedFile;
+import com.smartcoreinc.localpkd.fileparsing.domain.model.ParsedFileId;
+import com.smartcoreinc.localpkd.fileparsing.domain.repository.ParsedFileRepository;
+import com.smartcoreinc.localpkd.fileupload.domain.model.UploadId;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * ValidationBatchService - 인증서 검증 배치 트랜잭션 경계 서비스
+ *
+ * <p><b>책임</b>: ValidateCertificatesUseCase의 DB 작업을 짧은 독립 트랜잭션으로 분리합니다.</p>
+ *
+ * <p><b>트랜잭션 전략</b>:</p>
+ * <pre>
+ * ValidateCertificatesUseCase (NOT_SUPPORTED - 트랜잭션 없음)
+ *   ├─▶ loadParsedFile()          (readOnly)      // 파싱 결과 헤더(건수/통계)만 로드
+ *   ├─▶ iterateCertificates()     (페이지마다 readOnly) // keyset 페이지 단위로 인증서 조회
+ *   ├─▶ saveCertificateBatch()    (REQUIRES_NEW)  // 배치마다 commit → 영속성 컨텍스트 즉시 해제
+ *   ├─▶ saveCrlBatch()            (REQUIRES_NEW)
+ *   └─▶ publishValidatedEvent()   (REQUIRES_NEW)  // AFTER_COMMIT 리스너(LDAP 업로드) 트리거
+ * </pre>
+ *
+ * <p>배치 저장은 {@link CertificateBulkLoadPort}를 사용합니다 (PostgreSQL에서는 COPY + INSERT ... SELECT 병합).</p>
+ *
+ * <p>배치가 커밋된 후 장애가 발생하면, 재실행 시 이미 커밋된 인증서는 fingerprint로 식별되어
+ * 재검증 없이 결과에 포함됩니다 (마지막 커밋 배치 이후부터 재개).</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ValidationBatchService {
+
+    private final ParsedFileRepository parsedFileRepository;
+    private final CertificateBulkLoadPort bulkLoadPort;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 파싱된 파일 조회
+     *
+     * <p>인증서/CRL 본문은 로드하지 않습니다. 건수는 {@link ParsedFile#getCertificateCount()} 등으로,
+     * 본문은 {@link #iterateCertificates}/{@link #iterateCrls}로 페이지 단위 조회합니다.</p>
+     *
+     * @param uploadId 업로드 ID
+     * @return ParsedFile
+     */
+    @Transactional(readOnly = true)
+    public Optional<ParsedFile> loadParsedFile(UploadId uploadId) {
+        return parsedFileRepository.findByUploadId(uploadId);
+    }
+
+    /**
+     * 유형별 파싱된 인증서 수 조회
+     *
+     * @param parsedFileId 파싱 파일 ID
+     * @param certificateTypes 인증서 유형 (CSCA, DSC, DSC_NC)
+     * @return 인증서 수
+     */
+    public long countCertificates(ParsedFileId parsedFileId, Set<String> certificateTypes) {
+        return parsedFileRepository.countCertificates(parsedFileId, certificateTypes);
+    }
+
+    /**
+     * 파싱된 인증서 순회 (fingerprint 순 keyset 페이지, 페이지마다 짧은 읽기 트랜잭션)
+     *
+     * @param parsedFileId 파싱 파일 ID
+     * @param certificateTypes 인증서 유형
+     * @param pageSize 페이지 크기
+     * @return 인증서 Iterator
+     */
+    public Iterator<CertificateData> iterateCertificates(
+            ParsedFileId parsedFileId, Set<String> certificateTypes, int pageSize) {
+        return parsedFileRepository.iterateCertificates(parsedFileId, certificateTypes, pageSize);
+    }
+
+    /**
+     * 파싱된 CRL 순회 (발행자 DN 순 keyset 페이지)
+     *
+     * @param parsedFileId 파싱 파일 ID
+     * @param pageSize 페이지 크기
+     * @return CRL Iterator
+     */
+    public Iterator<CrlData> iterateCrls(ParsedFileId parsedFileId, int pageSize) {
+        return parsedFileRepository.iterateCrls(parsedFileId, pageSize);
+    }
+
+    /**
+     * 인증서 배치 저장 (독립 트랜잭션)
+     *
+     * @param certificates 저장할 인증서 배치
+     * @return 저장된 인증서 목록 (이미 존재하는 fingerprint는 제외)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public List<Certificate> saveCertificateBatch(List<Certificate> certificates) {
+        List<Certificate> saved = bulkLoadPort.insertCertificates(certificates);
+        log.debug("Certificate batch committed: {} of {} certificates", saved.size(), certificates.size());
+        return saved;
+    }
+
+    /**
+     * CRL 배치 저장 (독립 트랜잭션)
+     *
+     * @param crls 저장할 CRL 배치
+     * @return 저장된 CRL 목록
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public List<CertificateRevocationList> saveCrlBatch(List<CertificateRevocationList> crls) {
+        List<CertificateRevocationList> saved = bulkLoadPort.insertCrls(crls);
+        log.debug("CRL batch committed: {} CRLs", saved.size());
+        return saved;
+    }
+
+    /**
+     * CertificatesValidatedEvent 발행 (독립 트랜잭션)
+     *
+     * <p>{@code @TransactionalEventListener(AFTER_COMMIT)} 리스너가 이 트랜잭션 커밋 후 실행됩니다.</p>
+     *
+     * @param event 검증 완료 이벤트
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void publishValidatedEvent(CertificatesValidatedEvent event) {
+        eventPublisher.publishEvent(event);
+    }
+}
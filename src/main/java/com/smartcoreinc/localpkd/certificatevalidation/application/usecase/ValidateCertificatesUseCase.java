@@ -2,43 +2,58 @@ package com.smartcoreinc.localpkd.certificatevalidation.application.usecase;
 
 import com.smartcoreinc.localpkd.certificatevalidation.application.command.ValidateCertificatesCommand;
 import com.smartcoreinc.localpkd.certificatevalidation.application.response.CertificatesValidatedResponse;
+import com.smartcoreinc.localpkd.certificatevalidation.application.service.ValidationBatchService;
 
 import com.smartcoreinc.localpkd.certificatevalidation.domain.model.*;
 import com.smartcoreinc.localpkd.certificatevalidation.domain.event.CertificatesValidatedEvent;
+import com.smartcoreinc.localpkd.certificatevalidation.domain.port.CscaTrustStore;
 // LdapBatchUploadEvent import 제거됨 - 동기 LDAP 업로드만 사용 (통계 정확성 확보)
 import com.smartcoreinc.localpkd.certificatevalidation.domain.repository.CertificateRepository;
 import com.smartcoreinc.localpkd.certificatevalidation.domain.repository.CertificateRevocationListRepository;
 import com.smartcoreinc.localpkd.fileparsing.domain.model.CertificateData;
+import com.smartcoreinc.localpkd.fileparsing.domain.model.CrlData;
 import com.smartcoreinc.localpkd.fileparsing.domain.model.ParsedFile;
+import com.smartcoreinc.localpkd.fileparsing.domain.model.ParsedFileId;
 import com.smartcoreinc.localpkd.fileparsing.domain.repository.MasterListRepository;
-import com.smartcoreinc.localpkd.fileparsing.domain.repository.ParsedFileRepository;
 import com.smartcoreinc.localpkd.fileupload.domain.model.FileFormat;
 import com.smartcoreinc.localpkd.fileupload.domain.model.UploadId;
 import com.smartcoreinc.localpkd.shared.exception.DomainException;
 import com.smartcoreinc.localpkd.shared.progress.ProcessingProgress;
 import com.smartcoreinc.localpkd.shared.progress.ProcessingStage;
 import com.smartcoreinc.localpkd.shared.progress.ProgressService;
-import lombok.RequiredArgsConstructor;
+import com.smartcoreinc.localpkd.shared.util.CertificateFactoryCache;
 import lombok.extern.slf4j.Slf4j;
 import org.bouncycastle.asn1.x500.X500Name;
 import org.bouncycastle.asn1.x500.style.BCStyle;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.context.ApplicationEventPublisher;
 
 import java.io.ByteArrayInputStream;
+import java.math.BigInteger;
 import java.security.PublicKey;
-import java.security.cert.CertificateFactory;
+import java.security.cert.CRLException;
+import java.security.cert.X509CRL;
+import java.security.cert.X509CRLEntry;
 import java.security.cert.X509Certificate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 
 /**
  * ValidateCertificatesUseCase - 인증서 검증 Use Case
@@ -48,7 +63,7 @@ import java.util.UUID;
  * <p><b>검증 프로세스</b>:</p>
  * <ol>
  *   <li>Command 검증</li>
- *   <li>파싱된 인증서/CRL 조회</li>
+ *   <li>파싱된 인증서/CRL 페이지 단위 조회</li>
  *   <li>각 인증서 검증 (만료 여부, 유효성, Trust Chain 등)</li>
  *   <li>각 CRL 검증</li>
  *   <li>검증 결과 기록</li>
@@ -83,23 +98,54 @@ import java.util.UUID;
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class ValidateCertificatesUseCase {
 
     private final CertificateRepository certificateRepository;
     private final CertificateRevocationListRepository crlRepository;
-    private final ParsedFileRepository parsedFileRepository;
     private final MasterListRepository masterListRepository;
     private final ProgressService progressService;
-    private final ApplicationEventPublisher eventPublisher;
+    private final ValidationBatchService validationBatchService;
+    private final CscaTrustStore cscaTrustStore;
+    private final Executor validationExecutor;
+    private final int batchSize;
+
+    private static final Set<String> CSCA_TYPES = Set.of("CSCA");
+    private static final Set<String> DSC_TYPES = Set.of("DSC", "DSC_NC");
+
+    /**
+     * Constructor with @Qualifier to specify the validation worker executor
+     */
+    public ValidateCertificatesUseCase(
+            CertificateRepository certificateRepository,
+            CertificateRevocationListRepository crlRepository,
+            MasterListRepository masterListRepository,
+            ProgressService progressService,
+            ValidationBatchService validationBatchService,
+            CscaTrustStore cscaTrustStore,
+            @Qualifier("certificateValidationWorkerExecutor") Executor validationExecutor,
+            @Value("${app.validation.batch-size:1000}") int batchSize
+    ) {
+        this.certificateRepository = certificateRepository;
+        this.crlRepository = crlRepository;
+        this.masterListRepository = masterListRepository;
+        this.progressService = progressService;
+        this.validationBatchService = validationBatchService;
+        this.cscaTrustStore = cscaTrustStore;
+        this.validationExecutor = validationExecutor;
+        this.batchSize = Math.max(1, batchSize);
+    }
 
     /**
      * 인증서 검증 실행
      *
+     * <p><b>트랜잭션 전략</b>: 전체를 하나의 트랜잭션으로 묶지 않습니다 (NOT_SUPPORTED).
+     * 서명 검증은 워커 스레드 풀에서 병렬로 수행하고, 배치마다 {@link ValidationBatchService}를 통해
+     * 독립 트랜잭션으로 커밋합니다. 장애 후 재실행하면 이미 커밋된 배치는 건너뛰고 이어서 처리합니다.</p>
+     *
      * @param command ValidateCertificatesCommand
      * @return CertificatesValidatedResponse
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public CertificatesValidatedResponse execute(ValidateCertificatesCommand command) {
         log.info("=== Certificate validation started ===");
         log.info("UploadId: {}, Certificates: {}, CRLs: {}",
@@ -115,265 +161,72 @@ public class ValidateCertificatesUseCase {
             // 이 UseCase에서는 시작 시점을 알리는 이벤트를 보내지 않습니다.
             // 대신 55%부터 진행률을 업데이트합니다.
 
-            // 2. 파싱된 파일 조회
+            // 2. 파싱된 파일 조회 (읽기 전용 트랜잭션, 인증서/CRL 본문은 이후 페이지 단위로 조회)
             UploadId uploadId = UploadId.of(command.uploadId().toString());
-            ParsedFile parsedFile = parsedFileRepository.findByUploadId(uploadId)
+            ParsedFile parsedFile = validationBatchService.loadParsedFile(uploadId)
                 .orElseThrow(() -> new DomainException(
                     "PARSED_FILE_NOT_FOUND",
                     "파싱된 파일을 찾을 수 없습니다: uploadId=" + command.uploadId()
                 ));
 
             log.info("Found parsed file: {} certificates, {} CRLs",
-                parsedFile.getCertificates().size(), parsedFile.getCrls().size());
+                parsedFile.getCertificateCount(), parsedFile.getCrlCount());
 
             // 3. 파싱된 인증서 검증 및 저장 (Two-Pass 처리)
-            List<CertificateData> certificateDataList = parsedFile.getCertificates();
-            List<UUID> validCertificateIds = new ArrayList<>();
-            List<UUID> invalidCertificateIds = new ArrayList<>();
-            Set<String> processedFingerprints = new HashSet<>(); // 동일 트랜잭션 내 중복 처리 방지
-
-            int totalCertificates = certificateDataList.size();
-
-            // === Pass 1: CSCA 인증서만 먼저 검증/저장 (✅ 배치 저장) ===
-            log.info("=== Pass 1: CSCA certificate validation started (Batch save optimization) ===");
-            int cscaProcessed = 0;
-            List<Certificate> cscaBatch = new ArrayList<>();
-            final int BATCH_SIZE = 1000;
-
-            // ✅ DB 저장 카운터 (SSE 진행률 용)
-            int totalDbSaved = 0;
-            int totalCrls = parsedFile.getCrls().size();
+            ParsedFileId parsedFileId = parsedFile.getId();
+            ValidationState state = new ValidationState();
+
+            int totalCertificates = parsedFile.getCertificateCount();
+            int totalCrls = parsedFile.getCrlCount();
             int totalToSave = totalCertificates + totalCrls;
+            FileFormat fileFormat = parsedFile.getFileFormat();
 
             // 비동기 LDAP 업로드 코드 제거됨 - 동기 업로드만 사용 (통계 정확성 확보)
             // CertificatesValidatedEvent → CertificateValidatedEventHandler → UploadToLdapUseCase 경로로 처리
 
             // ✅ 파일 형식 확인 (ML vs LDIF)
-            String fileFormat = parsedFile.getFileFormat().toStorageValue();
-            log.info("File format: {}", fileFormat);
+            log.info("File format: {}", fileFormat.toStorageValue());
 
             // ✅ 인증서 타입 레이블 결정: ML 파일(CSCA만 있음)이면 "CSCA", DSC/CRL LDIF 파일이면 "DSC"
-            long dscCountForLabel = certificateDataList.stream()
-                .filter(cert -> !cert.isCsca())  // CSCA가 아닌 것 = DSC 또는 DSC_NC
-                .count();
-            String certLabel = (dscCountForLabel > 0) ? "DSC" : "CSCA";
-            log.info("Certificate label for progress messages: {} (DSC/DSC_NC count: {})", certLabel, dscCountForLabel);
+            int cscaCount = (int) validationBatchService.countCertificates(parsedFileId, CSCA_TYPES);
+            int dscCount = totalCertificates - cscaCount;  // CSCA가 아닌 것 = DSC 또는 DSC_NC
+            String certLabel = dscCount == 0 ? "CSCA" : "DSC";
+            log.info("Certificate label for progress messages: {} (DSC/DSC_NC count: {})", certLabel, dscCount);
 
             // ✅ DB 저장 시작 SSE 이벤트 발송
             progressService.sendProgress(
                 ProcessingProgress.dbSavingStarted(command.uploadId(), totalToSave)
             );
 
-            // ✅ Phase 1-1: 배치 중복 체크 (Pass 1 - CSCA)
-            // 모든 CSCA fingerprint 수집
-            Set<String> cscaFingerprints = new HashSet<>();
-            for (CertificateData certData : certificateDataList) {
-                if (certData.isCsca()) {
-                    cscaFingerprints.add(certData.getFingerprintSha256());
-                }
-            }
-            log.info("Collected {} CSCA fingerprints for duplicate check", cscaFingerprints.size());
-
-            // DB에서 이미 존재하는 fingerprint 조회 (단일 쿼리)
-            Set<String> existingCscaFingerprints = new HashSet<>();
-            if (!cscaFingerprints.isEmpty()) {
-                List<String> existingList = certificateRepository.findFingerprintsByFingerprintSha256In(cscaFingerprints);
-                existingCscaFingerprints = new HashSet<>(existingList);
-                log.info("Found {} existing CSCA certificates in database (will be skipped)", existingCscaFingerprints.size());
-            }
-
-            for (int i = 0; i < totalCertificates; i++) { // Loop over all certificates
-                CertificateData certData = certificateDataList.get(i);
-
-                if (certData.isCsca()) {
-                    cscaProcessed++;
-
-                    // ✅ Phase 1-1: DB 중복 체크 (이전 업로드와 중복)
-                    if (existingCscaFingerprints.contains(certData.getFingerprintSha256())) {
-                        log.info("Skipping CSCA certificate already in database: fingerprint={}, subject={}",
-                            certData.getFingerprintSha256().substring(0, 16) + "...",
-                            certData.getSubjectDN());
-                        continue;
-                    }
-
-                    // 동일 트랜잭션 내 중복 체크
-                    if (processedFingerprints.contains(certData.getFingerprintSha256())) {
-                        log.warn("Skipping duplicate certificate within the same batch: fingerprint={}", certData.getFingerprintSha256());
-                        // 이 경우, invalidCertificateIds에 추가하지 않고 단순히 건너뜁니다.
-                        continue;
-                    }
-
-                    Certificate certificate = null;
-                    List<ValidationError> errors = new ArrayList<>();
-                    ValidationResult validationResult = null; // Initialize to null
-
-                    try {
-                        log.debug("Validating CSCA {}: country={}, subject={}",
-                            cscaProcessed, certData.getCountryCode(), certData.getSubjectDN());
-
-                        X509Certificate x509Cert = convertToX509Certificate(certData.getCertificateBinary());
-                        certificate = createCertificateFromData(certData, x509Cert, command.uploadId(), parsedFile.getFileFormat());
-
-                        // Perform validation and get result and errors
-                        validationResult = validateCscaCertificate(x509Cert, certData, errors);
-                        certificate.recordValidation(validationResult);
-                        certificate.addValidationErrors(errors);
-
-                        // ✅ 배치에 추가 (개별 저장 대신)
-                        cscaBatch.add(certificate);
-                        processedFingerprints.add(certData.getFingerprintSha256());
-
-                        // 유효/무효 리스트에 추가 (미리 분류)
-                        if (certificate.isValid()) {
-                            validCertificateIds.add(certificate.getId().getId());
-                        } else {
-                            invalidCertificateIds.add(certificate.getId().getId());
-                        }
-
-                    } catch (Exception e) {
-                        // Handle unexpected errors during processing a single certificate
-                        errors.add(ValidationError.critical("UNEXPECTED_PROCESSING_ERROR", "Unexpected error processing CSCA: " + e.getMessage()));
-                        validationResult = ValidationResult.of(CertificateStatus.INVALID, false, false, false, false, false, 0); // Default failed result
-
-                        try {
-                            if (certificate == null) {
-                                certificate = createCertificateFromData(certData, command.uploadId(), parsedFile.getFileFormat());
-                            }
-                            certificate.addValidationErrors(errors);
-
-                            // ✅ 오류 인증서도 배치에 추가
-                            cscaBatch.add(certificate);
-                            processedFingerprints.add(certData.getFingerprintSha256());
-                            invalidCertificateIds.add(certificate.getId().getId());
-
-                            log.error("CSCA certificate processing failed: subject={}. Error: {}", certData.getSubjectDN(), e.getMessage());
-                        } catch (Exception creationEx) {
-                            log.error("Failed to create or save dummy error certificate for subject={}. Error: {}", certData.getSubjectDN(), creationEx.getMessage());
-                        }
-                    }
-
-                    // ✅ 배치 크기가 BATCH_SIZE에 도달하면 일괄 저장 + 비동기 LDAP 업로드 이벤트 발행
-                    if (cscaBatch.size() >= BATCH_SIZE) {
-                        log.info("Saving CSCA batch: {} certificates", cscaBatch.size());
-                        certificateRepository.saveAll(cscaBatch);
-                        totalDbSaved += cscaBatch.size();
-                        log.info("CSCA batch saved successfully: {} certificates (total DB saved: {})", cscaBatch.size(), totalDbSaved);
-
-                        // ✅ DB 저장 진행률 SSE 이벤트 발송
-                        progressService.sendProgress(
-                            ProcessingProgress.dbSavingInProgress(
-                                command.uploadId(),
-                                totalDbSaved,
-                                totalToSave,
-                                String.format("CSCA DB 저장 중 (%d/%d)", totalDbSaved, totalToSave),
-                                72, 80  // 72-80% 범위 (CSCA)
-                            )
-                        );
-
-                        cscaBatch.clear();
-                    }
-
-                    // SSE 진행 상황 업데이트 (55-70% 범위 - Pass 1)
-                    progressService.sendProgress(
-                        ProcessingProgress.validationInProgress(
-                            command.uploadId(),
-                            cscaProcessed,
-                            totalCertificates, // Use totalCertificates as total for now
-                            String.format("CSCA 인증서 검증 중 (%d/%d)", cscaProcessed, totalCertificates),
-                            55, // minPercent for Pass 1
-                            70  // maxPercent for Pass 1
-                        )
-                    );
-                }
-            }
-
-            // ✅ 남은 CSCA 배치 저장 + 비동기 LDAP 업로드 이벤트 발행
-            if (!cscaBatch.isEmpty()) {
-                log.info("Saving final CSCA batch: {} certificates", cscaBatch.size());
-                certificateRepository.saveAll(cscaBatch);
-                totalDbSaved += cscaBatch.size();
-                log.info("Final CSCA batch saved successfully: {} certificates (total DB saved: {})", cscaBatch.size(), totalDbSaved);
-
-                // ✅ DB 저장 진행률 SSE 이벤트 발송
-                progressService.sendProgress(
-                    ProcessingProgress.dbSavingInProgress(
-                        command.uploadId(),
-                        totalDbSaved,
-                        totalToSave,
-                        String.format("CSCA DB 저장 완료 (%d/%d)", totalDbSaved, totalToSave),
-                        72, 80
-                    )
-                );
-
-                cscaBatch.clear();
-            }
+            // === Pass 1: CSCA 인증서만 먼저 검증/저장 (✅ 병렬 검증 + 배치별 독립 트랜잭션) ===
+            log.info("=== Pass 1: CSCA certificate validation started (parallel, batchSize={}) ===", batchSize);
+            runValidationPass(
+                new PassSpec("CSCA", 55, 70, 72, 80),
+                validationBatchService.iterateCertificates(parsedFileId, CSCA_TYPES, batchSize),
+                totalCertificates, totalToSave, state, command.uploadId(),
+                certData -> validateCertificate(certData, command.uploadId(), fileFormat, "CSCA",
+                    (x509Cert, errors) -> validateCscaCertificate(x509Cert, certData, errors))
+            );
 
             log.info("Pass 1 completed: {} CSCA certificates processed ({} valid, {} invalid)",
-                cscaProcessed, validCertificateIds.size(), invalidCertificateIds.size());
-
-            // ✅ CSCA 캐시 구축 (DSC 검증 시 N+1 쿼리 제거)
-            Map<String, Certificate> cscaCache = buildCscaCache(command.uploadId());
-            log.info("CSCA cache built: {} entries (Performance optimization: N+1 query elimination)", cscaCache.size());
-
-            // === Pass 2: DSC/DSC_NC 인증서 검증/저장 (✅ 배치 저장) ===
-            log.info("=== Pass 2: DSC/DSC_NC certificate validation started (Batch save optimization) ===");
-            int dscProcessed = 0;
-            List<Certificate> dscBatch = new ArrayList<>();
-
-            // ✅ Phase 1-1: 배치 중복 체크 (Pass 2 - DSC/DSC_NC)
-            // 모든 DSC/DSC_NC fingerprint 수집
-            Set<String> dscFingerprints = new HashSet<>();
-            for (CertificateData certData : certificateDataList) {
-                if (!certData.isCsca()) { // CSCA가 아니면 DSC/DSC_NC
-                    dscFingerprints.add(certData.getFingerprintSha256());
-                }
-            }
-            log.info("Collected {} DSC/DSC_NC fingerprints for duplicate check", dscFingerprints.size());
-
-            // DB에서 이미 존재하는 fingerprint 조회 (단일 쿼리)
-            Set<String> existingDscFingerprints = new HashSet<>();
-            if (!dscFingerprints.isEmpty()) {
-                List<String> existingList = certificateRepository.findFingerprintsByFingerprintSha256In(dscFingerprints);
-                existingDscFingerprints = new HashSet<>(existingList);
-                log.info("Found {} existing DSC/DSC_NC certificates in database (will be skipped)", existingDscFingerprints.size());
-            }
+                cscaCount, state.validCertificateIds.size(), state.invalidCertificateIds.size());
 
-            for (int i = 0; i < totalCertificates; i++) { // Loop over all certificates
-                CertificateData certData = certificateDataList.get(i);
-
-                if (!certData.isCsca()) { // CSCA가 아니면 DSC/DSC_NC
-                    dscProcessed++;
-
-                    // ✅ Phase 1-1: DB 중복 체크 (이전 업로드와 중복)
-                    if (existingDscFingerprints.contains(certData.getFingerprintSha256())) {
-                        log.info("Skipping DSC/DSC_NC certificate already in database: fingerprint={}, subject={}",
-                            certData.getFingerprintSha256().substring(0, 16) + "...",
-                            certData.getSubjectDN());
-                        continue;
-                    }
-
-                    // 동일 트랜잭션 내 중복 체크
-                    if (processedFingerprints.contains(certData.getFingerprintSha256())) {
-                        log.warn("Skipping duplicate certificate within the same batch: fingerprint={}", certData.getFingerprintSha256());
-                        // 이 경우, invalidCertificateIds에 추가하지 않고 단순히 건너뜁니다.
-                        continue;
-                    }
-
-                    Certificate certificate = null;
-                    List<ValidationError> errors = new ArrayList<>();
-                    ValidationResult validationResult = null; // Initialize to null
-
-                    try {
-                        log.debug("Validating DSC/DSC_NC {}: type={}, country={}, subject={}",
-                            dscProcessed, certData.getCertificateType(), certData.getCountryCode(), certData.getSubjectDN());
-
-                        X509Certificate x509Cert = convertToX509Certificate(certData.getCertificateBinary());
-                        certificate = createCertificateFromData(certData, x509Cert, command.uploadId(), parsedFile.getFileFormat());
+            // ✅ CSCA 신뢰 저장소 (AKI→SKI / 정규화 DN) - Pass 1에서 커밋된 CSCA는 커밋 이벤트로 증분 반영됨
+            log.info("CSCA trust store ready: {} CSCAs indexed", cscaTrustStore.size());
 
+            // === Pass 2: DSC/DSC_NC 인증서 검증/저장 (✅ 병렬 검증 + 배치별 독립 트랜잭션) ===
+            log.info("=== Pass 2: DSC/DSC_NC certificate validation started (parallel, batchSize={}) ===", batchSize);
+            runValidationPass(
+                new PassSpec("DSC", 70, 85, 80, 83),
+                validationBatchService.iterateCertificates(parsedFileId, DSC_TYPES, batchSize),
+                dscCount, totalToSave, state,
+                command.uploadId(),
+                certData -> validateCertificate(certData, command.uploadId(), fileFormat, "DSC/DSC_NC",
+                    (x509Cert, errors) -> {
                         // NC-DATA(DSC_NC)는 유효성 검사를 수행하지 않고 저장만 수행
                         if ("DSC_NC".equalsIgnoreCase(certData.getCertificateType())) {
                             log.info("Skipping validation for DSC_NC certificate (NC-DATA): subjectDN={}", certData.getSubjectDN());
-                            validationResult = ValidationResult.of(
+                            return ValidationResult.of(
                                 CertificateStatus.VALID, // 저장 및 LDAP 업로드를 위해 VALID로 간주
                                 false, // signatureValid
                                 false, // chainValid
@@ -382,120 +235,55 @@ public class ValidateCertificatesUseCase {
                                 false, // constraintsValid
                                 0L     // durationMillis
                             );
-                        } else {
-                            // Perform validation and get result and errors for standard DSC (✅ with cache)
-                            validationResult = validateDscCertificate(x509Cert, certData, command.uploadId(), errors, cscaCache);
                         }
-
-                        certificate.recordValidation(validationResult);
-                        certificate.addValidationErrors(errors);
-
-                        // ✅ 배치에 추가 (개별 저장 대신)
-                        dscBatch.add(certificate);
-                        processedFingerprints.add(certData.getFingerprintSha256());
-
-                        // 유효/무효 리스트에 추가 (미리 분류)
-                        if (certificate.isValid()) {
-                            validCertificateIds.add(certificate.getId().getId());
-                        } else {
-                            invalidCertificateIds.add(certificate.getId().getId());
-                        }
-
-                    } catch (Exception e) {
-                        // Handle unexpected errors during processing a single certificate
-                        errors.add(ValidationError.critical("UNEXPECTED_PROCESSING_ERROR", "Unexpected error processing DSC/DSC_NC: " + e.getMessage()));
-                        validationResult = ValidationResult.of(CertificateStatus.INVALID, false, false, false, false, false, 0);
-
-                        try {
-                            if (certificate == null) {
-                                certificate = createCertificateFromData(certData, command.uploadId(), parsedFile.getFileFormat());
-                            }
-                            certificate.addValidationErrors(errors);
-
-                            // ✅ 오류 인증서도 배치에 추가
-                            dscBatch.add(certificate);
-                            processedFingerprints.add(certData.getFingerprintSha256());
-                            invalidCertificateIds.add(certificate.getId().getId());
-
-                            log.error("DSC/DSC_NC certificate processing failed: subject={}. Error: {}", certData.getSubjectDN(), e.getMessage());
-                        } catch (Exception creationEx) {
-                            log.error("Failed to create or save dummy error certificate for subject={}. Error: {}", certData.getSubjectDN(), creationEx.getMessage());
-                        }
-                    }
-
-                    // ✅ 배치 크기가 BATCH_SIZE에 도달하면 일괄 저장 + 비동기 LDAP 업로드 이벤트 발행
-                    if (dscBatch.size() >= BATCH_SIZE) {
-                        log.info("Saving DSC batch: {} certificates", dscBatch.size());
-                        certificateRepository.saveAll(dscBatch);
-                        totalDbSaved += dscBatch.size();
-                        log.info("DSC batch saved successfully: {} certificates (total DB saved: {})", dscBatch.size(), totalDbSaved);
-
-                        // ✅ DB 저장 진행률 SSE 이벤트 발송
-                        progressService.sendProgress(
-                            ProcessingProgress.dbSavingInProgress(
-                                command.uploadId(),
-                                totalDbSaved,
-                                totalToSave,
-                                String.format("DSC DB 저장 중 (%d/%d)", totalDbSaved, totalToSave),
-                                80, 83  // 80-83% 범위 (DSC)
-                            )
-                        );
-
-                        dscBatch.clear();
-                    }
-
-                    // SSE 진행 상황 업데이트 (70-85% 범위 - Pass 2)
-                    progressService.sendProgress(
-                        ProcessingProgress.validationInProgress(
-                            command.uploadId(),
-                            dscProcessed,
-                            totalCertificates - cscaProcessed,
-                            String.format("DSC/DSC_NC 인증서 검증 중 (%d/%d)", dscProcessed, totalCertificates - cscaProcessed),
-                            70, 85
-                        )
-                    );
-                }
-            }
-
-            // ✅ 남은 DSC 배치 저장 + 비동기 LDAP 업로드 이벤트 발행
-            if (!dscBatch.isEmpty()) {
-                log.info("Saving final DSC batch: {} certificates", dscBatch.size());
-                certificateRepository.saveAll(dscBatch);
-                totalDbSaved += dscBatch.size();
-                log.info("Final DSC batch saved successfully: {} certificates (total DB saved: {})", dscBatch.size(), totalDbSaved);
-
-                // ✅ DB 저장 진행률 SSE 이벤트 발송
-                progressService.sendProgress(
-                    ProcessingProgress.dbSavingInProgress(
-                        command.uploadId(),
-                        totalDbSaved,
-                        totalToSave,
-                        String.format("DSC DB 저장 완료 (%d/%d)", totalDbSaved, totalToSave),
-                        80, 83
-                    )
-                );
-
-                dscBatch.clear();
-            }
+                        // Perform validation and get result and errors for standard DSC (✅ CSCA index lookup)
+                        return validateDscCertificate(x509Cert, certData, command.uploadId(), errors);
+                    })
+            );
 
             log.info("Pass 2 completed: Total certificates validated: {} ({} valid, {} invalid)",
-                totalCertificates, validCertificateIds.size(), invalidCertificateIds.size());
+                totalCertificates, state.validCertificateIds.size(), state.invalidCertificateIds.size());
 
+            List<UUID> validCertificateIds = state.validCertificateIds;
+            List<UUID> invalidCertificateIds = state.invalidCertificateIds;
+            int totalDbSaved = state.totalDbSaved;
 
             // 4. CRL 검증 및 저장
             log.info("=== CRL validation and persistence started ===");
             List<UUID> validCrlIds = new ArrayList<>();
             List<UUID> invalidCrlIds = new ArrayList<>();
 
-            List<com.smartcoreinc.localpkd.fileparsing.domain.model.CrlData> crlDataList = parsedFile.getCrls();
-            log.info("Found {} CRLs to process", crlDataList.size());
+            log.info("Found {} CRLs to process", totalCrls);
+
+            // ✅ 재개 지원: 이전 실행에서 커밋된 CRL 배치는 발행자 DN으로 식별해 그대로 사용
+            Set<String> committedCrlIssuers = new HashSet<>();
+            if (totalCrls > 0) {
+                List<CertificateRevocationList> committedCrls = crlRepository.findByUploadId(command.uploadId());
+                if (!committedCrls.isEmpty()) {
+                    log.info("Resuming validation: {} CRLs already committed for uploadId={}", committedCrls.size(), command.uploadId());
+                    for (CertificateRevocationList crl : committedCrls) {
+                        validCrlIds.add(crl.getId().getId());
+                        committedCrlIssuers.add(crl.getIssuerName().getValue());
+                    }
+                    totalDbSaved += committedCrls.size();
+                }
+            }
 
             List<CertificateRevocationList> crlBatch = new ArrayList<>();
+            Iterator<CrlData> crlDataIterator = totalCrls > 0
+                ? validationBatchService.iterateCrls(parsedFileId, batchSize)
+                : Collections.emptyIterator();
+
+            int processedCrls = 0;
+            while (crlDataIterator.hasNext()) {
+                CrlData crlData = crlDataIterator.next();
+                processedCrls++;
+                try {
+                    if (committedCrlIssuers.contains(IssuerName.of(crlData.getIssuerDN()).getValue())) {
+                        continue;
+                    }
 
-            for (int i = 0; i < crlDataList.size(); i++) {
-                com.smartcoreinc.localpkd.fileparsing.domain.model.CrlData crlData = crlDataList.get(i);
 
-                try {
                     // Create value objects
                     CrlId crlId = CrlId.newId();
                     IssuerName issuerName = IssuerName.of(crlData.getIssuerDN());
@@ -508,7 +296,7 @@ public class ValidateCertificatesUseCase {
                         crlData.getCrlBinary(),
                         crlData.getRevokedCertificatesCount()
                     );
-                    RevokedCertificates revokedCertificates = RevokedCertificates.empty(); // We don't extract individual serials during parsing
+                    RevokedCertificates revokedCertificates = revokedCertificates(crlData.getCrlBinary());
 
                     // Create CRL entity
                     CertificateRevocationList crl = CertificateRevocationList.create(
@@ -522,7 +310,6 @@ public class ValidateCertificatesUseCase {
                     );
 
                     crlBatch.add(crl);
-                    validCrlIds.add(crlId.getId());
 
                     log.debug("CRL processed: country={}, issuer={}, revokedCount={}",
                         crlData.getCountryCode(),
@@ -536,40 +323,30 @@ public class ValidateCertificatesUseCase {
                 }
 
                 // Send progress update
-                if ((i + 1) % 10 == 0 || (i + 1) == crlDataList.size()) {
-                    int percentage = 85 + ((i + 1) * 5 / Math.max(crlDataList.size(), 1)); // 85-90%
+                if (processedCrls % 10 == 0 || processedCrls == totalCrls) {
+                    int percentage = 85 + (processedCrls * 5 / Math.max(totalCrls, 1)); // 85-90%
                     progressService.sendProgress(
                         ProcessingProgress.builder()
                             .uploadId(command.uploadId())
                             .stage(ProcessingStage.VALIDATION_IN_PROGRESS)
                             .percentage(Math.min(90, percentage))
-                            .processedCount(i + 1)
-                            .totalCount(crlDataList.size())
-                            .message(String.format("CRL 처리 중 (%d/%d)", i + 1, crlDataList.size()))
+                            .processedCount(processedCrls)
+                            .totalCount(totalCrls)
+                            .message(String.format("CRL 처리 중 (%d/%d)", processedCrls, totalCrls))
                             .build()
                     );
                 }
+
+                // batchSize 단위로 저장 (독립 트랜잭션)
+                if (crlBatch.size() >= batchSize) {
+                    totalDbSaved = saveCrlBatch(crlBatch, validCrlIds, totalDbSaved, totalToSave, command.uploadId());
+                    crlBatch = new ArrayList<>();
+                }
             }
 
-            // Save all CRLs to database + 비동기 LDAP 업로드 이벤트 발행
+            // Save remaining CRLs to database (독립 트랜잭션)
             if (!crlBatch.isEmpty()) {
-                log.info("Saving {} CRLs to database...", crlBatch.size());
-                crlRepository.saveAll(crlBatch);
-                totalDbSaved += crlBatch.size();
-                log.info("CRL persistence completed: {} CRLs saved (total DB saved: {})", crlBatch.size(), totalDbSaved);
-
-                // ✅ DB 저장 진행률 SSE 이벤트 발송 (CRL)
-                progressService.sendProgress(
-                    ProcessingProgress.dbSavingInProgress(
-                        command.uploadId(),
-                        totalDbSaved,
-                        totalToSave,
-                        String.format("CRL DB 저장 완료 (%d/%d)", totalDbSaved, totalToSave),
-                        83, 85  // 83-85% 범위 (CRL)
-                    )
-                );
-
-
+                totalDbSaved = saveCrlBatch(crlBatch, validCrlIds, totalDbSaved, totalToSave, command.uploadId());
             }
 
             log.info("CRL validation completed: {} valid, {} invalid", validCrlIds.size(), invalidCrlIds.size());
@@ -627,7 +404,7 @@ public class ValidateCertificatesUseCase {
                 LocalDateTime.now()
             );
 
-            eventPublisher.publishEvent(event);
+            validationBatchService.publishValidatedEvent(event);
             log.info("CertificatesValidatedEvent published: uploadId={}", command.uploadId());
 
             // 6. 검증 결과 통계 계산
@@ -732,14 +509,277 @@ public class ValidateCertificatesUseCase {
 
     // ========== Helper Methods ==========
 
+    /**
+     * 검증 Pass 실행 (✅ 병렬 검증 + 배치별 독립 트랜잭션 커밋)
+     *
+     * <p>파싱 결과를 batchSize 단위 페이지로 읽으며 처리하므로, 파일 크기와 무관하게 메모리에는
+     * 한 페이지만 유지됩니다. 페이지마다:</p>
+     * <ol>
+     *   <li>페이지 fingerprint 일괄 중복 체크 (단일 쿼리)</li>
+     *   <li>이전 실행에서 이미 커밋된 이 업로드의 인증서는 재검증 없이 결과에 반영 (재개)</li>
+     *   <li>나머지는 워커 스레드에서 검증하고 입력 순서대로 수집</li>
+     *   <li>독립 트랜잭션으로 커밋한 후 ID 목록과 진행률 반영</li>
+     * </ol>
+     *
+     * <p>동일 파일 내 fingerprint 중복은 parsed_certificate 기본키(parsed_file_id, fingerprint)로
+     * 파싱 단계에서 이미 배제됩니다.</p>
+     *
+     * @param spec Pass 레이블 및 진행률 범위
+     * @param passData 이 Pass의 검증 대상 (CSCA 또는 DSC/DSC_NC, fingerprint 순 페이지 조회)
+     * @param passTotal 검증 진행률 분모
+     * @param totalToSave DB 저장 진행률 분모
+     * @param state 누적 검증 상태
+     * @param uploadId 업로드 ID
+     * @param validator 인증서 검증 함수 (워커 스레드에서 실행, 실패 시 null 반환)
+     */
+    private void runValidationPass(
+        PassSpec spec,
+        Iterator<CertificateData> passData,
+        int passTotal,
+        int totalToSave,
+        ValidationState state,
+        UUID uploadId,
+        Function<CertificateData, Certificate> validator
+    ) {
+        int processed = 0;
+        int resumedCount = 0;
+        while (passData.hasNext()) {
+            List<CertificateData> page = new ArrayList<>(batchSize);
+            while (page.size() < batchSize && passData.hasNext()) {
+                page.add(passData.next());
+            }
+
+            // ✅ Phase 1-1: 배치 중복 체크 - 페이지의 fingerprint를 한 번에 DB 조회 (단일 쿼리)
+            Set<String> fingerprints = new HashSet<>();
+            for (CertificateData certData : page) {
+                fingerprints.add(certData.getFingerprintSha256());
+            }
+            Set<String> existingFingerprints =
+                new HashSet<>(certificateRepository.findFingerprintsByFingerprintSha256In(fingerprints));
+
+            // ✅ 재개: 이미 존재하는 fingerprint 중 이 업로드로 커밋된 인증서 (ID/상태만 경량 조회)
+            Map<String, CertificateStatusProjection> committedCertificates = new HashMap<>();
+            if (!existingFingerprints.isEmpty()) {
+                for (CertificateStatusProjection committed :
+                        certificateRepository.findStatusesByUploadIdAndFingerprintIn(uploadId, existingFingerprints)) {
+                    committedCertificates.put(committed.fingerprintSha256(), committed);
+                }
+            }
+
+            // 검증 대상 선별 (입력 순서 유지)
+            List<CertificateData> batchData = new ArrayList<>(page.size());
+            for (CertificateData certData : page) {
+                String fingerprint = certData.getFingerprintSha256();
+
+                // ✅ 재개: 이전 실행에서 커밋된 인증서는 검증 결과만 반영
+                CertificateStatusProjection committed = committedCertificates.get(fingerprint);
+                if (committed != null) {
+                    state.record(committed.certificateId().getId(), committed.isValid());
+                    state.totalDbSaved++;
+                    resumedCount++;
+                    continue;
+                }
+
+                // DB 중복 체크 (이전 업로드와 중복)
+                if (existingFingerprints.contains(fingerprint)) {
+                    log.info("Skipping {} certificate already in database: fingerprint={}, subject={}",
+                        spec.label(), fingerprint.substring(0, 16) + "...", certData.getSubjectDN());
+                    continue;
+                }
+
+                batchData.add(certData);
+            }
+
+            // 워커 스레드에서 병렬 검증 (결과는 입력 순서대로 수집)
+            List<CompletableFuture<Certificate>> futures = new ArrayList<>(batchData.size());
+            for (CertificateData certData : batchData) {
+                futures.add(CompletableFuture.supplyAsync(() -> validator.apply(certData), validationExecutor));
+            }
+            List<Certificate> batch = new ArrayList<>(batchData.size());
+            for (CompletableFuture<Certificate> future : futures) {
+                Certificate certificate = future.join();
+                if (certificate != null) {
+                    batch.add(certificate);
+                }
+            }
+            processed += page.size();
+
+            // ✅ 배치별 독립 트랜잭션 커밋 (커밋 이후에만 결과 반영)
+            if (!batch.isEmpty()) {
+                log.info("Saving {} batch: {} certificates", spec.label(), batch.size());
+                List<Certificate> saved = validationBatchService.saveCertificateBatch(batch);
+                saved.forEach(state::record);
+                state.totalDbSaved += saved.size();
+                log.info("{} batch committed: {} certificates (total DB saved: {})", spec.label(), saved.size(), state.totalDbSaved);
+
+                // ✅ DB 저장 진행률 SSE 이벤트 발송
+                progressService.sendProgress(
+                    ProcessingProgress.dbSavingInProgress(
+                        uploadId,
+                        state.totalDbSaved,
+                        totalToSave,
+                        String.format("%s DB 저장 중 (%d/%d)", spec.label(), state.totalDbSaved, totalToSave),
+                        spec.dbSavingMinPercent(), spec.dbSavingMaxPercent()
+                    )
+                );
+            }
+
+            // SSE 진행 상황 업데이트
+            progressService.sendProgress(
+                ProcessingProgress.validationInProgress(
+                    uploadId,
+                    processed,
+                    passTotal,
+                    String.format("%s 인증서 검증 중 (%d/%d)", spec.label(), processed, passTotal),
+                    spec.validationMinPercent(),
+                    spec.validationMaxPercent()
+                )
+            );
+        }
+        if (resumedCount > 0) {
+            log.info("{} pass resumed: {} certificates were already committed", spec.label(), resumedCount);
+        }
+    }
+
+    /**
+     * CRL 바이너리에서 폐기 일련번호 색인 생성 (DB 기반 폐기 조회용)
+     *
+     * @throws CRLException CRL 바이너리를 파싱할 수 없는 경우
+     */
+    private static RevokedCertificates revokedCertificates(byte[] crlBinary) throws CRLException {
+        X509CRL x509Crl = (X509CRL) CertificateFactoryCache.x509().generateCRL(new ByteArrayInputStream(crlBinary));
+        Set<? extends X509CRLEntry> entries = x509Crl.getRevokedCertificates();
+        if (entries == null) {
+            return RevokedCertificates.empty();
+        }
+        List<BigInteger> serialNumbers = new ArrayList<>(entries.size());
+        for (X509CRLEntry entry : entries) {
+            serialNumbers.add(entry.getSerialNumber());
+        }
+        return RevokedCertificates.ofSerialNumbers(serialNumbers);
+    }
+
+    /**
+     * CRL 배치 저장 (독립 트랜잭션) 후 ID 목록과 DB 저장 진행률 반영
+     *
+     * @return 갱신된 누적 DB 저장 건수
+     */
+    private int saveCrlBatch(
+        List<CertificateRevocationList> crlBatch,
+        List<UUID> validCrlIds,
+        int totalDbSaved,
+        int totalToSave,
+        UUID uploadId
+    ) {
+        log.info("Saving {} CRLs to database...", crlBatch.size());
+        List<CertificateRevocationList> savedCrls = validationBatchService.saveCrlBatch(crlBatch);
+        savedCrls.forEach(crl -> validCrlIds.add(crl.getId().getId()));
+        totalDbSaved += savedCrls.size();
+        log.info("CRL persistence completed: {} CRLs saved (total DB saved: {})", savedCrls.size(), totalDbSaved);
+
+        // ✅ DB 저장 진행률 SSE 이벤트 발송 (CRL)
+        progressService.sendProgress(
+            ProcessingProgress.dbSavingInProgress(
+                uploadId,
+                totalDbSaved,
+                totalToSave,
+                String.format("CRL DB 저장 완료 (%d/%d)", totalDbSaved, totalToSave),
+                83, 85  // 83-85% 범위 (CRL)
+            )
+        );
+        return totalDbSaved;
+    }
+
+    /**
+     * 단일 인증서 변환 및 검증 (워커 스레드에서 실행)
+     *
+     * <p>예기치 않은 오류가 발생하면 INVALID 결과와 오류를 기록한 인증서를 반환하고,
+     * 인증서 생성 자체가 불가능하면 null을 반환합니다.</p>
+     */
+    private Certificate validateCertificate(
+        CertificateData certData,
+        UUID uploadId,
+        FileFormat fileFormat,
+        String typeLabel,
+        BiFunction<X509Certificate, List<ValidationError>, ValidationResult> validation
+    ) {
+        Certificate certificate = null;
+        List<ValidationError> errors = new ArrayList<>();
+
+        try {
+            log.debug("Validating {}: type={}, country={}, subject={}",
+                typeLabel, certData.getCertificateType(), certData.getCountryCode(), certData.getSubjectDN());
+
+            X509Certificate x509Cert = convertToX509Certificate(certData.getCertificateBinary());
+            certificate = createCertificateFromData(certData, x509Cert, uploadId, fileFormat);
+
+            // Perform validation and get result and errors
+            ValidationResult validationResult = validation.apply(x509Cert, errors);
+            certificate.recordValidation(validationResult);
+            certificate.addValidationErrors(errors);
+            return certificate;
+
+        } catch (Exception e) {
+            // Handle unexpected errors during processing a single certificate
+            errors.add(ValidationError.critical("UNEXPECTED_PROCESSING_ERROR", "Unexpected error processing " + typeLabel + ": " + e.getMessage()));
+
+            try {
+                if (certificate == null) {
+                    certificate = createCertificateFromData(certData, uploadId, fileFormat);
+                }
+                // 재개 시에도 무효로 분류되도록 실패 결과를 기록
+                certificate.recordValidation(ValidationResult.of(CertificateStatus.INVALID, false, false, false, false, false, 0));
+                certificate.addValidationErrors(errors);
+
+                log.error("{} certificate processing failed: subject={}. Error: {}", typeLabel, certData.getSubjectDN(), e.getMessage());
+                return certificate;
+            } catch (Exception creationEx) {
+                log.error("Failed to create dummy error certificate for subject={}. Error: {}", certData.getSubjectDN(), creationEx.getMessage());
+                return null;
+            }
+        }
+    }
+
+    /**
+     * 검증 Pass 설정 (레이블 및 SSE 진행률 범위)
+     */
+    private record PassSpec(
+        String label,
+        int validationMinPercent,
+        int validationMaxPercent,
+        int dbSavingMinPercent,
+        int dbSavingMaxPercent
+    ) {
+    }
+
+    /**
+     * Pass 간 누적 검증 상태 (호출 스레드에서만 변경)
+     */
+    private static final class ValidationState {
+        private final List<UUID> validCertificateIds = new ArrayList<>();
+        private final List<UUID> invalidCertificateIds = new ArrayList<>();
+        private int totalDbSaved;
+
+        private void record(Certificate certificate) {
+            record(certificate.getId().getId(), certificate.isValid());
+        }
+
+        private void record(UUID certificateId, boolean valid) {
+            if (valid) {
+                validCertificateIds.add(certificateId);
+            } else {
+                invalidCertificateIds.add(certificateId);
+            }
+        }
+    }
+
     /**
      * byte[] 인증서 데이터를 X509Certificate로 변환
-     * Uses Bouncy Castle provider to support explicit EC parameters
+     * Uses Bouncy Castle provider to support explicit EC parameters (스레드별 캐시된 CertificateFactory)
      */
     private X509Certificate convertToX509Certificate(byte[] certBytes) throws Exception {
-        CertificateFactory certFactory = CertificateFactory.getInstance("X.509", "BC");
-        ByteArrayInputStream bais = new ByteArrayInputStream(certBytes);
-        return (X509Certificate) certFactory.generateCertificate(bais);
+        return (X509Certificate) CertificateFactoryCache.x509BouncyCastle()
+            .generateCertificate(new ByteArrayInputStream(certBytes));
     }
 
     /**
@@ -825,10 +865,10 @@ public class ValidateCertificatesUseCase {
     }
 
     /**
-     * DSC/DSC_NC 인증서 검증 (✅ 캐시 기반 - N+1 쿼리 제거)
+     * DSC/DSC_NC 인증서 검증 (✅ CSCA 인덱스 기반 - N+1 쿼리 제거)
      *
      * ICAO Doc 9303에 따라:
-     * 1. CSCA로 서명 검증 (Issuer CSCA 캐시 조회)
+     * 1. CSCA로 서명 검증 (AKI→SKI 우선, Issuer DN 보조 조회로 얻은 후보 CSCA 순서대로 검증)
      * 2. Validity period 검증
      * 3. Basic Constraints 검증 (CA=false 또는 없음)
      */
@@ -836,39 +876,56 @@ public class ValidateCertificatesUseCase {
         X509Certificate x509Cert,
         CertificateData certData,
         java.util.UUID uploadId,
-        List<ValidationError> errors,
-        Map<String, Certificate> cscaCache  // ✅ CSCA 캐시 추가
+        List<ValidationError> errors
     ) {
         boolean signatureValid = true;
+        boolean chainValid = true;
         boolean validityValid = true;
         boolean constraintsValid = true;
 
         long validationStartTime = System.currentTimeMillis();
 
         try {
-            // 1. Issuer DN으로 CSCA 조회 및 서명 검증 (✅ 캐시에서 조회)
+            // 1. 발급자 CSCA 후보 조회 및 서명 검증 (✅ 메모리 인덱스 조회)
             String issuerDN = certData.getIssuerDN();
-            log.debug("Finding CSCA for DSC validation from cache: issuerDN={}", issuerDN);
-
-            // CSCA 캐시 조회 (메모리 Map lookup)
-            Certificate cscaCert = cscaCache.get(issuerDN);
+            List<TrustedCsca> cscaCandidates = cscaTrustStore.findIssuerCandidates(x509Cert);
+            log.debug("Finding CSCA for DSC validation from index: issuerDN={}, candidates={}",
+                issuerDN, cscaCandidates.size());
 
-            if (cscaCert == null) {
+            if (cscaCandidates.isEmpty()) {
                 signatureValid = false;
+                chainValid = false;
                 errors.add(ValidationError.critical("CHAIN_INCOMPLETE", "CSCA not found for DSC. IssuerDN: " + issuerDN));
-                log.error("CSCA not found in cache for DSC. IssuerDN: {}", issuerDN);
+                log.error("CSCA not found in index for DSC. IssuerDN: {}", issuerDN);
             } else {
-                // CSCA 인증서로 DSC 서명 검증
-                X509Certificate cscaX509 = convertToX509Certificate(
-                    cscaCert.getX509Data().getCertificateBinary()
-                );
-                try {
-                    x509Cert.verify(cscaX509.getPublicKey());
-                    log.debug("Signature verified for DSC by CSCA from cache: {}", certData.getSubjectDN());
-                } catch (Exception e) {
-                    signatureValid = false;
-                    errors.add(ValidationError.critical("SIGNATURE_INVALID", "Signature verification failed by CSCA: " + e.getMessage()));
-                    log.error("Signature verification failed for DSC by CSCA: {}. Error: {}", certData.getSubjectDN(), e.getMessage());
+                // 키 교체(rollover)/Link 인증서로 동일 DN의 CSCA가 여러 개일 수 있으므로 후보를 순서대로 검증
+                // 폐기된 CSCA는 신뢰 앵커로 사용하지 않음 (CscaTrustStore.resolveIssuer와 동일 규칙)
+                String lastError = null;
+                boolean signedByRevokedCsca = false;
+                signatureValid = false;
+                for (TrustedCsca cscaCert : cscaCandidates) {
+                    try {
+                        x509Cert.verify(cscaCert.publicKey());
+                        if (cscaCert.isRevoked()) {
+                            signedByRevokedCsca = true;
+                            continue;
+                        }
+                        signatureValid = true;
+                        log.debug("Signature verified for DSC by CSCA from index: {}", certData.getSubjectDN());
+                        break;
+                    } catch (Exception e) {
+                        lastError = e.getMessage();
+                    }
+                }
+                if (!signatureValid && signedByRevokedCsca) {
+                    chainValid = false;
+                    errors.add(ValidationError.critical("ISSUER_REVOKED",
+                        "DSC is signed only by a revoked CSCA. IssuerDN: " + issuerDN));
+                    log.error("DSC is signed only by a revoked CSCA: {}. IssuerDN: {}", certData.getSubjectDN(), issuerDN);
+                } else if (!signatureValid) {
+                    errors.add(ValidationError.critical("SIGNATURE_INVALID",
+                        "Signature verification failed by CSCA (" + cscaCandidates.size() + " candidates): " + lastError));
+                    log.error("Signature verification failed for DSC by CSCA: {}. Error: {}", certData.getSubjectDN(), lastError);
                 }
             }
 
@@ -911,7 +968,7 @@ public class ValidateCertificatesUseCase {
             return ValidationResult.of(
                 overallStatus,
                 signatureValid,
-                true, // Chain valid is assumed true for base validation (CSCAs are trusted), actual chain building is separate
+                chainValid, // 발급 CSCA 미존재 또는 폐기된 CSCA만 서명한 경우 false
                 true, // Not revoked for CSCA is assumed true for base validation, CRL check is separate
                 validityValid,
                 constraintsValid,
@@ -1178,44 +1235,4 @@ public class ValidateCertificatesUseCase {
             .atZone(ZoneId.systemDefault())
             .toLocalDateTime();
     }
-
-    /**
-     * ✅ CSCA 캐시 구축 메서드
-     * Performance optimization: DSC 검증 시 N+1 쿼리 제거
-     *
-     * <p><b>중요</b>: 현재 업로드뿐만 아니라 <b>전체 DB의 모든 CSCA</b>를 캐시에 로드합니다.</p>
-     * <p>이유: DSC 파일과 CSCA 파일이 별도로 업로드될 수 있으므로,
-     * DSC 검증 시 다른 업로드의 CSCA도 참조할 수 있어야 합니다.</p>
-     *
-     * @param uploadId 현재 업로드 ID (로깅용으로만 사용)
-     * @return SubjectDN → Certificate 매핑 캐시
-     */
-    private Map<String, Certificate> buildCscaCache(UUID uploadId) {
-        log.debug("Building CSCA cache for uploadId: {} (loading ALL CSCAs from database)", uploadId);
-
-        // 전체 DB의 모든 CSCA 인증서 조회 (단일 쿼리)
-        List<Certificate> allCscas = certificateRepository.findAllByType(CertificateType.CSCA);
-
-        // CSCA를 SubjectDN 기준으로 Map 구축
-        Map<String, Certificate> cscaCache = allCscas.stream()
-            .collect(java.util.stream.Collectors.toMap(
-                cert -> cert.getSubjectInfo().getDistinguishedName(),  // Key: SubjectDN
-                cert -> cert,                                            // Value: Certificate
-                (existing, replacement) -> {
-                    // 중복 SubjectDN이 있을 경우: 최신 인증서 사용 (createdAt 기준)
-                    if (existing.getCreatedAt().isAfter(replacement.getCreatedAt())) {
-                        log.debug("Duplicate SubjectDN found, keeping newer certificate: {}", existing.getSubjectInfo().getDistinguishedName());
-                        return existing;
-                    } else {
-                        log.debug("Duplicate SubjectDN found, keeping newer certificate: {}", replacement.getSubjectInfo().getDistinguishedName());
-                        return replacement;
-                    }
-                }
-            ));
-
-        log.info("✅ CSCA cache built successfully: {} CSCAs cached (from entire database, not limited to current upload)",
-            cscaCache.size());
-
-        return cscaCache;
-    }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.smartcoreinc.localpkd.certificatevalidation.config;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
@@ -121,4 +122,38 @@ public class CertificateValidationAsyncConfig {
 
         return executor;
     }
+
+    /**
+     * 인증서 검증 워커 스레드 풀 (ValidateCertificatesUseCase 서명 검증 병렬화)
+     *
+     * <p>배치 단위로 인증서 변환/서명 검증/Certificate 생성을 워커 스레드에 분산합니다.
+     * DB 저장은 호출 스레드에서 배치별 독립 트랜잭션으로 수행합니다.</p>
+     *
+     * <ul>
+     *   <li>app.validation.parallelism: 워커 스레드 수 (0 = CPU 코어 수, 1 = 사실상 순차 처리)</li>
+     *   <li>CallerRunsPolicy: 큐 가득 시 호출자 스레드에서 실행 (배치 처리 중단 방지)</li>
+     * </ul>
+     *
+     * @param parallelism 워커 스레드 수
+     * @return ThreadPoolTaskExecutor 검증 워커 실행기
+     */
+    @Bean(name = "certificateValidationWorkerExecutor")
+    public Executor certificateValidationWorkerExecutor(
+            @Value("${app.validation.parallelism:0}") int parallelism) {
+        int poolSize = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(2000);
+        executor.setThreadNamePrefix("cert-validation-worker-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        executor.setRejectedExecutionHandler(new java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+
+        log.info("Certificate Validation Worker Executor configured: poolSize={}", poolSize);
+
+        return executor;
+    }
 }
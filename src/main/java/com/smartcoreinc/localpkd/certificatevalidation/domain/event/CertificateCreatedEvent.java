@@ -1,6 +1,7 @@
 package com.smartcoreinc.localpkd.certificatevalidation.domain.event;
 
 import com.smartcoreinc.localpkd.certificatevalidation.domain.model.CertificateId;
+import com.smartcoreinc.localpkd.certificatevalidation.domain.model.CertificateType;
 import com.smartcoreinc.localpkd.shared.domain.DomainEvent;
 import java.time.LocalDateTime;
 import java.util.Objects;
@@ -58,6 +59,11 @@ public class CertificateCreatedEvent implements DomainEvent {
      */
     private final CertificateId certificateId;
 
+    /**
+     * 생성된 인증서의 타입 (미지정 시 null)
+     */
+    private final CertificateType certificateType;
+
     /**
      * CertificateCreatedEvent 생성
      *
@@ -65,12 +71,24 @@ public class CertificateCreatedEvent implements DomainEvent {
      * @throws IllegalArgumentException certificateId가 null인 경우
      */
     public CertificateCreatedEvent(CertificateId certificateId) {
+        this(certificateId, null);
+    }
+
+    /**
+     * CertificateCreatedEvent 생성 (인증서 타입 포함)
+     *
+     * @param certificateId 생성된 인증서의 ID
+     * @param certificateType 생성된 인증서의 타입 (CSCA, DSC, DSC_NC)
+     * @throws IllegalArgumentException certificateId가 null인 경우
+     */
+    public CertificateCreatedEvent(CertificateId certificateId, CertificateType certificateType) {
         if (certificateId == null) {
             throw new IllegalArgumentException("certificateId cannot be null");
         }
         this.eventId = UUID.randomUUID();
         this.occurredOn = LocalDateTime.now();
         this.certificateId = certificateId;
+        this.certificateType = certificateType;
     }
 
     // ========== DomainEvent Implementation ==========
@@ -96,6 +114,10 @@ public class CertificateCreatedEvent implements DomainEvent {
         return certificateId;
     }
 
+    public CertificateType getCertificateType() {
+        return certificateType;
+    }
+
     // ========== equals & hashCode ==========
 
     @Override
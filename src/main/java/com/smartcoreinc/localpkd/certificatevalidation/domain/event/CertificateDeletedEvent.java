@@ -0,0 +1,111 @@
+package com.smartcoreinc.localpkd.certificatevalidation.domain.event;
+
+import com.smartcoreinc.localpkd.certificatevalidation.domain.model.CertificateId;
+import com.smartcoreinc.localpkd.certificatevalidation.domain.model.CertificateType;
+import com.smartcoreinc.localpkd.shared.domain.DomainEvent;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * CertificateDeletedEvent - 인증서 삭제됨 Domain Event
+ *
+ * <p><b>발행 시점</b>: Delta LDIF의 delete 레코드 또는 바이너리 교체(modify)로 인증서가 DB에서 삭제될 때</p>
+ *
+ * <p><b>용도</b>:</p>
+ * <ul>
+ *   <li>CSCA 신뢰 저장소/공개키 캐시에서 삭제된 CSCA 제거 (커밋 후)</li>
+ *   <li>감사(Audit) 로그 작성</li>
+ * </ul>
+ *
+ * @see com.smartcoreinc.localpkd.ldapintegration.application.usecase.ApplyLdifDeltaUseCase
+ * @see DomainEvent
+ */
+public class CertificateDeletedEvent implements DomainEvent {
+
+    /**
+     * 이벤트 고유 식별자
+     */
+    private final UUID eventId;
+
+    /**
+     * 이벤트 발생 시간
+     */
+    private final LocalDateTime occurredOn;
+
+    /**
+     * 삭제된 인증서의 ID
+     */
+    private final CertificateId certificateId;
+
+    /**
+     * 삭제된 인증서의 타입 (미지정 시 null)
+     */
+    private final CertificateType certificateType;
+
+    /**
+     * CertificateDeletedEvent 생성
+     *
+     * @param certificateId 삭제된 인증서의 ID
+     * @param certificateType 삭제된 인증서의 타입 (CSCA, DSC, DSC_NC)
+     * @throws IllegalArgumentException certificateId가 null인 경우
+     */
+    public CertificateDeletedEvent(CertificateId certificateId, CertificateType certificateType) {
+        if (certificateId == null) {
+            throw new IllegalArgumentException("certificateId cannot be null");
+        }
+        this.eventId = UUID.randomUUID();
+        this.occurredOn = LocalDateTime.now();
+        this.certificateId = certificateId;
+        this.certificateType = certificateType;
+    }
+
+    // ========== DomainEvent Implementation ==========
+
+    @Override
+    public UUID eventId() {
+        return eventId;
+    }
+
+    @Override
+    public LocalDateTime occurredOn() {
+        return occurredOn;
+    }
+
+    @Override
+    public String eventType() {
+        return "CertificateDeleted";
+    }
+
+    // ========== Getters ==========
+
+    public CertificateId getCertificateId() {
+        return certificateId;
+    }
+
+    public CertificateType getCertificateType() {
+        return certificateType;
+    }
+
+    // ========== equals & hashCode ==========
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        CertificateDeletedEvent that = (CertificateDeletedEvent) o;
+        return Objects.equals(eventId, that.eventId) &&
+               Objects.equals(certificateId, that.certificateId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(eventId, certificateId);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("CertificateDeletedEvent[eventId=%s, certificateId=%s, type=%s, occurredOn=%s]",
+            eventId, certificateId.getId(), certificateType, occurredOn);
+    }
+}
@@ -0,0 +1,25 @@
+package com.smartcoreinc.localpkd.certificatevalidation.domain.model;
+
+/**
+ * CertificateStatusProjection - 인증서 ID/지문/상태만 담은 경량 조회 결과 (JPQL {@code SELECT new})
+ *
+ * <p>검증 재개 시 이미 커밋된 인증서를 식별하고 유효/무효로 분류하는 데 필요한 컬럼만 가져옵니다.
+ * Certificate Aggregate(바이너리, allAttributes JSONB, validationErrors 컬렉션 등)는 로드하지 않습니다.</p>
+ *
+ * @param certificateId 인증서 ID
+ * @param fingerprintSha256 SHA-256 지문
+ * @param status 인증서 상태
+ */
+public record CertificateStatusProjection(
+    CertificateId certificateId,
+    String fingerprintSha256,
+    CertificateStatus status
+) {
+
+    /**
+     * 유효한 인증서인지 확인 ({@link Certificate#isValid()}와 동일 기준)
+     */
+    public boolean isValid() {
+        return status == CertificateStatus.VALID;
+    }
+}
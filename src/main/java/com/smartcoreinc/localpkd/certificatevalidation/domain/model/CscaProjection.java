@@ -0,0 +1,26 @@
+package com.smartcoreinc.localpkd.certificatevalidation.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * CscaProjection - CSCA 신뢰 저장소 적재용 경량 조회 결과 (JPQL {@code SELECT new})
+ *
+ * <p>Certificate Aggregate 전체(allAttributes JSONB, validationErrors 컬렉션 등)를 로드하지 않고
+ * 발급자 조회와 서명 검증에 필요한 컬럼만 가져옵니다.</p>
+ *
+ * @param certificateId 인증서 ID
+ * @param subjectDn Subject DN
+ * @param countryCode Subject 국가 코드
+ * @param status 인증서 상태
+ * @param certificateBinary DER 인코딩 인증서
+ * @param createdAt 생성 일시
+ */
+public record CscaProjection(
+    CertificateId certificateId,
+    String subjectDn,
+    String countryCode,
+    CertificateStatus status,
+    byte[] certificateBinary,
+    LocalDateTime createdAt
+) {
+}
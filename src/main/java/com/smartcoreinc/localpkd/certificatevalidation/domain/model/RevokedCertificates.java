@@ -5,13 +5,20 @@ import com.smartcoreinc.localpkd.shared.exception.DomainException;
 import jakarta.persistence.Column;
 import jakarta.persistence.Embeddable;
 import lombok.EqualsAndHashCode;
-import lombok.Getter;
+import org.hibernate.annotations.JdbcTypeCode;
 
+import java.io.ByteArrayOutputStream;
 import java.io.Serializable;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
  * RevokedCertificates - CRL에 포함된 폐기된 인증서 일련번호 집합 Value Object
@@ -26,7 +33,7 @@ import java.util.stream.Collectors;
  * <p><b>책임</b>:</p>
  * <ul>
  *   <li>CRL에 포함된 폐기된 인증서 일련번호 관리</li>
- *   <li>폐기 여부 빠른 조회 (HashSet)</li>
+ *   <li>폐기 여부 빠른 조회 (정렬된 바이너리 인코딩 + 이진 탐색, 조회 시 할당 없음)</li>
  *   <li>일련번호 형식 검증</li>
  * </ul>
  *
@@ -35,8 +42,18 @@ import java.util.stream.Collectors;
  *   <li>16진수 문자열 (0-9, A-F)</li>
  *   <li>예: "01234567890ABCDEF"</li>
  *   <li>대소문자 구분 없음 (대문자로 정규화)</li>
+ *   <li>정수 값으로 비교 (선행 0 무시: "00A1" == "A1")</li>
  * </ul>
  *
+ * <p><b>저장 형식</b> ({@code revoked_serials BYTEA}):</p>
+ * <pre>
+ * [len(1)][magnitude bytes(len)] [len(1)][magnitude bytes(len)] ...
+ * 정렬 기준: 길이 오름차순 → 부호 없는 바이트 사전순 (= 정수 값 오름차순)
+ * </pre>
+ * <p>엔트리 오프셋 배열은 CRL당 최초 조회 시 한 번만 구성되며, 이후 {@link #contains(String)}는
+ * 16진수 문자열을 바이트로 변환하지 않고 니블 단위로 직접 비교하는 O(log n) 이진 탐색입니다.
+ * 기존 {@code revoked_serial_numbers} TEXT 컬럼은 V5 마이그레이션에서 이 형식으로 변환됩니다.</p>
+ *
  * <p><b>사용 예시</b>:</p>
  * <pre>{@code
  * // CRL 파싱 후 생성
@@ -57,20 +74,38 @@ import java.util.stream.Collectors;
  * @since 2025-10-24
  */
 @Embeddable
-@Getter
 @EqualsAndHashCode
 public class RevokedCertificates implements ValueObject, Serializable {
 
-    private static final long serialVersionUID = 1L;
+    private static final long serialVersionUID = 2L;
+
+    /**
+     * 일련번호 최대 길이 (바이트, 길이 prefix 1바이트로 표현 가능한 범위)
+     */
+    private static final int MAX_SERIAL_BYTES = 255;
+
+    private static final HexFormat HEX = HexFormat.of().withUpperCase();
 
     /**
-     * 폐기된 인증서 일련번호 집합 (세미콜론 구분)
+     * 정수 값 오름차순 (길이 → 부호 없는 사전순)
+     */
+    private static final Comparator<byte[]> SERIAL_ORDER =
+        Comparator.<byte[]>comparingInt(serial -> serial.length).thenComparing(Arrays::compareUnsigned);
+
+    /**
+     * 폐기된 인증서 일련번호 (정렬된 길이-prefix 바이너리)
      *
-     * <p>데이터베이스 저장을 위해 세미콜론으로 구분된 문자열로 저장됩니다.
-     * 예: "01234567890ABCDEF;FEDCBA0987654321"</p>
+     * <p>예: [0x01 0x0A][0x02 0x01 0x23] → "0A", "0123"</p>
+     */
+    @JdbcTypeCode(java.sql.Types.BINARY)  // Hibernate 6: bytea 매핑을 위해 필수
+    @Column(name = "revoked_serials", columnDefinition = "BYTEA")
+    private byte[] encodedSerials;
+
+    /**
+     * 엔트리 시작 오프셋 (최초 조회 시 구성, 영속화 대상 아님)
      */
-    @Column(name = "revoked_serial_numbers", columnDefinition = "TEXT", nullable = false)
-    private String serialNumbers;
+    @EqualsAndHashCode.Exclude
+    private transient volatile int[] offsets;
 
     /**
      * JPA용 기본 생성자 (protected)
@@ -93,19 +128,43 @@ public class RevokedCertificates implements ValueObject, Serializable {
             );
         }
 
-        // 일련번호 검증
+        // 일련번호 검증 및 정수 magnitude로 변환
+        List<byte[]> serials = new ArrayList<>(serialNumbers.size());
         for (String serialNumber : serialNumbers) {
             validateSerialNumber(serialNumber);
+            serials.add(toMagnitude(serialNumber));
         }
 
-        // 대문자로 정규화 및 정렬
-        String normalized = serialNumbers.stream()
-            .map(String::toUpperCase)
-            .sorted()
-            .collect(Collectors.joining(";"));
+        RevokedCertificates revoked = new RevokedCertificates();
+        revoked.encodedSerials = encode(serials);
+        return revoked;
+    }
+
+    /**
+     * X.509 CRL 항목의 일련번호로 RevokedCertificates 생성 (16진수 문자열 변환 없음)
+     *
+     * @param serialNumbers {@code X509CRLEntry.getSerialNumber()} 값 (빈 컬렉션이면 {@link #empty()})
+     * @return RevokedCertificates
+     * @throws DomainException 입력이 null이거나 음수/null 일련번호가 포함된 경우
+     */
+    public static RevokedCertificates ofSerialNumbers(Collection<BigInteger> serialNumbers) {
+        if (serialNumbers == null) {
+            throw new DomainException(
+                "INVALID_REVOKED_CERTIFICATES",
+                "Revoked certificates cannot be null"
+            );
+        }
+        if (serialNumbers.isEmpty()) {
+            return empty();
+        }
+
+        List<byte[]> serials = new ArrayList<>(serialNumbers.size());
+        for (BigInteger serialNumber : serialNumbers) {
+            serials.add(toMagnitude(serialNumber));
+        }
 
         RevokedCertificates revoked = new RevokedCertificates();
-        revoked.serialNumbers = normalized;
+        revoked.encodedSerials = encode(serials);
         return revoked;
     }
 
@@ -116,7 +175,7 @@ public class RevokedCertificates implements ValueObject, Serializable {
      */
     public static RevokedCertificates empty() {
         RevokedCertificates revoked = new RevokedCertificates();
-        revoked.serialNumbers = "";
+        revoked.encodedSerials = new byte[0];
         return revoked;
     }
 
@@ -143,9 +202,59 @@ public class RevokedCertificates implements ValueObject, Serializable {
         }
     }
 
+    /**
+     * 16진수 일련번호 → 최소 길이 부호 없는 바이트 (0은 [0x00])
+     */
+    private static byte[] toMagnitude(String serialNumber) {
+        return toMagnitude(new BigInteger(serialNumber, 16));
+    }
+
+    /**
+     * 일련번호 정수 → 최소 길이 부호 없는 바이트 (0은 [0x00])
+     */
+    private static byte[] toMagnitude(BigInteger serialNumber) {
+        if (serialNumber == null || serialNumber.signum() < 0) {
+            throw new DomainException(
+                "INVALID_SERIAL_NUMBER",
+                "Serial number must be a non-negative integer. Got: " + serialNumber
+            );
+        }
+        byte[] bytes = serialNumber.toByteArray();
+        if (bytes.length > 1 && bytes[0] == 0) {
+            bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+        if (bytes.length > MAX_SERIAL_BYTES) {
+            throw new DomainException(
+                "INVALID_SERIAL_NUMBER_FORMAT",
+                "Serial number exceeds " + MAX_SERIAL_BYTES + " bytes: " + serialNumber.toString(16).toUpperCase()
+            );
+        }
+        return bytes;
+    }
+
+    /**
+     * 정렬/중복 제거 후 길이-prefix 바이너리로 인코딩
+     */
+    private static byte[] encode(List<byte[]> serials) {
+        serials.sort(SERIAL_ORDER);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] previous = null;
+        for (byte[] serial : serials) {
+            if (previous != null && SERIAL_ORDER.compare(previous, serial) == 0) {
+                continue;
+            }
+            out.write(serial.length);
+            out.writeBytes(serial);
+            previous = serial;
+        }
+        return out.toByteArray();
+    }
+
     /**
      * 특정 일련번호가 폐기 목록에 있는지 확인
      *
+     * <p>이진 탐색(O(log n))이며, 16진수 문자를 니블 단위로 직접 비교하므로 조회 시 객체를 할당하지 않습니다.</p>
+     *
      * @param serialNumber 확인할 인증서 일련번호
      * @return 폐기되었으면 true
      */
@@ -154,22 +263,100 @@ public class RevokedCertificates implements ValueObject, Serializable {
             return false;
         }
 
-        if (serialNumbers == null || serialNumbers.isEmpty()) {
+        int[] index = offsets();
+        if (index.length == 0) {
             return false;
         }
 
-        String normalized = serialNumber.toUpperCase();
-        String[] numbers = serialNumbers.split(";");
+        // 선행 0 제거 (전부 0이면 마지막 한 자리 유지)
+        int start = 0;
+        int end = serialNumber.length();
+        while (start < end - 1 && serialNumber.charAt(start) == '0') {
+            start++;
+        }
+        int nibbles = end - start;
+        int length = (nibbles + 1) / 2;
+        if (length > MAX_SERIAL_BYTES) {
+            return false;
+        }
 
-        for (String number : numbers) {
-            if (number.equals(normalized)) {
+        int low = 0;
+        int high = index.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = compareEntry(index[mid], serialNumber, start, nibbles, length);
+            if (cmp == Integer.MIN_VALUE) {
+                return false; // 16진수가 아닌 문자
+            }
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
                 return true;
             }
         }
-
         return false;
     }
 
+    /**
+     * 엔트리와 조회 일련번호 비교 (엔트리 - 조회값의 부호, 잘못된 문자는 Integer.MIN_VALUE)
+     */
+    private int compareEntry(int offset, String hex, int start, int nibbles, int length) {
+        int entryLength = encodedSerials[offset] & 0xFF;
+        if (entryLength != length) {
+            return Integer.compare(entryLength, length);
+        }
+        boolean odd = (nibbles & 1) == 1;
+        for (int i = 0; i < length; i++) {
+            int value;
+            if (odd && i == 0) {
+                value = Character.digit(hex.charAt(start), 16);
+            } else {
+                int pos = start + 2 * i - (odd ? 1 : 0);
+                int hi = Character.digit(hex.charAt(pos), 16);
+                int lo = Character.digit(hex.charAt(pos + 1), 16);
+                value = (hi < 0 || lo < 0) ? -1 : (hi << 4) | lo;
+            }
+            if (value < 0) {
+                return Integer.MIN_VALUE;
+            }
+            int entryByte = encodedSerials[offset + 1 + i] & 0xFF;
+            if (entryByte != value) {
+                return Integer.compare(entryByte, value);
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * 엔트리 오프셋 배열 (최초 1회 구성)
+     */
+    private int[] offsets() {
+        int[] index = offsets;
+        if (index == null) {
+            index = buildOffsets(encodedSerials);
+            offsets = index;
+        }
+        return index;
+    }
+
+    private static int[] buildOffsets(byte[] encoded) {
+        if (encoded == null || encoded.length == 0) {
+            return new int[0];
+        }
+        int count = 0;
+        for (int pos = 0; pos < encoded.length; pos += 1 + (encoded[pos] & 0xFF)) {
+            count++;
+        }
+        int[] index = new int[count];
+        int entry = 0;
+        for (int pos = 0; pos < encoded.length; pos += 1 + (encoded[pos] & 0xFF)) {
+            index[entry++] = pos;
+        }
+        return index;
+    }
+
     /**
      * 폐기된 인증서 개수
      *
@@ -179,38 +366,48 @@ public class RevokedCertificates implements ValueObject, Serializable {
      * @return 폐기된 인증서 수
      */
     public int calculateCount() {
-        if (serialNumbers == null || serialNumbers.isEmpty()) {
-            return 0;
-        }
-        return serialNumbers.split(";").length;
+        return offsets().length;
     }
 
     /**
      * 폐기된 인증서 일련번호 집합 (읽기 전용)
      *
+     * <p>바이트 단위 대문자 16진수 문자열로 반환합니다 (예: "0A", "0123").</p>
+     *
      * @return 불변 일련번호 집합
      */
     public Set<String> getSerialNumbers() {
-        if (serialNumbers == null || serialNumbers.isEmpty()) {
+        int[] index = offsets();
+        if (index.length == 0) {
             return Collections.emptySet();
         }
 
-        Set<String> result = new HashSet<>();
-        for (String number : serialNumbers.split(";")) {
-            if (!number.isEmpty()) {
-                result.add(number);
-            }
+        Set<String> result = new HashSet<>(index.length * 2);
+        for (int offset : index) {
+            int length = encodedSerials[offset] & 0xFF;
+            result.add(HEX.formatHex(encodedSerials, offset + 1, offset + 1 + length));
         }
         return Collections.unmodifiableSet(result);
     }
 
+    /**
+     * 저장 형식 그대로의 일련번호 바이너리 (revoked_serials 컬럼 값, 복사본)
+     *
+     * <p>JDBC 직접 저장(COPY)에서 사용합니다. getter 이름을 피해 Hibernate 프로퍼티로 인식되지 않도록 함</p>
+     *
+     * @return 정렬된 길이-prefix 바이너리
+     */
+    public byte[] toEncodedBytes() {
+        return encodedSerials == null ? new byte[0] : encodedSerials.clone();
+    }
+
     /**
      * 비어있는지 확인
      *
      * @return 폐기된 인증서가 없으면 true
      */
     public boolean isEmpty() {
-        return serialNumbers == null || serialNumbers.isEmpty();
+        return encodedSerials == null || encodedSerials.length == 0;
     }
 
     /**
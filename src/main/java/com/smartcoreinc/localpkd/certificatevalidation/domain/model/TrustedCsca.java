@@ -0,0 +1,35 @@
+package com.smartcoreinc.localpkd.certificatevalidation.domain.model;
+
+import java.security.PublicKey;
+import java.security.cert.X509Certificate;
+import java.time.LocalDateTime;
+
+/**
+ * TrustedCsca - CSCA 신뢰 저장소 항목 (디코딩된 CSCA + 조회용 메타데이터)
+ *
+ * <p>CSCA 바이너리는 적재 시 한 번만 디코딩되며, 이후 DSC 서명 검증은 {@link #publicKey()}로 수행합니다.</p>
+ *
+ * @param certificateId 인증서 ID
+ * @param subjectDn Subject DN
+ * @param countryCode Subject 국가 코드
+ * @param status 인증서 상태
+ * @param createdAt 생성 일시
+ * @param certificate 디코딩된 CSCA 인증서
+ */
+public record TrustedCsca(
+    CertificateId certificateId,
+    String subjectDn,
+    String countryCode,
+    CertificateStatus status,
+    LocalDateTime createdAt,
+    X509Certificate certificate
+) {
+
+    public PublicKey publicKey() {
+        return certificate.getPublicKey();
+    }
+
+    public boolean isRevoked() {
+        return status == CertificateStatus.REVOKED;
+    }
+}
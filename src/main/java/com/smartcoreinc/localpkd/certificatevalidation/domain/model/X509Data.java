@@ -3,6 +3,7 @@ package com.smartcoreinc.localpkd.certificatevalidation.domain.model;
 import com.smartcoreinc.localpkd.shared.domain.ValueObject;
 import jakarta.persistence.Column;
 import jakarta.persistence.Embeddable;
+import org.hibernate.annotations.Formula;
 import org.hibernate.annotations.JdbcTypeCode;
 
 import java.security.PublicKey;
@@ -58,11 +59,12 @@ public class X509Data implements ValueObject {
      * <p>X.509 인증서의 완전한 DER-encoded 바이너리 데이터입니다.</p>
      * <p>최대 크기: 약 16MB (대부분의 인증서는 1-10KB)</p>
      *
-     * <p><b>NOTE</b>: @Lob 제거 - Hibernate/PostgreSQL bytea 매핑 버그 회피.
-     * columnDefinition="BYTEA"만으로도 충분함.</p>
+     * <p><b>NOTE</b>: DER은 {@code certificate_blob}에 지문 기준으로 한 번만 저장되며 여기서는 읽기 전용
+     * 서브쿼리로 조회합니다. 저장은 Repository가 {@code CertificateBlobStore}로 수행합니다.
+     * X509Data는 Certificate에만 임베드되므로 지문 컬럼명은 {@code x509_fingerprint_sha256}입니다.</p>
      */
     @JdbcTypeCode(java.sql.Types.BINARY)  // Hibernate 6: bytea 매핑을 위해 필수
-    @Column(name = "certificate_binary", nullable = false, columnDefinition = "BYTEA")
+    @Formula("(SELECT b.der FROM certificate_blob b WHERE b.sha256 = x509_fingerprint_sha256)")
     private byte[] certificateBinary;
 
     /**
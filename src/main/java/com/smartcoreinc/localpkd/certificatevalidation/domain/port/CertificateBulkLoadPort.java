@@ -0,0 +1,38 @@
+package com.smartcoreinc.localpkd.certificatevalidation.domain.port;
+
+import com.smartcoreinc.localpkd.certificatevalidation.domain.model.Certificate;
+import com.smartcoreinc.localpkd.certificatevalidation.domain.model.CertificateRevocationList;
+
+import java.util.List;
+
+/**
+ * CertificateBulkLoadPort - 신규 인증서/CRL 대량 저장 Port (Domain Layer)
+ *
+ * <p><b>Hexagonal Architecture Port Pattern</b>: 검증을 마친 신규 Aggregate 배치를 한 번에 저장하는 방식을
+ * 추상화합니다. 구현체는 Infrastructure Layer(PgCopyBulkLoadAdapter)에 있으며, PostgreSQL에서는
+ * COPY로 저장하고 그 외 DB에서는 Repository의 {@code saveAll}로 저장합니다.</p>
+ *
+ * <p>호출자의 트랜잭션 안에서 실행되며, 저장된 Aggregate의 Domain Event는 구현체가 발행합니다.</p>
+ *
+ * <p><b>사용처</b>: ValidationBatchService (ValidateCertificatesUseCase 배치 커밋)</p>
+ */
+public interface CertificateBulkLoadPort {
+
+    /**
+     * 신규 인증서 배치 저장
+     *
+     * <p>같은 fingerprint의 인증서가 이미 있으면 (배치 내 중복 포함) 저장하지 않고 결과에서 제외합니다.</p>
+     *
+     * @param certificates 저장할 신규 인증서 (검증 결과/오류 포함)
+     * @return 실제로 저장된 인증서 (입력 순서 유지)
+     */
+    List<Certificate> insertCertificates(List<Certificate> certificates);
+
+    /**
+     * 신규 CRL 배치 저장
+     *
+     * @param crls 저장할 신규 CRL
+     * @return 실제로 저장된 CRL (입력 순서 유지)
+     */
+    List<CertificateRevocationList> insertCrls(List<CertificateRevocationList> crls);
+}
@@ -0,0 +1,86 @@
+package com.smartcoreinc.localpkd.certificatevalidation.domain.port;
+
+import com.smartcoreinc.localpkd.certificatevalidation.domain.model.TrustedCsca;
+
+import java.security.cert.X509Certificate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * CscaTrustStore - CSCA 신뢰 저장소 Port (Domain Layer)
+ *
+ * <p><b>Hexagonal Architecture Port Pattern</b>: 인메모리 CSCA 인덱스 조회를 추상화합니다.
+ * 구현체는 Infrastructure Layer(CscaTrustStoreService)에 있습니다.</p>
+ *
+ * <p>저장소는 애플리케이션 범위로 유지되며, 신규/변경 CSCA는 커밋된 이벤트를 통해 증분 반영됩니다.
+ * 호출자가 검증 실행마다 전체 CSCA를 다시 적재할 필요가 없습니다.</p>
+ *
+ * <p><b>조회 키</b>:</p>
+ * <ul>
+ *   <li>1차: Subject Key Identifier (하위 인증서의 Authority Key Identifier와 매칭, O(1) 정확 선택)</li>
+ *   <li>2차: 정규화된 Subject DN (RDN 순서/대소문자 무시)</li>
+ *   <li>3차: 국가 코드</li>
+ * </ul>
+ *
+ * <p><b>사용처</b>: ValidateCertificatesUseCase (DSC 검증), CertificatePathBuilderImpl (발급자 조회),
+ * PerformPassiveAuthenticationUseCase (DSC → CSCA 조회)</p>
+ */
+public interface CscaTrustStore {
+
+    /**
+     * 하위 인증서의 발급자 CSCA 후보 조회
+     *
+     * <p>AKI → SKI 일치 후보를 먼저, 이어서 Issuer DN 일치 후보를 반환합니다 (각각 최신순, 중복 제거).
+     * 호출자는 첫 후보부터 서명 검증을 시도하면 됩니다.</p>
+     *
+     * @param child DSC 등 하위 인증서
+     * @return 발급자 후보 목록 (없으면 빈 목록)
+     */
+    List<TrustedCsca> findIssuerCandidates(X509Certificate child);
+
+    /**
+     * 발급자 CSCA 후보 조회 (키 식별자/DN 직접 지정)
+     *
+     * @param authorityKeyId 하위 인증서의 AKI (16진수, 없으면 null)
+     * @param issuerDn 하위 인증서의 Issuer DN
+     * @return 발급자 후보 목록 (없으면 빈 목록)
+     */
+    List<TrustedCsca> findIssuerCandidates(String authorityKeyId, String issuerDn);
+
+    /**
+     * 하위 인증서의 서명을 실제로 검증하는 발급자 CSCA 조회
+     *
+     * <p>{@link #findIssuerCandidates(X509Certificate)} 후보 중 폐기되지 않았고
+     * 공개키로 하위 인증서 서명이 검증되는 첫 번째 CSCA를 반환합니다.</p>
+     *
+     * @param child DSC 등 하위 인증서
+     * @return 디코딩된 발급자 CSCA (없으면 empty)
+     */
+    Optional<X509Certificate> resolveIssuer(X509Certificate child);
+
+    /**
+     * Subject DN으로 CSCA 조회 (정규화 매칭, 최신순 첫 번째)
+     *
+     * @param subjectDn Subject DN
+     * @return CSCA
+     */
+    Optional<TrustedCsca> findBySubjectDn(String subjectDn);
+
+    /**
+     * 국가 코드로 CSCA 목록 조회
+     *
+     * @param countryCode ISO 3166-1 alpha-2/alpha-3 국가 코드
+     * @return CSCA 목록 (최신순)
+     */
+    List<TrustedCsca> findByCountry(String countryCode);
+
+    /**
+     * 저장소 전체를 DB 상태로 재적재 (운영/복구용, 일반 흐름에서는 증분 반영으로 충분)
+     */
+    void refresh();
+
+    /**
+     * 색인된 CSCA 수
+     */
+    int size();
+}
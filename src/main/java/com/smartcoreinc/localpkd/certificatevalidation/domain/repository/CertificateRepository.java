@@ -5,6 +5,8 @@ import com.smartcoreinc.localpkd.certificatevalidation.domain.model.CertificateI
 import com.smartcoreinc.localpkd.certificatevalidation.domain.model.CertificateSourceType;
 import com.smartcoreinc.localpkd.certificatevalidation.domain.model.CertificateType;
 import com.smartcoreinc.localpkd.certificatevalidation.domain.model.CountryCount;
+import com.smartcoreinc.localpkd.certificatevalidation.domain.model.CertificateStatusProjection;
+import com.smartcoreinc.localpkd.certificatevalidation.domain.model.CscaProjection;
 import com.smartcoreinc.localpkd.certificatevalidation.domain.model.TypeCount;
 
 import java.util.List;
@@ -112,6 +114,17 @@ public interface CertificateRepository {
      */
     Optional<Certificate> findBySerialNumber(String serialNumber);
 
+    /**
+     * 일련 번호로 Certificate 전체 조회
+     *
+     * <p>일련 번호는 발급자마다 독립적이므로 여러 건이 존재할 수 있습니다.
+     * Delta LDIF의 삭제/교체 대상 확인에 사용됩니다.</p>
+     *
+     * @param serialNumber 인증서 일련 번호 (대문자 16진수 문자열)
+     * @return 일치하는 Certificate 목록 (없으면 빈 목록)
+     */
+    List<Certificate> findAllBySerialNumber(String serialNumber);
+
     /**
      * Subject DN으로 Certificate 조회
      *
@@ -222,6 +235,18 @@ public interface CertificateRepository {
      */
     List<Certificate> findByUploadId(java.util.UUID uploadId);
 
+    /**
+     * 업로드 ID와 fingerprint 목록으로 인증서 ID/상태 경량 조회
+     *
+     * <p>검증 재개 시 페이지 단위로 이미 커밋된 인증서를 식별합니다 (Aggregate 미로드).</p>
+     *
+     * @param uploadId 원본 업로드 파일 ID
+     * @param fingerprints 조회할 fingerprint 집합
+     * @return 이 업로드로 저장된 인증서의 ID/fingerprint/상태 (없으면 빈 리스트)
+     */
+    List<CertificateStatusProjection> findStatusesByUploadIdAndFingerprintIn(
+        java.util.UUID uploadId, java.util.Set<String> fingerprints);
+
     /**
      * 상태별 Certificate 목록 조회
      *
@@ -390,4 +415,21 @@ public interface CertificateRepository {
      * @throws IllegalArgumentException certificateType이 null인 경우
      */
     List<Certificate> findAllByType(CertificateType certificateType);
+
+    /**
+     * 전체 CSCA 경량 조회 (CSCA 신뢰 저장소 초기 적재용)
+     *
+     * <p>Aggregate 대신 ID/Subject DN/국가 코드/상태/바이너리/생성 일시만 조회합니다.</p>
+     *
+     * @return CSCA 프로젝션 목록 (빈 리스트 가능)
+     */
+    List<CscaProjection> findCscaProjections();
+
+    /**
+     * ID 목록 중 CSCA만 경량 조회 (CSCA 신뢰 저장소 증분 반영용)
+     *
+     * @param ids Certificate ID 목록
+     * @return CSCA 프로젝션 목록 (CSCA가 아니거나 존재하지 않는 ID는 제외)
+     */
+    List<CscaProjection> findCscaProjectionsByIds(List<CertificateId> ids);
 }
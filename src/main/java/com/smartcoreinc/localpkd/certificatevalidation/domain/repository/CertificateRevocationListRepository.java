@@ -148,6 +148,13 @@ public interface CertificateRevocationListRepository {
      */
     List<CertificateRevocationList> findByCountryCode(String countryCode);
 
+    /**
+     * CRL이 있는 국가 코드 목록 조회
+     *
+     * @return 중복 없는 국가 코드 목록 (없으면 빈 리스트)
+     */
+    List<String> findDistinctCountryCodes();
+
     /**
      * 업로드 ID로 CRL 목록 조회
      *
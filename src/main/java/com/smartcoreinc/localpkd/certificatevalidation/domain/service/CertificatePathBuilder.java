@@ -24,7 +24,7 @@ import java.util.Optional;
  *
  * <h3>사용 예시</h3>
  * <pre>{@code
- * CertificatePathBuilder builder = new CertificatePathBuilderImpl(certificateRepository);
+ * CertificatePathBuilder builder = new CertificatePathBuilderImpl(certificateRepository, cscaTrustStore);
  * Optional<TrustPath> pathOpt = builder.buildPath(dscCertificateId);
  *
  * if (pathOpt.isPresent()) {
@@ -82,4 +82,16 @@ public interface CertificatePathBuilder {
      * @return Optional<Certificate> (발견 시 Certificate, 없으면 empty)
      */
     Optional<Certificate> findIssuerCertificate(String issuerDn);
+
+    /**
+     * 하위 인증서의 부모(발급자) 인증서 검색
+     *
+     * <p>CSCA 인덱스에서 AKI → SKI, Issuer DN 순으로 후보를 조회하고, 하위 인증서 서명이 검증되는
+     * 후보를 우선 반환합니다. 같은 DN의 키 롤오버/링크 인증서를 구분할 수 있습니다.
+     * 인덱스에 후보가 없으면 {@link #findIssuerCertificate(String)}로 대체합니다.</p>
+     *
+     * @param child 하위 인증서
+     * @return Optional<Certificate> (발견 시 Certificate, 없으면 empty)
+     */
+    Optional<Certificate> findIssuerCertificate(Certificate child);
 }
@@ -3,11 +3,16 @@ package com.smartcoreinc.localpkd.certificatevalidation.domain.service;
 import com.smartcoreinc.localpkd.certificatevalidation.domain.model.Certificate;
 import com.smartcoreinc.localpkd.certificatevalidation.domain.model.CertificateId;
 import com.smartcoreinc.localpkd.certificatevalidation.domain.model.TrustPath;
+import com.smartcoreinc.localpkd.certificatevalidation.domain.model.TrustedCsca;
+import com.smartcoreinc.localpkd.certificatevalidation.domain.port.CscaTrustStore;
 import com.smartcoreinc.localpkd.certificatevalidation.domain.repository.CertificateRepository;
+import com.smartcoreinc.localpkd.shared.util.CertificateFactoryCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.io.ByteArrayInputStream;
+import java.security.cert.X509Certificate;
 import java.util.*;
 
 /**
@@ -21,7 +26,7 @@ import java.util.*;
  * 1. 시작 인증서 로드
  * 2. Self-Signed 확인 → CSCA (종료)
  * 3. Issuer DN 추출
- * 4. Repository에서 부모 인증서 검색 (Subject DN == Issuer DN)
+ * 4. 부모 인증서 검색 (CSCA 인덱스 AKI/DN 후보 중 서명 검증 후보 → Repository Subject DN 조회)
  * 5. 부모 발견 → 경로에 추가 → 2단계 반복
  * 6. 최대 깊이 도달 또는 순환 참조 → 실패
  * </pre>
@@ -43,6 +48,7 @@ import java.util.*;
 public class CertificatePathBuilderImpl implements CertificatePathBuilder {
 
     private final CertificateRepository certificateRepository;
+    private final CscaTrustStore cscaTrustStore;
 
     @Override
     public Optional<TrustPath> buildPath(CertificateId certificateId) {
@@ -125,8 +131,14 @@ public class CertificatePathBuilderImpl implements CertificatePathBuilder {
 
         log.debug("Finding issuer certificate with Subject DN: {}", issuerDn);
 
+        // CSCA 인덱스 우선 조회 (DN 표기 차이 무시) → ID로 Aggregate 로드
+        Optional<Certificate> issuerCert = cscaTrustStore.findBySubjectDn(issuerDn)
+                .flatMap(csca -> certificateRepository.findById(csca.certificateId()));
+
         // Search by Subject DN (Subject of parent == Issuer of child)
-        Optional<Certificate> issuerCert = certificateRepository.findBySubjectDn(issuerDn);
+        if (issuerCert.isEmpty()) {
+            issuerCert = certificateRepository.findBySubjectDn(issuerDn);
+        }
 
         if (issuerCert.isPresent()) {
             log.debug("Issuer certificate found: {}",
@@ -138,6 +150,33 @@ public class CertificatePathBuilderImpl implements CertificatePathBuilder {
         return issuerCert;
     }
 
+    @Override
+    public Optional<Certificate> findIssuerCertificate(Certificate child) {
+        if (child == null) {
+            throw new IllegalArgumentException("Certificate must not be null");
+        }
+
+        X509Certificate childX509 = decode(child);
+        if (childX509 != null) {
+            List<TrustedCsca> candidates = cscaTrustStore.findIssuerCandidates(childX509);
+            if (!candidates.isEmpty()) {
+                // AKI → SKI 후보 우선, 서명이 검증되는 후보가 없으면 첫 후보 (서명 검증은 검증 단계에서 실패)
+                TrustedCsca issuer = candidates.stream()
+                        .filter(candidate -> verifies(childX509, candidate))
+                        .findFirst()
+                        .orElse(candidates.get(0));
+                log.debug("Issuer certificate resolved from CSCA index: id={}, subject={}",
+                        issuer.certificateId().getId(), issuer.subjectDn());
+                Optional<Certificate> issuerCert = certificateRepository.findById(issuer.certificateId());
+                if (issuerCert.isPresent()) {
+                    return issuerCert;
+                }
+            }
+        }
+
+        return findIssuerCertificate(child.getIssuerInfo().getDistinguishedName());
+    }
+
     // ==================== Private Helper Methods ====================
 
     /**
@@ -183,9 +222,9 @@ public class CertificatePathBuilderImpl implements CertificatePathBuilder {
             return true;  // Success - reached root
         }
 
-        // 5. Find parent (issuer) certificate
+        // 5. Find parent (issuer) certificate (AKI → SKI, Issuer DN)
         String issuerDn = current.getIssuerInfo().getDistinguishedName();
-        Optional<Certificate> parentOpt = findIssuerCertificate(issuerDn);
+        Optional<Certificate> parentOpt = findIssuerCertificate(current);
 
         if (parentOpt.isEmpty()) {
             log.error("Issuer certificate not found: issuerDN={}", issuerDn);
@@ -197,6 +236,32 @@ public class CertificatePathBuilderImpl implements CertificatePathBuilder {
         return buildPathRecursive(parent, path, visited, depth + 1);
     }
 
+    /**
+     * 인증서 바이너리 디코딩 (바이너리가 없거나 디코딩 실패 시 null → DN 조회로 대체)
+     */
+    private X509Certificate decode(Certificate certificate) {
+        byte[] binary = certificate.getX509Data() != null ? certificate.getX509Data().getCertificateBinary() : null;
+        if (binary == null || binary.length == 0) {
+            return null;
+        }
+        try {
+            return (X509Certificate) CertificateFactoryCache.x509BouncyCastle()
+                    .generateCertificate(new ByteArrayInputStream(binary));
+        } catch (Exception e) {
+            log.debug("Failed to decode certificate, falling back to issuer DN lookup: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static boolean verifies(X509Certificate child, TrustedCsca candidate) {
+        try {
+            child.verify(candidate.publicKey());
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
     /**
      * Distinguished Name 정규화
      *
@@ -9,6 +9,7 @@ import com.smartcoreinc.localpkd.certificatevalidation.domain.model.ValidityPeri
 import com.smartcoreinc.localpkd.certificatevalidation.domain.port.CertificateValidationPort;
 import com.smartcoreinc.localpkd.certificatevalidation.domain.repository.CertificateRepository;
 import com.smartcoreinc.localpkd.certificatevalidation.domain.repository.CertificateRevocationListRepository;
+import com.smartcoreinc.localpkd.certificatevalidation.infrastructure.cache.CscaKeyCacheService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -96,6 +97,7 @@ public class BouncyCastleValidationAdapter implements CertificateValidationPort
     // ========== Dependencies ==========
     private final CertificateRepository certificateRepository;
     private final CertificateRevocationListRepository crlRepository;
+    private final CscaKeyCacheService cscaKeyCacheService;
 
     /**
      * 인증서 서명 검증
@@ -132,10 +134,8 @@ public class BouncyCastleValidationAdapter implements CertificateValidationPort
                 return validateSelfSignedSignature(x509Cert);
             }
 
-            // 3. Issuer 공개 키 가져오기
-            java.security.cert.X509Certificate issuerX509Cert =
-                convertToX509Certificate(issuerCertificate.getX509Data().getCertificateBinary());
-            java.security.PublicKey issuerPublicKey = issuerX509Cert.getPublicKey();
+            // 3. Issuer 공개 키 가져오기 (디코딩된 공개키 캐시 사용)
+            java.security.PublicKey issuerPublicKey = cscaKeyCacheService.getPublicKey(issuerCertificate);
 
             // 4. BouncyCastle X509CertificateHolder로 변환
             org.bouncycastle.cert.X509CertificateHolder certHolder =
@@ -0,0 +1,199 @@
+package com.smartcoreinc.localpkd.certificatevalidation.infrastructure.cache;
+
+import com.smartcoreinc.localpkd.certificatevalidation.domain.model.TrustedCsca;
+import lombok.extern.slf4j.Slf4j;
+import org.bouncycastle.asn1.ASN1OctetString;
+import org.bouncycastle.asn1.x500.AttributeTypeAndValue;
+import org.bouncycastle.asn1.x500.RDN;
+import org.bouncycastle.asn1.x500.X500Name;
+import org.bouncycastle.asn1.x500.style.IETFUtils;
+import org.bouncycastle.asn1.x509.AuthorityKeyIdentifier;
+import org.bouncycastle.asn1.x509.Extension;
+import org.bouncycastle.asn1.x509.SubjectKeyIdentifier;
+
+import java.security.cert.X509Certificate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * CscaIndex - 불변 CSCA 인덱스 스냅샷
+ *
+ * <p>CSCA를 Subject Key Identifier(SKI)를 1차 키로, 정규화된 Subject DN과 국가 코드를 2차 키로 색인합니다.
+ * DSC 발급자 조회는 DSC의 Authority Key Identifier(AKI)로 SKI를 먼저 찾고(O(1) 정확 매칭),
+ * AKI가 없거나 일치하는 SKI가 없을 때만 DN으로 조회합니다.</p>
+ *
+ * <p>Link 인증서와 CSCA 키 교체(rollover)는 동일한 Subject DN을 공유하므로,
+ * DN 조회 결과는 최신 인증서(createdAt 내림차순) 순서의 후보 목록으로 반환됩니다.</p>
+ *
+ * <p>인스턴스는 불변이므로 여러 워커 스레드에서 동시에 조회할 수 있습니다.</p>
+ */
+@Slf4j
+final class CscaIndex {
+
+    private static final HexFormat HEX = HexFormat.of();
+
+    private static final Comparator<TrustedCsca> NEWEST_FIRST =
+        Comparator.comparing(TrustedCsca::createdAt, Comparator.nullsLast(Comparator.reverseOrder()));
+
+    private static final CscaIndex EMPTY = new CscaIndex(Map.of(), Map.of(), Map.of(), 0);
+
+    private final Map<String, List<TrustedCsca>> bySubjectKeyId;
+    private final Map<String, List<TrustedCsca>> bySubjectDn;
+    private final Map<String, List<TrustedCsca>> byCountry;
+    private final int size;
+
+    private CscaIndex(
+        Map<String, List<TrustedCsca>> bySubjectKeyId,
+        Map<String, List<TrustedCsca>> bySubjectDn,
+        Map<String, List<TrustedCsca>> byCountry,
+        int size
+    ) {
+        this.bySubjectKeyId = bySubjectKeyId;
+        this.bySubjectDn = bySubjectDn;
+        this.byCountry = byCountry;
+        this.size = size;
+    }
+
+    static CscaIndex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * CSCA 목록으로 인덱스 생성
+     *
+     * @param cscas 디코딩된 CSCA 목록 (SKI 추출 실패 시 SKI 색인에서만 제외)
+     * @return CscaIndex
+     */
+    static CscaIndex build(Collection<TrustedCsca> cscas) {
+        Map<String, List<TrustedCsca>> bySki = new HashMap<>();
+        Map<String, List<TrustedCsca>> byDn = new HashMap<>();
+        Map<String, List<TrustedCsca>> byCountry = new HashMap<>();
+
+        for (TrustedCsca csca : cscas) {
+            try {
+                String ski = subjectKeyIdentifier(csca.certificate());
+                if (ski != null) {
+                    bySki.computeIfAbsent(ski, k -> new ArrayList<>()).add(csca);
+                }
+            } catch (RuntimeException e) {
+                log.warn("Failed to extract SKI from CSCA, indexing by DN only: id={}, error={}",
+                    csca.certificateId().getId(), e.getMessage());
+            }
+
+            byDn.computeIfAbsent(normalizeDn(csca.subjectDn()), k -> new ArrayList<>()).add(csca);
+
+            String countryCode = csca.countryCode();
+            if (countryCode != null) {
+                byCountry.computeIfAbsent(countryCode.toUpperCase(Locale.ROOT), k -> new ArrayList<>()).add(csca);
+            }
+        }
+
+        return new CscaIndex(freeze(bySki), freeze(byDn), freeze(byCountry), cscas.size());
+    }
+
+    private static Map<String, List<TrustedCsca>> freeze(Map<String, List<TrustedCsca>> map) {
+        Map<String, List<TrustedCsca>> frozen = new HashMap<>(map.size() * 2);
+        map.forEach((key, list) -> {
+            list.sort(NEWEST_FIRST);
+            frozen.put(key, List.copyOf(list));
+        });
+        return Map.copyOf(frozen);
+    }
+
+    // ========== Lookups ==========
+
+    /**
+     * 발급자 후보 조회 (AKI → SKI 우선, 이후 Issuer DN)
+     *
+     * @param authorityKeyId 하위 인증서의 AKI (16진수, 없으면 null)
+     * @param issuerDn 하위 인증서의 Issuer DN
+     * @return 중복 없는 후보 목록 (SKI 일치 → DN 일치, 각각 최신순)
+     */
+    List<TrustedCsca> findIssuerCandidates(String authorityKeyId, String issuerDn) {
+        Set<TrustedCsca> candidates = new LinkedHashSet<>();
+        if (authorityKeyId != null) {
+            candidates.addAll(bySubjectKeyId.getOrDefault(authorityKeyId.toLowerCase(Locale.ROOT), List.of()));
+        }
+        if (issuerDn != null) {
+            candidates.addAll(findBySubjectDn(issuerDn));
+        }
+        return List.copyOf(candidates);
+    }
+
+    List<TrustedCsca> findBySubjectKeyId(String subjectKeyId) {
+        return subjectKeyId == null
+            ? List.of()
+            : bySubjectKeyId.getOrDefault(subjectKeyId.toLowerCase(Locale.ROOT), List.of());
+    }
+
+    List<TrustedCsca> findBySubjectDn(String subjectDn) {
+        return subjectDn == null ? List.of() : bySubjectDn.getOrDefault(normalizeDn(subjectDn), List.of());
+    }
+
+    List<TrustedCsca> findByCountry(String countryCode) {
+        return countryCode == null ? List.of() : byCountry.getOrDefault(countryCode.toUpperCase(Locale.ROOT), List.of());
+    }
+
+    int size() {
+        return size;
+    }
+
+    // ========== Key Identifier / DN Helpers ==========
+
+    /**
+     * Subject Key Identifier 추출 (16진수 소문자, 없으면 null)
+     */
+    static String subjectKeyIdentifier(X509Certificate certificate) {
+        byte[] extensionValue = certificate.getExtensionValue(Extension.subjectKeyIdentifier.getId());
+        if (extensionValue == null) {
+            return null;
+        }
+        byte[] keyId = SubjectKeyIdentifier.getInstance(ASN1OctetString.getInstance(extensionValue).getOctets())
+            .getKeyIdentifier();
+        return HEX.formatHex(keyId);
+    }
+
+    /**
+     * Authority Key Identifier의 keyIdentifier 추출 (16진수 소문자, 없으면 null)
+     */
+    static String authorityKeyIdentifier(X509Certificate certificate) {
+        byte[] extensionValue = certificate.getExtensionValue(Extension.authorityKeyIdentifier.getId());
+        if (extensionValue == null) {
+            return null;
+        }
+        byte[] keyId = AuthorityKeyIdentifier.getInstance(ASN1OctetString.getInstance(extensionValue).getOctets())
+            .getKeyIdentifier();
+        return keyId == null ? null : HEX.formatHex(keyId);
+    }
+
+    /**
+     * DN 정규화 (RDN 순서/대소문자/공백 차이 무시)
+     *
+     * <p>RFC 2253(CN=...,C=KR)과 RFC 1779 역순(C=KR,...,CN=...) 표기를 동일 키로 매핑합니다.</p>
+     */
+    static String normalizeDn(String dn) {
+        try {
+            List<String> parts = new ArrayList<>();
+            for (RDN rdn : new X500Name(dn).getRDNs()) {
+                for (AttributeTypeAndValue atv : rdn.getTypesAndValues()) {
+                    parts.add(atv.getType().getId() + "=" + IETFUtils.canonicalize(IETFUtils.valueToString(atv.getValue())));
+                }
+            }
+            parts.sort(null);
+            return String.join(",", parts);
+        } catch (RuntimeException e) {
+            return dn.trim()
+                .replaceAll("\\s*,\\s*", ",")
+                .replaceAll("\\s*=\\s*", "=")
+                .toLowerCase(Locale.ROOT);
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package com.smartcoreinc.localpkd.certificatevalidation.infrastructure.cache;
+
+import com.smartcoreinc.localpkd.certificatevalidation.domain.event.CertificateCreatedEvent;
+import com.smartcoreinc.localpkd.certificatevalidation.domain.event.CertificateDeletedEvent;
+import com.smartcoreinc.localpkd.certificatevalidation.domain.event.CertificateRevokedEvent;
+import com.smartcoreinc.localpkd.certificatevalidation.domain.model.Certificate;
+import com.smartcoreinc.localpkd.certificatevalidation.domain.model.CertificateId;
+import com.smartcoreinc.localpkd.shared.exception.InfrastructureException;
+import com.smartcoreinc.localpkd.shared.util.CertificateFactoryCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.ByteArrayInputStream;
+import java.security.PublicKey;
+import java.security.cert.CertificateException;
+import java.security.cert.X509Certificate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * CscaKeyCacheService - 디코딩된 CSCA 인증서/공개키 캐시 (Trust Anchor Key Cache)
+ *
+ * <p>DSC 서명 검증 시 동일한 CSCA DER를 DSC마다 다시 파싱하지 않도록,
+ * CSCA별로 디코딩된 {@link X509Certificate}와 {@link PublicKey}를 애플리케이션 범위에서 보관합니다.
+ * 업로드 간에 공유되므로 DSC 검증 비용은 인증서당 서명 검증 1회로 줄어듭니다.</p>
+ *
+ * <h3>Cache Structure</h3>
+ * <pre>
+ * Key: CertificateId (UUID)
+ * Value: CachedCscaKey (X509Certificate + PublicKey)
+ * </pre>
+ *
+ * <h3>Invalidation</h3>
+ * <ul>
+ *   <li>{@link CertificateCreatedEvent}: 동일 ID로 재저장되는 경우를 대비해 해당 항목 제거</li>
+ *   <li>{@link CertificateRevokedEvent}: 폐기된 인증서 항목 제거</li>
+ *   <li>{@link CertificateDeletedEvent}: 삭제된 인증서 항목 제거 (커밋 후)</li>
+ * </ul>
+ *
+ * <p>인증서 바이너리는 ID별로 불변이므로 별도 만료 정책은 두지 않습니다.
+ * 크기는 {@code app.validation.csca-key-cache.max-entries}로 제한되며 초과 시 가장 오래 사용되지 않은 항목부터
+ * 제거합니다 (LRU). 적중/미적중/제거 건수는 {@link #getStats()}로 조회합니다.</p>
+ */
+@Slf4j
+@Service
+public class CscaKeyCacheService {
+
+    private final int maxEntries;
+
+    /**
+     * In-memory cache
+     * Key: CertificateId UUID
+     * Value: CachedCscaKey (X509Certificate + PublicKey, 접근 순서 LRU)
+     */
+    private final Map<UUID, CachedCscaKey> memoryCache;
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    public CscaKeyCacheService(@Value("${app.validation.csca-key-cache.max-entries:5000}") int maxEntries) {
+        this.maxEntries = Math.max(1, maxEntries);
+        this.memoryCache = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, CachedCscaKey> eldest) {
+                if (size() > CscaKeyCacheService.this.maxEntries) {
+                    evictionCount.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * CSCA 공개키 조회 (최초 1회만 디코딩)
+     *
+     * @param csca CSCA 인증서 Aggregate
+     * @return CSCA 공개키
+     * @throws InfrastructureException 인증서 바이너리 디코딩 실패 시
+     */
+    public PublicKey getPublicKey(Certificate csca) {
+        return getOrDecode(csca).publicKey();
+    }
+
+    /**
+     * 디코딩된 CSCA X509Certificate 조회 (최초 1회만 디코딩)
+     *
+     * @param csca CSCA 인증서 Aggregate
+     * @return X509Certificate
+     * @throws InfrastructureException 인증서 바이너리 디코딩 실패 시
+     */
+    public X509Certificate getX509Certificate(Certificate csca) {
+        return getOrDecode(csca).certificate();
+    }
+
+    private CachedCscaKey getOrDecode(Certificate csca) {
+        UUID id = csca.getId().getId();
+        synchronized (memoryCache) {
+            CachedCscaKey cached = memoryCache.get(id);
+            if (cached != null) {
+                hitCount.incrementAndGet();
+                return cached;
+            }
+        }
+        // 디코딩은 잠금 밖에서 수행 (동시 미적중 시 먼저 저장된 항목 사용)
+        missCount.incrementAndGet();
+        CachedCscaKey decoded = decode(csca);
+        synchronized (memoryCache) {
+            CachedCscaKey existing = memoryCache.putIfAbsent(id, decoded);
+            return existing != null ? existing : decoded;
+        }
+    }
+
+    private CachedCscaKey decode(Certificate csca) {
+        try {
+            X509Certificate certificate = (X509Certificate) CertificateFactoryCache.x509BouncyCastle()
+                .generateCertificate(new ByteArrayInputStream(csca.getX509Data().getCertificateBinary()));
+            log.debug("CSCA key cached: id={}, subject={}",
+                csca.getId().getId(), certificate.getSubjectX500Principal().getName());
+            return new CachedCscaKey(certificate, certificate.getPublicKey());
+        } catch (CertificateException e) {
+            throw new InfrastructureException("CSCA_DECODE_ERROR",
+                "Failed to decode CSCA certificate: id=" + csca.getId().getId() + ", " + e.getMessage(), e);
+        }
+    }
+
+    // ========== Invalidation ==========
+
+    /**
+     * 인증서 생성/재저장 시 캐시 항목 제거
+     */
+    @EventListener
+    public void onCertificateCreated(CertificateCreatedEvent event) {
+        evict(event.getCertificateId());
+    }
+
+    /**
+     * 인증서 폐기 시 캐시 항목 제거
+     */
+    @EventListener
+    public void onCertificateRevoked(CertificateRevokedEvent event) {
+        if (evict(event.getCertificateId())) {
+            log.info("CSCA key evicted after revocation: id={}", event.getCertificateId().getId());
+        }
+    }
+
+    /**
+     * 인증서 삭제 커밋 후 캐시 항목 제거
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCertificateDeleted(CertificateDeletedEvent event) {
+        if (evict(event.getCertificateId())) {
+            log.info("CSCA key evicted after deletion: id={}", event.getCertificateId().getId());
+        }
+    }
+
+    /**
+     * 캐시 항목 제거
+     *
+     * @param certificateId 인증서 ID
+     * @return 제거된 항목이 있으면 true
+     */
+    public boolean evict(CertificateId certificateId) {
+        if (certificateId == null) {
+            return false;
+        }
+        synchronized (memoryCache) {
+            return memoryCache.remove(certificateId.getId()) != null;
+        }
+    }
+
+    /**
+     * In-memory cache entry
+     *
+     * @param certificate 디코딩된 CSCA 인증서
+     * @param publicKey CSCA 공개키
+     */
+    private record CachedCscaKey(X509Certificate certificate, PublicKey publicKey) {
+    }
+
+    // ========== Cache Management Methods ==========
+
+    /**
+     * In-memory cache를 완전히 비웁니다 (테스트용).
+     */
+    public void clearMemoryCache() {
+        synchronized (memoryCache) {
+            memoryCache.clear();
+        }
+        log.info("CSCA key cache cleared");
+    }
+
+    /**
+     * In-memory cache 크기 조회 (모니터링용).
+     *
+     * @return Number of cached CSCA keys
+     */
+    public int getMemoryCacheSize() {
+        synchronized (memoryCache) {
+            return memoryCache.size();
+        }
+    }
+
+    /**
+     * 캐시 통계 조회 (모니터링용).
+     *
+     * @return 항목 수, 최대 항목 수, 적중/미적중/LRU 제거 건수
+     */
+    public CacheStats getStats() {
+        return new CacheStats(getMemoryCacheSize(), maxEntries, hitCount.get(), missCount.get(), evictionCount.get());
+    }
+
+    /**
+     * CSCA 키 캐시 통계
+     *
+     * @param size 현재 항목 수
+     * @param maxEntries 최대 항목 수
+     * @param hits 적중 건수
+     * @param misses 미적중(디코딩) 건수
+     * @param evictions 크기 초과로 제거된 건수
+     */
+    public record CacheStats(int size, int maxEntries, long hits, long misses, long evictions) {
+    }
+}
@@ -0,0 +1,257 @@
+package com.smartcoreinc.localpkd.certificatevalidation.infrastructure.cache;
+
+import com.smartcoreinc.localpkd.certificatevalidation.domain.event.CertificateCreatedEvent;
+import com.smartcoreinc.localpkd.certificatevalidation.domain.event.CertificateDeletedEvent;
+import com.smartcoreinc.localpkd.certificatevalidation.domain.event.CertificateRevokedEvent;
+import com.smartcoreinc.localpkd.certificatevalidation.domain.event.CertificatesValidatedEvent;
+import com.smartcoreinc.localpkd.certificatevalidation.domain.model.CertificateId;
+import com.smartcoreinc.localpkd.certificatevalidation.domain.model.CertificateType;
+import com.smartcoreinc.localpkd.certificatevalidation.domain.model.CscaProjection;
+import com.smartcoreinc.localpkd.certificatevalidation.domain.model.TrustedCsca;
+import com.smartcoreinc.localpkd.certificatevalidation.domain.port.CscaTrustStore;
+import com.smartcoreinc.localpkd.certificatevalidation.domain.repository.CertificateRepository;
+import com.smartcoreinc.localpkd.shared.util.CertificateFactoryCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.ByteArrayInputStream;
+import java.security.cert.CertificateException;
+import java.security.cert.X509Certificate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * CscaTrustStoreService - 애플리케이션 범위 인메모리 CSCA 신뢰 저장소 ({@link CscaTrustStore} 구현체)
+ *
+ * <p>최초 조회 시 전체 CSCA를 경량 프로젝션({@link CscaProjection})으로 한 번만 적재하고,
+ * 이후에는 커밋된 이벤트로 변경분만 반영합니다. 검증 실행마다 CSCA 테이블 전체를 읽지 않습니다.</p>
+ *
+ * <h3>Delta Sources (AFTER_COMMIT)</h3>
+ * <ul>
+ *   <li>{@link CertificateCreatedEvent}: 신규 CSCA ID를 반영 대기열에 추가</li>
+ *   <li>{@link CertificatesValidatedEvent}: 이미 적재된 CSCA 중 재검증된 항목의 상태 재조회</li>
+ *   <li>{@link CertificateRevokedEvent}: 폐기된 CSCA 상태 재조회</li>
+ *   <li>{@link CertificateDeletedEvent}: 삭제된 CSCA 재조회 (조회되지 않으므로 제거)</li>
+ * </ul>
+ *
+ * <p>대기열은 다음 조회 시 ID 기반 프로젝션 쿼리로 반영되며, 인덱스({@link CscaIndex})는
+ * 메모리 내 항목으로 재구성됩니다 (기존 항목 재디코딩/테이블 스캔 없음). 커밋 이후에만 대기열에 추가되므로
+ * 롤백된 배치의 CSCA는 반영되지 않습니다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CscaTrustStoreService implements CscaTrustStore {
+
+    /**
+     * 증분 반영 시 IN 절 크기 상한
+     */
+    private static final int DELTA_QUERY_CHUNK_SIZE = 1000;
+
+    private final CertificateRepository certificateRepository;
+
+    /**
+     * 적재된 CSCA 항목
+     * Key: CertificateId UUID
+     * Value: TrustedCsca (디코딩된 CSCA + 메타데이터)
+     */
+    private final Map<UUID, TrustedCsca> entries = new ConcurrentHashMap<>();
+
+    /**
+     * 반영 대기 중인 CSCA ID (커밋 완료 후 추가)
+     */
+    private final Set<UUID> pendingIds = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 현재 인덱스 스냅샷 (null이면 아직 초기 적재 전)
+     */
+    private volatile CscaIndex index;
+
+    @Override
+    public List<TrustedCsca> findIssuerCandidates(X509Certificate child) {
+        String authorityKeyId = null;
+        try {
+            authorityKeyId = CscaIndex.authorityKeyIdentifier(child);
+        } catch (RuntimeException e) {
+            log.debug("Failed to extract AKI, falling back to issuer DN lookup: {}", e.getMessage());
+        }
+        return findIssuerCandidates(authorityKeyId, child.getIssuerX500Principal().getName());
+    }
+
+    @Override
+    public List<TrustedCsca> findIssuerCandidates(String authorityKeyId, String issuerDn) {
+        return getIndex().findIssuerCandidates(authorityKeyId, issuerDn);
+    }
+
+    @Override
+    public Optional<X509Certificate> resolveIssuer(X509Certificate child) {
+        for (TrustedCsca candidate : findIssuerCandidates(child)) {
+            if (candidate.isRevoked()) {
+                continue;
+            }
+            try {
+                child.verify(candidate.publicKey());
+                return Optional.of(candidate.certificate());
+            } catch (Exception e) {
+                log.debug("CSCA candidate did not verify child certificate: id={}, error={}",
+                    candidate.certificateId().getId(), e.getMessage());
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<TrustedCsca> findBySubjectDn(String subjectDn) {
+        return getIndex().findBySubjectDn(subjectDn).stream().findFirst();
+    }
+
+    @Override
+    public List<TrustedCsca> findByCountry(String countryCode) {
+        return getIndex().findByCountry(countryCode);
+    }
+
+    @Override
+    public synchronized void refresh() {
+        pendingIds.clear();
+        loadAll();
+    }
+
+    @Override
+    public int size() {
+        return getIndex().size();
+    }
+
+    private CscaIndex getIndex() {
+        CscaIndex current = index;
+        if (current == null || !pendingIds.isEmpty()) {
+            synchronized (this) {
+                if (index == null) {
+                    loadAll();
+                } else if (!pendingIds.isEmpty()) {
+                    applyPending();
+                }
+                current = index;
+            }
+        }
+        return current;
+    }
+
+    // ========== Loading ==========
+
+    private void loadAll() {
+        long startTime = System.currentTimeMillis();
+        List<CscaProjection> projections = certificateRepository.findCscaProjections();
+
+        entries.clear();
+        for (CscaProjection projection : projections) {
+            decode(projection).ifPresent(csca -> entries.put(csca.certificateId().getId(), csca));
+        }
+        CscaIndex loaded = CscaIndex.build(entries.values());
+        index = loaded;
+
+        log.info("CSCA trust store loaded: {} CSCAs ({}ms)", loaded.size(), System.currentTimeMillis() - startTime);
+    }
+
+    private void applyPending() {
+        long startTime = System.currentTimeMillis();
+        List<UUID> ids = new ArrayList<>(pendingIds);
+        pendingIds.removeAll(ids);
+
+        Set<UUID> found = new HashSet<>();
+        for (int from = 0; from < ids.size(); from += DELTA_QUERY_CHUNK_SIZE) {
+            List<CertificateId> chunk = ids.subList(from, Math.min(from + DELTA_QUERY_CHUNK_SIZE, ids.size()))
+                .stream()
+                .map(CertificateId::of)
+                .toList();
+            for (CscaProjection projection : certificateRepository.findCscaProjectionsByIds(chunk)) {
+                found.add(projection.certificateId().getId());
+                decode(projection).ifPresent(csca -> entries.put(csca.certificateId().getId(), csca));
+            }
+        }
+
+        // 조회되지 않은 ID: 삭제되었거나 CSCA가 아님
+        ids.stream().filter(id -> !found.contains(id)).forEach(entries::remove);
+        CscaIndex updated = CscaIndex.build(entries.values());
+        index = updated;
+
+        log.debug("CSCA trust store delta applied: {} ids, {} CSCAs updated, total={} ({}ms)",
+            ids.size(), found.size(), updated.size(), System.currentTimeMillis() - startTime);
+    }
+
+    private Optional<TrustedCsca> decode(CscaProjection projection) {
+        try {
+            X509Certificate certificate = (X509Certificate) CertificateFactoryCache.x509BouncyCastle()
+                .generateCertificate(new ByteArrayInputStream(projection.certificateBinary()));
+            return Optional.of(new TrustedCsca(
+                projection.certificateId(),
+                projection.subjectDn(),
+                projection.countryCode(),
+                projection.status(),
+                projection.createdAt(),
+                certificate
+            ));
+        } catch (CertificateException | RuntimeException e) {
+            log.warn("Failed to decode CSCA, excluded from trust store: id={}, error={}",
+                projection.certificateId().getId(), e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    // ========== Delta Events ==========
+
+    /**
+     * 신규 CSCA 커밋 시 반영 대기열에 추가
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCertificateCreated(CertificateCreatedEvent event) {
+        CertificateType type = event.getCertificateType();
+        if (type == null || type == CertificateType.CSCA) {
+            pendingIds.add(event.getCertificateId().getId());
+        }
+    }
+
+    /**
+     * 업로드 검증 완료 시 이미 적재된 CSCA의 상태 재조회
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCertificatesValidated(CertificatesValidatedEvent event) {
+        markKnownForReload(event.getValidCertificateIds());
+        markKnownForReload(event.getInvalidCertificateIds());
+    }
+
+    /**
+     * CSCA 폐기 시 상태 재조회
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCertificateRevoked(CertificateRevokedEvent event) {
+        markKnownForReload(List.of(event.getCertificateId().getId()));
+    }
+
+    /**
+     * CSCA 삭제 시 재조회 (조회되지 않으면 저장소에서 제거)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCertificateDeleted(CertificateDeletedEvent event) {
+        markKnownForReload(List.of(event.getCertificateId().getId()));
+    }
+
+    private void markKnownForReload(List<UUID> certificateIds) {
+        if (certificateIds == null) {
+            return;
+        }
+        for (UUID id : certificateIds) {
+            if (entries.containsKey(id)) {
+                pendingIds.add(id);
+            }
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.smartcoreinc.localpkd.certificatevalidation.infrastructure.repositor
 
 import com.smartcoreinc.localpkd.certificatevalidation.domain.model.*;
 import com.smartcoreinc.localpkd.certificatevalidation.domain.repository.CertificateRepository;
+import com.smartcoreinc.localpkd.shared.blob.CertificateBlobStore;
 import com.smartcoreinc.localpkd.shared.event.EventBus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -18,6 +19,7 @@ public class JpaCertificateRepository implements CertificateRepository {
 
     private final SpringDataCertificateRepository jpaRepository;
     private final EventBus eventBus;
+    private final CertificateBlobStore blobStore;
 
     @Override
     @Transactional
@@ -32,6 +34,7 @@ public class JpaCertificateRepository implements CertificateRepository {
             certificate.clearDomainEvents();
         }
 
+        storeBlobs(List.of(certificate));
         Certificate saved = jpaRepository.save(certificate);
         log.debug("Certificate saved successfully: id={}", saved.getId().getId());
         return saved;
@@ -57,6 +60,9 @@ public class JpaCertificateRepository implements CertificateRepository {
             }
         }
 
+        // DER binaries go to certificate_blob (content-addressed), rows reference them by fingerprint
+        storeBlobs(certificates);
+
         // Batch save using JPA
         List<Certificate> savedCertificates = jpaRepository.saveAll(certificates);
         log.debug("Successfully saved {} certificates in batch", savedCertificates.size());
@@ -85,6 +91,13 @@ public class JpaCertificateRepository implements CertificateRepository {
         return jpaRepository.findByX509Data_SerialNumber(serialNumber);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<Certificate> findAllBySerialNumber(String serialNumber) {
+        log.debug("Finding all Certificates by serialNumber: {}", serialNumber);
+        return jpaRepository.findAllByX509Data_SerialNumber(serialNumber);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Optional<Certificate> findBySubjectDn(String subjectDn) {
@@ -160,6 +173,18 @@ public class JpaCertificateRepository implements CertificateRepository {
         return jpaRepository.findByUploadId(uploadId);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<CertificateStatusProjection> findStatusesByUploadIdAndFingerprintIn(UUID uploadId, Set<String> fingerprints) {
+        if (uploadId == null) {
+            throw new IllegalArgumentException("uploadId must not be null");
+        }
+        if (fingerprints == null || fingerprints.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findStatusesByUploadIdAndFingerprintIn(uploadId, fingerprints);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<Certificate> findByStatus(String status) {
@@ -233,6 +258,23 @@ public class JpaCertificateRepository implements CertificateRepository {
     }
 
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<CscaProjection> findCscaProjections() {
+        List<CscaProjection> projections = jpaRepository.findCscaProjections();
+        log.debug("Found {} CSCA projections", projections.size());
+        return projections;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<CscaProjection> findCscaProjectionsByIds(List<CertificateId> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findCscaProjectionsByIdIn(ids);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<Certificate> findAllById(List<CertificateId> ids) {
@@ -297,4 +339,15 @@ public class JpaCertificateRepository implements CertificateRepository {
         log.debug("Finding all LDIF Certificates");
         return jpaRepository.findLdifCertificates();
     }
-}
\ No newline at end of file
+
+    private void storeBlobs(List<Certificate> certificates) {
+        Map<String, byte[]> blobs = new LinkedHashMap<>();
+        for (Certificate certificate : certificates) {
+            X509Data x509Data = certificate.getX509Data();
+            if (x509Data != null && x509Data.getFingerprintSha256() != null) {
+                blobs.putIfAbsent(x509Data.getFingerprintSha256(), x509Data.getCertificateBinary());
+            }
+        }
+        blobStore.storeAll(blobs);
+    }
+}
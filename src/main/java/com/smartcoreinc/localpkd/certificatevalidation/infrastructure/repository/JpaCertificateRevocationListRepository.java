@@ -273,6 +273,17 @@ public class JpaCertificateRevocationListRepository implements CertificateRevoca
         return crls;
     }
 
+    /**
+     * CRL이 있는 국가 코드 목록 조회
+     *
+     * @return 중복 없는 국가 코드 목록
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<String> findDistinctCountryCodes() {
+        return jpaRepository.findDistinctCountryCodes();
+    }
+
     /**
      * 업로드 ID로 CRL 목록 조회
      *
@@ -0,0 +1,128 @@
+package com.smartcoreinc.localpkd.certificatevalidation.infrastructure.repository;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+/**
+ * PgBinaryCopyWriter - PostgreSQL {@code COPY ... FROM STDIN (FORMAT BINARY)} 스트림 작성기
+ *
+ * <p>각 필드를 PostgreSQL 바이너리 전송 형식(길이 prefix + 값)으로 기록합니다. 텍스트 COPY와 달리
+ * bytea 이스케이프와 서버 측 텍스트 파싱이 없어 인증서 바이너리처럼 큰 값의 전송 비용이 가장 적습니다.</p>
+ *
+ * <p>사용 순서: {@link #startRow(int)} → 컬럼 순서대로 값 기록 → ... → {@link #close()} (trailer 기록 후 COPY 종료)</p>
+ */
+final class PgBinaryCopyWriter implements AutoCloseable {
+
+    private static final byte[] SIGNATURE = {'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0};
+
+    /**
+     * PostgreSQL timestamp 기준 시각 (2000-01-01 00:00:00, 마이크로초 단위 정수 저장)
+     */
+    private static final LocalDateTime PG_EPOCH = LocalDateTime.of(2000, 1, 1, 0, 0);
+
+    /**
+     * jsonb 바이너리 형식 버전
+     */
+    private static final int JSONB_VERSION = 1;
+
+    private final DataOutputStream out;
+
+    PgBinaryCopyWriter(OutputStream copyStream) throws IOException {
+        this.out = new DataOutputStream(copyStream);
+        out.write(SIGNATURE);
+        out.writeInt(0);  // flags
+        out.writeInt(0);  // header extension length
+    }
+
+    void startRow(int fieldCount) throws IOException {
+        out.writeShort(fieldCount);
+    }
+
+    void writeNull() throws IOException {
+        out.writeInt(-1);
+    }
+
+    void writeUuid(UUID value) throws IOException {
+        if (value == null) {
+            writeNull();
+            return;
+        }
+        out.writeInt(16);
+        out.writeLong(value.getMostSignificantBits());
+        out.writeLong(value.getLeastSignificantBits());
+    }
+
+    void writeText(String value) throws IOException {
+        if (value == null) {
+            writeNull();
+            return;
+        }
+        writeBytes(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    void writeBytes(byte[] value) throws IOException {
+        if (value == null) {
+            writeNull();
+            return;
+        }
+        out.writeInt(value.length);
+        out.write(value);
+    }
+
+    void writeBoolean(Boolean value) throws IOException {
+        if (value == null) {
+            writeNull();
+            return;
+        }
+        out.writeInt(1);
+        out.writeByte(value ? 1 : 0);
+    }
+
+    void writeInt(int value) throws IOException {
+        out.writeInt(4);
+        out.writeInt(value);
+    }
+
+    void writeLong(Long value) throws IOException {
+        if (value == null) {
+            writeNull();
+            return;
+        }
+        out.writeInt(8);
+        out.writeLong(value);
+    }
+
+    void writeTimestamp(LocalDateTime value) throws IOException {
+        if (value == null) {
+            writeNull();
+            return;
+        }
+        out.writeInt(8);
+        out.writeLong(ChronoUnit.MICROS.between(PG_EPOCH, value));
+    }
+
+    void writeJsonb(String json) throws IOException {
+        if (json == null) {
+            writeNull();
+            return;
+        }
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length + 1);
+        out.writeByte(JSONB_VERSION);
+        out.write(bytes);
+    }
+
+    /**
+     * trailer 기록 후 스트림 종료 (COPY 완료)
+     */
+    @Override
+    public void close() throws IOException {
+        out.writeShort(-1);
+        out.close();
+    }
+}
@@ -0,0 +1,381 @@
+package com.smartcoreinc.localpkd.certificatevalidation.infrastructure.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smartcoreinc.localpkd.certificatevalidation.domain.model.Certificate;
+import com.smartcoreinc.localpkd.certificatevalidation.domain.model.CertificateRevocationList;
+import com.smartcoreinc.localpkd.certificatevalidation.domain.model.IssuerInfo;
+import com.smartcoreinc.localpkd.certificatevalidation.domain.model.SubjectInfo;
+import com.smartcoreinc.localpkd.certificatevalidation.domain.model.ValidationError;
+import com.smartcoreinc.localpkd.certificatevalidation.domain.model.ValidationResult;
+import com.smartcoreinc.localpkd.certificatevalidation.domain.port.CertificateBulkLoadPort;
+import com.smartcoreinc.localpkd.certificatevalidation.domain.repository.CertificateRepository;
+import com.smartcoreinc.localpkd.certificatevalidation.domain.repository.CertificateRevocationListRepository;
+import com.smartcoreinc.localpkd.shared.event.EventBus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * PgCopyBulkLoadAdapter - PostgreSQL COPY 기반 인증서/CRL 대량 저장 Adapter
+ *
+ * <p>{@code saveAll}은 엔티티마다 Hibernate 상태 관리, {@code certificate_validation_error} ElementCollection,
+ * {@code all_attributes} JSONB 직렬화를 거쳐 행 단위 INSERT(JDBC batch)로 저장합니다. 이 Adapter는
+ * 배치를 바이너리 COPY로 임시 staging 테이블에 스트리밍한 뒤 단일 INSERT ... SELECT로 병합합니다.</p>
+ *
+ * <h3>처리 순서 (인증서)</h3>
+ * <ol>
+ *   <li>{@code certificate_blob_copy_staging}, {@code certificate_copy_staging},
+ *       {@code certificate_validation_error_copy_staging} (LIKE 원본, ON COMMIT DROP) 생성/비우기</li>
+ *   <li>DER 바이너리(지문별 1건), 인증서, 검증 오류를 각각 {@code COPY ... FROM STDIN (FORMAT BINARY)}로 전송</li>
+ *   <li>DER 바이너리를 {@code certificate_blob}에 병합 (이미 있으면 건너뜀)</li>
+ *   <li>{@code INSERT ... ON CONFLICT (x509_fingerprint_sha256) DO NOTHING RETURNING id}로 병합하고,
+ *       실제 저장된 인증서의 검증 오류만 같은 문장에서 함께 저장</li>
+ * </ol>
+ *
+ * <p>호출자의 트랜잭션(Hibernate Session의 JDBC 연결)에서 실행되므로 배치 커밋 단위는 그대로입니다.
+ * PostgreSQL이 아닌 DB(H2 테스트 등)이거나 {@code app.validation.bulk-copy.enabled=false}이면
+ * Repository {@code saveAll}로 저장합니다.</p>
+ */
+@Slf4j
+@Component
+public class PgCopyBulkLoadAdapter implements CertificateBulkLoadPort {
+
+    private static final String CERTIFICATE_COLUMNS = String.join(", ",
+        "id", "upload_id", "master_list_id", "certificate_type", "source_type",
+        "x509_serial_number", "x509_fingerprint_sha256",
+        "subject_dn", "subject_country_code", "subject_organization", "subject_organizational_unit", "subject_common_name",
+        "issuer_dn", "issuer_country_code", "issuer_organization", "issuer_organizational_unit", "issuer_common_name",
+        "issuer_is_ca", "not_before", "not_after", "status", "signature_algorithm",
+        "validation_overall_status", "validation_signature_valid", "validation_chain_valid", "validation_not_revoked",
+        "validation_validity_valid", "validation_constraints_valid", "validation_validated_at", "validation_duration_millis",
+        "uploaded_to_ldap", "uploaded_to_ldap_at", "all_attributes", "created_at", "updated_at");
+    private static final int CERTIFICATE_COLUMN_COUNT = 35;
+
+    private static final String BLOB_COLUMNS = "sha256, der";
+    private static final int BLOB_COLUMN_COUNT = 2;
+
+    private static final String ERROR_COLUMNS =
+        "certificate_id, error_code, error_message, error_severity, error_occurred_at";
+    private static final int ERROR_COLUMN_COUNT = 5;
+
+    private static final String CRL_COLUMNS = String.join(", ",
+        "id", "upload_id", "country_code", "issuer_name", "crl_number", "this_update", "next_update",
+        "crl_binary", "revoked_count", "revoked_serials", "is_valid", "created_at", "updated_at");
+    private static final int CRL_COLUMN_COUNT = 13;
+
+    /**
+     * 이미 있는 blob은 다시 쓰지 않고 last_seen_at이 오래된 경우에만 갱신 (CertificateBlobStore와 동일)
+     */
+    private static final String MERGE_BLOBS_SQL =
+        "INSERT INTO certificate_blob (sha256, der, last_seen_at)"
+            + " SELECT sha256, der, CURRENT_TIMESTAMP FROM certificate_blob_copy_staging"
+            + " ON CONFLICT (sha256) DO UPDATE SET last_seen_at = EXCLUDED.last_seen_at"
+            + " WHERE certificate_blob.last_seen_at < EXCLUDED.last_seen_at - INTERVAL '1 minute' * ?";
+
+    private static final String MERGE_CERTIFICATES_SQL =
+        "WITH inserted AS ("
+            + " INSERT INTO certificate (" + CERTIFICATE_COLUMNS + ")"
+            + " SELECT " + CERTIFICATE_COLUMNS + " FROM certificate_copy_staging"
+            + " ON CONFLICT (x509_fingerprint_sha256) DO NOTHING"
+            + " RETURNING id"
+            + "), inserted_errors AS ("
+            + " INSERT INTO certificate_validation_error (" + ERROR_COLUMNS + ")"
+            + " SELECT " + ERROR_COLUMNS + " FROM certificate_validation_error_copy_staging"
+            + " WHERE certificate_id IN (SELECT id FROM inserted)"
+            + " ON CONFLICT DO NOTHING"
+            + ") SELECT id FROM inserted";
+
+    private static final String MERGE_CRLS_SQL =
+        "INSERT INTO certificate_revocation_list (" + CRL_COLUMNS + ")"
+            + " SELECT " + CRL_COLUMNS + " FROM certificate_revocation_list_copy_staging"
+            + " ON CONFLICT (id) DO NOTHING"
+            + " RETURNING id";
+
+    private final CertificateRepository certificateRepository;
+    private final CertificateRevocationListRepository crlRepository;
+    private final EventBus eventBus;
+    private final ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${app.validation.bulk-copy.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.certificate-blob.touch-interval-minutes:60}")
+    private long blobTouchIntervalMinutes;
+
+    public PgCopyBulkLoadAdapter(
+        CertificateRepository certificateRepository,
+        CertificateRevocationListRepository crlRepository,
+        EventBus eventBus,
+        ObjectMapper objectMapper
+    ) {
+        this.certificateRepository = certificateRepository;
+        this.crlRepository = crlRepository;
+        this.eventBus = eventBus;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    @Transactional
+    public List<Certificate> insertCertificates(List<Certificate> certificates) {
+        if (certificates.isEmpty()) {
+            return List.of();
+        }
+        long start = System.currentTimeMillis();
+        Set<UUID> insertedIds = withCopyConnection((connection, pgConnection) ->
+            copyCertificates(connection, pgConnection, certificates));
+        if (insertedIds == null) {
+            return certificateRepository.saveAll(certificates);
+        }
+
+        List<Certificate> inserted = certificates.stream()
+            .filter(certificate -> insertedIds.contains(certificate.getId().getId()))
+            .toList();
+        for (Certificate certificate : certificates) {
+            if (insertedIds.contains(certificate.getId().getId()) && !certificate.getDomainEvents().isEmpty()) {
+                eventBus.publishAll(certificate.getDomainEvents());
+            }
+            certificate.clearDomainEvents();
+        }
+        log.debug("COPY loaded {} certificates ({} already present) in {}ms",
+            inserted.size(), certificates.size() - inserted.size(), System.currentTimeMillis() - start);
+        return inserted;
+    }
+
+    @Override
+    @Transactional
+    public List<CertificateRevocationList> insertCrls(List<CertificateRevocationList> crls) {
+        if (crls.isEmpty()) {
+            return List.of();
+        }
+        long start = System.currentTimeMillis();
+        Set<UUID> insertedIds = withCopyConnection((connection, pgConnection) ->
+            copyCrls(connection, pgConnection, crls));
+        if (insertedIds == null) {
+            return crlRepository.saveAll(crls);
+        }
+
+        List<CertificateRevocationList> inserted = crls.stream()
+            .filter(crl -> insertedIds.contains(crl.getId().getId()))
+            .toList();
+        for (CertificateRevocationList crl : crls) {
+            if (insertedIds.contains(crl.getId().getId()) && !crl.getDomainEvents().isEmpty()) {
+                eventBus.publishAll(crl.getDomainEvents());
+            }
+            crl.clearDomainEvents();
+        }
+        log.debug("COPY loaded {} CRLs in {}ms", inserted.size(), System.currentTimeMillis() - start);
+        return inserted;
+    }
+
+    /**
+     * 현재 트랜잭션의 JDBC 연결로 COPY 작업 실행
+     *
+     * @return 작업 결과, COPY를 사용할 수 없으면 null (saveAll로 저장)
+     */
+    private Set<UUID> withCopyConnection(CopyWork work) {
+        if (!enabled) {
+            return null;
+        }
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            if (!connection.isWrapperFor(PGConnection.class)) {
+                return null;
+            }
+            try {
+                return work.execute(connection, connection.unwrap(PGConnection.class));
+            } catch (IOException e) {
+                throw new SQLException("COPY stream failed: " + e.getMessage(), e);
+            }
+        });
+    }
+
+    private Set<UUID> copyCertificates(Connection connection, PGConnection pgConnection, List<Certificate> certificates)
+            throws SQLException, IOException {
+        createStaging(connection, "certificate_blob_copy_staging", "certificate_blob");
+        createStaging(connection, "certificate_copy_staging", "certificate");
+        createStaging(connection, "certificate_validation_error_copy_staging", "certificate_validation_error");
+
+        // 같은 문장에서 같은 키를 두 번 병합할 수 없으므로 지문별로 한 건만 전송
+        Map<String, byte[]> blobs = new LinkedHashMap<>();
+        for (Certificate certificate : certificates) {
+            blobs.putIfAbsent(certificate.getX509Data().getFingerprintSha256(),
+                certificate.getX509Data().getCertificateBinary());
+        }
+        try (PgBinaryCopyWriter writer = new PgBinaryCopyWriter(new PGCopyOutputStream(pgConnection,
+                "COPY certificate_blob_copy_staging (" + BLOB_COLUMNS + ") FROM STDIN (FORMAT BINARY)"))) {
+            for (Map.Entry<String, byte[]> blob : blobs.entrySet()) {
+                writer.startRow(BLOB_COLUMN_COUNT);
+                writer.writeText(blob.getKey());
+                writer.writeBytes(blob.getValue());
+            }
+        }
+        try (PreparedStatement statement = connection.prepareStatement(MERGE_BLOBS_SQL)) {
+            statement.setLong(1, blobTouchIntervalMinutes);
+            statement.executeUpdate();
+        }
+
+        try (PgBinaryCopyWriter writer = new PgBinaryCopyWriter(new PGCopyOutputStream(pgConnection,
+                "COPY certificate_copy_staging (" + CERTIFICATE_COLUMNS + ") FROM STDIN (FORMAT BINARY)"))) {
+            for (Certificate certificate : certificates) {
+                writeCertificate(writer, certificate);
+            }
+        }
+
+        if (certificates.stream().anyMatch(certificate -> !certificate.getValidationErrors().isEmpty())) {
+            try (PgBinaryCopyWriter writer = new PgBinaryCopyWriter(new PGCopyOutputStream(pgConnection,
+                    "COPY certificate_validation_error_copy_staging (" + ERROR_COLUMNS + ") FROM STDIN (FORMAT BINARY)"))) {
+                for (Certificate certificate : certificates) {
+                    for (ValidationError error : certificate.getValidationErrors()) {
+                        writer.startRow(ERROR_COLUMN_COUNT);
+                        writer.writeUuid(certificate.getId().getId());
+                        writer.writeText(error.getErrorCode());
+                        writer.writeText(error.getErrorMessage());
+                        writer.writeText(error.getSeverity());
+                        writer.writeTimestamp(error.getOccurredAt());
+                    }
+                }
+            }
+        }
+
+        return queryIds(connection, MERGE_CERTIFICATES_SQL);
+    }
+
+    private Set<UUID> copyCrls(Connection connection, PGConnection pgConnection, List<CertificateRevocationList> crls)
+            throws SQLException, IOException {
+        createStaging(connection, "certificate_revocation_list_copy_staging", "certificate_revocation_list");
+
+        try (PgBinaryCopyWriter writer = new PgBinaryCopyWriter(new PGCopyOutputStream(pgConnection,
+                "COPY certificate_revocation_list_copy_staging (" + CRL_COLUMNS + ") FROM STDIN (FORMAT BINARY)"))) {
+            for (CertificateRevocationList crl : crls) {
+                writer.startRow(CRL_COLUMN_COUNT);
+                writer.writeUuid(crl.getId().getId());
+                writer.writeUuid(crl.getUploadId());
+                writer.writeText(crl.getCountryCode() != null ? crl.getCountryCode().getValue() : null);
+                writer.writeText(crl.getIssuerName().getValue());
+                writer.writeText(crl.getCrlNumber());
+                writer.writeTimestamp(crl.getValidityPeriod().getNotBefore());
+                writer.writeTimestamp(crl.getValidityPeriod().getNotAfter());
+                writer.writeBytes(crl.getX509CrlData().getCrlBinary());
+                writer.writeInt(crl.getX509CrlData().getRevokedCount());
+                writer.writeBytes(crl.getRevokedCertificates() != null
+                    ? crl.getRevokedCertificates().toEncodedBytes() : new byte[0]);
+                writer.writeBoolean(crl.isValidCrl());
+                writer.writeTimestamp(crl.getCreatedAt());
+                writer.writeTimestamp(crl.getUpdatedAt());
+            }
+        }
+
+        return queryIds(connection, MERGE_CRLS_SQL);
+    }
+
+    private void writeCertificate(PgBinaryCopyWriter writer, Certificate certificate) throws IOException {
+        writer.startRow(CERTIFICATE_COLUMN_COUNT);
+        writer.writeUuid(certificate.getId().getId());
+        writer.writeUuid(certificate.getUploadId());
+        writer.writeUuid(certificate.getMasterListId());
+        writer.writeText(certificate.getCertificateType().name());
+        writer.writeText(certificate.getSourceType().name());
+
+        writer.writeText(certificate.getX509Data().getSerialNumber());
+        writer.writeText(certificate.getX509Data().getFingerprintSha256());
+
+        SubjectInfo subject = certificate.getSubjectInfo();
+        writer.writeText(subject.getDistinguishedName());
+        writer.writeText(subject.getCountryCode());
+        writer.writeText(subject.getOrganization());
+        writer.writeText(subject.getOrganizationalUnit());
+        writer.writeText(subject.getCommonName());
+
+        IssuerInfo issuer = certificate.getIssuerInfo();
+        writer.writeText(issuer.getDistinguishedName());
+        writer.writeText(issuer.getCountryCode());
+        writer.writeText(issuer.getOrganization());
+        writer.writeText(issuer.getOrganizationalUnit());
+        writer.writeText(issuer.getCommonName());
+        writer.writeBoolean(issuer.isCA());
+
+        writer.writeTimestamp(certificate.getValidity().getNotBefore());
+        writer.writeTimestamp(certificate.getValidity().getNotAfter());
+        writer.writeText(certificate.getStatus().name());
+        writer.writeText(certificate.getSignatureAlgorithm());
+
+        ValidationResult result = certificate.getValidationResult();
+        if (result != null) {
+            writer.writeText(result.getOverallStatus().name());
+            writer.writeBoolean(result.isSignatureValid());
+            writer.writeBoolean(result.isChainValid());
+            writer.writeBoolean(result.isNotRevoked());
+            writer.writeBoolean(result.isValidityValid());
+            writer.writeBoolean(result.isConstraintsValid());
+            writer.writeTimestamp(result.getValidatedAt());
+            writer.writeLong(result.getValidationDurationMillis());
+        } else {
+            for (int i = 0; i < 8; i++) {
+                writer.writeNull();
+            }
+        }
+
+        writer.writeBoolean(Boolean.TRUE.equals(certificate.isUploadedToLdap()));
+        writer.writeTimestamp(certificate.getUploadedToLdapAt());
+        writer.writeJsonb(toJson(certificate));
+        writer.writeTimestamp(certificate.getCreatedAt());
+        writer.writeTimestamp(certificate.getUpdatedAt());
+    }
+
+    private String toJson(Certificate certificate) throws IOException {
+        if (certificate.getAllAttributes() == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(certificate.getAllAttributes());
+        } catch (JsonProcessingException e) {
+            throw new IOException("Failed to serialize all_attributes: " + e.getOriginalMessage(), e);
+        }
+    }
+
+    private static void createStaging(Connection connection, String stagingTable, String sourceTable) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TEMP TABLE IF NOT EXISTS " + stagingTable
+                + " (LIKE " + sourceTable + " INCLUDING DEFAULTS) ON COMMIT DROP");
+            statement.execute("TRUNCATE " + stagingTable);
+        }
+    }
+
+    private static Set<UUID> queryIds(Connection connection, String sql) throws SQLException {
+        Set<UUID> ids = new HashSet<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(sql)) {
+            while (resultSet.next()) {
+                ids.add(resultSet.getObject(1, UUID.class));
+            }
+        }
+        return ids;
+    }
+
+    @FunctionalInterface
+    private interface CopyWork {
+        Set<UUID> execute(Connection connection, PGConnection pgConnection) throws SQLException, IOException;
+    }
+}
@@ -4,7 +4,9 @@ import com.smartcoreinc.localpkd.certificatevalidation.domain.model.Certificate;
 import com.smartcoreinc.localpkd.certificatevalidation.domain.model.CertificateId;
 import com.smartcoreinc.localpkd.certificatevalidation.domain.model.CertificateSourceType;
 import com.smartcoreinc.localpkd.certificatevalidation.domain.model.CertificateStatus;
+import com.smartcoreinc.localpkd.certificatevalidation.domain.model.CertificateStatusProjection;
 import com.smartcoreinc.localpkd.certificatevalidation.domain.model.CountryCount;
+import com.smartcoreinc.localpkd.certificatevalidation.domain.model.CscaProjection;
 import com.smartcoreinc.localpkd.certificatevalidation.domain.model.TypeCount;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -29,6 +31,7 @@ public interface SpringDataCertificateRepository extends JpaRepository<Certifica
     Optional<Certificate> findById(CertificateId id);
     Optional<Certificate> findByX509Data_FingerprintSha256(String fingerprintSha256);
     Optional<Certificate> findByX509Data_SerialNumber(String serialNumber);
+    List<Certificate> findAllByX509Data_SerialNumber(String serialNumber);
     void deleteById(CertificateId id);
     boolean existsById(CertificateId id);
     boolean existsByX509Data_FingerprintSha256(String fingerprintSha256);
@@ -44,6 +47,13 @@ public interface SpringDataCertificateRepository extends JpaRepository<Certifica
     List<String> findFingerprintsByFingerprintSha256In(@org.springframework.data.repository.query.Param("fingerprints") java.util.Set<String> fingerprints);
 
     List<Certificate> findByUploadId(java.util.UUID uploadId);
+
+    @Query("SELECT new com.smartcoreinc.localpkd.certificatevalidation.domain.model.CertificateStatusProjection("
+        + "c.id, c.x509Data.fingerprintSha256, c.status) "
+        + "FROM Certificate c WHERE c.uploadId = :uploadId AND c.x509Data.fingerprintSha256 IN :fingerprints")
+    List<CertificateStatusProjection> findStatusesByUploadIdAndFingerprintIn(
+        @org.springframework.data.repository.query.Param("uploadId") java.util.UUID uploadId,
+        @org.springframework.data.repository.query.Param("fingerprints") java.util.Set<String> fingerprints);
     List<Certificate> findByStatus(com.smartcoreinc.localpkd.certificatevalidation.domain.model.CertificateStatus status);
     List<Certificate> findBySubjectInfo_CountryCode(String countryCode);
     @Query("SELECT c FROM Certificate c WHERE c.uploadedToLdap = false AND c.status = 'VALID'")
@@ -128,4 +138,26 @@ public interface SpringDataCertificateRepository extends JpaRepository<Certifica
      * @return List of certificates of the specified type
      */
     List<Certificate> findByCertificateType(com.smartcoreinc.localpkd.certificatevalidation.domain.model.CertificateType certificateType);
+
+    /**
+     * 전체 CSCA 경량 조회 (CSCA 신뢰 저장소 초기 적재용)
+     *
+     * @return CSCA 프로젝션 목록
+     */
+    @Query("SELECT new com.smartcoreinc.localpkd.certificatevalidation.domain.model.CscaProjection("
+        + "c.id, c.subjectInfo.distinguishedName, c.subjectInfo.countryCode, c.status, c.x509Data.certificateBinary, c.createdAt) "
+        + "FROM Certificate c WHERE c.certificateType = com.smartcoreinc.localpkd.certificatevalidation.domain.model.CertificateType.CSCA")
+    List<CscaProjection> findCscaProjections();
+
+    /**
+     * ID 목록 중 CSCA만 경량 조회 (CSCA 신뢰 저장소 증분 반영용)
+     *
+     * @param ids Certificate ID 목록
+     * @return CSCA 프로젝션 목록
+     */
+    @Query("SELECT new com.smartcoreinc.localpkd.certificatevalidation.domain.model.CscaProjection("
+        + "c.id, c.subjectInfo.distinguishedName, c.subjectInfo.countryCode, c.status, c.x509Data.certificateBinary, c.createdAt) "
+        + "FROM Certificate c WHERE c.certificateType = com.smartcoreinc.localpkd.certificatevalidation.domain.model.CertificateType.CSCA "
+        + "AND c.id IN :ids")
+    List<CscaProjection> findCscaProjectionsByIdIn(@org.springframework.data.repository.query.Param("ids") List<CertificateId> ids);
 }
@@ -77,6 +77,14 @@ public interface SpringDataCertificateRevocationListRepository extends JpaReposi
      */
     List<CertificateRevocationList> findByCountryCode_Value(String countryCode);
 
+    /**
+     * CRL이 있는 국가 코드 목록 조회
+     *
+     * @return 중복 없는 국가 코드 목록
+     */
+    @Query("SELECT DISTINCT c.countryCode.value FROM CertificateRevocationList c WHERE c.countryCode.value IS NOT NULL")
+    List<String> findDistinctCountryCodes();
+
     /**
      * 업로드 ID로 CRL 목록 조회
      *
@@ -2,6 +2,7 @@ package com.smartcoreinc.localpkd.config;
 
 import com.smartcoreinc.localpkd.certificatevalidation.domain.model.CertificateType;
 import com.smartcoreinc.localpkd.certificatevalidation.domain.model.CountryCount;
+import com.smartcoreinc.localpkd.certificatevalidation.domain.model.CscaProjection;
 import com.smartcoreinc.localpkd.certificatevalidation.domain.model.TypeCount;
 import org.bouncycastle.jce.provider.BouncyCastleProvider;
 import org.hibernate.bytecode.internal.none.BytecodeProviderImpl;
@@ -48,6 +49,10 @@ public class NativeImageHintsRegistrar {
                     MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
                     MemberCategory.INVOKE_DECLARED_METHODS,
                     MemberCategory.DECLARED_FIELDS);
+            hints.reflection().registerType(CscaProjection.class,
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                    MemberCategory.INVOKE_DECLARED_METHODS,
+                    MemberCategory.DECLARED_FIELDS);
             hints.reflection().registerType(CertificateType.class,
                     MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
                     MemberCategory.INVOKE_DECLARED_METHODS,
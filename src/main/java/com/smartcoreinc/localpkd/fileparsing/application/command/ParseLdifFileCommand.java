@@ -2,6 +2,9 @@ package com.smartcoreinc.localpkd.fileparsing.application.command;
 
 import lombok.Builder;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.UUID;
 
 /**
@@ -20,6 +23,13 @@ import java.util.UUID;
  * command.validate();  // 검증
  *
  * ParseFileResponse response = parseLdifFileUseCase.execute(command);
+ *
+ * // 스트리밍 모드: 파일 전체를 메모리에 올리지 않고 저장 경로에서 직접 파싱
+ * ParseLdifFileCommand streaming = ParseLdifFileCommand.builder()
+ *     .uploadId(uploadId)
+ *     .filePath(uploadedFile.getFilePath().toPath())
+ *     .fileFormat("DSC_COMPLETE_LDIF")
+ *     .build();
  * </pre>
  *
  * @see com.smartcoreinc.localpkd.fileparsing.application.usecase.ParseLdifFileUseCase
@@ -33,9 +43,16 @@ public record ParseLdifFileCommand(
 
     /**
      * 파일 바이트 배열 (LDIF 파일 내용)
+     *
+     * <p>{@code filePath}가 지정된 경우 생략 가능합니다.</p>
      */
     byte[] fileBytes,
 
+    /**
+     * 저장된 LDIF 파일 경로 (스트리밍 파싱용, 선택)
+     */
+    Path filePath,
+
     /**
      * 파일 포맷 (CSCA_COMPLETE_LDIF, CSCA_DELTA_LDIF, EMRTD_COMPLETE_LDIF, EMRTD_DELTA_LDIF)
      */
@@ -51,8 +68,8 @@ public record ParseLdifFileCommand(
         if (uploadId == null) {
             throw new IllegalArgumentException("uploadId must not be null");
         }
-        if (fileBytes == null || fileBytes.length == 0) {
-            throw new IllegalArgumentException("fileBytes must not be empty");
+        if (!isStreaming() && (fileBytes == null || fileBytes.length == 0)) {
+            throw new IllegalArgumentException("fileBytes or filePath must be provided");
         }
         if (fileFormat == null || fileFormat.isBlank()) {
             throw new IllegalArgumentException("fileFormat must not be blank");
@@ -62,10 +79,24 @@ public record ParseLdifFileCommand(
         }
     }
 
+    /**
+     * 스트리밍 파싱 여부 (파일 경로 기반)
+     */
+    public boolean isStreaming() {
+        return filePath != null;
+    }
+
     /**
      * 파일 크기 (bytes)
      */
     public long getFileSizeBytes() {
+        if (isStreaming()) {
+            try {
+                return Files.size(filePath);
+            } catch (IOException e) {
+                return 0;
+            }
+        }
         return fileBytes != null ? fileBytes.length : 0;
     }
 
@@ -127,30 +127,31 @@ public class ParseLdifFileUseCase {
 
             // 7. FileParserPort를 통해 파일 파싱
             try {
-                fileParserPort.parse(command.fileBytes(), fileFormat, parsedFile);
+                if (command.isStreaming()) {
+                    fileParserPort.parse(command.filePath(), fileFormat, parsedFile);
+                } else {
+                    fileParserPort.parse(command.fileBytes(), fileFormat, parsedFile);
+                }
 
                 // 8. 파싱 완료 (통계 계산, CertificatesExtractedEvent, FileParsingCompletedEvent 발행)
-                int totalEntries = parsedFile.getCertificates().size()
-                                 + parsedFile.getCrls().size()
-                                 + parsedFile.getErrors().size();
+                int totalEntries = parsedFile.getCertificateCount()
+                                 + parsedFile.getCrlCount()
+                                 + parsedFile.getErrorCount();
                 parsedFile.completeParsing(totalEntries);
 
                 // Calculate type-specific statistics
-                long cscaCount = parsedFile.getCertificates().stream()
-                    .filter(cert -> "CSCA".equals(cert.getCertificateType())).count();
-                long dscCount = parsedFile.getCertificates().stream()
-                    .filter(cert -> "DSC".equals(cert.getCertificateType())).count();
-                long dscNcCount = parsedFile.getCertificates().stream()
-                    .filter(cert -> "DSC_NC".equals(cert.getCertificateType())).count();
-                int crlCount = parsedFile.getCrls().size();
+                long cscaCount = parsedFile.getCertificateCount("CSCA");
+                long dscCount = parsedFile.getCertificateCount("DSC");
+                long dscNcCount = parsedFile.getCertificateCount("DSC_NC");
+                int crlCount = parsedFile.getCrlCount();
 
                 // Master List 개수 조회 (LDIF 파일 내 Master List 엔트리)
                 long masterListCount = masterListRepository.countByUploadId(uploadId);
 
                 log.info("Parsing completed: {} certificates (CSCA: {}, DSC: {}, DSC_NC: {}), {} CRLs, {} Master Lists, {} errors",
-                    parsedFile.getCertificates().size(), cscaCount, dscCount, dscNcCount,
-                    parsedFile.getCrls().size(), masterListCount,
-                    parsedFile.getErrors().size());
+                    parsedFile.getCertificateCount(), cscaCount, dscCount, dscNcCount,
+                    parsedFile.getCrlCount(), masterListCount,
+                    parsedFile.getErrorCount());
 
                 // 9. SSE 진행 상황 전송: PARSING_COMPLETED (60%) with detailed statistics
                 // Master List가 있으면 별도로 표시하고, ML에서 추출된 CSCA임을 명시
@@ -217,8 +218,8 @@ public class ParseLdifFileUseCase {
             //  - NC-DATA(DSC_NC) 등의 경우에는 ParsedFile에만 존재할 수 있으므로,
             //    DB 기준 개수가 0이어도 ParsedFile 기준 개수가 0이 아니면 그 값을 사용한다.
             int dbCertificateCount = certificateRepository.findByUploadId(uploadId.getId()).size();
-            int parsedFileCertCount = saved.getCertificates().size();
-            int parsedFileCrlCount = saved.getCrls().size();
+            int parsedFileCertCount = parsedFile.getCertificateCount();
+            int parsedFileCrlCount = parsedFile.getCrlCount();
 
             int effectiveCertificateCount = dbCertificateCount > 0 ? dbCertificateCount : parsedFileCertCount;
             int effectiveCrlCount = parsedFileCrlCount; // CRL은 아직 DB에 별도 저장하지 않으므로 ParsedFile 기준 사용
@@ -235,7 +236,7 @@ public class ParseLdifFileUseCase {
                 saved.getParsingCompletedAt(),
                 effectiveCertificateCount,  // 검증/후속 단계에서 사용할 인증서 개수
                 effectiveCrlCount,
-                saved.getErrors().size(),
+                parsedFile.getErrorCount(),
                 saved.getStatistics().getDurationMillis()
             );
 
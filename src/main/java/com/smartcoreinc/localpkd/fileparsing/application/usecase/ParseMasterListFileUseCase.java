@@ -203,14 +203,14 @@ public class ParseMasterListFileUseCase {
                 // ===========================
 
                 // 8. 파싱 완료 (통계 계산, CertificatesExtractedEvent, FileParsingCompletedEvent 발행)
-                int totalEntries = parsedFile.getCertificates().size()
-                                 + parsedFile.getCrls().size()
-                                 + parsedFile.getErrors().size();
+                int totalEntries = parsedFile.getCertificateCount()
+                                 + parsedFile.getCrlCount()
+                                 + parsedFile.getErrorCount();
                 parsedFile.completeParsing(totalEntries);
 
                 log.info("Parsing completed: {} certificates, {} errors",
-                    parsedFile.getCertificates().size(),
-                    parsedFile.getErrors().size());
+                    parsedFile.getCertificateCount(),
+                    parsedFile.getErrorCount());
 
                 // 9. SSE 진행 상황 전송: PARSING_COMPLETED (60%)
                 progressService.sendProgress(
@@ -246,9 +246,9 @@ public class ParseMasterListFileUseCase {
                 saved.getStatus().name(),
                 saved.getParsingStartedAt(),
                 saved.getParsingCompletedAt(),
-                saved.getCertificates().size(),
-                saved.getCrls().size(),
-                saved.getErrors().size(),
+                parsedFile.getCertificateCount(),
+                parsedFile.getCrlCount(),
+                parsedFile.getErrorCount(),
                 saved.getStatistics().getDurationMillis()
             );
 
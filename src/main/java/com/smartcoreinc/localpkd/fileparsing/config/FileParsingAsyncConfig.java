@@ -0,0 +1,54 @@
+package com.smartcoreinc.localpkd.fileparsing.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * FileParsing 병렬 디코딩 설정
+ *
+ * <p>LDIF/Master List 파싱 시 인증서 디코딩, fingerprint 계산, CertificateData 생성을
+ * 워커 스레드로 분산하기 위한 스레드 풀입니다. ParsedFile 반영과 DB 작업은 호출 스레드에서만 수행합니다.</p>
+ *
+ * <p>프로퍼티:</p>
+ * <ul>
+ *   <li>app.parsing.decode.parallelism: 워커 스레드 수 (0 = CPU 코어 수, 1 = 순차 처리)</li>
+ * </ul>
+ */
+@Slf4j
+@Configuration
+public class FileParsingAsyncConfig {
+
+    /**
+     * 인증서 병렬 디코딩용 스레드 풀
+     */
+    @Bean(name = "certificateDecodeExecutor")
+    public ThreadPoolTaskExecutor certificateDecodeExecutor(
+            @Value("${app.parsing.decode.parallelism:0}") int parallelism) {
+        int poolSize = resolveParallelism(parallelism);
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(poolSize * 4);
+        executor.setThreadNamePrefix("Cert-Decode-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+
+        log.info("Certificate Decode Executor (certificateDecodeExecutor) configured: poolSize={}", poolSize);
+        return executor;
+    }
+
+    /**
+     * 병렬도 결정 (0 이하이면 CPU 코어 수)
+     */
+    public static int resolveParallelism(int parallelism) {
+        return parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+    }
+}
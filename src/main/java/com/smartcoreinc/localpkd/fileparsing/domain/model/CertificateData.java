@@ -5,6 +5,7 @@ import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Formula;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 
@@ -41,8 +42,11 @@ public class CertificateData implements ValueObject {
     @Column(name = "not_after", nullable = false)
     private LocalDateTime notAfter;
 
+    /**
+     * DER 바이너리 - {@code certificate_blob}에서 지문으로 조회 (저장은 ParsedFileRepository가 수행)
+     */
     @JdbcTypeCode(java.sql.Types.BINARY)  // Hibernate 6: bytea 매핑을 위해 필수
-    @Column(name = "certificate_binary", nullable = false, columnDefinition = "BYTEA")
+    @Formula("(SELECT b.der FROM certificate_blob b WHERE b.sha256 = fingerprint_sha256)")
     private byte[] certificateBinary;
 
     @Column(name = "fingerprint_sha256", length = 64)
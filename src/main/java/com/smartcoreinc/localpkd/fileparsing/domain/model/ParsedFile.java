@@ -14,8 +14,9 @@ import lombok.NoArgsConstructor;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * ParsedFile - 파싱된 파일 Aggregate Root
@@ -27,6 +28,13 @@ import java.util.List;
  *   <li>Domain Events: 파싱 시작/완료/실패 시 이벤트 발행</li>
  * </ul>
  *
+ * <p><b>추출 데이터 저장</b>: 인증서/CRL/오류는 Aggregate에 컬렉션으로 보관하지 않습니다.
+ * {@code addCertificate()} 등으로 추가된 항목은 저장 대기 버퍼에 쌓였다가
+ * {@link com.smartcoreinc.localpkd.fileparsing.domain.repository.ParsedFileRepository#appendPendingContent}
+ * (또는 {@code save})가 {@code parsed_certificate}/{@code parsed_crl}/{@code parsing_error}에 배치로 추가한 뒤
+ * 비웁니다. 따라서 파싱 중 메모리에는 마지막 flush 이후의 항목만 남고, 조회는 Repository의 iterator로
+ * 페이지 단위로 수행합니다. Aggregate는 건수만 유지합니다.</p>
+ *
  * <p><b>비즈니스 규칙</b>:</p>
  * <ul>
  *   <li>파싱 상태 전이: RECEIVED → PARSING → PARSED/FAILED</li>
@@ -52,7 +60,7 @@ import java.util.List;
  * // 3. 파싱 완료
  * parsedFile.completeParsing(duration);
  *
- * // 4. 저장 시 Domain Events 자동 발행
+ * // 4. 저장 시 Domain Events 자동 발행 (저장 대기 항목도 함께 추가)
  * repository.save(parsedFile);
  * // → FileParsingStartedEvent, CertificatesExtractedEvent, FileParsingCompletedEvent
  * </pre>
@@ -124,36 +132,50 @@ public class ParsedFile extends AggregateRoot<ParsedFileId> {
     private ParsingStatistics statistics;
 
     /**
-     * 추출된 인증서 목록
-     *
-     * <p>ElementCollection으로 Value Object를 컬렉션으로 저장</p>
+     * 저장 대기 중인 인증서 (Repository가 appendPendingContent 시 가져감)
+     */
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private List<CertificateData> pendingCertificates = new ArrayList<>();
+
+    /**
+     * 저장 대기 중인 CRL
      */
-    @ElementCollection(fetch = FetchType.LAZY)
-    @CollectionTable(
-        name = "parsed_certificate",
-        joinColumns = @JoinColumn(name = "parsed_file_id")
-    )
-    private List<CertificateData> certificates = new ArrayList<>();
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private List<CrlData> pendingCrls = new ArrayList<>();
 
     /**
-     * 추출된 CRL 목록
+     * 저장 대기 중인 파싱 오류
      */
-    @ElementCollection(fetch = FetchType.LAZY)
-    @CollectionTable(
-        name = "parsed_crl",
-        joinColumns = @JoinColumn(name = "parsed_file_id")
-    )
-    private List<CrlData> crls = new ArrayList<>();
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private List<ParsingError> pendingErrors = new ArrayList<>();
 
     /**
-     * 파싱 오류 목록
+     * 추출 건수 (파싱 중 누적, 조회 시 statistics에서 복원)
      */
-    @ElementCollection(fetch = FetchType.LAZY)
-    @CollectionTable(
-        name = "parsing_error",
-        joinColumns = @JoinColumn(name = "parsed_file_id")
-    )
-    private List<ParsingError> errors = new ArrayList<>();
+    @Transient
+    private int certificateCount;
+
+    @Transient
+    private int crlCount;
+
+    @Transient
+    private int errorCount;
+
+    @Transient
+    private int validCount;
+
+    @Transient
+    private int invalidCount;
+
+    /**
+     * 인증서 타입별 건수 (CSCA, DSC, DSC_NC - 파싱한 인스턴스에서만 유효)
+     */
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private Map<String, Integer> certificateTypeCounts = new HashMap<>();
 
     // ========== Static Factory Method ==========
 
@@ -232,7 +254,10 @@ public class ParsedFile extends AggregateRoot<ParsedFileId> {
             throw new IllegalArgumentException("certificate must not be null");
         }
 
-        certificates.add(certificate);
+        pendingCertificates.add(certificate);
+        certificateCount++;
+        certificateTypeCounts.merge(certificate.getCertificateType(), 1, Integer::sum);
+        countValidity(certificate.isValid());
     }
 
     /**
@@ -251,7 +276,9 @@ public class ParsedFile extends AggregateRoot<ParsedFileId> {
             throw new IllegalArgumentException("crl must not be null");
         }
 
-        crls.add(crl);
+        pendingCrls.add(crl);
+        crlCount++;
+        countValidity(crl.isValid());
     }
 
     /**
@@ -270,7 +297,8 @@ public class ParsedFile extends AggregateRoot<ParsedFileId> {
             throw new IllegalArgumentException("error must not be null");
         }
 
-        errors.add(error);
+        pendingErrors.add(error);
+        errorCount++;
     }
 
     /**
@@ -294,37 +322,32 @@ public class ParsedFile extends AggregateRoot<ParsedFileId> {
 
         // 통계 계산
         long durationMillis = java.time.Duration.between(parsingStartedAt, parsingCompletedAt).toMillis();
-        int validCount = (int) certificates.stream().filter(CertificateData::isValid).count()
-                       + (int) crls.stream().filter(CrlData::isValid).count();
-        int invalidCount = (int) certificates.stream().filter(cert -> !cert.isValid()).count()
-                         + (int) crls.stream().filter(crl -> !crl.isValid()).count();
-
         this.statistics = ParsingStatistics.of(
             totalEntries,
-            certificates.size() + crls.size(),
-            certificates.size(),
-            crls.size(),
+            certificateCount + crlCount,
+            certificateCount,
+            crlCount,
             validCount,
             invalidCount,
-            errors.size(),
+            errorCount,
             durationMillis
         );
 
         // Domain Events 발행
-        if (!certificates.isEmpty() || !crls.isEmpty()) {
+        if (certificateCount > 0 || crlCount > 0) {
             addDomainEvent(new CertificatesExtractedEvent(
                 id.getId(),
                 uploadId.getId(),
-                certificates.size(),
-                crls.size()
+                certificateCount,
+                crlCount
             ));
         }
 
         addDomainEvent(new FileParsingCompletedEvent(
             id.getId(),
             uploadId.getId(),
-            certificates.size(),
-            crls.size(),
+            certificateCount,
+            crlCount,
             statistics.getTotalProcessed(),
             parsingCompletedAt
         ));
@@ -346,7 +369,8 @@ public class ParsedFile extends AggregateRoot<ParsedFileId> {
 
         // 실패 오류 추가
         ParsingError failureError = ParsingError.parseError(errorMessage);
-        errors.add(failureError);
+        pendingErrors.add(failureError);
+        errorCount++;
 
         // Domain Event 발행
         addDomainEvent(new ParsingFailedEvent(
@@ -357,27 +381,71 @@ public class ParsedFile extends AggregateRoot<ParsedFileId> {
         ));
     }
 
-    // ========== Getters (Unmodifiable Collections) ==========
+    // ========== Pending Content ==========
+
+    /**
+     * 저장 대기 중인 인증서를 꺼내고 버퍼를 비웁니다 (Repository 전용)
+     */
+    public List<CertificateData> drainPendingCertificates() {
+        List<CertificateData> drained = pendingCertificates;
+        pendingCertificates = new ArrayList<>();
+        return drained;
+    }
+
+    /**
+     * 저장 대기 중인 CRL을 꺼내고 버퍼를 비웁니다 (Repository 전용)
+     */
+    public List<CrlData> drainPendingCrls() {
+        List<CrlData> drained = pendingCrls;
+        pendingCrls = new ArrayList<>();
+        return drained;
+    }
 
     /**
-     * 인증서 목록 조회 (읽기 전용)
+     * 저장 대기 중인 파싱 오류를 꺼내고 버퍼를 비웁니다 (Repository 전용)
      */
-    public List<CertificateData> getCertificates() {
-        return Collections.unmodifiableList(certificates);
+    public List<ParsingError> drainPendingErrors() {
+        List<ParsingError> drained = pendingErrors;
+        pendingErrors = new ArrayList<>();
+        return drained;
     }
 
     /**
-     * CRL 목록 조회 (읽기 전용)
+     * 저장 대기 중인 항목 존재 여부
      */
-    public List<CrlData> getCrls() {
-        return Collections.unmodifiableList(crls);
+    public boolean hasPendingContent() {
+        return !pendingCertificates.isEmpty() || !pendingCrls.isEmpty() || !pendingErrors.isEmpty();
     }
 
     /**
-     * 오류 목록 조회 (읽기 전용)
+     * 특정 타입의 인증서 건수 (이 인스턴스에서 파싱한 경우에만 유효, 조회한 경우 Repository 사용)
+     *
+     * @param certificateType CSCA, DSC, DSC_NC
      */
-    public List<ParsingError> getErrors() {
-        return Collections.unmodifiableList(errors);
+    public int getCertificateCount(String certificateType) {
+        return certificateTypeCounts.getOrDefault(certificateType, 0);
+    }
+
+    private void countValidity(boolean valid) {
+        if (valid) {
+            validCount++;
+        } else {
+            invalidCount++;
+        }
+    }
+
+    /**
+     * 조회된 Aggregate의 건수 복원 (transient 필드는 저장되지 않으므로 statistics 기준)
+     */
+    @PostLoad
+    private void restoreCounts() {
+        if (statistics != null) {
+            certificateCount = statistics.getCertificateCount();
+            crlCount = statistics.getCrlCount();
+            errorCount = statistics.getErrorCount();
+            validCount = statistics.getValidCount();
+            invalidCount = statistics.getInvalidCount();
+        }
     }
 
     // ========== Helper Methods ==========
@@ -422,9 +490,9 @@ public class ParsedFile extends AggregateRoot<ParsedFileId> {
             uploadId.getId(),
             fileFormat.toString(),
             status.name(),
-            certificates.size(),
-            crls.size(),
-            errors.size()
+            certificateCount,
+            crlCount,
+            errorCount
         );
     }
 }
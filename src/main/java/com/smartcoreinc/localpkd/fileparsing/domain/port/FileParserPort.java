@@ -3,6 +3,10 @@ package com.smartcoreinc.localpkd.fileparsing.domain.port;
 import com.smartcoreinc.localpkd.fileparsing.domain.model.ParsedFile;
 import com.smartcoreinc.localpkd.fileupload.domain.model.FileFormat;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 /**
  * FileParserPort - 파일 파싱 Port Interface (Hexagonal Architecture)
  *
@@ -58,6 +62,31 @@ public interface FileParserPort {
      */
     void parse(byte[] fileBytes, FileFormat fileFormat, ParsedFile parsedFile) throws ParsingException;
 
+    /**
+     * 파일 스트리밍 파싱
+     *
+     * <p>저장된 파일을 경로로부터 직접 읽어 파싱합니다. 스트리밍을 지원하는 구현체(LdifParserAdapter)는
+     * 파일 전체를 메모리에 올리지 않고 일정 크기의 청크 단위로 엔트리를 처리하므로,
+     * 파일 크기와 관계없이 힙 사용량이 일정하게 유지됩니다.</p>
+     *
+     * <p>기본 구현은 파일 전체를 읽어 {@link #parse(byte[], FileFormat, ParsedFile)}에 위임합니다.
+     * (Master List처럼 CMS 서명 검증을 위해 전체 바이너리가 필요한 포맷)</p>
+     *
+     * @param filePath 파싱할 파일 경로
+     * @param fileFormat 파일 포맷 (LDIF, Master List 등)
+     * @param parsedFile ParsedFile Aggregate (파싱 결과 저장용)
+     * @throws ParsingException 파일 읽기 또는 파싱 중 오류 발생 시
+     */
+    default void parse(Path filePath, FileFormat fileFormat, ParsedFile parsedFile) throws ParsingException {
+        byte[] fileBytes;
+        try {
+            fileBytes = Files.readAllBytes(filePath);
+        } catch (IOException e) {
+            throw new ParsingException("File reading error: " + e.getMessage(), e);
+        }
+        parse(fileBytes, fileFormat, parsedFile);
+    }
+
     /**
      * 특정 파일 포맷 지원 여부
      *
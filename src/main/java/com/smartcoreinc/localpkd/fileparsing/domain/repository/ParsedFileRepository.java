@@ -1,10 +1,14 @@
 package com.smartcoreinc.localpkd.fileparsing.domain.repository;
 
+import com.smartcoreinc.localpkd.fileparsing.domain.model.CertificateData;
+import com.smartcoreinc.localpkd.fileparsing.domain.model.CrlData;
 import com.smartcoreinc.localpkd.fileparsing.domain.model.ParsedFile;
 import com.smartcoreinc.localpkd.fileparsing.domain.model.ParsedFileId;
 import com.smartcoreinc.localpkd.fileupload.domain.model.UploadId;
 
+import java.util.Iterator;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * ParsedFileRepository - ParsedFile Aggregate Repository Interface (Domain Layer)
@@ -43,7 +47,8 @@ public interface ParsedFileRepository {
     /**
      * ParsedFile 저장
      *
-     * <p><b>중요</b>: 저장 시 Aggregate Root의 Domain Events가 자동으로 발행됩니다.</p>
+     * <p><b>중요</b>: 저장 시 Aggregate Root의 Domain Events가 자동으로 발행됩니다.
+     * 저장 대기 중인 인증서/CRL/오류도 함께 추가됩니다 ({@link #appendPendingContent}).</p>
      *
      * @param parsedFile ParsedFile Aggregate
      * @return 저장된 ParsedFile
@@ -90,4 +95,45 @@ public interface ParsedFileRepository {
      * @return 존재 여부
      */
     boolean existsByUploadId(UploadId uploadId);
+
+    /**
+     * 저장 대기 중인 인증서/CRL/오류를 배치로 추가
+     *
+     * <p>파싱 중 주기적으로 호출하면 ParsedFile이 메모리에 보관하는 항목이 마지막 호출 이후분으로 제한됩니다.
+     * 기존 행은 다시 쓰지 않습니다 (append-only). ParsedFile 행이 먼저 저장되어 있어야 합니다.</p>
+     *
+     * @param parsedFile 파싱 중인 ParsedFile (대기 버퍼가 비워짐)
+     */
+    void appendPendingContent(ParsedFile parsedFile);
+
+    /**
+     * 파싱된 인증서 순회 (fingerprint 순 keyset 페이지 단위 조회)
+     *
+     * <p>한 번에 한 페이지만 메모리에 유지하며, 페이지마다 짧은 읽기 트랜잭션으로 조회하므로
+     * 호출자가 트랜잭션 없이 오래 순회해도 연결을 점유하지 않습니다.</p>
+     *
+     * @param id ParsedFileId
+     * @param certificateTypes 대상 인증서 타입 (CSCA, DSC, DSC_NC)
+     * @param pageSize 페이지 크기
+     * @return CertificateData Iterator (DER 바이너리 포함)
+     */
+    Iterator<CertificateData> iterateCertificates(ParsedFileId id, Set<String> certificateTypes, int pageSize);
+
+    /**
+     * 파싱된 CRL 순회 (Issuer DN 순 keyset 페이지 단위 조회)
+     *
+     * @param id ParsedFileId
+     * @param pageSize 페이지 크기
+     * @return CrlData Iterator
+     */
+    Iterator<CrlData> iterateCrls(ParsedFileId id, int pageSize);
+
+    /**
+     * 특정 타입의 파싱된 인증서 수
+     *
+     * @param id ParsedFileId
+     * @param certificateTypes 대상 인증서 타입 (CSCA, DSC, DSC_NC)
+     * @return 인증서 수
+     */
+    long countCertificates(ParsedFileId id, Set<String> certificateTypes);
 }
@@ -0,0 +1,229 @@
+package com.smartcoreinc.localpkd.fileparsing.infrastructure.adapter;
+
+import com.smartcoreinc.localpkd.fileparsing.domain.model.CertificateData;
+import com.smartcoreinc.localpkd.shared.util.CertificateFactoryCache;
+import lombok.extern.slf4j.Slf4j;
+import org.bouncycastle.asn1.x509.BasicConstraints;
+import org.bouncycastle.asn1.x509.Extension;
+import org.bouncycastle.cert.X509CertificateHolder;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.cert.CertificateException;
+import java.security.cert.X509Certificate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DecodedCertificate - 1회 디코딩된 인증서 홀더
+ *
+ * <p>DER 바이너리를 한 번만 디코딩하여 fingerprint 계산, 중복 체크, {@link CertificateData} 생성까지
+ * 동일한 인스턴스를 재사용합니다.</p>
+ *
+ * <p><b>디코딩 전략</b>:</p>
+ * <ul>
+ *   <li>표준: {@link X509Certificate} (스레드별 캐시된 CertificateFactory 사용)</li>
+ *   <li>Fallback: explicit EC parameters로 인해 표준 파싱이 실패하면 {@link X509CertificateHolder} 사용</li>
+ * </ul>
+ */
+@Slf4j
+public final class DecodedCertificate {
+
+    private static final HexFormat HEX = HexFormat.of();
+
+    private final byte[] encoded;
+    private final X509Certificate certificate;
+    private final X509CertificateHolder holder;
+    private final String fingerprint;
+
+    private DecodedCertificate(byte[] encoded, X509Certificate certificate, X509CertificateHolder holder) {
+        this.encoded = encoded;
+        this.certificate = certificate;
+        this.holder = holder;
+        this.fingerprint = sha256Hex(encoded);
+    }
+
+    /**
+     * DER 바이너리 디코딩
+     *
+     * @param der 인증서 DER 바이너리
+     * @return DecodedCertificate
+     * @throws CertificateException 표준 파싱 실패 (EC Parameter 오류 제외)
+     * @throws IOException fallback 파싱 실패
+     */
+    public static DecodedCertificate decode(byte[] der) throws CertificateException, IOException {
+        try {
+            X509Certificate cert = (X509Certificate) CertificateFactoryCache.x509()
+                .generateCertificate(new ByteArrayInputStream(der));
+            return new DecodedCertificate(der, cert, null);
+        } catch (CertificateException e) {
+            if (!isEcParametersError(e)) {
+                throw e;
+            }
+            log.debug("Certificate uses explicit EC parameters, using fallback parsing");
+            return new DecodedCertificate(der, null, new X509CertificateHolder(der));
+        }
+    }
+
+    /**
+     * X509CertificateHolder로부터 생성 (Master List CMS 내부 인증서, BouncyCastle Provider 사용)
+     *
+     * @param holder BouncyCastle 인증서 홀더
+     * @return DecodedCertificate
+     * @throws CertificateException 표준 변환 실패 (EC Parameter 오류 제외)
+     * @throws IOException 인코딩 실패
+     */
+    public static DecodedCertificate of(X509CertificateHolder holder) throws CertificateException, IOException {
+        byte[] der = holder.getEncoded();
+        try {
+            X509Certificate cert = (X509Certificate) CertificateFactoryCache.x509BouncyCastle()
+                .generateCertificate(new ByteArrayInputStream(der));
+            return new DecodedCertificate(der, cert, null);
+        } catch (CertificateException e) {
+            if (!isEcParametersError(e)) {
+                throw e;
+            }
+            log.debug("Certificate uses explicit EC parameters, using fallback parsing: subject={}", holder.getSubject());
+            return new DecodedCertificate(der, null, holder);
+        }
+    }
+
+    private static boolean isEcParametersError(Exception e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t.getMessage() != null && t.getMessage().contains("ECParameters")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // ========== Accessors ==========
+
+    /**
+     * fallback 파싱 여부 (X509Certificate 변환 불가)
+     */
+    public boolean usesFallbackParsing() {
+        return certificate == null;
+    }
+
+    /**
+     * 표준 X509Certificate (fallback 모드에서는 null)
+     */
+    public X509Certificate getCertificate() {
+        return certificate;
+    }
+
+    /**
+     * BouncyCastle 인증서 홀더 (표준 모드에서는 필요 시 생성)
+     */
+    public X509CertificateHolder getHolder() throws IOException {
+        return holder != null ? holder : new X509CertificateHolder(encoded);
+    }
+
+    public byte[] getEncoded() {
+        return encoded;
+    }
+
+    /**
+     * SHA-256 fingerprint (소문자 16진수)
+     */
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    public String getSubjectDn() {
+        return usesFallbackParsing() ? holder.getSubject().toString() : certificate.getSubjectX500Principal().getName();
+    }
+
+    public String getIssuerDn() {
+        return usesFallbackParsing() ? holder.getIssuer().toString() : certificate.getIssuerX500Principal().getName();
+    }
+
+    public String getSerialNumberHex() {
+        return (usesFallbackParsing() ? holder.getSerialNumber() : certificate.getSerialNumber())
+            .toString(16).toUpperCase();
+    }
+
+    public Date getNotBefore() {
+        return usesFallbackParsing() ? holder.getNotBefore() : certificate.getNotBefore();
+    }
+
+    public Date getNotAfter() {
+        return usesFallbackParsing() ? holder.getNotAfter() : certificate.getNotAfter();
+    }
+
+    public String getSignatureAlgorithm() {
+        return usesFallbackParsing()
+            ? holder.getSignatureAlgorithm().getAlgorithm().getId()
+            : certificate.getSigAlgName();
+    }
+
+    /**
+     * basicConstraints (CA가 아니면 -1, pathLen 제한이 없으면 Integer.MAX_VALUE)
+     */
+    public int getBasicConstraints() {
+        if (!usesFallbackParsing()) {
+            return certificate.getBasicConstraints();
+        }
+        try {
+            Extension ext = holder.getExtension(Extension.basicConstraints);
+            if (ext == null) {
+                return -1;
+            }
+            BasicConstraints bc = BasicConstraints.getInstance(ext.getParsedValue());
+            if (!bc.isCA()) {
+                return -1;
+            }
+            return bc.getPathLenConstraint() == null ? Integer.MAX_VALUE : bc.getPathLenConstraint().intValue();
+        } catch (Exception e) {
+            log.warn("Failed to extract basicConstraints from holder, assuming -1 (not a CA): {}", e.getMessage());
+            return -1;
+        }
+    }
+
+    /**
+     * CertificateData Value Object 생성
+     *
+     * @param certificateType CSCA, DSC, DSC_NC
+     * @param countryCode 국가 코드
+     * @param allAttributes LDIF 엔트리 속성 (없으면 null)
+     * @return CertificateData
+     */
+    public CertificateData toCertificateData(
+        String certificateType,
+        String countryCode,
+        Map<String, List<String>> allAttributes
+    ) {
+        return CertificateData.of(
+            certificateType,
+            countryCode,
+            getSubjectDn(),
+            getIssuerDn(),
+            getSerialNumberHex(),
+            toLocalDateTime(getNotBefore()),
+            toLocalDateTime(getNotAfter()),
+            encoded,
+            fingerprint,
+            true,
+            allAttributes
+        );
+    }
+
+    private static LocalDateTime toLocalDateTime(Date date) {
+        return (date == null) ? null : date.toInstant().atZone(ZoneId.systemDefault()).toLocalDateTime();
+    }
+
+    private static String sha256Hex(byte[] data) {
+        try {
+            return HEX.formatHex(MessageDigest.getInstance("SHA-256").digest(data));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm not available", e);
+        }
+    }
+}
@@ -7,12 +7,20 @@ import com.smartcoreinc.localpkd.fileparsing.domain.model.CrlData;
 import com.smartcoreinc.localpkd.fileparsing.domain.model.ParsedFile;
 import com.smartcoreinc.localpkd.fileparsing.domain.model.ParsingError;
 import com.smartcoreinc.localpkd.fileparsing.domain.port.FileParserPort;
+import com.smartcoreinc.localpkd.fileparsing.domain.repository.ParsedFileRepository;
 import com.smartcoreinc.localpkd.fileupload.domain.model.FileFormat;
 import com.smartcoreinc.localpkd.shared.progress.ProcessingProgress;
 import com.smartcoreinc.localpkd.shared.progress.ProgressService;
+import com.smartcoreinc.localpkd.shared.util.CertificateFactoryCache;
 
 import com.unboundid.ldap.sdk.Attribute;
 import com.unboundid.ldap.sdk.Entry;
+import com.unboundid.ldap.sdk.Modification;
+import com.unboundid.ldap.sdk.ModificationType;
+import com.unboundid.ldif.LDIFAddChangeRecord;
+import com.unboundid.ldif.LDIFChangeRecord;
+import com.unboundid.ldif.LDIFException;
+import com.unboundid.ldif.LDIFModifyChangeRecord;
 import com.unboundid.ldif.LDIFReader;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,12 +31,15 @@ import org.bouncycastle.cert.X509CertificateHolder;
 import org.bouncycastle.cms.CMSProcessableByteArray;
 import org.bouncycastle.cms.CMSSignedData;
 import org.bouncycastle.util.Store;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.io.ByteArrayInputStream;
-import java.security.MessageDigest;
-import java.security.cert.CertificateFactory;
-import java.security.cert.X509Certificate;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.security.cert.X509CRL;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
@@ -52,12 +63,20 @@ public class LdifParserAdapter implements FileParserPort {
 
     private final ProgressService progressService;
     private final CertificateExistenceService certificateExistenceService;
+    private final ParallelCertificateDecoder parallelDecoder;
     private final com.smartcoreinc.localpkd.fileparsing.domain.repository.MasterListRepository masterListRepository;  // NEW: For LDIF Master List storage
+    private final ParsedFileRepository parsedFileRepository;
 
     private static final String ATTR_USER_CERTIFICATE = "userCertificate;binary";
     private static final String ATTR_CRL = "certificateRevocationList;binary";
     private static final String ATTR_MASTER_LIST_CONTENT = "pkdMasterListContent";
 
+    /**
+     * 스트리밍 파싱 시 한 번에 처리하는 엔트리 수 (청크 단위 중복 체크)
+     */
+    @Value("${app.parsing.ldif.chunk-size:1000}")
+    private int chunkSize = 1000;
+
     @Override
     public boolean supports(FileFormat fileFormat) {
         return fileFormat != null && fileFormat.isLdif();
@@ -67,81 +86,168 @@ public class LdifParserAdapter implements FileParserPort {
     public void parse(byte[] fileBytes, FileFormat fileFormat, ParsedFile parsedFile) throws ParsingException {
         if (!supports(fileFormat)) throw new ParsingException("Unsupported file format: " + fileFormat.getDisplayName());
 
-        log.info("Starting LDIF parsing with batch duplicate check optimization");
-
-        // ✅ Step 1: 모든 엔트리를 먼저 읽고 fingerprint 수집
-        List<Entry> allEntries = new ArrayList<>();
-        Set<String> allFingerprints = new HashSet<>();
-
-        try (LDIFReader ldifReader = new LDIFReader(new ByteArrayInputStream(fileBytes))) {
-            Entry entry;
-            while ((entry = ldifReader.readEntry()) != null) {
-                allEntries.add(entry);
-
-                // 인증서 엔트리면 fingerprint 계산
-                if (entry.hasAttribute(ATTR_USER_CERTIFICATE)) {
-                    byte[] certBytes = entry.getAttribute(ATTR_USER_CERTIFICATE).getValueByteArray();
-                    try {
-                        String fingerprint = null;
-
-                        // Try standard X509Certificate parsing first
-                        try {
-                            CertificateFactory certFactory = CertificateFactory.getInstance("X.509");
-                            X509Certificate cert = (X509Certificate) certFactory.generateCertificate(
-                                new ByteArrayInputStream(certBytes)
-                            );
-                            fingerprint = calculateFingerprint(cert);
-                        } catch (Exception e) {
-                            // Check if this is an EC Parameter error
-                            if (e.getMessage() != null && e.getMessage().contains("ECParameters")) {
-                                log.debug("Certificate uses explicit EC parameters, using fallback fingerprint calculation: entry={}",
-                                    entry.getDN());
-                                // Fallback: Calculate fingerprint directly from bytes
-                                fingerprint = calculateFingerprintFromBytes(certBytes);
-                            } else {
-                                // Other error, rethrow
-                                throw e;
-                            }
-                        }
-
-                        if (fingerprint != null) {
-                            allFingerprints.add(fingerprint);
-                        }
-                    } catch (Exception e) {
-                        log.warn("Failed to calculate fingerprint for entry: {}", entry.getDN(), e);
-                    }
+        parseStream(new ByteArrayInputStream(fileBytes), fileBytes.length, parsedFile);
+    }
+
+    /**
+     * ✅ 스트리밍 파싱 (파일 경로에서 직접 읽기)
+     *
+     * <p>파일 전체를 byte[]로 읽지 않고 {@link LDIFReader}로 순차 읽기하며,
+     * {@code chunkSize} 단위로 중복 체크 및 엔트리 파싱을 수행합니다.</p>
+     */
+    @Override
+    public void parse(Path filePath, FileFormat fileFormat, ParsedFile parsedFile) throws ParsingException {
+        if (!supports(fileFormat)) throw new ParsingException("Unsupported file format: " + fileFormat.getDisplayName());
+
+        try (InputStream inputStream = Files.newInputStream(filePath)) {
+            parseStream(inputStream, Files.size(filePath), parsedFile);
+        } catch (IOException e) {
+            throw new ParsingException("LDIF reading error: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * ✅ 청크 단위 스트리밍 파싱
+     *
+     * <p>엔트리를 {@code chunkSize}개씩 읽어 청크별로 fingerprint 일괄 중복 체크(단일 쿼리) 후 파싱합니다.
+     * 청크마다 추출된 인증서/CRL/오류를 {@link ParsedFileRepository#appendPendingContent}로 DB에 추가하므로
+     * 한 번에 메모리에 유지되는 엔트리와 추출 데이터는 최대 한 청크이며, LDIF 크기와 무관하게 힙 사용량이 일정합니다.
+     * 이전 청크의 인증서는 DB에 있으므로 이후 청크의 중복 체크에서 함께 걸러집니다.</p>
+     *
+     * <p>레코드는 change record로 읽습니다. changetype이 없는 Complete LDIF 엔트리와 Delta LDIF의
+     * {@code changetype: add}는 그대로, 인증서/CRL 바이너리를 교체하는 {@code changetype: modify}는
+     * 새 바이너리만 가진 엔트리로 파싱합니다. {@code delete}와 그 외 modify 레코드는 파싱 대상이 아니며
+     * {@code ApplyLdifDeltaUseCase}가 검증 이후 적용합니다.</p>
+     */
+    private void parseStream(InputStream inputStream, long totalBytes, ParsedFile parsedFile) throws ParsingException {
+        log.info("Starting streaming LDIF parsing: size={} bytes, chunkSize={}", totalBytes, chunkSize);
+
+        CountingInputStream countingInputStream = new CountingInputStream(inputStream);
+        List<Entry> chunk = new ArrayList<>(chunkSize);
+        int entryNumber = 0;
+        int chunkCount = 0;
+        int deltaOnlyRecords = 0;
+
+        try (LDIFReader ldifReader = new LDIFReader(countingInputStream)) {
+            LDIFChangeRecord changeRecord;
+            while ((changeRecord = ldifReader.readChangeRecord(true)) != null) {
+                Entry entry = toContentEntry(changeRecord);
+                if (entry == null) {
+                    deltaOnlyRecords++;
+                    continue;
+                }
+                chunk.add(entry);
+                if (chunk.size() >= chunkSize) {
+                    entryNumber = processChunk(chunk, entryNumber, countingInputStream.getCount(), totalBytes, parsedFile);
+                    chunkCount++;
+                    chunk.clear();
                 }
             }
-        } catch (Exception e) {
+            if (!chunk.isEmpty()) {
+                entryNumber = processChunk(chunk, entryNumber, countingInputStream.getCount(), totalBytes, parsedFile);
+                chunkCount++;
+                chunk.clear();
+            }
+        } catch (LDIFException | IOException e) {
             throw new ParsingException("LDIF reading error: " + e.getMessage(), e);
         }
 
-        log.info("LDIF entries loaded: {} total, {} certificates with fingerprints",
-            allEntries.size(), allFingerprints.size());
+        log.info("LDIF parsing completed: {} entries processed in {} chunks, {} new certificates added, {} delta-only records skipped",
+            entryNumber, chunkCount, parsedFile.getCertificateCount(), deltaOnlyRecords);
+    }
 
-        // ✅ Step 2: 일괄 중복 체크 (단일 쿼리)
-        Set<String> existingFingerprints = certificateExistenceService.findExistingFingerprints(allFingerprints);
-        log.info("Batch duplicate check completed: {} existing out of {} total fingerprints",
-            existingFingerprints.size(), allFingerprints.size());
+    /**
+     * change record → 파싱 대상 엔트리 변환
+     *
+     * @return add 레코드의 엔트리, 인증서/CRL 바이너리 교체 modify 레코드의 새 바이너리 엔트리,
+     *         그 외(delete, 속성 수정, modDN)는 null
+     */
+    private Entry toContentEntry(LDIFChangeRecord changeRecord) {
+        if (changeRecord instanceof LDIFAddChangeRecord addRecord) {
+            return addRecord.getEntryToAdd();
+        }
+        if (changeRecord instanceof LDIFModifyChangeRecord modifyRecord) {
+            Entry entry = new Entry(modifyRecord.getDN());
+            for (Modification modification : modifyRecord.getModifications()) {
+                ModificationType type = modification.getModificationType();
+                boolean binaryAttribute = modification.getAttributeName().equalsIgnoreCase(ATTR_USER_CERTIFICATE)
+                    || modification.getAttributeName().equalsIgnoreCase(ATTR_CRL);
+                if (binaryAttribute && modification.hasValue()
+                        && (type == ModificationType.REPLACE || type == ModificationType.ADD)) {
+                    entry.setAttribute(modification.getAttribute());
+                }
+            }
+            return entry.getAttributes().isEmpty() ? null : entry;
+        }
+        return null;
+    }
 
-        // ✅ Step 3: 엔트리 파싱 (중복 체크는 메모리 Set으로 수행)
-        int entryNumber = 0;
-        int estimatedTotalEntries = allEntries.size();
+    /**
+     * ✅ 청크 처리: 인증서 병렬 디코딩 → 일괄 중복 체크 → CertificateData 병렬 생성 → 순차 반영
+     *
+     * <p>디코딩과 CertificateData 생성은 {@link ParallelCertificateDecoder}로 워커 스레드에 분산하고,
+     * ParsedFile 반영, CRL/Master List 처리(Repository 저장 포함), 진행률 갱신은
+     * 호출 스레드에서 입력 순서대로 수행합니다.</p>
+     *
+     * @return 지금까지 처리한 누적 엔트리 수
+     */
+    private int processChunk(List<Entry> chunk, int processedEntries, long bytesRead, long totalBytes, ParsedFile parsedFile) {
+        // Step 1: 청크 내 인증서 1회 디코딩 (병렬, fingerprint 포함)
+        List<DecodedEntry> decodedEntries = parallelDecoder.map(chunk, this::decodeEntry);
+        Set<String> chunkFingerprints = new HashSet<>();
+        for (DecodedEntry decoded : decodedEntries) {
+            if (decoded.certificate() != null) {
+                chunkFingerprints.add(decoded.certificate().getFingerprint());
+            }
+        }
+
+        // Step 2: 청크 단위 일괄 중복 체크 (단일 쿼리, 호출 스레드)
+        Set<String> existingFingerprints = certificateExistenceService.findExistingFingerprints(chunkFingerprints);
+        log.debug("Chunk duplicate check completed: {} existing out of {} fingerprints",
+            existingFingerprints.size(), chunkFingerprints.size());
+
+        // Step 3: 인증서 엔트리 CertificateData 생성 (병렬, 중복 체크는 메모리 Set으로 수행)
+        List<CertificateOutcome> outcomes = parallelDecoder.map(decodedEntries,
+            decoded -> buildCertificateOutcome(decoded, existingFingerprints));
+
+        // 전체 엔트리 수는 읽은 바이트 비율로 추정 (스트리밍 모드에서는 사전에 알 수 없음)
+        int chunkEnd = processedEntries + chunk.size();
+        int estimatedTotalEntries = bytesRead > 0
+            ? (int) Math.max(chunkEnd, Math.round(chunkEnd * ((double) totalBytes / bytesRead)))
+            : chunkEnd;
 
-        for (Entry entry : allEntries) {
+        // Step 4: 입력 순서대로 ParsedFile 반영
+        int entryNumber = processedEntries;
+        for (int i = 0; i < decodedEntries.size(); i++) {
             entryNumber++;
             updateProgress(parsedFile, entryNumber, estimatedTotalEntries);
-            parseEntryWithCache(entry, entryNumber, parsedFile, existingFingerprints);
+            parseEntryWithCache(decodedEntries.get(i), outcomes.get(i), parsedFile);
         }
 
-        log.info("LDIF parsing completed: {} entries processed, {} new certificates added",
-            allEntries.size(), parsedFile.getCertificates().size());
+        // Step 5: 청크 추출 결과 DB 추가 (ParsedFile 대기 버퍼 비움)
+        parsedFileRepository.appendPendingContent(parsedFile);
+        return entryNumber;
+    }
+
+    /**
+     * 인증서 엔트리 디코딩 (인증서가 아니면 certificate == null)
+     *
+     * <p>디코딩 실패는 예외를 보관했다가 CertificateData 생성 단계에서 CERT_PARSE_ERROR로 기록합니다.</p>
+     */
+    private DecodedEntry decodeEntry(Entry entry) {
+        if (!entry.hasAttribute(ATTR_USER_CERTIFICATE)) {
+            return new DecodedEntry(entry, null, null);
+        }
+        try {
+            byte[] certBytes = entry.getAttribute(ATTR_USER_CERTIFICATE).getValueByteArray();
+            return new DecodedEntry(entry, DecodedCertificate.decode(certBytes), null);
+        } catch (Exception e) {
+            return new DecodedEntry(entry, null, e);
+        }
     }
-    
+
     private void updateProgress(ParsedFile parsedFile, int entryNumber, int estimatedTotalEntries) {
         if (entryNumber % 100 == 0 || entryNumber == 1) {
-            int percentage = 10 + (int) (((double) entryNumber / estimatedTotalEntries) * 40);
-            percentage = Math.min(percentage, 50);
             progressService.sendProgress(ProcessingProgress.parsingInProgress(
                 parsedFile.getUploadId().getId(), entryNumber, estimatedTotalEntries,
                 "LDIF 엔트리 파싱 중: " + entryNumber + "/" + estimatedTotalEntries, 10, 50));
@@ -150,8 +256,12 @@ public class LdifParserAdapter implements FileParserPort {
 
     /**
      * ✅ 캐시 기반 엔트리 파싱 (배치 중복 체크 최적화)
+     *
+     * @param outcome 인증서 엔트리의 CertificateData 생성 결과 (인증서가 아니면 null)
      */
-    private void parseEntryWithCache(Entry entry, int entryNumber, ParsedFile parsedFile, Set<String> existingFingerprints) {
+    private void parseEntryWithCache(DecodedEntry decoded, CertificateOutcome outcome, ParsedFile parsedFile) {
+        Entry entry = decoded.entry();
+
         // Debug: Log all entry DNs that contain "crl" to diagnose CRL parsing issue
         if (entry.getDN() != null && entry.getDN().toLowerCase().contains("crl")) {
             log.debug("Found CRL-related entry: dn={}, attributes={}", entry.getDN(),
@@ -159,8 +269,12 @@ public class LdifParserAdapter implements FileParserPort {
             log.debug("Has ATTR_CRL ({}): {}", ATTR_CRL, entry.hasAttribute(ATTR_CRL));
         }
 
-        if (entry.hasAttribute(ATTR_USER_CERTIFICATE)) {
-            parseCertificateFromEntryWithCache(entry, parsedFile, existingFingerprints);
+        if (outcome != null) {
+            if (outcome.certificateData() != null) {
+                parsedFile.addCertificate(outcome.certificateData());
+            } else {
+                parsedFile.addError(outcome.error());
+            }
         } else if (entry.hasAttribute(ATTR_CRL)) {
             log.debug("CRL entry found: dn={}", entry.getDN());
             parseCrlFromBytes(entry.getAttribute(ATTR_CRL).getValueByteArray(), entry.getDN(), parsedFile);
@@ -175,37 +289,36 @@ public class LdifParserAdapter implements FileParserPort {
     }
 
     /**
-     * ✅ 캐시 기반 인증서 파싱 (배치 중복 체크 최적화)
+     * ✅ 캐시 기반 인증서 CertificateData 생성 (배치 중복 체크 최적화)
      *
      * <p>메모리 Set으로 중복 체크하여 DB 조회 없음 (N+1 문제 해결)</p>
+     * <p>디코딩 단계에서 생성된 {@link DecodedCertificate}를 그대로 사용하므로 재파싱하지 않습니다.
+     * ParsedFile을 변경하지 않으므로 워커 스레드에서 실행할 수 있습니다.</p>
+     *
+     * @return 인증서 엔트리가 아니면 null
      */
-    private void parseCertificateFromEntryWithCache(Entry entry, ParsedFile parsedFile, Set<String> existingFingerprints) {
-        byte[] certBytes = entry.getAttribute(ATTR_USER_CERTIFICATE).getValueByteArray();
+    private CertificateOutcome buildCertificateOutcome(DecodedEntry decoded, Set<String> existingFingerprints) {
+        Entry entry = decoded.entry();
+        if (!entry.hasAttribute(ATTR_USER_CERTIFICATE)) {
+            return null;
+        }
+
         String dn = entry.getDN();
+        if (decoded.decodeError() != null) {
+            Exception e = decoded.decodeError();
+            log.error("Failed to parse certificate entry: dn={}, error={}", dn, e.getMessage(), e);
+            return CertificateOutcome.error(ParsingError.of("CERT_PARSE_ERROR", dn, e.getMessage()));
+        }
+
+        DecodedCertificate certificate = decoded.certificate();
         try {
-            X509Certificate cert = null;
-            X509CertificateHolder holder = null;
-            boolean usesFallbackParsing = false;
-
-            // Try standard X509Certificate parsing first
-            try {
-                CertificateFactory certFactory = CertificateFactory.getInstance("X.509");
-                cert = (X509Certificate) certFactory.generateCertificate(new ByteArrayInputStream(certBytes));
-            } catch (Exception e) {
-                // Check if this is an EC Parameter error
-                if (e.getMessage() != null && e.getMessage().contains("ECParameters")) {
-                    log.warn("Certificate uses explicit EC parameters, using fallback parsing: dn={}", dn);
-                    usesFallbackParsing = true;
-                    // Parse using X509CertificateHolder instead
-                    holder = new X509CertificateHolder(certBytes);
-                } else {
-                    // Other error, rethrow
-                    throw e;
-                }
+            boolean usesFallbackParsing = certificate.usesFallbackParsing();
+            if (usesFallbackParsing) {
+                log.warn("Certificate uses explicit EC parameters, using fallback parsing: dn={}", dn);
             }
 
-            String subjectDn = usesFallbackParsing ? holder.getSubject().toString() : cert.getSubjectX500Principal().getName();
-            String issuerDn = usesFallbackParsing ? holder.getIssuer().toString() : cert.getIssuerX500Principal().getName();
+            String subjectDn = certificate.getSubjectDn();
+            String issuerDn = certificate.getIssuerDn();
 
             // Country code extraction with fallback strategy
             String countryCode = CountryCodeUtil.extractCountryCode(subjectDn);
@@ -237,77 +350,55 @@ public class LdifParserAdapter implements FileParserPort {
                 certType = "DSC";
             }
 
-            String fingerprint = usesFallbackParsing ? calculateFingerprintFromBytes(certBytes) : calculateFingerprint(cert);
-
-            Map<String, List<String>> allAttributes = new HashMap<>();
-            for (Attribute attr : entry.getAttributes()) {
-                String name = attr.getName();
-                List<String> values = new ArrayList<>();
-                if (attr.hasValue()) {
-                    if (name.endsWith(";binary")) {
-                         for (byte[] val : attr.getValueByteArrays()) {
-                            values.add(Base64.getEncoder().encodeToString(val));
-                        }
-                    } else {
-                        values.addAll(Arrays.asList(attr.getValues()));
-                    }
-                }
-                allAttributes.put(name, values);
-            }
+            String fingerprint = certificate.getFingerprint();
 
             // ✅ 메모리 Set으로 중복 체크 (DB 조회 없음)
-            if (!existingFingerprints.contains(fingerprint)) {
-                CertificateData certData;
-                if (usesFallbackParsing) {
-                    // Fallback: Extract data from X509CertificateHolder
-                    certData = CertificateData.of(
-                        certType,
-                        countryCode,
-                        subjectDn,
-                        issuerDn,
-                        holder.getSerialNumber().toString(16).toUpperCase(),
-                        convertToLocalDateTime(holder.getNotBefore()),
-                        convertToLocalDateTime(holder.getNotAfter()),
-                        holder.getEncoded(),
-                        fingerprint,
-                        true,
-                        allAttributes
-                    );
-                    log.info("Successfully parsed DSC/CSCA with explicit EC parameters using fallback: fingerprint={}, type={}",
-                        fingerprint.substring(0, 16) + "...", certType);
-                } else {
-                    // Standard parsing
-                    certData = CertificateData.of(
-                        certType,
-                        countryCode,
-                        subjectDn,
-                        issuerDn,
-                        cert.getSerialNumber().toString(16).toUpperCase(),
-                        convertToLocalDateTime(cert.getNotBefore()),
-                        convertToLocalDateTime(cert.getNotAfter()),
-                        cert.getEncoded(),
-                        fingerprint,
-                        true,
-                        allAttributes
-                    );
-                }
-                parsedFile.addCertificate(certData);
-            } else {
-                parsedFile.addError(ParsingError.of("DUPLICATE_CERTIFICATE", fingerprint, "Certificate with this fingerprint already exists globally."));
+            if (existingFingerprints.contains(fingerprint)) {
                 log.debug("Duplicate certificate skipped: fingerprint_sha256={}", fingerprint);
+                return CertificateOutcome.error(ParsingError.of("DUPLICATE_CERTIFICATE", fingerprint,
+                    "Certificate with this fingerprint already exists globally."));
             }
+
+            CertificateData certData = certificate.toCertificateData(certType, countryCode, extractAllAttributes(entry));
+            if (usesFallbackParsing) {
+                log.info("Successfully parsed DSC/CSCA with explicit EC parameters using fallback: fingerprint={}, type={}",
+                    fingerprint.substring(0, 16) + "...", certType);
+            }
+            return CertificateOutcome.of(certData);
         } catch (Exception e) {
-            parsedFile.addError(ParsingError.of("CERT_PARSE_ERROR", dn, e.getMessage()));
             log.error("Failed to parse certificate entry: dn={}, error={}", dn, e.getMessage(), e);
+            return CertificateOutcome.error(ParsingError.of("CERT_PARSE_ERROR", dn, e.getMessage()));
+        }
+    }
+
+    /**
+     * LDIF 엔트리 속성 전체 추출 (binary 속성은 Base64 인코딩)
+     */
+    private Map<String, List<String>> extractAllAttributes(Entry entry) {
+        Map<String, List<String>> allAttributes = new HashMap<>();
+        for (Attribute attr : entry.getAttributes()) {
+            String name = attr.getName();
+            List<String> values = new ArrayList<>();
+            if (attr.hasValue()) {
+                if (name.endsWith(";binary")) {
+                    for (byte[] val : attr.getValueByteArrays()) {
+                        values.add(Base64.getEncoder().encodeToString(val));
+                    }
+                } else {
+                    values.addAll(Arrays.asList(attr.getValues()));
+                }
+            }
+            allAttributes.put(name, values);
         }
+        return allAttributes;
     }
 
     private void parseCrlFromBytes(byte[] crlBytes, String dn, ParsedFile parsedFile) {
         try {
-            CertificateFactory certFactory = CertificateFactory.getInstance("X.509");
-            X509CRL crl = (X509CRL) certFactory.generateCRL(new ByteArrayInputStream(crlBytes));
+            X509CRL crl = (X509CRL) CertificateFactoryCache.x509().generateCRL(new ByteArrayInputStream(crlBytes));
 
             String countryCode = CountryCodeUtil.extractCountryCode(crl.getIssuerX500Principal().getName());
+            int revokedCount = crl.getRevokedCertificates() != null ? crl.getRevokedCertificates().size() : 0;
 
             CrlData crlData = CrlData.of(
                 countryCode,
@@ -316,13 +407,12 @@ public class LdifParserAdapter implements FileParserPort {
                 convertToLocalDateTime(crl.getThisUpdate()),
                 convertToLocalDateTime(crl.getNextUpdate()),
                 crl.getEncoded(),
-                crl.getRevokedCertificates() != null ? crl.getRevokedCertificates().size() : 0,
+                revokedCount,
                 true
             );
             parsedFile.addCrl(crlData);
             log.debug("CRL parsed successfully: country={}, issuer={}, revokedCount={}",
-                countryCode, crl.getIssuerX500Principal().getName(),
-                crl.getRevokedCertificates() != null ? crl.getRevokedCertificates().size() : 0);
+                countryCode, crl.getIssuerX500Principal().getName(), revokedCount);
         } catch (Exception e) {
             parsedFile.addError(ParsingError.of("CRL_PARSE_ERROR", dn, e.getMessage()));
             log.warn("CRL parse error: dn={}, error={}", dn, e.getMessage());
@@ -369,108 +459,63 @@ public class LdifParserAdapter implements FileParserPort {
             log.info("Master List saved from LDIF: masterListId={}, country={}, cscaCount={}",
                 savedMasterList.getId().getId(), countryCode, certs.size());
 
-            // Extract and save CSCA certificates with masterListId reference
-            java.util.List<com.smartcoreinc.localpkd.certificatevalidation.domain.model.Certificate> cscaCerts =
-                new java.util.ArrayList<>();
-
+            // Step 1: CSCA 인증서 1회 디코딩 (Master List Signer 제외)
+            List<DecodedCertificate> cscas = new ArrayList<>();
+            Set<String> cscaFingerprints = new HashSet<>();
             for (X509CertificateHolder holder : certs) {
                 try {
-                    X509Certificate x509Cert = null;
-                    boolean usesFallbackParsing = false;
-
-                    // Try to parse X509 certificate using standard CertificateFactory
-                    try {
-                        CertificateFactory certFactory = CertificateFactory.getInstance("X.509");
-                        x509Cert = (X509Certificate) certFactory.generateCertificate(
-                            new ByteArrayInputStream(holder.getEncoded())
-                        );
-                    } catch (Exception e) {
-                        // Check if this is an EC Parameter error
-                        if (e.getMessage() != null && e.getMessage().contains("ECParameters")) {
-                            log.warn("Certificate uses explicit EC parameters, using fallback parsing: subject={}",
-                                holder.getSubject().toString());
-                            usesFallbackParsing = true;
-                            // Continue with fallback - we'll extract data from holder directly
-                        } else {
-                            // Other parsing error, rethrow
-                            throw e;
-                        }
+                    DecodedCertificate decoded = DecodedCertificate.decode(holder.getEncoded());
+                    if (decoded.usesFallbackParsing()) {
+                        log.warn("Certificate uses explicit EC parameters, using fallback parsing: subject={}",
+                            holder.getSubject().toString());
                     }
 
                     // CRITICAL: Filter out Master List Signer certificates
                     // Master List Signer certificates have basicConstraints = -1 (not a CA)
                     // Only CA certificates (basicConstraints >= 0) are CSCA
-                    int basicConstraints;
-                    if (usesFallbackParsing) {
-                        // Extract basicConstraints from X509CertificateHolder
-                        basicConstraints = extractBasicConstraintsFromHolder(holder);
-                    } else {
-                        basicConstraints = x509Cert.getBasicConstraints();
-                    }
-
-                    if (basicConstraints == -1) {
-                        String subjectDn = usesFallbackParsing ?
-                            holder.getSubject().toString() :
-                            x509Cert.getSubjectX500Principal().getName();
-                        log.debug("Skipping Master List Signer certificate (not a CA): subject={}", subjectDn);
+                    if (decoded.getBasicConstraints() == -1) {
+                        log.debug("Skipping Master List Signer certificate (not a CA): subject={}", decoded.getSubjectDn());
                         continue; // Skip Master List Signer certificates
                     }
+                    cscas.add(decoded);
+                    cscaFingerprints.add(decoded.getFingerprint());
+                } catch (Exception e) {
+                    log.warn("Failed to parse CSCA from Master List: {}", e.getMessage());
+                    // Continue with other certificates
+                }
+            }
+
+            // Step 2: 일괄 중복 체크 (단일 쿼리)
+            Set<String> existingFingerprints = certificateExistenceService.findExistingFingerprints(cscaFingerprints);
 
-                    // Calculate fingerprint first for duplicate check
-                    String fingerprint = usesFallbackParsing ?
-                        calculateFingerprintFromBytes(holder.getEncoded()) :
-                        calculateFingerprint(x509Cert);
+            // Extract and save CSCA certificates with masterListId reference
+            java.util.List<com.smartcoreinc.localpkd.certificatevalidation.domain.model.Certificate> cscaCerts =
+                new java.util.ArrayList<>();
 
-                    // Check for duplicate fingerprint for Certificate entity saving
-                    boolean isDuplicate = certificateExistenceService.existsByFingerprintSha256(fingerprint);
+            for (DecodedCertificate decoded : cscas) {
+                try {
+                    String fingerprint = decoded.getFingerprint();
+                    boolean isDuplicate = existingFingerprints.contains(fingerprint);
 
                     if (!isDuplicate) {
                         // Create Certificate entity from Master List CSCA (only if not duplicate in DB)
-                        com.smartcoreinc.localpkd.certificatevalidation.domain.model.Certificate cert;
-                        if (usesFallbackParsing) {
-                            cert = createCertificateFromMasterListCscaFallback(
-                                parsedFile.getUploadId().getId(),
-                                savedMasterList.getId().getId(),
-                                holder,
-                                fingerprint
-                            );
-                        } else {
-                            cert = createCertificateFromMasterListCsca(
-                                parsedFile.getUploadId().getId(),
-                                savedMasterList.getId().getId(),
-                                x509Cert
-                            );
-                        }
-                        cscaCerts.add(cert);
+                        cscaCerts.add(createCertificateFromMasterListCsca(
+                            parsedFile.getUploadId().getId(),
+                            savedMasterList.getId().getId(),
+                            decoded
+                        ));
                     } else {
                         log.debug("CSCA already exists in database, skipping Certificate entity save: fingerprint={}", fingerprint);
                     }
 
                     // IMPORTANT: Always add CSCA to ParsedFile for validation, even if duplicate
                     // This allows validation to proceed with existing certificates
-                    CertificateData certData;
-                    if (usesFallbackParsing) {
-                        certData = createCertificateDataFromHolder(holder, countryCode, fingerprint);
-                    } else {
-                        certData = CertificateData.of(
-                            "CSCA",  // Certificate type
-                            countryCode,  // Country code from Master List
-                            x509Cert.getSubjectX500Principal().getName(),
-                            x509Cert.getIssuerX500Principal().getName(),
-                            x509Cert.getSerialNumber().toString(16).toUpperCase(),
-                            convertToLocalDateTime(x509Cert.getNotBefore()),
-                            convertToLocalDateTime(x509Cert.getNotAfter()),
-                            x509Cert.getEncoded(),
-                            fingerprint,
-                            true,  // fromLdif
-                            null // All attributes not available here
-                        );
-                    }
+                    CertificateData certData = decoded.toCertificateData("CSCA", countryCode, null);
 
                     // Add to ParsedFile regardless of duplication (needed for validation)
                     parsedFile.addCertificate(certData);
                     log.debug("Added CSCA from Master List to ParsedFile: fingerprint={}, duplicate={}, fallbackParsing={}",
-                        fingerprint, isDuplicate, usesFallbackParsing);
+                        fingerprint, isDuplicate, decoded.usesFallbackParsing());
 
                 } catch (Exception e) {
                     log.warn("Failed to parse CSCA from Master List: {}", e.getMessage());
@@ -514,22 +559,25 @@ public class LdifParserAdapter implements FileParserPort {
 
     /**
      * Create Certificate entity from Master List CSCA
+     *
+     * <p>Fallback 파싱(explicit EC parameters)인 경우 PublicKey는 null이며,
+     * basicConstraints를 신뢰할 수 없으므로 CSCA는 CA로 간주합니다.</p>
      */
     private com.smartcoreinc.localpkd.certificatevalidation.domain.model.Certificate createCertificateFromMasterListCsca(
             java.util.UUID uploadId,
             java.util.UUID masterListId,
-            X509Certificate x509Cert
-    ) throws Exception {
+            DecodedCertificate decoded
+    ) {
         // Extract certificate data
         com.smartcoreinc.localpkd.certificatevalidation.domain.model.X509Data x509Data =
             com.smartcoreinc.localpkd.certificatevalidation.domain.model.X509Data.of(
-                x509Cert.getEncoded(),
-                x509Cert.getPublicKey(),
-                x509Cert.getSerialNumber().toString(16).toUpperCase(),
-                calculateFingerprint(x509Cert)
+                decoded.getEncoded(),
+                decoded.usesFallbackParsing() ? null : decoded.getCertificate().getPublicKey(),
+                decoded.getSerialNumberHex(),
+                decoded.getFingerprint()
             );
 
-        String subjectDn = x509Cert.getSubjectX500Principal().getName();
+        String subjectDn = decoded.getSubjectDn();
         com.smartcoreinc.localpkd.certificatevalidation.domain.model.SubjectInfo subjectInfo =
             com.smartcoreinc.localpkd.certificatevalidation.domain.model.SubjectInfo.of(
                 subjectDn,
@@ -539,8 +587,8 @@ public class LdifParserAdapter implements FileParserPort {
                 extractDnComponent(subjectDn, "CN")
             );
 
-        String issuerDn = x509Cert.getIssuerX500Principal().getName();
-        boolean isCA = x509Cert.getBasicConstraints() != -1;
+        String issuerDn = decoded.getIssuerDn();
+        boolean isCA = decoded.usesFallbackParsing() || decoded.getBasicConstraints() != -1;
         com.smartcoreinc.localpkd.certificatevalidation.domain.model.IssuerInfo issuerInfo =
             com.smartcoreinc.localpkd.certificatevalidation.domain.model.IssuerInfo.of(
                 issuerDn,
@@ -553,8 +601,8 @@ public class LdifParserAdapter implements FileParserPort {
 
         com.smartcoreinc.localpkd.certificatevalidation.domain.model.ValidityPeriod validity =
             com.smartcoreinc.localpkd.certificatevalidation.domain.model.ValidityPeriod.of(
-                x509Cert.getNotBefore().toInstant().atZone(java.time.ZoneId.systemDefault()).toLocalDateTime(),
-                x509Cert.getNotAfter().toInstant().atZone(java.time.ZoneId.systemDefault()).toLocalDateTime()
+                convertToLocalDateTime(decoded.getNotBefore()),
+                convertToLocalDateTime(decoded.getNotAfter())
             );
 
         return com.smartcoreinc.localpkd.certificatevalidation.domain.model.Certificate.createFromMasterList(
@@ -564,7 +612,7 @@ public class LdifParserAdapter implements FileParserPort {
             subjectInfo,
             issuerInfo,
             validity,
-            x509Cert.getSigAlgName()
+            decoded.getSignatureAlgorithm()
         );
     }
 
@@ -578,15 +626,6 @@ public class LdifParserAdapter implements FileParserPort {
         return matcher.find() ? matcher.group(1).trim() : null;
     }
 
-    private String calculateFingerprint(X509Certificate cert) throws Exception {
-        MessageDigest md = MessageDigest.getInstance("SHA-256");
-        md.update(cert.getEncoded());
-        byte[] digest = md.digest();
-        StringBuilder sb = new StringBuilder();
-        for (byte b : digest) sb.append(String.format("%02x", b));
-        return sb.toString();
-    }
-    
     private LocalDateTime convertToLocalDateTime(Date date) {
         return (date == null) ? null : date.toInstant().atZone(ZoneId.systemDefault()).toLocalDateTime();
     }
@@ -604,147 +643,64 @@ public class LdifParserAdapter implements FileParserPort {
         }
     }
 
-    // ===========================
-    // Fallback Parsing Helpers for EC Parameter Issue
-    // ===========================
-
     /**
-     * Extract basicConstraints extension from X509CertificateHolder
-     * Used when X509Certificate conversion fails due to EC parameter issues
+     * 디코딩 단계 결과 (엔트리 + 1회 디코딩된 인증서 또는 디코딩 오류)
      */
-    private int extractBasicConstraintsFromHolder(X509CertificateHolder holder) {
-        try {
-            org.bouncycastle.asn1.x509.Extension ext = holder.getExtension(Extension.basicConstraints);
-            if (ext == null) {
-                return -1; // Not a CA
-            }
-            org.bouncycastle.asn1.x509.BasicConstraints bc = org.bouncycastle.asn1.x509.BasicConstraints.getInstance(ext.getParsedValue());
-            if (!bc.isCA()) {
-                return -1;
-            }
-            if (bc.getPathLenConstraint() == null) {
-                return Integer.MAX_VALUE;
-            }
-            return bc.getPathLenConstraint().intValue();
-        } catch (Exception e) {
-            log.warn("Failed to extract basicConstraints from holder, assuming -1 (not a CA): {}", e.getMessage());
-            return -1;
-        }
+    private record DecodedEntry(Entry entry, DecodedCertificate certificate, Exception decodeError) {
     }
 
     /**
-     * Calculate SHA-256 fingerprint from raw certificate bytes
+     * 인증서 엔트리 처리 결과 (CertificateData 또는 ParsingError 중 하나)
      */
-    private String calculateFingerprintFromBytes(byte[] certBytes) throws Exception {
-        MessageDigest md = MessageDigest.getInstance("SHA-256");
-        md.update(certBytes);
-        byte[] digest = md.digest();
-        StringBuilder sb = new StringBuilder();
-        for (byte b : digest) {
-            sb.append(String.format("%02x", b));
+    private record CertificateOutcome(CertificateData certificateData, ParsingError error) {
+
+        static CertificateOutcome of(CertificateData certificateData) {
+            return new CertificateOutcome(certificateData, null);
         }
-        return sb.toString();
-    }
 
-    /**
-     * Create CertificateData from X509CertificateHolder (fallback parsing)
-     * Used when X509Certificate conversion fails due to EC parameter issues
-     */
-    private CertificateData createCertificateDataFromHolder(
-        X509CertificateHolder holder,
-        String countryCode,
-        String fingerprint
-    ) throws Exception {
-        String subjectDn = holder.getSubject().toString();
-        String issuerDn = holder.getIssuer().toString();
-        String serialNumber = holder.getSerialNumber().toString(16).toUpperCase();
-
-        // Extract validity dates
-        java.util.Date notBefore = holder.getNotBefore();
-        java.util.Date notAfter = holder.getNotAfter();
-        LocalDateTime notBeforeLdt = convertToLocalDateTime(notBefore);
-        LocalDateTime notAfterLdt = convertToLocalDateTime(notAfter);
-
-        return CertificateData.of(
-            "CSCA",  // Certificate type
-            countryCode,
-            subjectDn,
-            issuerDn,
-            serialNumber,
-            notBeforeLdt,
-            notAfterLdt,
-            holder.getEncoded(),
-            fingerprint,
-            true,  // fromLdif
-            null // All attributes not available here
-        );
+        static CertificateOutcome error(ParsingError error) {
+            return new CertificateOutcome(null, error);
+        }
     }
 
     /**
-     * Create Certificate entity from X509CertificateHolder (fallback parsing)
-     * Used when X509Certificate conversion fails due to EC parameter issues
+     * 읽은 바이트 수를 집계하는 InputStream (스트리밍 파싱 진행률 추정용)
      */
-    private com.smartcoreinc.localpkd.certificatevalidation.domain.model.Certificate createCertificateFromMasterListCscaFallback(
-        java.util.UUID uploadId,
-        java.util.UUID masterListId,
-        X509CertificateHolder holder,
-        String fingerprint
-    ) throws Exception {
-        String subjectDn = holder.getSubject().toString();
-        String issuerDn = holder.getIssuer().toString();
-        String serialNumber = holder.getSerialNumber().toString(16).toUpperCase();
-
-        // Create X509Data (note: publicKey will be null in fallback mode)
-        com.smartcoreinc.localpkd.certificatevalidation.domain.model.X509Data x509Data =
-            com.smartcoreinc.localpkd.certificatevalidation.domain.model.X509Data.of(
-                holder.getEncoded(),
-                null,  // PublicKey not available in fallback mode
-                serialNumber,
-                fingerprint
-            );
+    private static final class CountingInputStream extends FilterInputStream {
 
-        // Create SubjectInfo (fallback mode - extract from X509CertificateHolder)
-        com.smartcoreinc.localpkd.certificatevalidation.domain.model.SubjectInfo subjectInfo =
-            com.smartcoreinc.localpkd.certificatevalidation.domain.model.SubjectInfo.of(
-                subjectDn,
-                extractDnComponent(subjectDn, "C"),
-                extractDnComponent(subjectDn, "O"),
-                extractDnComponent(subjectDn, "OU"),
-                extractDnComponent(subjectDn, "CN")
-            );
+        private long count;
 
-        // Create IssuerInfo (fallback mode)
-        // Note: isCA cannot be reliably determined in fallback mode without basicConstraints
-        // We assume true since this is a CSCA certificate
-        boolean isCA = true;  // Assume CA for CSCA certificates
-        com.smartcoreinc.localpkd.certificatevalidation.domain.model.IssuerInfo issuerInfo =
-            com.smartcoreinc.localpkd.certificatevalidation.domain.model.IssuerInfo.of(
-                issuerDn,
-                extractDnComponent(issuerDn, "C"),
-                extractDnComponent(issuerDn, "O"),
-                extractDnComponent(issuerDn, "OU"),
-                extractDnComponent(issuerDn, "CN"),
-                isCA
-            );
+        private CountingInputStream(InputStream in) {
+            super(in);
+        }
 
-        // Create ValidityPeriod
-        com.smartcoreinc.localpkd.certificatevalidation.domain.model.ValidityPeriod validity =
-            com.smartcoreinc.localpkd.certificatevalidation.domain.model.ValidityPeriod.of(
-                convertToLocalDateTime(holder.getNotBefore()),
-                convertToLocalDateTime(holder.getNotAfter())
-            );
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) {
+                count++;
+            }
+            return b;
+        }
 
-        // Extract signature algorithm
-        String signatureAlgorithm = holder.getSignatureAlgorithm().getAlgorithm().getId();
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                count += n;
+            }
+            return n;
+        }
 
-        return com.smartcoreinc.localpkd.certificatevalidation.domain.model.Certificate.createFromMasterList(
-            uploadId,
-            masterListId,
-            x509Data,
-            subjectInfo,
-            issuerInfo,
-            validity,
-            signatureAlgorithm
-        );
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+
+        long getCount() {
+            return count;
+        }
     }
 }
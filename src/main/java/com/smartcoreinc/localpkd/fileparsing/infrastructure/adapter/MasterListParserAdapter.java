@@ -8,10 +8,10 @@ import com.smartcoreinc.localpkd.fileparsing.domain.port.MasterListParser;
 import com.smartcoreinc.localpkd.fileupload.domain.model.FileFormat;
 import com.smartcoreinc.localpkd.shared.progress.ProcessingProgress;
 import com.smartcoreinc.localpkd.shared.progress.ProgressService;
+import com.smartcoreinc.localpkd.shared.util.CertificateFactoryCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.bouncycastle.cert.X509CertificateHolder;
-import org.bouncycastle.cert.jcajce.JcaX509CertificateConverter;
 import org.bouncycastle.cms.CMSProcessable;
 import org.bouncycastle.cms.CMSSignedData;
 import org.bouncycastle.cms.SignerInformation;
@@ -26,12 +26,8 @@ import org.springframework.stereotype.Component;
 
 import java.io.InputStream;
 import java.security.Security;
-import java.security.cert.CertificateFactory;
 import java.security.cert.X509Certificate;
-import java.time.LocalDateTime;
-import java.time.ZoneId;
 import java.util.Collection;
-import java.util.Date;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import org.bouncycastle.asn1.ASN1Encodable;
@@ -47,6 +43,7 @@ public class MasterListParserAdapter implements FileParserPort, MasterListParser
 
     private final ProgressService progressService;
     private final CertificateExistenceService certificateExistenceService; // Inject CertificateExistenceService
+    private final ParallelCertificateDecoder parallelDecoder;
 
     @Value("file:data/cert/UN_CSCA_2.pem")
     private Resource trustAnchorResource;
@@ -83,7 +80,7 @@ public class MasterListParserAdapter implements FileParserPort, MasterListParser
             progressService.sendProgress(ProcessingProgress.parsingInProgress(parsedFile.getUploadId().getId(), 3, 4, "CSCA 인증서 추출 완료", 10, 50));
 
             log.info("Master List parsing completed: {} CSCA certificates, {} errors",
-                parsedFile.getCertificates().size(), parsedFile.getErrors().size());
+                parsedFile.getCertificateCount(), parsedFile.getErrorCount());
 
         } catch (FileParserPort.ParsingException e) {
             log.error("Master List parsing failed", e);
@@ -123,8 +120,7 @@ public class MasterListParserAdapter implements FileParserPort, MasterListParser
 
     private X509Certificate loadTrustAnchor() throws Exception {
         try (InputStream is = trustAnchorResource.getInputStream()) {
-            CertificateFactory certFactory = CertificateFactory.getInstance("X.509", "BC");
-            return (X509Certificate) certFactory.generateCertificate(is);
+            return (X509Certificate) CertificateFactoryCache.x509BouncyCastle().generateCertificate(is);
         }
     }
 
@@ -160,43 +156,35 @@ public class MasterListParserAdapter implements FileParserPort, MasterListParser
             int certSetIndex = validateMasterListStructure(seq);
             ASN1Set certSet = (ASN1Set) seq.getObjectAt(certSetIndex);
             
-            JcaX509CertificateConverter converter = new JcaX509CertificateConverter().setProvider("BC");
-            for (ASN1Encodable encodable : certSet) {
-                try {
-                    org.bouncycastle.asn1.x509.Certificate bcCert = org.bouncycastle.asn1.x509.Certificate.getInstance(encodable);
-                    X509CertificateHolder holder = new X509CertificateHolder(bcCert);
-
-                    X509Certificate x509Cert = null;
-                    boolean usesFallbackParsing = false;
-
-                    // Try to convert to X509Certificate
-                    try {
-                        x509Cert = converter.getCertificate(holder);
-                    } catch (Exception e) {
-                        // Check if this is an EC Parameter error
-                        if (e.getMessage() != null && e.getMessage().contains("ECParameters")) {
-                            log.warn("Certificate uses explicit EC parameters, using fallback parsing: subject={}",
-                                holder.getSubject().toString());
-                            usesFallbackParsing = true;
-                            // Continue with fallback - we'll extract data from holder directly
-                        } else {
-                            // Other conversion error, rethrow
-                            throw e;
-                        }
-                    }
+            // Step 1: 인증서 1회 디코딩 (병렬, fingerprint 포함, 입력 순서 유지)
+            java.util.List<ASN1Encodable> encodables = new java.util.ArrayList<>(certSet.size());
+            certSet.forEach(encodables::add);
+            java.util.List<DecodedCsca> decodeResults = parallelDecoder.map(encodables, this::tryDecodeCertificate);
+
+            java.util.List<DecodedCertificate> decodedCertificates = new java.util.ArrayList<>(decodeResults.size());
+            java.util.Set<String> fingerprints = new java.util.HashSet<>();
+            for (DecodedCsca result : decodeResults) {
+                if (result.error() != null) {
+                    parsedFile.addError(ParsingError.of("CERT_PARSE_ERROR", "Certificate", result.error().getMessage()));
+                    log.warn("Failed to parse certificate: {}", result.error().getMessage());
+                    continue;
+                }
+                decodedCertificates.add(result.certificate());
+                fingerprints.add(result.certificate().getFingerprint());
+            }
 
-                    String fingerprint = usesFallbackParsing ?
-                        calculateFingerprintFromBytes(holder.getEncoded()) :
-                        calculateFingerprint(x509Cert);
+            // Step 2: 일괄 중복 체크 (단일 쿼리)
+            java.util.Set<String> existingFingerprints = certificateExistenceService.findExistingFingerprints(fingerprints);
 
+            // Step 3: CertificateData 생성 (디코딩 결과 재사용)
+            for (DecodedCertificate decoded : decodedCertificates) {
+                String fingerprint = decoded.getFingerprint();
+                try {
                     // Check for duplicate fingerprint before adding
-                    if (!certificateExistenceService.existsByFingerprintSha256(fingerprint)) {
-                        CertificateData certData = usesFallbackParsing ?
-                            createCertificateDataFromHolder(holder, fingerprint) :
-                            createCertificateData(x509Cert, fingerprint);
-                        parsedFile.addCertificate(certData);
+                    if (!existingFingerprints.contains(fingerprint)) {
+                        parsedFile.addCertificate(decoded.toCertificateData("CSCA", extractCountryCode(decoded), null));
 
-                        if (usesFallbackParsing) {
+                        if (decoded.usesFallbackParsing()) {
                             log.info("Successfully parsed certificate with explicit EC parameters using fallback: fingerprint={}",
                                 fingerprint.substring(0, 16) + "...");
                         }
@@ -212,6 +200,37 @@ public class MasterListParserAdapter implements FileParserPort, MasterListParser
         }
     }
 
+    /**
+     * 병렬 디코딩 단계용 래퍼 (예외를 결과에 담아 반환)
+     */
+    private DecodedCsca tryDecodeCertificate(ASN1Encodable encodable) {
+        try {
+            return new DecodedCsca(decodeCertificate(encodable), null);
+        } catch (Exception e) {
+            return new DecodedCsca(null, e);
+        }
+    }
+
+    /**
+     * 디코딩 단계 결과 (인증서 또는 디코딩 오류)
+     */
+    private record DecodedCsca(DecodedCertificate certificate, Exception error) {
+    }
+
+    /**
+     * ASN.1 인증서 1회 디코딩 (BouncyCastle Provider, explicit EC parameters fallback 포함)
+     */
+    private DecodedCertificate decodeCertificate(ASN1Encodable encodable) throws Exception {
+        org.bouncycastle.asn1.x509.Certificate bcCert = org.bouncycastle.asn1.x509.Certificate.getInstance(encodable);
+        X509CertificateHolder holder = new X509CertificateHolder(bcCert);
+        DecodedCertificate decoded = DecodedCertificate.of(holder);
+        if (decoded.usesFallbackParsing()) {
+            log.warn("Certificate uses explicit EC parameters, using fallback parsing: subject={}",
+                holder.getSubject().toString());
+        }
+        return decoded;
+    }
+
     private int validateMasterListStructure(ASN1Sequence seq) throws FileParserPort.ParsingException {
         if (seq.size() < 1 || seq.size() > 2) {
             throw new FileParserPort.ParsingException("Invalid Master List structure: SEQUENCE size must be 1 or 2, but got " + seq.size());
@@ -225,35 +244,22 @@ public class MasterListParserAdapter implements FileParserPort, MasterListParser
         }
     }
 
-    private CertificateData createCertificateData(X509Certificate x509Cert, String fingerprint) throws Exception {
-        String subjectDn = x509Cert.getSubjectX500Principal().getName();
-        String issuerDn = x509Cert.getIssuerX500Principal().getName();
-
-        // Country code extraction with fallback strategy
+    /**
+     * 국가 코드 추출 (Subject DN 우선, 없으면 Issuer DN)
+     */
+    private String extractCountryCode(DecodedCertificate decoded) {
+        String subjectDn = decoded.getSubjectDn();
         String countryCode = extractCountryCode(subjectDn);
         if (countryCode == null) {
             // Fallback: Extract from Issuer DN
-            countryCode = extractCountryCode(issuerDn);
+            countryCode = extractCountryCode(decoded.getIssuerDn());
             if (countryCode != null) {
                 log.debug("Country code extracted from Issuer DN: {} for subject: {}", countryCode, subjectDn);
             }
         }
-
-        return CertificateData.of(
-            "CSCA",
-            countryCode,
-            subjectDn,
-            x509Cert.getIssuerX500Principal().getName(),
-            x509Cert.getSerialNumber().toString(16).toUpperCase(),
-            convertToLocalDateTime(x509Cert.getNotBefore()),
-            convertToLocalDateTime(x509Cert.getNotAfter()),
-            x509Cert.getEncoded(),
-            fingerprint, // Use the provided fingerprint
-            true,
-            null
-        );
+        return countryCode;
     }
-    
+
     private String extractCountryCode(String dn) {
         if (dn == null) return null;
         Pattern countryPattern = Pattern.compile("(?:^|,)\\s*C\\s*=\\s*([A-Z]{2})(?:,|$)");
@@ -261,21 +267,6 @@ public class MasterListParserAdapter implements FileParserPort, MasterListParser
         return matcher.find() ? matcher.group(1) : null;
     }
 
-    private String calculateFingerprint(X509Certificate cert) throws Exception {
-        java.security.MessageDigest md = java.security.MessageDigest.getInstance("SHA-256");
-        md.update(cert.getEncoded());
-        byte[] digest = md.digest();
-        StringBuilder sb = new StringBuilder();
-        for (byte b : digest) {
-            sb.append(String.format("%02X", b & 0xFF));
-        }
-        return sb.toString().toLowerCase();
-    }
-    
-    private LocalDateTime convertToLocalDateTime(Date date) {
-        return date.toInstant().atZone(ZoneId.systemDefault()).toLocalDateTime();
-    }
-
     // ===========================
     // MasterListParser Implementation
     // ===========================
@@ -389,82 +380,18 @@ public class MasterListParserAdapter implements FileParserPort, MasterListParser
             int certSetIndex = validateMasterListStructure(seq);
             ASN1Set certSet = (ASN1Set) seq.getObjectAt(certSetIndex);
 
-            JcaX509CertificateConverter converter = new JcaX509CertificateConverter().setProvider("BC");
             for (ASN1Encodable encodable : certSet) {
                 try {
-                    org.bouncycastle.asn1.x509.Certificate bcCert = org.bouncycastle.asn1.x509.Certificate.getInstance(encodable);
-                    X509CertificateHolder holder = new X509CertificateHolder(bcCert);
-
-                    X509Certificate x509Cert = null;
-                    boolean usesFallbackParsing = false;
-
-                    // Try to convert to X509Certificate
-                    try {
-                        x509Cert = converter.getCertificate(holder);
-                    } catch (Exception e) {
-                        // Check if this is an EC Parameter error
-                        if (e.getMessage() != null && e.getMessage().contains("ECParameters")) {
-                            log.warn("Certificate uses explicit EC parameters, using fallback parsing for MasterList: subject={}",
-                                holder.getSubject().toString());
-                            usesFallbackParsing = true;
-                            // Continue with fallback - we'll extract data from holder directly
-                        } else {
-                            // Other conversion error, rethrow
-                            throw e;
-                        }
-                    }
-
-                    String fingerprint;
-                    String subjectDn;
-                    String countryCodeStr;
-                    CountryCode countryCode;
-
-                    if (usesFallbackParsing) {
-                        fingerprint = calculateFingerprintFromBytes(holder.getEncoded());
-                        subjectDn = holder.getSubject().toString();
-
-                        // Country code extraction with fallback strategy
-                        countryCodeStr = extractCountryCode(subjectDn);
-                        if (countryCodeStr == null) {
-                            // Fallback: Extract from Issuer DN
-                            String issuerDn = holder.getIssuer().toString();
-                            countryCodeStr = extractCountryCode(issuerDn);
-                            if (countryCodeStr != null) {
-                                log.debug("Country code extracted from Issuer DN: {} for subject: {}", countryCodeStr, subjectDn);
-                            }
-                        }
-                        countryCode = countryCodeStr != null ? CountryCode.of(countryCodeStr) : null;
-
-                        // Create ParsedCsca with null x509Cert (fallback mode)
-                        // Note: ParsedCsca.of() should handle null X509Certificate gracefully
-                        parsedCscas.add(MasterListParseResult.ParsedCsca.of(
-                                null,  // x509Cert is null in fallback mode
-                                fingerprint,
-                                countryCode
-                        ));
-                    } else {
-                        fingerprint = calculateFingerprint(x509Cert);
-                        subjectDn = x509Cert.getSubjectX500Principal().getName();
-
-                        // Country code extraction with fallback strategy
-                        countryCodeStr = extractCountryCode(subjectDn);
-                        if (countryCodeStr == null) {
-                            // Fallback: Extract from Issuer DN
-                            String issuerDn = x509Cert.getIssuerX500Principal().getName();
-                            countryCodeStr = extractCountryCode(issuerDn);
-                            if (countryCodeStr != null) {
-                                log.debug("Country code extracted from Issuer DN: {} for subject: {}", countryCodeStr, subjectDn);
-                            }
-                        }
-                        countryCode = countryCodeStr != null ? CountryCode.of(countryCodeStr) : null;
-
-                        parsedCscas.add(MasterListParseResult.ParsedCsca.of(
-                                x509Cert,
-                                fingerprint,
-                                countryCode
-                        ));
-                    }
-
+                    DecodedCertificate decoded = decodeCertificate(encodable);
+                    String countryCodeStr = extractCountryCode(decoded);
+                    CountryCode countryCode = countryCodeStr != null ? CountryCode.of(countryCodeStr) : null;
+
+                    // Fallback 모드에서는 X509Certificate가 null (ParsedCsca.of()에서 처리)
+                    parsedCscas.add(MasterListParseResult.ParsedCsca.of(
+                            decoded.getCertificate(),
+                            decoded.getFingerprint(),
+                            countryCode
+                    ));
                 } catch (Exception e) {
                     log.warn("Failed to extract CSCA certificate for MasterList: {}", e.getMessage());
                     // Continue with other certificates
@@ -474,64 +401,4 @@ public class MasterListParserAdapter implements FileParserPort, MasterListParser
 
         return parsedCscas;
     }
-
-    // ===========================
-    // Fallback Parsing Helpers for EC Parameter Issue
-    // ===========================
-
-    /**
-     * Calculate SHA-256 fingerprint from raw certificate bytes
-     * Used when X509Certificate conversion fails due to EC parameter issues
-     */
-    private String calculateFingerprintFromBytes(byte[] certBytes) throws Exception {
-        java.security.MessageDigest md = java.security.MessageDigest.getInstance("SHA-256");
-        md.update(certBytes);
-        byte[] digest = md.digest();
-        StringBuilder sb = new StringBuilder();
-        for (byte b : digest) {
-            sb.append(String.format("%02X", b & 0xFF));
-        }
-        return sb.toString().toLowerCase();
-    }
-
-    /**
-     * Create CertificateData from X509CertificateHolder (fallback parsing)
-     * Used when X509Certificate conversion fails due to EC parameter issues
-     */
-    private CertificateData createCertificateDataFromHolder(
-        X509CertificateHolder holder,
-        String fingerprint
-    ) throws Exception {
-        String subjectDn = holder.getSubject().toString();
-        String issuerDn = holder.getIssuer().toString();
-        String serialNumber = holder.getSerialNumber().toString(16).toUpperCase();
-
-        // Country code extraction with fallback strategy
-        String countryCode = extractCountryCode(subjectDn);
-        if (countryCode == null) {
-            // Fallback: Extract from Issuer DN
-            countryCode = extractCountryCode(issuerDn);
-            if (countryCode != null) {
-                log.debug("Country code extracted from Issuer DN: {} for subject: {}", countryCode, subjectDn);
-            }
-        }
-
-        // Extract validity dates
-        LocalDateTime notBefore = convertToLocalDateTime(holder.getNotBefore());
-        LocalDateTime notAfter = convertToLocalDateTime(holder.getNotAfter());
-
-        return CertificateData.of(
-            "CSCA",  // Certificate type
-            countryCode,
-            subjectDn,
-            issuerDn,
-            serialNumber,
-            notBefore,
-            notAfter,
-            holder.getEncoded(),
-            fingerprint,
-            true,  // fromMasterList
-            null // All attributes not available here
-        );
-    }
 }
@@ -0,0 +1,98 @@
+package com.smartcoreinc.localpkd.fileparsing.infrastructure.adapter;
+
+import com.smartcoreinc.localpkd.fileparsing.config.FileParsingAsyncConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+/**
+ * ParallelCertificateDecoder - 순서 보장 병렬 디코딩 단계
+ *
+ * <p>입력 목록을 연속된 슬라이스로 나누어 워커 스레드에서 변환한 뒤,
+ * 입력 순서 그대로 결과를 반환합니다. 따라서 ParsedFile에 반영되는 인증서/오류 순서와
+ * 진행률(ProgressService) 갱신은 순차 처리와 동일합니다.</p>
+ *
+ * <p><b>사용 규칙</b>:</p>
+ * <ul>
+ *   <li>mapper는 순수 함수여야 합니다 (ParsedFile 변경, Repository 호출 금지 — 트랜잭션은 호출 스레드에 바인딩됨)</li>
+ *   <li>mapper는 예외를 결과 객체에 담아 반환해야 합니다 (던진 예외는 IllegalStateException으로 전파)</li>
+ *   <li>parallelism이 1이거나 입력이 minBatchSize 미만이면 호출 스레드에서 순차 처리합니다</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class ParallelCertificateDecoder {
+
+    private final AsyncTaskExecutor executor;
+    private final int parallelism;
+    private final int minBatchSize;
+
+    public ParallelCertificateDecoder(
+            @Qualifier("certificateDecodeExecutor") AsyncTaskExecutor executor,
+            @Value("${app.parsing.decode.parallelism:0}") int parallelism,
+            @Value("${app.parsing.decode.min-batch-size:64}") int minBatchSize) {
+        this.executor = executor;
+        this.parallelism = FileParsingAsyncConfig.resolveParallelism(parallelism);
+        this.minBatchSize = Math.max(1, minBatchSize);
+    }
+
+    /**
+     * 입력 순서를 유지하며 병렬 변환
+     *
+     * @param items 입력 목록
+     * @param mapper 변환 함수 (순수 함수)
+     * @return 입력과 같은 순서의 결과 목록
+     */
+    public <T, R> List<R> map(List<T> items, Function<? super T, ? extends R> mapper) {
+        int size = items.size();
+        if (parallelism <= 1 || size < minBatchSize) {
+            return mapSequential(items, mapper);
+        }
+
+        int sliceCount = Math.min(parallelism, (size + minBatchSize - 1) / minBatchSize);
+        int sliceSize = (size + sliceCount - 1) / sliceCount;
+
+        List<Future<List<R>>> futures = new ArrayList<>(sliceCount);
+        for (int from = 0; from < size; from += sliceSize) {
+            List<T> slice = items.subList(from, Math.min(from + sliceSize, size));
+            futures.add(executor.submit(() -> mapSequential(slice, mapper)));
+        }
+
+        List<R> results = new ArrayList<>(size);
+        try {
+            for (Future<List<R>> future : futures) {
+                results.addAll(future.get());
+            }
+        } catch (InterruptedException e) {
+            futures.forEach(f -> f.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Parallel decoding interrupted", e);
+        } catch (ExecutionException e) {
+            futures.forEach(f -> f.cancel(true));
+            throw new IllegalStateException("Parallel decoding failed: " + e.getCause().getMessage(), e.getCause());
+        }
+
+        log.debug("Parallel decode completed: items={}, slices={}, sliceSize={}", size, sliceCount, sliceSize);
+        return results;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    private static <T, R> List<R> mapSequential(List<T> items, Function<? super T, ? extends R> mapper) {
+        List<R> results = new ArrayList<>(items.size());
+        for (T item : items) {
+            results.add(mapper.apply(item));
+        }
+        return results;
+    }
+}
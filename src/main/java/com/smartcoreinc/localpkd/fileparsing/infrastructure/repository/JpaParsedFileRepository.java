@@ -1,5 +1,7 @@
 package com.smartcoreinc.localpkd.fileparsing.infrastructure.repository;
 
+import com.smartcoreinc.localpkd.fileparsing.domain.model.CertificateData;
+import com.smartcoreinc.localpkd.fileparsing.domain.model.CrlData;
 import com.smartcoreinc.localpkd.fileparsing.domain.model.ParsedFile;
 import com.smartcoreinc.localpkd.fileparsing.domain.model.ParsedFileId;
 import com.smartcoreinc.localpkd.fileparsing.domain.repository.ParsedFileRepository;
@@ -10,7 +12,9 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Iterator;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * JpaParsedFileRepository - ParsedFileRepository 구현체
@@ -56,6 +60,7 @@ public class JpaParsedFileRepository implements ParsedFileRepository {
 
     private final SpringDataParsedFileRepository jpaRepository;
     private final ApplicationEventPublisher eventPublisher;
+    private final ParsedFileContentStore contentStore;
 
     /**
      * ParsedFile 저장
@@ -84,9 +89,12 @@ public class JpaParsedFileRepository implements ParsedFileRepository {
             parsedFile.clearDomainEvents();
         }
 
-        // 3. JPA 저장
+        // 3. JPA 저장 (parsed_file 행만 - 추출 데이터는 컬렉션으로 매핑하지 않음)
         ParsedFile saved = jpaRepository.save(parsedFile);
 
+        // 4. 저장 대기 중인 인증서/CRL/오류 추가
+        appendPendingContent(parsedFile);
+
         return saved;
     }
 
@@ -151,4 +159,42 @@ public class JpaParsedFileRepository implements ParsedFileRepository {
     public boolean existsByUploadId(UploadId uploadId) {
         return jpaRepository.existsByUploadId(uploadId);
     }
+
+    @Override
+    @Transactional
+    public void appendPendingContent(ParsedFile parsedFile) {
+        if (!parsedFile.hasPendingContent()) {
+            return;
+        }
+        contentStore.append(
+            parsedFile.getId().getId(),
+            parsedFile.drainPendingCertificates(),
+            parsedFile.drainPendingCrls(),
+            parsedFile.drainPendingErrors()
+        );
+    }
+
+    @Override
+    public Iterator<CertificateData> iterateCertificates(ParsedFileId id, Set<String> certificateTypes, int pageSize) {
+        return new KeysetPageIterator<>(
+            afterFingerprint -> contentStore.findCertificatesAfter(id.getId(), certificateTypes, afterFingerprint, pageSize),
+            CertificateData::getFingerprintSha256,
+            pageSize
+        );
+    }
+
+    @Override
+    public Iterator<CrlData> iterateCrls(ParsedFileId id, int pageSize) {
+        return new KeysetPageIterator<>(
+            afterIssuerDn -> contentStore.findCrlsAfter(id.getId(), afterIssuerDn, pageSize),
+            CrlData::getIssuerDN,
+            pageSize
+        );
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long countCertificates(ParsedFileId id, Set<String> certificateTypes) {
+        return contentStore.countCertificates(id.getId(), certificateTypes);
+    }
 }
@@ -0,0 +1,62 @@
+package com.smartcoreinc.localpkd.fileparsing.infrastructure.repository;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+/**
+ * KeysetPageIterator - keyset 페이지 조회를 이어 붙인 Iterator
+ *
+ * <p>현재 페이지를 모두 소비하면 마지막 항목의 키 다음부터 다음 페이지를 조회합니다.
+ * 페이지 크기보다 적게 조회되면 마지막 페이지로 간주합니다.</p>
+ *
+ * @param <T> 항목 타입
+ */
+final class KeysetPageIterator<T> implements Iterator<T> {
+
+    private final Function<String, List<T>> pageLoader;
+    private final Function<T, String> keyExtractor;
+    private final int pageSize;
+
+    private List<T> page = List.of();
+    private int position;
+    private String lastKey = "";
+    private boolean lastPage;
+
+    /**
+     * @param pageLoader 마지막 키(첫 페이지는 빈 문자열) → 다음 페이지
+     * @param keyExtractor 항목의 정렬 키
+     * @param pageSize 페이지 크기
+     */
+    KeysetPageIterator(Function<String, List<T>> pageLoader, Function<T, String> keyExtractor, int pageSize) {
+        this.pageLoader = pageLoader;
+        this.keyExtractor = keyExtractor;
+        this.pageSize = pageSize;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (position < page.size()) {
+            return true;
+        }
+        if (lastPage) {
+            return false;
+        }
+        page = pageLoader.apply(lastKey);
+        position = 0;
+        lastPage = page.size() < pageSize;
+        if (!page.isEmpty()) {
+            lastKey = keyExtractor.apply(page.get(page.size() - 1));
+        }
+        return !page.isEmpty();
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return page.get(position++);
+    }
+}
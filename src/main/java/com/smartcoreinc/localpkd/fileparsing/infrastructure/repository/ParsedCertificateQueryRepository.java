@@ -11,7 +11,7 @@ import java.util.UUID;
 @Repository
 public interface ParsedCertificateQueryRepository {
 
-    @Query("SELECT COUNT(c) > 0 FROM ParsedFile pf JOIN pf.certificates c WHERE c.fingerprintSha256 = :fingerprintSha256")
+    @Query(value = "SELECT COUNT(*) > 0 FROM parsed_certificate WHERE fingerprint_sha256 = :fingerprintSha256", nativeQuery = true)
     boolean existsByFingerprintSha256(@Param("fingerprintSha256") String fingerprintSha256);
 
     /**
@@ -21,18 +21,18 @@ public interface ParsedCertificateQueryRepository {
      * @param fingerprints Set of fingerprints to check
      * @return List of fingerprints that already exist in the database
      */
-    @Query("SELECT DISTINCT c.fingerprintSha256 FROM ParsedFile pf JOIN pf.certificates c WHERE c.fingerprintSha256 IN :fingerprints")
+    @Query(value = "SELECT DISTINCT fingerprint_sha256 FROM parsed_certificate WHERE fingerprint_sha256 IN (:fingerprints)", nativeQuery = true)
     List<String> findFingerprintsByFingerprintSha256In(@Param("fingerprints") Set<String> fingerprints);
 
     /**
      * Count total certificates by uploadId
      */
-    @Query("SELECT COUNT(c) FROM ParsedFile pf JOIN pf.certificates c WHERE pf.uploadId.id = :uploadId")
+    @Query(value = "SELECT COUNT(*) FROM parsed_certificate c JOIN parsed_file pf ON pf.id = c.parsed_file_id WHERE pf.upload_id = :uploadId", nativeQuery = true)
     long countByUploadId(@Param("uploadId") UUID uploadId);
 
     /**
      * Count certificates by uploadId and certificate type (CSCA, DSC, DSC_NC)
      */
-    @Query("SELECT COUNT(c) FROM ParsedFile pf JOIN pf.certificates c WHERE pf.uploadId.id = :uploadId AND c.certificateType = :certType")
+    @Query(value = "SELECT COUNT(*) FROM parsed_certificate c JOIN parsed_file pf ON pf.id = c.parsed_file_id WHERE pf.upload_id = :uploadId AND c.cert_type = :certType", nativeQuery = true)
     long countByUploadIdAndCertType(@Param("uploadId") UUID uploadId, @Param("certType") String certType);
 }
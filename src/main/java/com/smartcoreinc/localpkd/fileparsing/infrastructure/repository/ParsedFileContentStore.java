@@ -0,0 +1,337 @@
+package com.smartcoreinc.localpkd.fileparsing.infrastructure.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smartcoreinc.localpkd.fileparsing.domain.model.CertificateData;
+import com.smartcoreinc.localpkd.fileparsing.domain.model.CrlData;
+import com.smartcoreinc.localpkd.fileparsing.domain.model.ParsingError;
+import com.smartcoreinc.localpkd.shared.blob.CertificateBlobStore;
+import com.smartcoreinc.localpkd.shared.exception.InfrastructureException;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.postgresql.PGConnection;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * ParsedFileContentStore - 파싱 결과(인증서/CRL/오류) 행 단위 저장/조회
+ *
+ * <p>ParsedFile의 추출 데이터는 ElementCollection이 아니라 이 저장소가 직접 관리합니다.
+ * ElementCollection은 변경 시 컬렉션 전체를 삭제 후 재삽입하고 조회 시 전체를 한 번에 로드하므로,
+ * 수만 건의 인증서를 가진 파일에서는 저장/조회 모두 파일 크기에 비례한 메모리와 쓰기가 발생했습니다.</p>
+ *
+ * <ul>
+ *   <li><b>추가</b>: append-only JDBC batch INSERT (호출자 트랜잭션). 인증서 DER은
+ *       {@link CertificateBlobStore}에 저장하고 {@code parsed_certificate}는 지문만 보관합니다.</li>
+ *   <li><b>조회</b>: PK 순서의 keyset 페이지 조회 ({@code parsed_certificate}는 fingerprint,
+ *       {@code parsed_crl}은 Issuer DN). 페이지마다 읽기 전용 트랜잭션으로 실행됩니다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ParsedFileContentStore {
+
+    private static final TypeReference<Map<String, List<String>>> ATTRIBUTES_TYPE = new TypeReference<>() {};
+
+    /**
+     * all_attributes 바인딩: PostgreSQL은 {@code CAST(? AS jsonb)}, 그 외 DB(H2 테스트)는 {@code ? FORMAT JSON}
+     */
+    private static final String INSERT_CERTIFICATE_SQL =
+        "INSERT INTO parsed_certificate (parsed_file_id, cert_type, country_code, subject_dn, issuer_dn,"
+            + " serial_number, not_before, not_after, fingerprint_sha256, is_valid, all_attributes)"
+            + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, %s)";
+
+    private static final String INSERT_CRL_SQL =
+        "INSERT INTO parsed_crl (parsed_file_id, crl_country_code, crl_issuer_dn, crl_number,"
+            + " crl_this_update, crl_next_update, crl_binary, revoked_certs_count, crl_is_valid)"
+            + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_ERROR_SQL =
+        "INSERT INTO parsing_error (parsed_file_id, error_type, error_location, error_message, error_occurred_at)"
+            + " VALUES (?, ?, ?, ?, ?)";
+
+    private static final String SELECT_CERTIFICATES_SQL =
+        "SELECT pc.cert_type, pc.country_code, pc.subject_dn, pc.issuer_dn, pc.serial_number,"
+            + " pc.not_before, pc.not_after, b.der, pc.fingerprint_sha256, pc.is_valid, pc.all_attributes"
+            + " FROM parsed_certificate pc"
+            + " LEFT JOIN certificate_blob b ON b.sha256 = pc.fingerprint_sha256"
+            + " WHERE pc.parsed_file_id = ? AND pc.fingerprint_sha256 > ? AND pc.cert_type IN (%s)"
+            + " ORDER BY pc.fingerprint_sha256"
+            + " LIMIT ?";
+
+    private static final String SELECT_CRLS_SQL =
+        "SELECT crl_country_code, crl_issuer_dn, crl_number, crl_this_update, crl_next_update,"
+            + " crl_binary, revoked_certs_count, crl_is_valid"
+            + " FROM parsed_crl"
+            + " WHERE parsed_file_id = ? AND crl_issuer_dn > ?"
+            + " ORDER BY crl_issuer_dn"
+            + " LIMIT ?";
+
+    private static final String COUNT_CERTIFICATES_SQL =
+        "SELECT COUNT(*) FROM parsed_certificate WHERE parsed_file_id = ? AND cert_type IN (%s)";
+
+    private final CertificateBlobStore blobStore;
+    private final ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${app.parsing.content.batch-size:500}")
+    private int batchSize;
+
+    /**
+     * 인증서/CRL/오류 추가 (호출자 트랜잭션)
+     *
+     * <p>{@code parsed_file} 행의 FK를 위해 먼저 영속성 컨텍스트를 flush합니다.</p>
+     */
+    @Transactional
+    public void append(UUID parsedFileId, List<CertificateData> certificates, List<CrlData> crls, List<ParsingError> errors) {
+        if (certificates.isEmpty() && crls.isEmpty() && errors.isEmpty()) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        entityManager.flush();
+
+        Map<String, byte[]> blobs = new LinkedHashMap<>();
+        for (CertificateData certificate : certificates) {
+            if (certificate.getFingerprintSha256() != null) {
+                blobs.putIfAbsent(certificate.getFingerprintSha256(), certificate.getCertificateBinary());
+            }
+        }
+        blobStore.storeAll(blobs);
+
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            insertCertificates(connection, parsedFileId, certificates);
+            insertCrls(connection, parsedFileId, crls);
+            insertErrors(connection, parsedFileId, errors);
+        });
+        log.debug("Appended parsed content in {}ms: parsedFileId={}, certificates={}, crls={}, errors={}",
+            System.currentTimeMillis() - start, parsedFileId, certificates.size(), crls.size(), errors.size());
+    }
+
+    /**
+     * fingerprint가 {@code afterFingerprint}보다 큰 인증서 한 페이지
+     */
+    @Transactional(readOnly = true)
+    public List<CertificateData> findCertificatesAfter(
+        UUID parsedFileId, Set<String> certificateTypes, String afterFingerprint, int limit
+    ) {
+        if (certificateTypes.isEmpty()) {
+            return List.of();
+        }
+        String sql = String.format(SELECT_CERTIFICATES_SQL, placeholders(certificateTypes.size()));
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                int index = 1;
+                statement.setObject(index++, parsedFileId);
+                statement.setString(index++, afterFingerprint);
+                for (String type : certificateTypes) {
+                    statement.setString(index++, type);
+                }
+                statement.setInt(index, limit);
+
+                List<CertificateData> page = new ArrayList<>(limit);
+                try (ResultSet rs = statement.executeQuery()) {
+                    while (rs.next()) {
+                        page.add(CertificateData.of(
+                            rs.getString(1),
+                            rs.getString(2),
+                            rs.getString(3),
+                            rs.getString(4),
+                            rs.getString(5),
+                            rs.getObject(6, LocalDateTime.class),
+                            rs.getObject(7, LocalDateTime.class),
+                            rs.getBytes(8),
+                            rs.getString(9),
+                            rs.getBoolean(10),
+                            readAttributes(rs.getString(11))
+                        ));
+                    }
+                }
+                return page;
+            }
+        });
+    }
+
+    /**
+     * Issuer DN이 {@code afterIssuerDn}보다 큰 CRL 한 페이지
+     */
+    @Transactional(readOnly = true)
+    public List<CrlData> findCrlsAfter(UUID parsedFileId, String afterIssuerDn, int limit) {
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(SELECT_CRLS_SQL)) {
+                statement.setObject(1, parsedFileId);
+                statement.setString(2, afterIssuerDn);
+                statement.setInt(3, limit);
+
+                List<CrlData> page = new ArrayList<>(limit);
+                try (ResultSet rs = statement.executeQuery()) {
+                    while (rs.next()) {
+                        page.add(CrlData.of(
+                            rs.getString(1),
+                            rs.getString(2),
+                            rs.getString(3),
+                            rs.getObject(4, LocalDateTime.class),
+                            rs.getObject(5, LocalDateTime.class),
+                            rs.getBytes(6),
+                            rs.getInt(7),
+                            rs.getBoolean(8)
+                        ));
+                    }
+                }
+                return page;
+            }
+        });
+    }
+
+    @Transactional(readOnly = true)
+    public long countCertificates(UUID parsedFileId, Set<String> certificateTypes) {
+        if (certificateTypes.isEmpty()) {
+            return 0;
+        }
+        String sql = String.format(COUNT_CERTIFICATES_SQL, placeholders(certificateTypes.size()));
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                int index = 1;
+                statement.setObject(index++, parsedFileId);
+                for (String type : certificateTypes) {
+                    statement.setString(index++, type);
+                }
+                try (ResultSet rs = statement.executeQuery()) {
+                    return rs.next() ? rs.getLong(1) : 0L;
+                }
+            }
+        });
+    }
+
+    private void insertCertificates(Connection connection, UUID parsedFileId, List<CertificateData> certificates)
+            throws SQLException {
+        if (certificates.isEmpty()) {
+            return;
+        }
+        boolean postgres = connection.isWrapperFor(PGConnection.class);
+        String sql = String.format(INSERT_CERTIFICATE_SQL, postgres ? "CAST(? AS jsonb)" : "? FORMAT JSON");
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            int pending = 0;
+            for (CertificateData certificate : certificates) {
+                statement.setObject(1, parsedFileId);
+                statement.setString(2, certificate.getCertificateType());
+                statement.setString(3, certificate.getCountryCode());
+                statement.setString(4, certificate.getSubjectDN());
+                statement.setString(5, certificate.getIssuerDN());
+                statement.setString(6, certificate.getSerialNumber());
+                statement.setObject(7, certificate.getNotBefore());
+                statement.setObject(8, certificate.getNotAfter());
+                statement.setString(9, certificate.getFingerprintSha256());
+                statement.setBoolean(10, certificate.isValid());
+                statement.setString(11, writeAttributes(certificate.getAllAttributes()));
+                statement.addBatch();
+                pending = executeIfFull(statement, pending + 1);
+            }
+            if (pending > 0) {
+                statement.executeBatch();
+            }
+        }
+    }
+
+    private void insertCrls(Connection connection, UUID parsedFileId, List<CrlData> crls) throws SQLException {
+        if (crls.isEmpty()) {
+            return;
+        }
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_CRL_SQL)) {
+            int pending = 0;
+            for (CrlData crl : crls) {
+                statement.setObject(1, parsedFileId);
+                statement.setString(2, crl.getCountryCode());
+                statement.setString(3, crl.getIssuerDN());
+                statement.setString(4, crl.getCrlNumber());
+                statement.setObject(5, crl.getThisUpdate());
+                statement.setObject(6, crl.getNextUpdate());
+                statement.setBytes(7, crl.getCrlBinary());
+                statement.setInt(8, crl.getRevokedCertificatesCount());
+                statement.setBoolean(9, crl.isValid());
+                statement.addBatch();
+                pending = executeIfFull(statement, pending + 1);
+            }
+            if (pending > 0) {
+                statement.executeBatch();
+            }
+        }
+    }
+
+    private void insertErrors(Connection connection, UUID parsedFileId, List<ParsingError> errors) throws SQLException {
+        if (errors.isEmpty()) {
+            return;
+        }
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_ERROR_SQL)) {
+            int pending = 0;
+            for (ParsingError error : errors) {
+                statement.setObject(1, parsedFileId);
+                statement.setString(2, error.getErrorType());
+                statement.setString(3, error.getErrorLocation());
+                statement.setString(4, error.getErrorMessage());
+                statement.setObject(5, error.getOccurredAt());
+                statement.addBatch();
+                pending = executeIfFull(statement, pending + 1);
+            }
+            if (pending > 0) {
+                statement.executeBatch();
+            }
+        }
+    }
+
+    private int executeIfFull(PreparedStatement statement, int pending) throws SQLException {
+        if (pending >= batchSize) {
+            statement.executeBatch();
+            return 0;
+        }
+        return pending;
+    }
+
+    private String writeAttributes(Map<String, List<String>> attributes) {
+        if (attributes == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(attributes);
+        } catch (JsonProcessingException e) {
+            throw new InfrastructureException("PARSED_CONTENT_SERIALIZATION_ERROR",
+                "Failed to serialize all_attributes: " + e.getOriginalMessage(), e);
+        }
+    }
+
+    private Map<String, List<String>> readAttributes(String json) {
+        if (json == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(json, ATTRIBUTES_TYPE);
+        } catch (JsonProcessingException e) {
+            throw new InfrastructureException("PARSED_CONTENT_SERIALIZATION_ERROR",
+                "Failed to read all_attributes: " + e.getOriginalMessage(), e);
+        }
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+}
@@ -17,11 +17,11 @@ public class ParsedCertificateQueryRepositoryImpl implements ParsedCertificateQu
 
     @Override
     public boolean existsByFingerprintSha256(String fingerprintSha256) {
-        Long count = entityManager.createQuery(
-                        "SELECT COUNT(c) FROM ParsedFile pf JOIN pf.certificates c WHERE c.fingerprintSha256 = :fingerprintSha256", Long.class)
+        List<?> rows = entityManager.createNativeQuery(
+                        "SELECT 1 FROM parsed_certificate WHERE fingerprint_sha256 = :fingerprintSha256 LIMIT 1")
                 .setParameter("fingerprintSha256", fingerprintSha256)
-                .getSingleResult();
-        return count > 0;
+                .getResultList();
+        return !rows.isEmpty();
     }
 
     @Override
@@ -30,27 +30,30 @@ public class ParsedCertificateQueryRepositoryImpl implements ParsedCertificateQu
             return List.of();
         }
 
-        return entityManager.createQuery(
-                        "SELECT DISTINCT c.fingerprintSha256 FROM ParsedFile pf JOIN pf.certificates c WHERE c.fingerprintSha256 IN :fingerprints",
-                        String.class)
+        @SuppressWarnings("unchecked")
+        List<String> existing = entityManager.createNativeQuery(
+                        "SELECT DISTINCT fingerprint_sha256 FROM parsed_certificate WHERE fingerprint_sha256 IN (:fingerprints)")
                 .setParameter("fingerprints", fingerprints)
                 .getResultList();
+        return existing;
     }
 
     @Override
     public long countByUploadId(UUID uploadId) {
-        return entityManager.createQuery(
-                        "SELECT COUNT(c) FROM ParsedFile pf JOIN pf.certificates c WHERE pf.uploadId.id = :uploadId", Long.class)
+        return ((Number) entityManager.createNativeQuery(
+                        "SELECT COUNT(*) FROM parsed_certificate c JOIN parsed_file pf ON pf.id = c.parsed_file_id"
+                                + " WHERE pf.upload_id = :uploadId")
                 .setParameter("uploadId", uploadId)
-                .getSingleResult();
+                .getSingleResult()).longValue();
     }
 
     @Override
     public long countByUploadIdAndCertType(UUID uploadId, String certType) {
-        return entityManager.createQuery(
-                        "SELECT COUNT(c) FROM ParsedFile pf JOIN pf.certificates c WHERE pf.uploadId.id = :uploadId AND c.certificateType = :certType", Long.class)
+        return ((Number) entityManager.createNativeQuery(
+                        "SELECT COUNT(*) FROM parsed_certificate c JOIN parsed_file pf ON pf.id = c.parsed_file_id"
+                                + " WHERE pf.upload_id = :uploadId AND c.cert_type = :certType")
                 .setParameter("uploadId", uploadId)
                 .setParameter("certType", certType)
-                .getSingleResult();
+                .getSingleResult()).longValue();
     }
 }
@@ -1,5 +1,6 @@
 package com.smartcoreinc.localpkd.fileupload.application.command;
 
+import com.smartcoreinc.localpkd.fileupload.domain.model.FilePath;
 import com.smartcoreinc.localpkd.fileupload.domain.model.ProcessingMode;
 import com.smartcoreinc.localpkd.fileupload.domain.model.UploadId;
 import lombok.Builder;
@@ -8,9 +9,10 @@ import lombok.Builder;
 public record UploadLdifFileCommand(
         UploadId uploadId,
         String fileName,
-        byte[] fileContent,
+        FilePath filePath,
         Long fileSize,
         String fileHash,
+        String checksum,
         boolean forceUpload,
         ProcessingMode processingMode
 ) {
@@ -18,8 +20,8 @@ public record UploadLdifFileCommand(
         if (fileName == null || fileName.isBlank()) {
             throw new IllegalArgumentException("fileName must not be blank");
         }
-        if (fileContent == null || fileContent.length == 0) {
-            throw new IllegalArgumentException("fileContent must not be empty");
+        if (filePath == null) {
+            throw new IllegalArgumentException("filePath must not be null");
         }
         if (fileSize == null || fileSize <= 0) {
             throw new IllegalArgumentException("fileSize must be positive");
@@ -15,6 +15,8 @@ import com.smartcoreinc.localpkd.fileupload.domain.event.FileUploadedEvent;
 import com.smartcoreinc.localpkd.fileupload.domain.model.UploadedFile;
 import com.smartcoreinc.localpkd.fileupload.domain.port.FileStoragePort;
 import com.smartcoreinc.localpkd.fileupload.domain.repository.UploadedFileRepository;
+import com.smartcoreinc.localpkd.ldapintegration.application.response.ApplyLdifDeltaResponse;
+import com.smartcoreinc.localpkd.ldapintegration.application.usecase.ApplyLdifDeltaUseCase;
 import com.smartcoreinc.localpkd.shared.exception.DomainException;
 import com.smartcoreinc.localpkd.shared.progress.ProcessingProgress;
 import com.smartcoreinc.localpkd.shared.progress.ProcessingStage;
@@ -43,6 +45,7 @@ public class FileUploadEventHandler {
     private final ProgressService progressService;
     private final ParsedFileRepository parsedFileRepository;
     private final com.smartcoreinc.localpkd.ldapintegration.application.usecase.UploadToLdapUseCase uploadToLdapUseCase;
+    private final ApplyLdifDeltaUseCase applyLdifDeltaUseCase;
 
     @EventListener
     public void handleFileUploaded(FileUploadedEvent event) {
@@ -89,6 +92,16 @@ public class FileUploadEventHandler {
                throw new RuntimeException("Validation failed: " + validationResponse.errorMessage());
             }
 
+            // 2-1. Delta LDIF: delete/modify 레코드 적용 (add는 위 파싱/검증 단계에서 처리됨)
+            if (uploadedFile.getFileFormat() != null && uploadedFile.getFileFormat().isDelta()) {
+                ApplyLdifDeltaResponse deltaResponse = applyLdifDeltaUseCase.execute(
+                    uploadedFile.getId().getId(), uploadedFile.getFilePath().toPath());
+                if (!deltaResponse.isSuccess()) {
+                    log.warn("Delta LDIF applied with {} errors for uploadId={}",
+                        deltaResponse.errorCount(), uploadedFile.getId().getId());
+                }
+            }
+
             // 3. Update status to COMPLETED
             // Note: LDAP upload is processed asynchronously via LdapBatchUploadEvent
             // AsyncLdapUploadHandler will send LDAP_SAVING_COMPLETED when all batches are done
@@ -113,11 +126,11 @@ public class FileUploadEventHandler {
 
         progressService.sendProgress(ProcessingProgress.parsingStarted(uploadedFile.getId().getId(), uploadedFile.getFileName().getValue()));
 
-        byte[] fileBytes = fileStoragePort.readFile(uploadedFile.getFilePath());
         String fileFormatType = uploadedFile.getFileFormatType();
 
         ParseFileResponse response;
         if (fileFormatType.equals("ML_SIGNED_CMS") || fileFormatType.equals("ML_UNSIGNED")) {
+            byte[] fileBytes = fileStoragePort.readFile(uploadedFile.getFilePath());
             ParseMasterListFileCommand command = ParseMasterListFileCommand.builder()
                 .uploadId(uploadedFile.getId().getId())
                 .fileBytes(fileBytes)
@@ -125,9 +138,10 @@ public class FileUploadEventHandler {
                 .build();
             response = parseMasterListFileUseCase.execute(command);
         } else {
+            // LDIF: 저장 경로에서 스트리밍 파싱 (파일 전체를 메모리에 올리지 않음)
             ParseLdifFileCommand command = ParseLdifFileCommand.builder()
                 .uploadId(uploadedFile.getId().getId())
-                .fileBytes(fileBytes)
+                .filePath(uploadedFile.getFilePath().toPath())
                 .fileFormat(fileFormatType)
                 .build();
             response = parseLdifFileUseCase.execute(command);
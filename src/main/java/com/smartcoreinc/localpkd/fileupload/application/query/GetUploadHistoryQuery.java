@@ -16,6 +16,7 @@ import lombok.Builder;
  *   <li>페이지 크기 (기본 20)</li>
  *   <li>정렬 기준 (sortBy)</li>
  *   <li>정렬 방향 (sortDirection)</li>
+ *   <li>커서 (cursor, keyset 조회 시 page 대신 사용)</li>
  * </ul>
  *
  * <h3>사용 예시</h3>
@@ -42,6 +43,14 @@ import lombok.Builder;
  *     .build();
  *
  * Page<UploadHistoryResponse> response = getUploadHistoryUseCase.execute(query);
+ *
+ * // Keyset 조회 (다음 페이지)
+ * GetUploadHistoryQuery query4 = GetUploadHistoryQuery.builder()
+ *     .cursor(previous.nextCursor())
+ *     .size(20)
+ *     .build();
+ *
+ * UploadHistorySlice slice = getUploadHistoryUseCase.executeKeyset(query4);
  * }</pre>
  *
  * @author SmartCore Inc.
@@ -56,13 +65,14 @@ public record GetUploadHistoryQuery(
         int page,
         int size,
         String sortBy,          // optional (e.g., uploadedAt, fileName)
-        String sortDirection    // optional (asc, desc)
+        String sortDirection,   // optional (asc, desc)
+        String cursor           // optional (keyset 조회 시 이전 페이지의 nextCursor)
 ) {
     /**
      * 기본 생성자 (page=0, size=20)
      */
     public GetUploadHistoryQuery() {
-        this(null, null, null, 0, 20, "uploadedAt", "desc");
+        this(null, null, null, 0, 20, "uploadedAt", "desc", null);
     }
 
     /**
@@ -0,0 +1,22 @@
+package com.smartcoreinc.localpkd.fileupload.application.response;
+
+import java.util.List;
+
+/**
+ * 업로드 이력 Keyset 페이지 Response
+ *
+ * <p>{@code nextCursor}를 다음 요청의 cursor로 전달하면 이어지는 페이지를 조회합니다.
+ * 페이지 위치와 무관하게 조회 비용이 일정합니다.</p>
+ *
+ * @param content 업로드 이력 (최근 업로드 순)
+ * @param nextCursor 다음 페이지 커서 (마지막 페이지면 null)
+ * @param hasNext 다음 페이지 존재 여부
+ * @param totalElements 전체 건수 (캐시된 값, 최대 TTL만큼 지연될 수 있음)
+ */
+public record UploadHistorySlice(
+        List<UploadHistoryResponse> content,
+        String nextCursor,
+        boolean hasNext,
+        long totalElements
+) {
+}
@@ -7,18 +7,22 @@ import com.smartcoreinc.localpkd.fileupload.application.response.CheckDuplicateR
 import com.smartcoreinc.localpkd.fileupload.application.usecase.CheckDuplicateFileUseCase;
 import com.smartcoreinc.localpkd.fileupload.application.usecase.UploadLdifFileUseCase;
 import com.smartcoreinc.localpkd.fileupload.application.usecase.UploadMasterListFileUseCase;
+import com.smartcoreinc.localpkd.fileupload.domain.model.FileFormat;
+import com.smartcoreinc.localpkd.fileupload.domain.model.FileName;
 import com.smartcoreinc.localpkd.fileupload.domain.model.ProcessingMode;
+import com.smartcoreinc.localpkd.fileupload.domain.model.StoredFile;
 import com.smartcoreinc.localpkd.fileupload.domain.model.UploadId;
+import com.smartcoreinc.localpkd.fileupload.domain.port.FileStoragePort;
 import com.smartcoreinc.localpkd.fileupload.infrastructure.exception.FileUploadException;
 import com.smartcoreinc.localpkd.shared.progress.ProcessingProgress;
 import com.smartcoreinc.localpkd.shared.progress.ProcessingStage;
 import com.smartcoreinc.localpkd.shared.progress.ProgressService;
-import com.smartcoreinc.localpkd.shared.util.HashingUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
+import java.io.InputStream;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -31,23 +35,26 @@ public class AsyncUploadProcessor {
     private final UploadMasterListFileUseCase uploadMasterListFileUseCase;
     private final CheckDuplicateFileUseCase checkDuplicateFileUseCase;
     private final ProgressService progressService;
+    private final FileStoragePort fileStoragePort;
 
     @Async("taskExecutor")
-    public void processLdif(UploadId uploadId, String fileName, byte[] fileContent, long fileSize, boolean forceUpload, ProcessingMode processingMode) {
+    public void processLdif(UploadId uploadId, String fileName, StoredFile storedFile, boolean forceUpload, ProcessingMode processingMode) {
         log.info("Starting async processing for LDIF uploadId: {}", uploadId.getId());
         try {
-            String fileHash = HashingUtil.calculateSha256(fileContent);
+            String fileHash = storedFile.fileHash().getValue();
+            long fileSize = storedFile.fileSize().getBytes();
 
             if (!forceUpload) {
-                handleDuplicateCheck(uploadId, fileName, fileSize, fileHash);
+                handleDuplicateCheck(uploadId, fileName, fileSize, fileHash, storedFile);
             }
 
             UploadLdifFileCommand command = UploadLdifFileCommand.builder()
                     .uploadId(uploadId)
                     .fileName(fileName)
-                    .fileContent(fileContent)
+                    .filePath(storedFile.filePath())
                     .fileSize(fileSize)
                     .fileHash(fileHash)
+                    .checksum(storedFile.checksum().getValue())
                     .forceUpload(forceUpload)
                     .processingMode(processingMode)
                     .build();
@@ -62,21 +69,23 @@ public class AsyncUploadProcessor {
     }
 
     @Async("taskExecutor")
-    public void processMasterList(UploadId uploadId, String fileName, byte[] fileContent, long fileSize, boolean forceUpload, ProcessingMode processingMode) {
+    public void processMasterList(UploadId uploadId, String fileName, StoredFile storedFile, boolean forceUpload, ProcessingMode processingMode) {
         log.info("Starting async processing for MasterList uploadId: {}", uploadId.getId());
         try {
-            String fileHash = HashingUtil.calculateSha256(fileContent);
+            String fileHash = storedFile.fileHash().getValue();
+            long fileSize = storedFile.fileSize().getBytes();
 
             if (!forceUpload) {
-                handleDuplicateCheck(uploadId, fileName, fileSize, fileHash);
+                handleDuplicateCheck(uploadId, fileName, fileSize, fileHash, storedFile);
             }
 
             UploadMasterListFileCommand command = UploadMasterListFileCommand.builder()
                     .uploadId(uploadId)
                     .fileName(fileName)
-                    .fileContent(fileContent)
+                    .filePath(storedFile.filePath())
                     .fileSize(fileSize)
                     .fileHash(fileHash)
+                    .checksum(storedFile.checksum().getValue())
                     .forceUpload(forceUpload)
                     .processingMode(processingMode)
                     .build();
@@ -90,7 +99,31 @@ public class AsyncUploadProcessor {
         }
     }
 
-    private void handleDuplicateCheck(UploadId uploadId, String fileName, long fileSize, String fileHash) {
+    /**
+     * 업로드 파일 저장 (요청 스레드에서 호출)
+     *
+     * <p>요청 본문을 업로드 디렉토리로 스트리밍 복사하면서 SHA-256/SHA-1을 같은 패스로 계산합니다.
+     * 파일 내용은 메모리에 올리지 않으며, 이후 비동기 처리에는 {@link StoredFile}만 전달됩니다.</p>
+     *
+     * @param fileName 원본 파일명
+     * @param content 요청 본문 스트림
+     * @return 저장된 파일 경로와 해시
+     */
+    public StoredFile storeUpload(String fileName, InputStream content) {
+        FileName name = FileName.of(fileName);
+        return fileStoragePort.saveFile(content, FileFormat.detectFromFileName(name), name);
+    }
+
+    /**
+     * 처리되지 않을 업로드 파일 삭제
+     *
+     * @param storedFile {@link #storeUpload}로 저장된 파일
+     */
+    public void discard(StoredFile storedFile) {
+        fileStoragePort.deleteFile(storedFile.filePath());
+    }
+
+    private void handleDuplicateCheck(UploadId uploadId, String fileName, long fileSize, String fileHash, StoredFile storedFile) {
         CheckDuplicateFileCommand checkCommand = new CheckDuplicateFileCommand(fileName, fileSize, fileHash);
         CheckDuplicateResponse duplicateResponse = checkDuplicateFileUseCase.execute(checkCommand);
 
@@ -100,6 +133,8 @@ public class AsyncUploadProcessor {
             details.put("existingFileName", duplicateResponse.existingFileName());
             details.put("existingUploadDate", duplicateResponse.existingUploadDate());
             details.put("existingStatus", duplicateResponse.existingStatus());
+
+            discard(storedFile);
             
             throw new FileUploadException.DuplicateFileException(duplicateResponse.message(), details);
         }
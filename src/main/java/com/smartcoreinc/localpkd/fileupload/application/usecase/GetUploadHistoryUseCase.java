@@ -2,18 +2,34 @@ package com.smartcoreinc.localpkd.fileupload.application.usecase;
 
 import com.smartcoreinc.localpkd.fileupload.application.query.GetUploadHistoryQuery;
 import com.smartcoreinc.localpkd.fileupload.application.response.UploadHistoryResponse;
+import com.smartcoreinc.localpkd.fileupload.application.response.UploadHistorySlice;
+import com.smartcoreinc.localpkd.fileupload.domain.event.FileUploadedEvent;
 import com.smartcoreinc.localpkd.fileupload.domain.model.UploadedFile;
+import com.smartcoreinc.localpkd.fileupload.infrastructure.exception.FileUploadException;
 import com.smartcoreinc.localpkd.fileupload.infrastructure.repository.SpringDataUploadedFileRepository;
 import com.smartcoreinc.localpkd.fileupload.infrastructure.repository.UploadedFileSpecification;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 업로드 이력 조회 Use Case (CQRS Query)
@@ -26,11 +42,20 @@ import org.springframework.transaction.annotation.Transactional;
  *   <li>키워드 검색: 파일명, 버전, Collection 번호</li>
  *   <li>상태 필터: UploadStatus (RECEIVED, COMPLETED, etc.)</li>
  *   <li>포맷 필터: FileFormat Type (CSCA_COMPLETE_LDIF, etc.)</li>
- *   <li>Pagination 지원</li>
+ *   <li>Pagination 지원 (offset / keyset)</li>
+ * </ul>
+ *
+ * <h3>페이지 조회 비용</h3>
+ * <ul>
+ *   <li>내용 조회는 COUNT 없이 {@code uploaded_at DESC, id DESC} 순으로 필요한 행만 읽습니다.</li>
+ *   <li>{@link #executeKeyset}은 이전 페이지 마지막 행 위치부터 조회하므로 페이지 깊이와 무관하게 일정한 비용입니다.</li>
+ *   <li>전체 건수는 검색 조건별로 {@code app.upload-history.count-cache-ttl-seconds} 동안 캐시되며,
+ *       새 파일이 업로드되면 즉시 무효화됩니다. 키워드 검색은 조건 조합이 무한하므로 캐시하지 않으며,
+ *       캐시 항목 수는 {@code app.upload-history.count-cache-max-entries}로 제한됩니다.</li>
  * </ul>
  *
  * @author SmartCore Inc.
- * @version 1.1
+ * @version 1.2
  * @since 2025-10-19
  */
 @Slf4j
@@ -44,6 +69,24 @@ public class GetUploadHistoryUseCase {
     private final com.smartcoreinc.localpkd.fileparsing.infrastructure.repository.SpringDataMasterListRepository masterListRepository;
     private final com.smartcoreinc.localpkd.certificatevalidation.infrastructure.repository.SpringDataCertificateRepository certificateRepository;
 
+    /**
+     * 전체 건수 캐시 유지 시간 (초, 0이면 캐시하지 않음)
+     */
+    @Value("${app.upload-history.count-cache-ttl-seconds:60}")
+    private long countCacheTtlSeconds;
+
+    /**
+     * 전체 건수 캐시 최대 항목 수
+     */
+    @Value("${app.upload-history.count-cache-max-entries:100}")
+    private int countCacheMaxEntries;
+
+    /**
+     * Key: "{status}|{fileFormat}" (키워드 검색은 캐시하지 않음)
+     * Value: CachedCount
+     */
+    private final Map<String, CachedCount> countCache = new ConcurrentHashMap<>();
+
     @Transactional(readOnly = true)
     public Page<UploadHistoryResponse> execute(GetUploadHistoryQuery query) {
         log.debug("=== Get upload history started ===");
@@ -62,19 +105,17 @@ public class GetUploadHistoryUseCase {
             );
 
             // Specification 생성 (동적 검색 조건)
-            Specification<UploadedFile> spec = UploadedFileSpecification.builder(
-                query.searchKeyword(),
-                query.status(),
-                query.fileFormat()
-            );
+            Specification<UploadedFile> spec = specificationOf(query);
 
-            // Repository 검색 실행
-            Page<UploadedFile> uploadedFiles = repository.findAll(spec, pageable);
+            // Repository 검색 실행 (내용 조회에는 COUNT 없음, 전체 건수는 캐시)
+            List<UploadedFile> uploadedFiles = repository.findHistory(
+                spec, null, null, pageable.getOffset(), pageable.getPageSize());
+            long total = countOf(query, spec);
 
-            log.debug("Found {} files", uploadedFiles.getTotalElements());
+            log.debug("Found {} files", total);
 
             // UploadedFile을 UploadHistoryResponse로 변환
-            return uploadedFiles.map(this::toResponse);
+            return new PageImpl<>(uploadedFiles.stream().map(this::toResponse).toList(), pageable, total);
 
         } catch (Exception e) {
             log.error("Error during get upload history", e);
@@ -82,6 +123,125 @@ public class GetUploadHistoryUseCase {
         }
     }
 
+    /**
+     * 업로드 이력 Keyset 조회
+     *
+     * <p>{@code query.cursor()}가 없으면 첫 페이지를, 있으면 해당 커서 다음 페이지를 조회합니다.
+     * {@code query.page()}는 무시됩니다.</p>
+     *
+     * @param query 조회 조건 (cursor, size)
+     * @return 업로드 이력 페이지와 다음 커서
+     * @throws FileUploadException 커서를 해석할 수 없는 경우 (INVALID_CURSOR, 400)
+     */
+    @Transactional(readOnly = true)
+    public UploadHistorySlice executeKeyset(GetUploadHistoryQuery query) {
+        log.debug("=== Get upload history (keyset) started ===");
+        log.debug("Cursor: {}, Size: {}", query.cursor(), query.size());
+
+        try {
+            query.validate();
+
+            LocalDateTime afterUploadedAt = null;
+            UUID afterId = null;
+            if (query.cursor() != null && !query.cursor().isBlank()) {
+                String[] position = decodeCursor(query.cursor());
+                afterUploadedAt = LocalDateTime.parse(position[0]);
+                afterId = UUID.fromString(position[1]);
+            }
+
+            Specification<UploadedFile> spec = specificationOf(query);
+
+            // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+            List<UploadedFile> uploadedFiles = repository.findHistory(
+                spec, afterUploadedAt, afterId, 0, query.size() + 1);
+
+            boolean hasNext = uploadedFiles.size() > query.size();
+            List<UploadedFile> content = hasNext ? uploadedFiles.subList(0, query.size()) : uploadedFiles;
+            String nextCursor = hasNext ? encodeCursor(content.get(content.size() - 1)) : null;
+
+            return new UploadHistorySlice(
+                content.stream().map(this::toResponse).toList(),
+                nextCursor,
+                hasNext,
+                countOf(query, spec)
+            );
+
+        } catch (FileUploadException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Error during get upload history (keyset)", e);
+            return new UploadHistorySlice(List.of(), null, false, 0);
+        }
+    }
+
+    /**
+     * 새 파일 업로드 시 전체 건수 캐시 무효화
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onFileUploaded(FileUploadedEvent event) {
+        countCache.clear();
+    }
+
+    private Specification<UploadedFile> specificationOf(GetUploadHistoryQuery query) {
+        return UploadedFileSpecification.builder(
+            query.searchKeyword(),
+            query.status(),
+            query.fileFormat()
+        );
+    }
+
+    /**
+     * 검색 조건별 전체 건수 (TTL 캐시, 키워드 검색 제외)
+     */
+    private long countOf(GetUploadHistoryQuery query, Specification<UploadedFile> spec) {
+        if (countCacheTtlSeconds <= 0 || countCacheMaxEntries <= 0
+                || (query.searchKeyword() != null && !query.searchKeyword().isBlank())) {
+            return repository.count(spec);
+        }
+        String key = query.status() + "|" + query.fileFormat();
+        Instant now = Instant.now();
+        CachedCount cached = countCache.get(key);
+        if (cached != null && now.isBefore(cached.expiresAt())) {
+            return cached.count();
+        }
+        long count = repository.count(spec);
+        if (cached == null && countCache.size() >= countCacheMaxEntries) {
+            // 만료 항목을 먼저 정리하고, 그래도 가득 차 있으면 전체 비움
+            countCache.values().removeIf(entry -> !now.isBefore(entry.expiresAt()));
+            if (countCache.size() >= countCacheMaxEntries) {
+                countCache.clear();
+            }
+        }
+        countCache.put(key, new CachedCount(count, now.plusSeconds(countCacheTtlSeconds)));
+        return count;
+    }
+
+    private static String encodeCursor(UploadedFile last) {
+        String position = last.getUploadedAt() + "|" + last.getId().getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String[] decodeCursor(String cursor) {
+        try {
+            String position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = position.split("\\|", 2);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("malformed position");
+            }
+            LocalDateTime.parse(parts[0]);
+            UUID.fromString(parts[1]);
+            return parts;
+        } catch (RuntimeException e) {
+            throw new FileUploadException(
+                "INVALID_CURSOR",
+                String.format("Invalid upload history cursor: %s", cursor)
+            );
+        }
+    }
+
+    private record CachedCount(long count, Instant expiresAt) {
+    }
+
     /**
      * UploadedFile을 UploadHistoryResponse로 변환
      */
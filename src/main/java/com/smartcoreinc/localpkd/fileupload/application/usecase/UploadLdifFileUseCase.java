@@ -51,8 +51,9 @@ public class UploadLdifFileUseCase {
                 throw new DomainException("INVALID_FILE_FORMAT", "파일이 LDIF 형식이 아닙니다: " + fileFormat.getType());
             }
             
-            FilePath savedPath = fileStoragePort.saveFile(command.fileContent(), fileFormat, fileName);
-            log.info("File saved to: {} for uploadId: {}", savedPath.getValue(), uploadId.getId());
+            // 파일은 요청 수신 시 해시 계산과 함께 이미 저장됨 (FileStoragePort#saveFile(InputStream, ...))
+            FilePath savedPath = command.filePath();
+            log.info("File stored at: {} for uploadId: {}", savedPath.getValue(), uploadId.getId());
 
             CollectionNumber collectionNumber = CollectionNumber.extractFromFileName(fileName);
             FileVersion version = FileVersion.extractFromFileName(fileName, fileFormat);
@@ -64,6 +65,9 @@ public class UploadLdifFileUseCase {
 
             // Checksum logic is removed as it's now handled by the backend if needed,
             // or the feature is removed as per user request.
+            if (command.checksum() != null) {
+                uploadedFile.recordCalculatedChecksum(Checksum.of(command.checksum()));
+            }
 
             if (command.forceUpload()) {
                 Optional<UploadedFile> existingFile = repository.findByFileHash(fileHash);
@@ -86,16 +90,32 @@ public class UploadLdifFileUseCase {
 
         } catch (DomainException e) {
             log.error("Domain error during LDIF upload for uploadId {}: {}", uploadId.getId(), e.getMessage());
+            discardStoredFile(command.filePath());
             progressService.sendProgress(ProcessingProgress.failed(uploadId.getId(), ProcessingStage.UPLOAD_COMPLETED, e.getMessage()));
             return UploadFileResponse.failure(command.fileName(), e.getMessage());
 
         } catch (Exception e) {
             log.error("Unexpected error during LDIF upload for uploadId {}", uploadId.getId(), e);
+            discardStoredFile(command.filePath());
             progressService.sendProgress(ProcessingProgress.failed(uploadId.getId(), ProcessingStage.UPLOAD_COMPLETED, "서버 내부 오류가 발생했습니다."));
             return UploadFileResponse.failure(command.fileName(), "파일 업로드 중 오류가 발생했습니다: " + e.getMessage());
         }
     }
 
+    /**
+     * 등록되지 않은 업로드 파일 삭제 (중복, 포맷 오류 등)
+     */
+    private void discardStoredFile(FilePath filePath) {
+        if (filePath == null) {
+            return;
+        }
+        try {
+            fileStoragePort.deleteFile(filePath);
+        } catch (Exception e) {
+            log.warn("Failed to discard stored file {}: {}", filePath.getValue(), e.getMessage());
+        }
+    }
+
     private void checkDuplicate(FileHash fileHash, FileName fileName) {
         Optional<UploadedFile> existingFile = repository.findByFileHash(fileHash);
         if (existingFile.isPresent()) {
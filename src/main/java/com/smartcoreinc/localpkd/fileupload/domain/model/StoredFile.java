@@ -0,0 +1,21 @@
+package com.smartcoreinc.localpkd.fileupload.domain.model;
+
+/**
+ * StoredFile - 저장소에 기록된 업로드 파일 정보
+ *
+ * <p>{@link com.smartcoreinc.localpkd.fileupload.domain.port.FileStoragePort#saveFile(java.io.InputStream, FileFormat, FileName)}가
+ * 파일을 기록하면서 같은 패스로 계산한 크기와 해시를 함께 반환합니다.
+ * 이후 단계는 파일 내용 대신 이 정보만 전달받습니다.</p>
+ *
+ * @param filePath 저장된 파일 경로
+ * @param fileSize 기록된 바이트 수
+ * @param fileHash SHA-256 해시 (중복 검사용)
+ * @param checksum SHA-1 체크섬 (ICAO PKD 무결성 검증용)
+ */
+public record StoredFile(
+        FilePath filePath,
+        FileSize fileSize,
+        FileHash fileHash,
+        Checksum checksum
+) {
+}
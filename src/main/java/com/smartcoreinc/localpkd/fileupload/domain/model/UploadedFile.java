@@ -572,6 +572,17 @@ public class UploadedFile extends AggregateRoot<UploadId> {
         this.expectedChecksum = expectedChecksum;
     }
 
+    /**
+     * 계산된 체크섬 기록 (상태 변경 없음)
+     *
+     * <p>업로드 수신 시 파일 저장과 같은 패스로 계산한 SHA-1 체크섬을 기록합니다.</p>
+     *
+     * @param calculated 계산된 체크섬 (SHA-1)
+     */
+    public void recordCalculatedChecksum(Checksum calculated) {
+        this.calculatedChecksum = calculated;
+    }
+
     /**
      * 체크섬 검증
      *
@@ -2,6 +2,8 @@ package com.smartcoreinc.localpkd.fileupload.domain.port;
 
 import com.smartcoreinc.localpkd.fileupload.domain.model.*;
 
+import java.io.InputStream;
+
 /**
  * File Storage Port - 파일 저장소 인터페이스
  *
@@ -100,6 +102,21 @@ public interface FileStoragePort {
      */
     FilePath saveFile(byte[] content, FileFormat fileFormat, FileName fileName);
 
+    /**
+     * 스트림 파일 저장 (해시 동시 계산)
+     *
+     * <p>입력 스트림을 저장 경로로 복사하면서 SHA-256 해시와 SHA-1 체크섬을 같은 패스로 계산합니다.
+     * 파일 내용 전체를 메모리에 올리지 않으며, 이후 해시 계산을 위해 파일을 다시 읽을 필요가 없습니다.
+     * 복사가 끝나기 전에는 저장 경로에 파일이 나타나지 않습니다.</p>
+     *
+     * @param content 파일 내용 스트림 (호출자가 닫음)
+     * @param fileFormat 파일 포맷 (저장 경로 결정에 사용)
+     * @param fileName 원본 파일명
+     * @return 저장된 파일 경로, 크기, SHA-256 해시, SHA-1 체크섬
+     * @throws com.smartcoreinc.localpkd.shared.exception.InfrastructureException 파일 저장 실패 시
+     */
+    StoredFile saveFile(InputStream content, FileFormat fileFormat, FileName fileName);
+
     /**
      * SHA-1 체크섬 계산
      *
@@ -5,19 +5,26 @@ import com.smartcoreinc.localpkd.fileupload.domain.model.FileName;
 import com.smartcoreinc.localpkd.fileupload.domain.model.FileFormat;
 import com.smartcoreinc.localpkd.fileupload.domain.model.FilePath;
 import com.smartcoreinc.localpkd.fileupload.domain.model.Checksum;
+import com.smartcoreinc.localpkd.fileupload.domain.model.FileHash;
+import com.smartcoreinc.localpkd.fileupload.domain.model.FileSize;
+import com.smartcoreinc.localpkd.fileupload.domain.model.StoredFile;
 import com.smartcoreinc.localpkd.shared.exception.InfrastructureException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.HexFormat;
 
 /**
  * 로컬 파일 시스템 저장소 어댑터
@@ -75,6 +82,74 @@ public class LocalFileStorageAdapter implements FileStoragePort {
         }
     }
 
+    /**
+     * 스트림 파일 저장 (해시 동시 계산)
+     *
+     * 임시 파일(.part)로 복사하면서 SHA-256/SHA-1을 계산한 뒤 최종 경로로 이동합니다.
+     *
+     * @param content 파일 내용 스트림
+     * @param fileFormat 파일 포맷
+     * @param fileName 파일명
+     * @return 저장된 파일 경로, 크기, 해시, 체크섬
+     * @throws InfrastructureException 파일 저장 실패 시
+     */
+    @Override
+    public StoredFile saveFile(InputStream content, FileFormat fileFormat, FileName fileName) {
+        log.debug("Saving file stream: name={}, format={}", fileName.getValue(), fileFormat.getType());
+
+        Path partPath = null;
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            MessageDigest sha1 = MessageDigest.getInstance("SHA-1");
+
+            // 저장 디렉토리 생성
+            Path uploadPath = createUploadDirectory(fileFormat);
+
+            // 파일명 생성 (타임스탬프 포함하여 중복 방지)
+            String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
+            String newFileName = timestamp + "_" + fileName.getValue();
+            Path targetPath = uploadPath.resolve(newFileName);
+
+            // 임시 파일(.part)로 복사하면서 SHA-256/SHA-1 동시 계산
+            partPath = uploadPath.resolve(newFileName + ".part");
+            long size;
+            try (InputStream digesting = new DigestInputStream(new DigestInputStream(content, sha256), sha1)) {
+                size = Files.copy(digesting, partPath, StandardCopyOption.REPLACE_EXISTING);
+            }
+
+            // 크기/해시 검증 (빈 파일, 크기 초과 시 DomainException) 후 최종 경로로 이동
+            HexFormat hex = HexFormat.of();
+            FileSize fileSize = FileSize.ofBytes(size);
+            FileHash fileHash = FileHash.of(hex.formatHex(sha256.digest()));
+            Checksum checksum = Checksum.of(hex.formatHex(sha1.digest()));
+            Files.move(partPath, targetPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            String savedPath = targetPath.toString();
+            log.info("File saved successfully: path={}, size={} bytes, sha256={}",
+                     savedPath, size, fileHash.getShortHash());
+
+            return new StoredFile(FilePath.of(savedPath), fileSize, fileHash, checksum);
+
+        } catch (RuntimeException e) {
+            deletePartialFile(partPath);
+            throw e;
+
+        } catch (IOException e) {
+            deletePartialFile(partPath);
+            String errorMessage = String.format(
+                "Failed to save file: name=%s, format=%s",
+                fileName.getValue(), fileFormat.getType()
+            );
+            log.error(errorMessage, e);
+            throw new InfrastructureException("FILE_SAVE_FAILED", errorMessage, e);
+
+        } catch (NoSuchAlgorithmException e) {
+            String errorMessage = "SHA-256/SHA-1 algorithm not available";
+            log.error(errorMessage, e);
+            throw new InfrastructureException("ALGORITHM_NOT_FOUND", errorMessage, e);
+        }
+    }
+
     /**
      * 체크섬 계산 (SHA-1)
      *
@@ -286,4 +361,22 @@ public class LocalFileStorageAdapter implements FileStoragePort {
 
         return uploadPath;
     }
+
+    /**
+     * 임시 파일 삭제
+     *
+     * 저장 실패 시 남은 .part 파일을 정리합니다. 삭제 실패는 경고 로그만 남깁니다.
+     *
+     * @param partPath 임시 파일 경로 (null이면 무시)
+     */
+    private void deletePartialFile(Path partPath) {
+        if (partPath == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(partPath);
+        } catch (IOException e) {
+            log.warn("Failed to delete partial file: {}", partPath, e);
+        }
+    }
 }
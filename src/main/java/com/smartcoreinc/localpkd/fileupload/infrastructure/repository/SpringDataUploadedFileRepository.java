@@ -21,6 +21,7 @@ import java.util.Optional;
  * <ul>
  *   <li>Spring Data JPA의 기본 CRUD 메서드 제공</li>
  *   <li>커스텀 쿼리 메서드 정의</li>
+ *   <li>업로드 이력 조회 ({@link UploadedFileHistoryQueries}, COUNT 없는 offset/keyset 조회)</li>
  *   <li>{@link JpaUploadedFileRepository}에서 사용됨</li>
  * </ul>
  *
@@ -50,7 +51,8 @@ import java.util.Optional;
  * @see UploadedFile
  * @see JpaUploadedFileRepository
  */
-public interface SpringDataUploadedFileRepository extends JpaRepository<UploadedFile, UploadId>, JpaSpecificationExecutor<UploadedFile> {
+public interface SpringDataUploadedFileRepository extends JpaRepository<UploadedFile, UploadId>, JpaSpecificationExecutor<UploadedFile>,
+        UploadedFileHistoryQueries {
 
     /**
      * 파일 해시로 업로드된 파일 조회
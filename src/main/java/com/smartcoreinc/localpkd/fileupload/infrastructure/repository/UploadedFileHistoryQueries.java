@@ -0,0 +1,40 @@
+package com.smartcoreinc.localpkd.fileupload.infrastructure.repository;
+
+import com.smartcoreinc.localpkd.fileupload.domain.model.UploadedFile;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 업로드 이력 조회 Repository Fragment
+ *
+ * <p>{@link SpringDataUploadedFileRepository}에 합성되는 커스텀 쿼리입니다.
+ * 이력은 항상 {@code uploaded_at DESC, id DESC} 순으로 정렬되며, COUNT 쿼리 없이 내용만 조회합니다.</p>
+ *
+ * @see UploadedFileHistoryQueriesImpl
+ */
+public interface UploadedFileHistoryQueries {
+
+    /**
+     * 업로드 이력 조회 (COUNT 없음)
+     *
+     * <p>{@code afterUploadedAt}/{@code afterId}가 주어지면 해당 위치 다음 행부터 조회합니다 (keyset).
+     * 이 경우 {@code offset}은 0으로 지정합니다.</p>
+     *
+     * @param spec 검색 조건 (null이면 전체)
+     * @param afterUploadedAt 이전 페이지 마지막 행의 업로드 일시 (첫 페이지는 null)
+     * @param afterId 이전 페이지 마지막 행의 ID (첫 페이지는 null)
+     * @param offset 건너뛸 행 수 (offset 페이지 조회 시)
+     * @param limit 최대 조회 건수
+     * @return 업로드 파일 목록
+     */
+    List<UploadedFile> findHistory(
+        Specification<UploadedFile> spec,
+        LocalDateTime afterUploadedAt,
+        UUID afterId,
+        long offset,
+        int limit
+    );
+}
@@ -0,0 +1,66 @@
+package com.smartcoreinc.localpkd.fileupload.infrastructure.repository;
+
+import com.smartcoreinc.localpkd.fileupload.domain.model.UploadedFile;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * {@link UploadedFileHistoryQueries}의 Criteria API 구현
+ *
+ * <p>Keyset 조건은 {@code (uploaded_at, id)} 위치 비교로, 복합 인덱스
+ * {@code idx_uploaded_file_uploaded_at_id}를 따라 이전 페이지 이후의 행만 읽습니다.</p>
+ */
+@RequiredArgsConstructor
+public class UploadedFileHistoryQueriesImpl implements UploadedFileHistoryQueries {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<UploadedFile> findHistory(
+        Specification<UploadedFile> spec,
+        LocalDateTime afterUploadedAt,
+        UUID afterId,
+        long offset,
+        int limit
+    ) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<UploadedFile> query = cb.createQuery(UploadedFile.class);
+        Root<UploadedFile> root = query.from(UploadedFile.class);
+        Path<LocalDateTime> uploadedAt = root.get("uploadedAt");
+        Path<UUID> id = root.get("id").get("id");
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (spec != null) {
+            Predicate predicate = spec.toPredicate(root, query, cb);
+            if (predicate != null) {
+                predicates.add(predicate);
+            }
+        }
+        if (afterUploadedAt != null && afterId != null) {
+            predicates.add(cb.or(
+                cb.lessThan(uploadedAt, afterUploadedAt),
+                cb.and(cb.equal(uploadedAt, afterUploadedAt), cb.lessThan(id, afterId))
+            ));
+        }
+
+        query.select(root)
+            .where(predicates.toArray(new Predicate[0]))
+            .orderBy(cb.desc(uploadedAt), cb.desc(id));
+
+        return entityManager.createQuery(query)
+            .setFirstResult(Math.toIntExact(offset))
+            .setMaxResults(Math.max(1, limit))
+            .getResultList();
+    }
+}
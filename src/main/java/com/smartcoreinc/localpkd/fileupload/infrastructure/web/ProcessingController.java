@@ -139,6 +139,7 @@ public class ProcessingController {
     // Manual Mode Use Cases
     private final com.smartcoreinc.localpkd.certificatevalidation.application.usecase.ValidateCertificatesUseCase validateCertificatesUseCase;
     private final com.smartcoreinc.localpkd.ldapintegration.application.usecase.UploadToLdapUseCase uploadToLdapUseCase;
+    private final com.smartcoreinc.localpkd.ldapintegration.application.usecase.ApplyLdifDeltaUseCase applyLdifDeltaUseCase;
 
     // Repositories for fetching required data
     private final com.smartcoreinc.localpkd.fileparsing.domain.repository.ParsedFileRepository parsedFileRepository;
@@ -186,18 +187,19 @@ public class ProcessingController {
             uploadedFileRepository.save(uploadedFile);
             log.info("File status updated to PARSING: uploadId={}", uploadId);
 
-            // Read file bytes from storage
-            byte[] fileBytes = fileStoragePort.readFile(uploadedFile.getFilePath());
             String fileFormatName = uploadedFile.getFileFormat().getType().name();
 
             // UseCase 실행 (동기)
             if (uploadedFile.getFileFormat().isLdif()) {
+                // LDIF: 저장 경로에서 스트리밍 파싱
                 parseLdifFileUseCase.execute(ParseLdifFileCommand.builder()
                         .uploadId(uploadIdVO.toUUID()) // Corrected here
-                        .fileBytes(fileBytes)
+                        .filePath(uploadedFile.getFilePath().toPath())
                         .fileFormat(fileFormatName)
                         .build());
             } else if (uploadedFile.getFileFormat().isMasterList()) {
+                // Read file bytes from storage
+                byte[] fileBytes = fileStoragePort.readFile(uploadedFile.getFilePath());
                 parseMasterListFileUseCase.execute(ParseMasterListFileCommand.builder()
                         .uploadId(uploadIdVO.toUUID()) // Corrected here
                         .fileBytes(fileBytes)
@@ -275,8 +277,8 @@ public class ProcessingController {
                                         "파일 파싱이 완료되지 않았습니다. 파싱 완료 후 다시 시도해주세요.");
                             });
 
-            int certificateCount = parsedFile.getCertificates().size();
-            int crlCount = parsedFile.getCrls().size();
+            int certificateCount = parsedFile.getCertificateCount();
+            int crlCount = parsedFile.getCrlCount();
 
             log.info("Certificate validation starting: uploadId={}, certificates={}, crls={}",
                     uploadId, certificateCount, crlCount);
@@ -292,6 +294,11 @@ public class ProcessingController {
 
             validateCertificatesUseCase.execute(command);
 
+            // Delta LDIF: delete/modify 레코드 적용
+            if (uploadedFile.getFileFormat() != null && uploadedFile.getFileFormat().isDelta()) {
+                applyLdifDeltaUseCase.execute(uploadUUID, uploadedFile.getFilePath().toPath());
+            }
+
             uploadedFile.markReadyForValidation();
             uploadedFileRepository.save(uploadedFile);
 
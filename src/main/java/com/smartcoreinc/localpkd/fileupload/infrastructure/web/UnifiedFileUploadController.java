@@ -3,8 +3,10 @@ package com.smartcoreinc.localpkd.fileupload.infrastructure.web;
 import com.smartcoreinc.localpkd.certificatevalidation.infrastructure.exception.ErrorResponse;
 import com.smartcoreinc.localpkd.fileupload.application.service.AsyncUploadProcessor;
 import com.smartcoreinc.localpkd.fileupload.domain.model.ProcessingMode;
+import com.smartcoreinc.localpkd.fileupload.domain.model.StoredFile;
 import com.smartcoreinc.localpkd.fileupload.domain.model.UploadId;
 import com.smartcoreinc.localpkd.fileupload.infrastructure.exception.FileUploadException;
+import com.smartcoreinc.localpkd.shared.exception.DomainException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -25,6 +27,7 @@ import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
 
 @Tag(name = "File Upload", description = "통합 파일 업로드 API")
 @Slf4j
@@ -91,17 +94,31 @@ public class UnifiedFileUploadController {
                 processingMode = ProcessingMode.AUTO;
             }
             
-            byte[] fileContent = file.getBytes();
+            boolean isLdif = fileName.toLowerCase().endsWith(".ldif");
+            boolean isMasterList = fileName.toLowerCase().endsWith(".ml");
+            if (!isLdif && !isMasterList) {
+                return ResponseEntity.badRequest().body(ErrorResponse.badRequest("지원하지 않는 파일 형식입니다: " + fileName));
+            }
+
+            // 요청 본문을 디스크로 스트리밍 저장 (SHA-256/SHA-1 동시 계산), 이후에는 경로와 해시만 전달
+            StoredFile storedFile;
+            try (InputStream content = file.getInputStream()) {
+                storedFile = asyncUploadProcessor.storeUpload(fileName, content);
+            }
             UploadId uploadId = UploadId.newId();
 
-            if (fileName.toLowerCase().endsWith(".ldif")) {
-                log.info("Queuing LDIF file for processing: {}", fileName);
-                asyncUploadProcessor.processLdif(uploadId, fileName, fileContent, file.getSize(), forceUpload, processingMode);
-            } else if (fileName.toLowerCase().endsWith(".ml")) {
-                log.info("Queuing Master List file for processing: {}", fileName);
-                asyncUploadProcessor.processMasterList(uploadId, fileName, fileContent, file.getSize(), forceUpload, processingMode);
-            } else {
-                return ResponseEntity.badRequest().body(ErrorResponse.badRequest("지원하지 않는 파일 형식입니다: " + fileName));
+            try {
+                if (isLdif) {
+                    log.info("Queuing LDIF file for processing: {}", fileName);
+                    asyncUploadProcessor.processLdif(uploadId, fileName, storedFile, forceUpload, processingMode);
+                } else {
+                    log.info("Queuing Master List file for processing: {}", fileName);
+                    asyncUploadProcessor.processMasterList(uploadId, fileName, storedFile, forceUpload, processingMode);
+                }
+            } catch (RuntimeException e) {
+                // 작업 큐 포화 등으로 접수되지 않은 파일은 삭제
+                asyncUploadProcessor.discard(storedFile);
+                throw e;
             }
 
             log.info("File upload request accepted: uploadId={}", uploadId.getId());
@@ -110,6 +127,9 @@ public class UnifiedFileUploadController {
         } catch (FileUploadException.DuplicateFileException e) {
             log.warn("Duplicate file detected during upload: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.CONFLICT).body(ErrorResponse.conflict("DUPLICATE_FILE", e.getMessage(), e.getDetails()));
+        } catch (DomainException e) {
+            log.warn("Rejected upload: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(ErrorResponse.badRequest(e.getMessage()));
         } catch (IOException e) {
             log.error("Failed to read file content", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ErrorResponse.internalServerError("파일을 읽을 수 없습니다."));
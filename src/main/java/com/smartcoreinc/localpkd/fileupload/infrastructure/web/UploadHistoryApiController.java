@@ -2,6 +2,7 @@ package com.smartcoreinc.localpkd.fileupload.infrastructure.web;
 
 import com.smartcoreinc.localpkd.fileupload.application.query.GetUploadHistoryQuery;
 import com.smartcoreinc.localpkd.fileupload.application.response.UploadHistoryResponse;
+import com.smartcoreinc.localpkd.fileupload.application.response.UploadHistorySlice;
 import com.smartcoreinc.localpkd.fileupload.application.response.UploadStatisticsResponse;
 import com.smartcoreinc.localpkd.fileupload.application.usecase.GetUploadHistoryUseCase;
 import com.smartcoreinc.localpkd.fileupload.application.usecase.GetUploadStatisticsUseCase;
@@ -61,4 +62,34 @@ public class UploadHistoryApiController {
         Page<UploadHistoryResponse> page = getUploadHistoryUseCase.execute(query);
         return page.getContent();
     }
+
+    @Operation(summary = "업로드 이력 조회 (커서 기반)",
+               description = "최근 업로드 순으로 커서 기반 페이지를 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 전달합니다. "
+                   + "페이지 깊이와 무관하게 조회 비용이 일정합니다.")
+    @ApiResponse(responseCode = "200", description = "업로드 이력 조회 성공",
+        content = @Content(mediaType = "application/json",
+            schema = @Schema(implementation = UploadHistorySlice.class)))
+    @GetMapping("/keyset")
+    public UploadHistorySlice getUploadHistoryByCursor(
+            @Parameter(description = "검색어 (파일명, 버전, Collection 번호)")
+            @RequestParam(required = false) String search,
+            @Parameter(description = "상태 필터 (UploadStatus)", example = "COMPLETED")
+            @RequestParam(required = false) String status,
+            @Parameter(description = "포맷 필터 (FileFormat.Type)", example = "CSCA_COMPLETE_LDIF")
+            @RequestParam(required = false) String format,
+            @Parameter(description = "이전 페이지의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (1-100)", example = "20")
+            @RequestParam(defaultValue = "20") int size) {
+        log.info("Request for upload history by cursor: search={}, status={}, format={}, size={}",
+                 search, status, format, size);
+        GetUploadHistoryQuery query = GetUploadHistoryQuery.builder()
+                .searchKeyword(search)
+                .status(status)
+                .fileFormat(format)
+                .size(size)
+                .cursor(cursor)
+                .build();
+        return getUploadHistoryUseCase.executeKeyset(query);
+    }
 }
@@ -0,0 +1,69 @@
+package com.smartcoreinc.localpkd.ldapintegration.application.response;
+
+/**
+ * ApplyLdifDeltaResponse - Delta LDIF 적용 응답 DTO
+ *
+ * <p><b>Use Case Response</b>: Delta LDIF의 delete/modify 레코드를 DB와 LDAP에 적용한 결과를 반환합니다.
+ * add 레코드와 바이너리 교체 modify 레코드의 새 인증서/CRL은 일반 파싱 → 검증 → 게시 과정에서 처리됩니다.</p>
+ *
+ * <p><b>사용 예시</b>:</p>
+ * <pre>
+ * ApplyLdifDeltaResponse response = applyLdifDeltaUseCase.execute(uploadId, filePath);
+ * log.info("Delta applied: {} certificates deleted, {} CRLs deleted, {} superseded",
+ *     response.deletedCertificateCount(), response.deletedCrlCount(), response.supersededCount());
+ * </pre>
+ */
+public record ApplyLdifDeltaResponse(
+    /**
+     * 읽은 change record 수
+     */
+    int recordCount,
+
+    /**
+     * 삭제된 인증서 수 (changetype: delete)
+     */
+    int deletedCertificateCount,
+
+    /**
+     * 삭제된 CRL 수 (changetype: delete)
+     */
+    int deletedCrlCount,
+
+    /**
+     * 교체되어 삭제된 이전 인증서/CRL 수 (바이너리 교체 modify)
+     */
+    int supersededCount,
+
+    /**
+     * 삭제된 LDAP 엔트리 수
+     */
+    int ldapDeletedCount,
+
+    /**
+     * DB에서 대상을 찾지 못한 delete/modify 레코드 수
+     */
+    int notFoundCount,
+
+    /**
+     * 적용하지 않은 레코드 수 (add, 속성 수정 modify, modDN, Master List)
+     */
+    int skippedCount,
+
+    /**
+     * 실패한 레코드/LDAP 삭제 수
+     */
+    int errorCount,
+
+    /**
+     * 소요 시간 (milliseconds)
+     */
+    long durationMillis
+) {
+
+    /**
+     * 오류 없이 완료되었는지 확인
+     */
+    public boolean isSuccess() {
+        return errorCount == 0;
+    }
+}
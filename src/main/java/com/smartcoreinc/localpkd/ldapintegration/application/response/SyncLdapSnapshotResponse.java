@@ -0,0 +1,70 @@
+package com.smartcoreinc.localpkd.ldapintegration.application.response;
+
+/**
+ * SyncLdapSnapshotResponse - LDAP 스냅샷 동기화 응답 DTO
+ *
+ * <p><b>Use Case Response</b>: DB 기준 LDAP 일괄 동기화 결과를 반환합니다.</p>
+ *
+ * <p><b>사용 예시</b>:</p>
+ * <pre>
+ * SyncLdapSnapshotResponse response = syncLdapSnapshotUseCase.execute("KR", true);
+ * log.info("LDAP sync: {} added, {} modified, {} deleted, {} unchanged",
+ *     response.addedCount(), response.modifiedCount(), response.deletedCount(), response.unchangedCount());
+ * </pre>
+ */
+public record SyncLdapSnapshotResponse(
+    /**
+     * 동기화한 국가 수
+     */
+    int countryCount,
+
+    /**
+     * LDAP 스냅샷 엔트리 수 (비교 대상)
+     */
+    int snapshotEntryCount,
+
+    /**
+     * 신규 추가된 엔트리 수
+     */
+    int addedCount,
+
+    /**
+     * 수정된 엔트리 수 (바이너리/description/CRL 갱신)
+     */
+    int modifiedCount,
+
+    /**
+     * 삭제된 엔트리 수 (prune 모드)
+     */
+    int deletedCount,
+
+    /**
+     * 변경 없는 엔트리 수
+     */
+    int unchangedCount,
+
+    /**
+     * 실패한 쓰기/국가 수
+     */
+    int errorCount,
+
+    /**
+     * 소요 시간 (milliseconds)
+     */
+    long durationMillis
+) {
+
+    /**
+     * 실제 LDAP 쓰기 수
+     */
+    public int getTotalWrites() {
+        return addedCount + modifiedCount + deletedCount;
+    }
+
+    /**
+     * 오류 없이 완료되었는지 확인
+     */
+    public boolean isSuccess() {
+        return errorCount == 0;
+    }
+}
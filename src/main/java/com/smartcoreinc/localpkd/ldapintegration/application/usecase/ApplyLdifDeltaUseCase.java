@@ -0,0 +1,377 @@
+package com.smartcoreinc.localpkd.ldapintegration.application.usecase;
+
+import com.smartcoreinc.localpkd.certificatevalidation.domain.event.CertificateDeletedEvent;
+import com.smartcoreinc.localpkd.certificatevalidation.domain.model.Certificate;
+import com.smartcoreinc.localpkd.certificatevalidation.domain.model.CertificateType;
+import com.smartcoreinc.localpkd.certificatevalidation.domain.model.CertificateRevocationList;
+import com.smartcoreinc.localpkd.certificatevalidation.domain.repository.CertificateRepository;
+import com.smartcoreinc.localpkd.certificatevalidation.domain.repository.CertificateRevocationListRepository;
+import com.smartcoreinc.localpkd.ldapintegration.application.response.ApplyLdifDeltaResponse;
+import com.smartcoreinc.localpkd.ldapintegration.infrastructure.adapter.LdifConverter;
+import com.smartcoreinc.localpkd.ldapintegration.infrastructure.adapter.UnboundIdLdapAdapter;
+import com.smartcoreinc.localpkd.shared.event.EventBus;
+import com.unboundid.ldap.sdk.DN;
+import com.unboundid.ldap.sdk.LDAPException;
+import com.unboundid.ldap.sdk.Modification;
+import com.unboundid.ldap.sdk.ModificationType;
+import com.unboundid.ldap.sdk.RDN;
+import com.unboundid.ldap.sdk.ResultCode;
+import com.unboundid.ldif.LDIFChangeRecord;
+import com.unboundid.ldif.LDIFDeleteChangeRecord;
+import com.unboundid.ldif.LDIFException;
+import com.unboundid.ldif.LDIFModifyChangeRecord;
+import com.unboundid.ldif.LDIFReader;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.security.auth.x500.X500Principal;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * ApplyLdifDeltaUseCase - ICAO Delta LDIF의 delete/modify 레코드 적용
+ *
+ * <p>Delta LDIF는 전체 컬렉션이 아니라 변경분({@code changetype: add/modify/delete})만 담고 있습니다.
+ * add 레코드와 인증서/CRL 바이너리를 교체하는 modify 레코드의 새 바이너리는 {@code LdifParserAdapter}가
+ * 일반 엔트리로 파싱하므로 기존 검증 → 게시 과정을 그대로 거치고, 이 Use Case는 검증 이후 나머지를
+ * 반영합니다. 처리량은 델타 레코드 수에만 비례합니다 (전체 컬렉션 재파싱/재게시 없음).</p>
+ *
+ * <h3>레코드별 처리</h3>
+ * <ul>
+ *   <li><b>delete (인증서)</b>: DN의 {@code sn}(일련 번호), {@code cn}(Subject DN), {@code c}(국가)와
+ *       {@code o}/{@code dc} 컨테이너(csca, dsc, nc-data의 dsc)가 모두 일치하는 DB 인증서를 삭제하고,
+ *       해당 인증서로 게시했던 LDAP 엔트리를 삭제. 일련 번호는 발행자별로만 유일하므로 하나라도
+ *       일치하지 않으면 대상 없음으로 집계</li>
+ *   <li><b>delete (CRL, o=crl)</b>: 국가와 발행자 DN이 같은 DB CRL과 LDAP 엔트리 삭제</li>
+ *   <li><b>modify (바이너리 교체)</b>: 새 인증서/CRL이 이번 업로드로 저장된 경우에만 같은 대상의 이전
+ *       DB 레코드를 삭제. LDAP 엔트리는 DN이 같으므로 게시 과정에서 새 바이너리로 갱신됨</li>
+ *   <li>그 외 (add, 속성 수정 modify, modDN, Master List): 건너뜀</li>
+ * </ul>
+ *
+ * <p>DB 변경은 하나의 트랜잭션으로 반영됩니다. DN 형식이 잘못된 레코드는 오류로 집계하고 건너뛰지만,
+ * DB 오류는 전파되어 전체 Delta 적용이 롤백됩니다 (일부만 반영된 상태로 커밋하지 않음).
+ * LDAP 삭제 실패는 오류로 집계만 합니다 ({@link SyncLdapSnapshotUseCase}의 prune 동기화로 복구 가능).
+ * 삭제된 인증서마다 {@link CertificateDeletedEvent}를 발행하여, 커밋 후 CSCA 캐시에서 제거되도록 합니다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ApplyLdifDeltaUseCase {
+
+    private static final String ATTR_USER_CERTIFICATE = "userCertificate;binary";
+    private static final String ATTR_CRL = "certificateRevocationList;binary";
+
+    private final CertificateRepository certificateRepository;
+    private final CertificateRevocationListRepository crlRepository;
+    private final UnboundIdLdapAdapter ldapAdapter;
+    private final LdifConverter ldifConverter;
+    private final EventBus eventBus;
+
+    /**
+     * Delta LDIF 적용 실행
+     *
+     * @param uploadId Delta LDIF 업로드 ID (이번 업로드로 저장된 교체 인증서/CRL 식별)
+     * @param ldifPath 저장된 Delta LDIF 파일 경로
+     * @return ApplyLdifDeltaResponse
+     */
+    @Transactional
+    public ApplyLdifDeltaResponse execute(UUID uploadId, Path ldifPath) {
+        long startTime = System.currentTimeMillis();
+        log.info("=== Delta LDIF apply started: uploadId={}, file={} ===", uploadId, ldifPath);
+
+        DeltaCounts counts = new DeltaCounts();
+        Set<String> ldapDeletes = new LinkedHashSet<>();
+
+        try (LDIFReader ldifReader = new LDIFReader(ldifPath.toFile())) {
+            LDIFChangeRecord changeRecord;
+            while ((changeRecord = ldifReader.readChangeRecord(true)) != null) {
+                counts.records++;
+                try {
+                    if (changeRecord instanceof LDIFDeleteChangeRecord) {
+                        applyDelete(changeRecord.getDN(), ldapDeletes, counts);
+                    } else if (changeRecord instanceof LDIFModifyChangeRecord modifyRecord) {
+                        applyModify(uploadId, modifyRecord, counts);
+                    } else {
+                        counts.skipped++;
+                    }
+                } catch (LDAPException e) {
+                    counts.errors++;
+                    log.warn("Failed to apply delta record: dn={}, error={}", changeRecord.getDN(), e.getMessage());
+                }
+            }
+        } catch (IOException | LDIFException e) {
+            throw new IllegalStateException("Failed to read delta LDIF: " + e.getMessage(), e);
+        }
+
+        int ldapDeleted = 0;
+        for (String dn : ldapDeletes) {
+            try {
+                if (ldapAdapter.deleteEntry(dn)) {
+                    ldapDeleted++;
+                }
+            } catch (LDAPException e) {
+                if (e.getResultCode() == ResultCode.NO_SUCH_OBJECT) {
+                    log.debug("LDAP entry already absent: {}", dn);
+                } else {
+                    counts.errors++;
+                    log.warn("Failed to delete LDAP entry {}: {}", dn, e.getMessage());
+                }
+            }
+        }
+
+        long duration = System.currentTimeMillis() - startTime;
+        log.info("=== Delta LDIF apply completed in {}ms: {} records, {} certificates deleted, {} CRLs deleted, "
+                + "{} superseded, {} LDAP entries deleted, {} not found, {} skipped, {} errors ===",
+            duration, counts.records, counts.deletedCertificates, counts.deletedCrls, counts.superseded,
+            ldapDeleted, counts.notFound, counts.skipped, counts.errors);
+
+        return new ApplyLdifDeltaResponse(
+            counts.records, counts.deletedCertificates, counts.deletedCrls, counts.superseded, ldapDeleted,
+            counts.notFound, counts.skipped, counts.errors, duration);
+    }
+
+    private void applyDelete(String dn, Set<String> ldapDeletes, DeltaCounts counts) throws LDAPException {
+        DeltaTarget target = DeltaTarget.parse(dn);
+
+        if (target.serialNumber() != null) {
+            List<Certificate> certificates = findCertificates(target);
+            if (certificates.isEmpty()) {
+                counts.notFound++;
+                log.debug("Delta delete target certificate not found: {}", dn);
+                return;
+            }
+            for (Certificate certificate : certificates) {
+                ldapDeletes.add(ldifConverter.certificateToEntry(certificate).getDN());
+                deleteCertificate(certificate);
+                counts.deletedCertificates++;
+            }
+        } else if (target.isCrl()) {
+            List<CertificateRevocationList> crls = findCrls(target);
+            if (crls.isEmpty()) {
+                counts.notFound++;
+                log.debug("Delta delete target CRL not found: {}", dn);
+                return;
+            }
+            for (CertificateRevocationList crl : crls) {
+                ldapDeletes.add(ldifConverter.crlToEntry(crl).getDN());
+                crlRepository.deleteById(crl.getId());
+                counts.deletedCrls++;
+            }
+        } else {
+            counts.skipped++;
+        }
+    }
+
+    private void applyModify(UUID uploadId, LDIFModifyChangeRecord modifyRecord, DeltaCounts counts)
+            throws LDAPException {
+        byte[] certificateBinary = replacementValue(modifyRecord, ATTR_USER_CERTIFICATE);
+        boolean crlReplaced = replacementValue(modifyRecord, ATTR_CRL) != null;
+        if (certificateBinary == null && !crlReplaced) {
+            // description 등 속성 수정: 게시 엔트리는 DB 기준으로 생성되므로 반영 대상 아님
+            counts.skipped++;
+            return;
+        }
+
+        DeltaTarget target = DeltaTarget.parse(modifyRecord.getDN());
+        if (certificateBinary != null && target.serialNumber() != null) {
+            String newFingerprint = sha256Hex(certificateBinary);
+            if (!certificateRepository.existsByFingerprint(newFingerprint)) {
+                // 새 인증서가 저장되지 않았으면(파싱/검증 실패) 이전 인증서 유지
+                counts.notFound++;
+                return;
+            }
+            for (Certificate certificate : findCertificates(target)) {
+                if (!newFingerprint.equals(certificate.getX509Data().getFingerprintSha256())) {
+                    deleteCertificate(certificate);
+                    counts.superseded++;
+                }
+            }
+        } else if (crlReplaced && target.isCrl()) {
+            List<CertificateRevocationList> crls = findCrls(target);
+            if (crls.stream().noneMatch(crl -> uploadId.equals(crl.getUploadId()))) {
+                counts.notFound++;
+                return;
+            }
+            for (CertificateRevocationList crl : crls) {
+                if (!uploadId.equals(crl.getUploadId())) {
+                    crlRepository.deleteById(crl.getId());
+                    counts.superseded++;
+                }
+            }
+        } else {
+            counts.skipped++;
+        }
+    }
+
+    private void deleteCertificate(Certificate certificate) {
+        certificateRepository.deleteById(certificate.getId());
+        eventBus.publish(new CertificateDeletedEvent(certificate.getId(), certificate.getCertificateType()));
+    }
+
+    /**
+     * 일련 번호, Subject DN, 국가, 컨테이너 유형이 모두 일치하는 인증서 조회
+     *
+     * <p>일련 번호는 발행자별로만 유일하므로 일련 번호만으로는 대상을 특정할 수 없습니다.
+     * 정확히 일치하는 인증서가 없으면 빈 목록을 반환합니다 (다른 인증서로 대체하지 않음).</p>
+     */
+    private List<Certificate> findCertificates(DeltaTarget target) {
+        CertificateType containerType = target.certificateType();
+        if (target.commonName() == null || target.countryCode() == null || containerType == null) {
+            return List.of();
+        }
+        List<Certificate> matches = new ArrayList<>();
+        for (Certificate certificate : certificateRepository.findAllBySerialNumber(target.serialNumber())) {
+            if (certificate.getCertificateType() == containerType
+                    && target.countryCode().equalsIgnoreCase(certificate.getSubjectInfo().getCountryCode())
+                    && sameDn(certificate.getSubjectInfo().getDistinguishedName(), target.commonName())) {
+                matches.add(certificate);
+            }
+        }
+        return matches;
+    }
+
+    private List<CertificateRevocationList> findCrls(DeltaTarget target) {
+        if (target.countryCode() == null || target.commonName() == null) {
+            return List.of();
+        }
+        return crlRepository.findByCountryCode(target.countryCode()).stream()
+            .filter(crl -> sameDn(crl.getIssuerName().getValue(), target.commonName()))
+            .toList();
+    }
+
+    private static byte[] replacementValue(LDIFModifyChangeRecord modifyRecord, String attributeName) {
+        for (Modification modification : modifyRecord.getModifications()) {
+            ModificationType type = modification.getModificationType();
+            if (modification.getAttributeName().equalsIgnoreCase(attributeName) && modification.hasValue()
+                    && (type == ModificationType.REPLACE || type == ModificationType.ADD)) {
+                return modification.getValueByteArrays()[0];
+            }
+        }
+        return null;
+    }
+
+    private static boolean sameDn(String left, String right) {
+        if (left == null || right == null) {
+            return false;
+        }
+        try {
+            return new X500Principal(left).equals(new X500Principal(right));
+        } catch (IllegalArgumentException e) {
+            return left.equalsIgnoreCase(right);
+        }
+    }
+
+    private static String sha256Hex(byte[] value) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(value));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Delta 레코드 DN에서 추출한 대상 식별 정보
+     *
+     * <p>인증서: {@code cn={Subject DN}+sn={일련 번호},o={csca|dsc},c={국가},dc={data|nc-data},...},
+     * CRL: {@code cn={발행자 DN},o=crl,c={국가},...}</p>
+     *
+     * @param commonName cn 값 (Subject 또는 발행자 DN)
+     * @param serialNumber 정규화된 일련 번호 (대문자 16진수, 인증서가 아니면 null)
+     * @param organization o 값 (컨테이너 종류)
+     * @param countryCode c 값
+     * @param nonConformant {@code dc=nc-data} 하위 여부
+     */
+    private record DeltaTarget(String commonName, String serialNumber, String organization, String countryCode,
+                               boolean nonConformant) {
+
+        static DeltaTarget parse(String dn) throws LDAPException {
+            RDN[] rdns = new DN(dn).getRDNs();
+            String commonName = null;
+            String serialNumber = null;
+            if (rdns.length > 0) {
+                commonName = value(rdns[0], "cn");
+                serialNumber = normalizeSerial(value(rdns[0], "sn"));
+            }
+            String organization = null;
+            String countryCode = null;
+            boolean nonConformant = false;
+            for (RDN rdn : rdns) {
+                if (organization == null) {
+                    organization = value(rdn, "o");
+                }
+                if (countryCode == null) {
+                    countryCode = value(rdn, "c");
+                }
+                if ("nc-data".equalsIgnoreCase(value(rdn, "dc"))) {
+                    nonConformant = true;
+                }
+            }
+            return new DeltaTarget(commonName, serialNumber, organization,
+                countryCode != null ? countryCode.toUpperCase(Locale.ROOT) : null, nonConformant);
+        }
+
+        boolean isCrl() {
+            return "crl".equalsIgnoreCase(organization);
+        }
+
+        /**
+         * 컨테이너에 게시되는 인증서 유형 (o=csca → CSCA, o=dsc → DSC, nc-data의 o=dsc → DSC_NC)
+         *
+         * @return 인증서 유형, 알 수 없는 컨테이너면 null
+         */
+        CertificateType certificateType() {
+            if ("csca".equalsIgnoreCase(organization)) {
+                return CertificateType.CSCA;
+            }
+            if ("dsc".equalsIgnoreCase(organization)) {
+                return nonConformant ? CertificateType.DSC_NC : CertificateType.DSC;
+            }
+            return null;
+        }
+
+        private static String value(RDN rdn, String attributeName) {
+            String[] names = rdn.getAttributeNames();
+            String[] values = rdn.getAttributeValues();
+            for (int i = 0; i < names.length; i++) {
+                if (names[i].equalsIgnoreCase(attributeName)) {
+                    return values[i];
+                }
+            }
+            return null;
+        }
+
+        private static String normalizeSerial(String serialNumber) {
+            if (serialNumber == null || serialNumber.isBlank()) {
+                return null;
+            }
+            try {
+                // 파싱 시 저장 형식과 동일하게 (BigInteger 16진수, 선행 0 없음, 대문자)
+                return new BigInteger(serialNumber.trim(), 16).toString(16).toUpperCase(Locale.ROOT);
+            } catch (NumberFormatException e) {
+                return serialNumber.trim().toUpperCase(Locale.ROOT);
+            }
+        }
+    }
+
+    private static final class DeltaCounts {
+        int records;
+        int deletedCertificates;
+        int deletedCrls;
+        int superseded;
+        int notFound;
+        int skipped;
+        int errors;
+    }
+}
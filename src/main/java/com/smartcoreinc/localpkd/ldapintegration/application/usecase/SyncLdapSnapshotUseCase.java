@@ -0,0 +1,203 @@
+package com.smartcoreinc.localpkd.ldapintegration.application.usecase;
+
+import com.smartcoreinc.localpkd.certificatevalidation.domain.model.Certificate;
+import com.smartcoreinc.localpkd.certificatevalidation.domain.model.CertificateRevocationList;
+import com.smartcoreinc.localpkd.certificatevalidation.domain.model.CountryCount;
+import com.smartcoreinc.localpkd.certificatevalidation.domain.repository.CertificateRepository;
+import com.smartcoreinc.localpkd.certificatevalidation.domain.repository.CertificateRevocationListRepository;
+import com.smartcoreinc.localpkd.ldapintegration.application.response.SyncLdapSnapshotResponse;
+import com.smartcoreinc.localpkd.ldapintegration.infrastructure.adapter.LdapSnapshotDiff;
+import com.smartcoreinc.localpkd.ldapintegration.infrastructure.adapter.LdifConverter;
+import com.smartcoreinc.localpkd.ldapintegration.infrastructure.adapter.UnboundIdLdapAdapter;
+import com.unboundid.ldap.sdk.Entry;
+import com.unboundid.ldap.sdk.LDAPException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * SyncLdapSnapshotUseCase - DB 기준 LDAP 일괄 동기화 (스냅샷 비교)
+ *
+ * <p>국가별로 인증서/CRL 컨테이너의 LDAP 스냅샷을 페이지 검색으로 한 번에 조회하고,
+ * DB에서 생성한 엔트리와 메모리에서 비교하여 필요한 ADD/MODIFY/DELETE만 전송합니다.
+ * 변경 없는 컬렉션을 다시 게시해도 엔트리별 BASE 검색 없이 컨테이너당 페이지 검색만 발생합니다.</p>
+ *
+ * <h3>처리 순서 (국가별)</h3>
+ * <ol>
+ *   <li>DB 인증서/CRL → LDAP Entry 변환 (동일 DN CRL은 CRL Number가 가장 큰 것만)</li>
+ *   <li>o=csca, o=dsc(data/nc-data), o=crl 컨테이너 스냅샷 조회</li>
+ *   <li>{@link LdapSnapshotDiff} 계산 후 적용</li>
+ * </ol>
+ *
+ * <p><b>Prune</b>: DB에 없는 LDAP 엔트리 삭제는 해당 국가의 모든 엔트리 변환이 성공하고
+ * DB 데이터가 있을 때만 수행합니다. Master List 컨테이너(o=ml)는 대상이 아닙니다.</p>
+ *
+ * <p>DB 읽기 트랜잭션은 국가별 엔트리 변환(1단계)에만 열립니다. LDAP 스냅샷 조회와 쓰기 동안에는
+ * DB 커넥션을 점유하지 않습니다.</p>
+ */
+@Slf4j
+@Service
+public class SyncLdapSnapshotUseCase {
+
+    private final CertificateRepository certificateRepository;
+    private final CertificateRevocationListRepository crlRepository;
+    private final UnboundIdLdapAdapter ldapAdapter;
+    private final LdifConverter ldifConverter;
+    private final TransactionTemplate readTransaction;
+
+    public SyncLdapSnapshotUseCase(
+        CertificateRepository certificateRepository,
+        CertificateRevocationListRepository crlRepository,
+        UnboundIdLdapAdapter ldapAdapter,
+        LdifConverter ldifConverter,
+        PlatformTransactionManager transactionManager
+    ) {
+        this.certificateRepository = certificateRepository;
+        this.crlRepository = crlRepository;
+        this.ldapAdapter = ldapAdapter;
+        this.ldifConverter = ldifConverter;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+    }
+
+    /**
+     * LDAP 스냅샷 동기화 실행
+     *
+     * @param countryCode 대상 국가 코드 (null 또는 빈 값이면 DB의 전체 국가)
+     * @param prune true면 DB에 없는 LDAP 엔트리 삭제
+     * @return SyncLdapSnapshotResponse
+     */
+    public SyncLdapSnapshotResponse execute(String countryCode, boolean prune) {
+        long startTime = System.currentTimeMillis();
+
+        List<String> countries = (countryCode == null || countryCode.isBlank())
+            ? allCountries()
+            : List.of(countryCode.toUpperCase(Locale.ROOT));
+
+        log.info("=== LDAP snapshot sync started: {} countries, prune={} ===", countries.size(), prune);
+
+        int snapshotEntries = 0;
+        int added = 0;
+        int modified = 0;
+        int deleted = 0;
+        int unchanged = 0;
+        int errors = 0;
+
+        for (String country : countries) {
+            try {
+                CountrySyncResult result = syncCountry(country, prune);
+                snapshotEntries += result.snapshotEntries();
+                added += result.applied().added();
+                modified += result.applied().modified();
+                deleted += result.applied().deleted();
+                unchanged += result.unchanged();
+                errors += result.applied().errors() + result.conversionErrors();
+            } catch (LDAPException e) {
+                log.error("LDAP snapshot sync failed for country {}: {}", country, e.getMessage(), e);
+                errors++;
+            }
+        }
+
+        long duration = System.currentTimeMillis() - startTime;
+        log.info("=== LDAP snapshot sync completed in {}ms: {} added, {} modified, {} deleted, {} unchanged, {} errors ===",
+            duration, added, modified, deleted, unchanged, errors);
+
+        return new SyncLdapSnapshotResponse(
+            countries.size(), snapshotEntries, added, modified, deleted, unchanged, errors, duration);
+    }
+
+    /**
+     * 인증서 또는 CRL이 있는 모든 국가 (CRL만 있는 국가 포함)
+     */
+    private List<String> allCountries() {
+        Set<String> countries = new TreeSet<>();
+        certificateRepository.countCertificatesByCountry().stream()
+            .map(CountryCount::country)
+            .filter(Objects::nonNull)
+            .forEach(countries::add);
+        crlRepository.findDistinctCountryCodes().stream()
+            .filter(Objects::nonNull)
+            .forEach(countries::add);
+        return List.copyOf(countries);
+    }
+
+    private CountrySyncResult syncCountry(String countryCode, boolean prune) throws LDAPException {
+        // 1. 게시 대상 엔트리 (국가별 읽기 트랜잭션)
+        DesiredEntries desiredEntries = readTransaction.execute(status -> desiredEntries(countryCode));
+        Map<String, Entry> desired = desiredEntries.entries();
+        int conversionErrors = desiredEntries.conversionErrors();
+
+        // 2. LDAP 스냅샷
+        Map<String, LdapSnapshotDiff.EntryDigest> snapshot = new HashMap<>();
+        for (String containerDn : ldifConverter.certificateContainerDns(countryCode)) {
+            snapshot.putAll(ldapAdapter.snapshotContainer(containerDn));
+        }
+
+        // 3. 비교 및 적용 (변환 실패가 있거나 DB 데이터가 없으면 삭제하지 않음)
+        boolean safeToPrune = prune && conversionErrors == 0 && !desired.isEmpty();
+        if (prune && !safeToPrune) {
+            log.warn("Prune disabled for country {}: conversionErrors={}, dbEntries={}",
+                countryCode, conversionErrors, desired.size());
+        }
+        LdapSnapshotDiff diff = LdapSnapshotDiff.compute(desired, snapshot, safeToPrune);
+        UnboundIdLdapAdapter.SnapshotApplyResult applied = ldapAdapter.applySnapshotDiff(diff);
+
+        log.info("Snapshot sync [{}]: db={}, ldap={}, add={}, modify={}, delete={}, unchanged={}, errors={}",
+            countryCode, desired.size(), snapshot.size(), diff.adds().size(), diff.modifies().size(),
+            diff.deletes().size(), diff.unchanged(), applied.errors());
+
+        return new CountrySyncResult(snapshot.size(), diff.unchanged(), conversionErrors, applied);
+    }
+
+    /**
+     * DB 인증서/CRL → 게시 대상 LDAP Entry (Key: 정규화 DN, 동일 DN CRL은 CRL Number가 가장 큰 것만)
+     */
+    private DesiredEntries desiredEntries(String countryCode) {
+        List<Certificate> certificates = certificateRepository.findByCountryCode(countryCode);
+        List<CertificateRevocationList> crls = crlRepository.findByCountryCode(countryCode);
+
+        Map<String, Entry> desired = new LinkedHashMap<>();
+        int conversionErrors = 0;
+        for (Certificate certificate : certificates) {
+            try {
+                Entry entry = ldifConverter.certificateToEntry(certificate);
+                desired.put(LdapSnapshotDiff.normalizeDn(entry.getDN()), entry);
+            } catch (IllegalArgumentException e) {
+                conversionErrors++;
+                log.warn("Skipping certificate in snapshot sync: id={}, error={}",
+                    certificate.getId().getId(), e.getMessage());
+            }
+        }
+        for (CertificateRevocationList crl : crls) {
+            try {
+                Entry entry = ldifConverter.crlToEntry(crl);
+                desired.merge(LdapSnapshotDiff.normalizeDn(entry.getDN()), entry, LdapSnapshotDiff::latestCrl);
+            } catch (IllegalArgumentException e) {
+                conversionErrors++;
+                log.warn("Skipping CRL in snapshot sync: id={}, error={}", crl.getId().getId(), e.getMessage());
+            }
+        }
+        return new DesiredEntries(desired, conversionErrors);
+    }
+
+    private record DesiredEntries(Map<String, Entry> entries, int conversionErrors) {
+    }
+
+    private record CountrySyncResult(
+        int snapshotEntries,
+        int unchanged,
+        int conversionErrors,
+        UnboundIdLdapAdapter.SnapshotApplyResult applied
+    ) {
+    }
+}
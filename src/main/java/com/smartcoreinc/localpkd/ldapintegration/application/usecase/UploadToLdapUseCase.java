@@ -4,6 +4,7 @@ import com.smartcoreinc.localpkd.ldapintegration.application.command.UploadToLda
 import com.smartcoreinc.localpkd.ldapintegration.application.response.UploadToLdapResponse;
 import com.smartcoreinc.localpkd.ldapintegration.domain.event.LdapUploadCompletedEvent;
 import com.smartcoreinc.localpkd.ldapintegration.infrastructure.adapter.UnboundIdLdapAdapter;
+import com.unboundid.ldap.sdk.Entry;
 import com.smartcoreinc.localpkd.shared.exception.DomainException;
 import com.smartcoreinc.localpkd.shared.progress.ProcessingProgress;
 import com.smartcoreinc.localpkd.shared.progress.ProcessingStage;
@@ -127,23 +128,22 @@ public class UploadToLdapUseCase {
 
             // ✅ 인증서 LDAP 배치 업로드 (RFC 5280 준수 - DN 기반 비교 및 업데이트)
             // including CSCAs from Master List
-            List<String> certBatch = new ArrayList<>();
+            List<Entry> certBatch = new ArrayList<>();
             List<com.smartcoreinc.localpkd.certificatevalidation.domain.model.Certificate> certBatchObjects = new ArrayList<>();
             int updatedCertificateCount = 0;
 
             for (int i = 0; i < certificates.size(); i++) {
                 com.smartcoreinc.localpkd.certificatevalidation.domain.model.Certificate cert = certificates.get(i);
                 try {
-                    // Convert to LDIF format (CSCAs will use o=csca)
-                    String ldifEntry = ldifConverter.certificateToLdif(cert);
-                    certBatch.add(ldifEntry);
+                    // Convert to LDAP entry (CSCAs will use o=csca)
+                    certBatch.add(ldifConverter.certificateToEntry(cert));
                     certBatchObjects.add(cert);
 
                     // ✅ 배치 크기에 도달하거나 마지막 항목이면 RFC 5280 비교 후 업로드
                     if (certBatch.size() >= command.batchSize() || (i + 1) == certificates.size()) {
                         log.info("Uploading certificate batch: {} entries (RFC 5280 comparison)", certBatch.size());
                         UnboundIdLdapAdapter.CertBatchResult batchResult =
-                            ldapAdapter.addOrUpdateCertificateEntriesBatch(certBatch);
+                            ldapAdapter.addOrUpdateCertificates(certBatch);
                         uploadedCertificateCount += batchResult.added();
                         updatedCertificateCount += batchResult.updated();
                         skippedCertificateCount += batchResult.skipped();
@@ -178,7 +178,7 @@ public class UploadToLdapUseCase {
 
                 } catch (Exception e) {
                     failedCertificateCount++;
-                    log.error("Failed to convert certificate to LDIF: id={}", cert.getId().getId(), e);
+                    log.error("Failed to convert certificate to LDAP entry: id={}", cert.getId().getId(), e);
                 }
             }
 
@@ -192,18 +192,17 @@ public class UploadToLdapUseCase {
             int failedCrlCount = 0;
 
             // ✅ CRL LDAP 배치 업로드
-            List<String> crlBatch = new ArrayList<>();
+            List<Entry> crlBatch = new ArrayList<>();
             for (int i = 0; i < crls.size(); i++) {
                 com.smartcoreinc.localpkd.certificatevalidation.domain.model.CertificateRevocationList crl = crls.get(i);
                 try {
-                    // Convert to LDIF format
-                    String ldifEntry = ldifConverter.crlToLdif(crl);
-                    crlBatch.add(ldifEntry);
+                    // Convert to LDAP entry
+                    crlBatch.add(ldifConverter.crlToEntry(crl));
 
                     // ✅ 배치 크기에 도달하거나 마지막 항목이면 RFC 5280 CRL Number 비교 후 업로드
                     if (crlBatch.size() >= command.batchSize() || (i + 1) == crls.size()) {
                         log.info("Uploading CRL batch: {} entries (RFC 5280 CRL Number comparison)", crlBatch.size());
-                        UnboundIdLdapAdapter.CrlBatchResult batchResult = ldapAdapter.addOrUpdateCrlEntriesBatch(crlBatch);
+                        UnboundIdLdapAdapter.CrlBatchResult batchResult = ldapAdapter.addOrUpdateCrls(crlBatch);
                         uploadedCrlCount += batchResult.totalSuccess();
                         skippedCrlCount += batchResult.skipped();
                         log.info("CRL batch uploaded: {} added, {} updated, {} skipped (already latest)",
@@ -228,7 +227,7 @@ public class UploadToLdapUseCase {
 
                 } catch (Exception e) {
                     failedCrlCount++;
-                    log.error("Failed to convert CRL to LDIF: id={}", crl.getId().getId(), e);
+                    log.error("Failed to convert CRL to LDAP entry: id={}", crl.getId().getId(), e);
                 }
             }
 
@@ -1,6 +1,7 @@
 package com.smartcoreinc.localpkd.ldapintegration.config;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
@@ -107,4 +108,33 @@ public class LdapUploadAsyncConfig {
 
         return executor;
     }
+
+    /**
+     * LDAP 쓰기 스레드 풀 (UnboundIdLdapAdapter 배치 쓰기 전용)
+     *
+     * <p>배치 호출마다 스레드 풀을 생성/종료하지 않도록 애플리케이션 범위로 유지합니다.
+     * 파이프라인 모드에서는 기존 엔트리 비교 같은 블로킹 후속 작업을, 블로킹 모드에서는 엔트리별 쓰기를 실행합니다.</p>
+     *
+     * <ul>
+     *   <li>app.ldap.write.threads: 스레드 수</li>
+     *   <li>무제한 큐: 비동기 결과 콜백(LDAP reader 스레드)에서 제출되므로 호출자 실행 정책을 쓰지 않음</li>
+     * </ul>
+     *
+     * @param threads 스레드 수
+     * @return ThreadPoolTaskExecutor LDAP 쓰기 실행기
+     */
+    @Bean(name = "ldapWriteExecutor")
+    public Executor ldapWriteExecutor(@Value("${app.ldap.write.threads:8}") int threads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setThreadNamePrefix("ldap-write-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        executor.initialize();
+
+        log.info("LDAP Write Executor configured: poolSize={}", threads);
+
+        return executor;
+    }
 }
@@ -0,0 +1,283 @@
+package com.smartcoreinc.localpkd.ldapintegration.infrastructure.adapter;
+
+import com.unboundid.ldap.sdk.AddRequest;
+import com.unboundid.ldap.sdk.AsyncResultListener;
+import com.unboundid.ldap.sdk.DeleteRequest;
+import com.unboundid.ldap.sdk.LDAPConnection;
+import com.unboundid.ldap.sdk.LDAPConnectionPool;
+import com.unboundid.ldap.sdk.LDAPException;
+import com.unboundid.ldap.sdk.LDAPResult;
+import com.unboundid.ldap.sdk.ModifyRequest;
+import com.unboundid.ldap.sdk.ResultCode;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.Consumer;
+
+/**
+ * AsyncWritePipeline - UnboundID 비동기 연산 기반 LDAP 쓰기 파이프라인
+ *
+ * <p>연결 풀에서 고정 개수의 연결을 대여하여 {@code asyncAdd}/{@code asyncModify}/{@code asyncDelete}를 응답 대기 없이 연속 전송합니다.
+ * 연결별 미완료 요청 수는 {@link Semaphore}로 제한하므로, 같은 연결 수로 여러 요청을 동시에 처리하면서도
+ * 서버로 보내는 요청량은 상한을 넘지 않습니다.</p>
+ *
+ * <p><b>주의</b>: 결과 콜백은 UnboundID 연결 reader 스레드에서 호출됩니다.
+ * 콜백에서는 카운터 갱신처럼 가벼운 작업만 수행하고, 블로킹 후속 작업(검색/수정)은 별도 executor로 넘겨야 합니다.</p>
+ *
+ * <p>제한 시간 내 응답이 오지 않으면 {@link #failOutstanding(String)}으로 남은 요청을 TIMEOUT 실패로 콜백합니다.
+ * 요청별 콜백은 정확히 1회만 호출되므로, 이후 늦게 도착한 응답은 무시됩니다.</p>
+ *
+ * <pre>{@code
+ * try (AsyncWritePipeline pipeline = AsyncWritePipeline.open(pool, 4, 64, 30_000)) {
+ *     for (Entry entry : entries) {
+ *         pipeline.add(new AddRequest(entry), result -> ...);
+ *     }
+ *     if (!pipeline.awaitCompletion(5, TimeUnit.MINUTES)) {
+ *         pipeline.failOutstanding("No response within 5 minutes");
+ *     }
+ * }
+ * }</pre>
+ */
+@Slf4j
+final class AsyncWritePipeline implements AutoCloseable {
+
+    private final LDAPConnectionPool connectionPool;
+    private final List<LDAPConnection> connections;
+    private final Semaphore[] permits;
+    private final int maxOutstandingPerConnection;
+    private final long responseTimeoutMillis;
+
+    /**
+     * 연결별 사용 불가 여부 (1 = 오류 응답 또는 전송 실패, 반납 시 폐기)
+     */
+    private final AtomicIntegerArray defunct;
+
+    /**
+     * 응답(콜백)을 기다리는 요청
+     */
+    private final Set<PendingOperation> outstanding = ConcurrentHashMap.newKeySet();
+
+    private final AtomicInteger nextSlot = new AtomicInteger();
+
+    private AsyncWritePipeline(
+        LDAPConnectionPool connectionPool,
+        List<LDAPConnection> connections,
+        int maxOutstandingPerConnection,
+        long responseTimeoutMillis
+    ) {
+        this.connectionPool = connectionPool;
+        this.connections = connections;
+        this.maxOutstandingPerConnection = maxOutstandingPerConnection;
+        this.responseTimeoutMillis = responseTimeoutMillis;
+        this.permits = new Semaphore[connections.size()];
+        for (int i = 0; i < permits.length; i++) {
+            permits[i] = new Semaphore(maxOutstandingPerConnection);
+        }
+        this.defunct = new AtomicIntegerArray(connections.size());
+    }
+
+    /**
+     * 파이프라인 생성 (연결 대여)
+     *
+     * <p>요청한 수만큼 대여하지 못하면 확보한 연결만으로 동작합니다.</p>
+     *
+     * @param connectionPool LDAP 연결 풀
+     * @param connectionCount 대여할 연결 수
+     * @param maxOutstandingPerConnection 연결당 최대 미완료 요청 수
+     * @param responseTimeoutMillis 요청별 응답 타임아웃 (0 이하면 연결 기본값 사용)
+     * @return AsyncWritePipeline
+     * @throws LDAPException 연결을 하나도 대여하지 못한 경우
+     */
+    static AsyncWritePipeline open(
+        LDAPConnectionPool connectionPool,
+        int connectionCount,
+        int maxOutstandingPerConnection,
+        long responseTimeoutMillis
+    ) throws LDAPException {
+        List<LDAPConnection> connections = new ArrayList<>(connectionCount);
+        try {
+            for (int i = 0; i < Math.max(1, connectionCount); i++) {
+                connections.add(connectionPool.getConnection());
+            }
+        } catch (LDAPException e) {
+            if (connections.isEmpty()) {
+                throw e;
+            }
+            log.warn("Async write pipeline opened with {} of {} connections: {}",
+                connections.size(), connectionCount, e.getMessage());
+        }
+        return new AsyncWritePipeline(connectionPool, connections, Math.max(1, maxOutstandingPerConnection),
+            responseTimeoutMillis);
+    }
+
+    /**
+     * 비동기 ADD 전송 (연결별 미완료 요청이 상한이면 대기)
+     *
+     * @param request ADD 요청
+     * @param onResult 결과 콜백 (전송 실패 시에도 실패 결과로 1회 호출)
+     */
+    void add(AddRequest request, Consumer<LDAPResult> onResult) throws InterruptedException {
+        if (responseTimeoutMillis > 0) {
+            request.setResponseTimeoutMillis(responseTimeoutMillis);
+        }
+        submit(onResult, (connection, listener) -> connection.asyncAdd(request, listener));
+    }
+
+    /**
+     * 비동기 MODIFY 전송 (연결별 미완료 요청이 상한이면 대기)
+     *
+     * @param request MODIFY 요청
+     * @param onResult 결과 콜백 (전송 실패 시에도 실패 결과로 1회 호출)
+     */
+    void modify(ModifyRequest request, Consumer<LDAPResult> onResult) throws InterruptedException {
+        if (responseTimeoutMillis > 0) {
+            request.setResponseTimeoutMillis(responseTimeoutMillis);
+        }
+        submit(onResult, (connection, listener) -> connection.asyncModify(request, listener));
+    }
+
+    /**
+     * 비동기 DELETE 전송 (연결별 미완료 요청이 상한이면 대기)
+     *
+     * @param request DELETE 요청
+     * @param onResult 결과 콜백 (전송 실패 시에도 실패 결과로 1회 호출)
+     */
+    void delete(DeleteRequest request, Consumer<LDAPResult> onResult) throws InterruptedException {
+        if (responseTimeoutMillis > 0) {
+            request.setResponseTimeoutMillis(responseTimeoutMillis);
+        }
+        submit(onResult, (connection, listener) -> connection.asyncDelete(request, listener));
+    }
+
+    private void submit(Consumer<LDAPResult> onResult, AsyncOperation operation) throws InterruptedException {
+        int slot = selectSlot();
+        if (slot < 0) {
+            onResult.accept(new LDAPException(ResultCode.SERVER_DOWN,
+                "No usable connection left in async write pipeline").toLDAPResult());
+            return;
+        }
+
+        permits[slot].acquire();
+        PendingOperation pending = new PendingOperation(slot, onResult, new AtomicBoolean());
+        outstanding.add(pending);
+        AsyncResultListener listener = (requestId, result) -> complete(pending, result);
+        try {
+            operation.send(connections.get(slot), listener);
+        } catch (LDAPException e) {
+            complete(pending, e.toLDAPResult());
+        }
+    }
+
+    /**
+     * 사용 가능한 연결 선택 (라운드 로빈, 모두 사용 불가면 -1)
+     */
+    private int selectSlot() {
+        int size = connections.size();
+        int start = Math.floorMod(nextSlot.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            int slot = (start + i) % size;
+            if (defunct.get(slot) == 0) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    private void complete(PendingOperation pending, LDAPResult result) {
+        try {
+            if (!ResultCode.isConnectionUsable(result.getResultCode())) {
+                defunct.set(pending.slot(), 1);
+            }
+            deliver(pending, result);
+        } finally {
+            permits[pending.slot()].release();
+        }
+    }
+
+    /**
+     * 요청별 결과 콜백 (이미 응답 또는 타임아웃으로 처리된 요청이면 무시)
+     *
+     * @return 콜백을 호출했으면 true
+     */
+    private boolean deliver(PendingOperation pending, LDAPResult result) {
+        if (!pending.delivered().compareAndSet(false, true)) {
+            return false;
+        }
+        outstanding.remove(pending);
+        try {
+            pending.onResult().accept(result);
+        } catch (RuntimeException e) {
+            log.warn("Async write result callback failed: {}", e.getMessage(), e);
+        }
+        return true;
+    }
+
+    /**
+     * 전송한 모든 요청의 응답(콜백 완료)까지 대기
+     *
+     * @return 제한 시간 내 모두 완료되면 true
+     */
+    boolean awaitCompletion(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        for (Semaphore semaphore : permits) {
+            long remaining = deadline - System.nanoTime();
+            if (!semaphore.tryAcquire(maxOutstandingPerConnection, Math.max(0, remaining), TimeUnit.NANOSECONDS)) {
+                return false;
+            }
+            semaphore.release(maxOutstandingPerConnection);
+        }
+        return true;
+    }
+
+    /**
+     * 응답을 받지 못한 요청을 모두 TIMEOUT 실패로 콜백 ({@link #awaitCompletion} 실패 후 호출)
+     *
+     * <p>해당 요청이 남은 연결은 사용 불가로 표시하여 이후 요청에 사용하지 않고 반납 시 폐기합니다.</p>
+     *
+     * @param message 실패 결과에 담을 진단 메시지
+     * @return TIMEOUT 실패로 처리한 요청 수
+     */
+    int failOutstanding(String message) {
+        LDAPResult timeout = new LDAPException(ResultCode.TIMEOUT, message).toLDAPResult();
+        int failed = 0;
+        for (PendingOperation pending : List.copyOf(outstanding)) {
+            defunct.set(pending.slot(), 1);
+            if (deliver(pending, timeout)) {
+                failed++;
+            }
+        }
+        return failed;
+    }
+
+    /**
+     * 연결 반납 (미완료 요청이 남았거나 오류가 발생한 연결은 폐기)
+     */
+    @Override
+    public void close() {
+        for (int slot = 0; slot < connections.size(); slot++) {
+            LDAPConnection connection = connections.get(slot);
+            boolean idle = permits[slot].availablePermits() == maxOutstandingPerConnection;
+            if (idle && defunct.get(slot) == 0) {
+                connectionPool.releaseConnection(connection);
+            } else {
+                connectionPool.releaseDefunctConnection(connection);
+            }
+        }
+    }
+
+    private record PendingOperation(int slot, Consumer<LDAPResult> onResult, AtomicBoolean delivered) {
+    }
+
+    @FunctionalInterface
+    private interface AsyncOperation {
+        void send(LDAPConnection connection, AsyncResultListener listener) throws LDAPException;
+    }
+}
@@ -0,0 +1,236 @@
+package com.smartcoreinc.localpkd.ldapintegration.infrastructure.adapter;
+
+import com.unboundid.ldap.sdk.DN;
+import com.unboundid.ldap.sdk.Entry;
+import com.unboundid.ldap.sdk.LDAPException;
+import com.unboundid.ldap.sdk.Modification;
+import com.unboundid.ldap.sdk.ModificationType;
+import com.unboundid.ldap.sdk.ModifyRequest;
+import org.bouncycastle.asn1.ASN1Integer;
+import org.bouncycastle.asn1.x509.Extension;
+import org.bouncycastle.cert.X509CRLHolder;
+
+import java.math.BigInteger;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * LdapSnapshotDiff - LDAP 스냅샷과 게시 대상 엔트리의 일괄 비교 결과
+ *
+ * <p>컨테이너 단위로 한 번에 조회한 LDAP 스냅샷(DN → {@link EntryDigest})과
+ * DB에서 생성한 게시 대상 엔트리를 메모리에서 비교하여, 필요한 ADD/MODIFY/DELETE만 산출합니다.
+ * 엔트리마다 BASE 검색 후 쓰기를 하던 방식과 달리 비교에 LDAP 왕복이 필요 없습니다.</p>
+ *
+ * <h3>비교 규칙</h3>
+ * <ul>
+ *   <li>LDAP에 없음: ADD</li>
+ *   <li>인증서 바이너리 해시가 다름: {@code userCertificate;binary} + description REPLACE</li>
+ *   <li>description만 다름: description REPLACE</li>
+ *   <li>CRL: 게시 대상 CRL Number가 더 클 때만 {@code certificateRevocationList;binary} REPLACE
+ *       (CRL Number가 없으면 바이너리 해시 비교)</li>
+ *   <li>DB에 없는 LDAP 엔트리: prune 모드에서만 DELETE</li>
+ * </ul>
+ *
+ * <p>모든 키는 {@link #normalizeDn(String)}으로 정규화된 DN입니다.</p>
+ */
+public final class LdapSnapshotDiff {
+
+    static final String CERTIFICATE_ATTRIBUTE = "userCertificate;binary";
+    static final String CRL_ATTRIBUTE = "certificateRevocationList;binary";
+    static final String DESCRIPTION_ATTRIBUTE = "description";
+
+    private static final HexFormat HEX = HexFormat.of();
+
+    private final List<Entry> adds;
+    private final List<ModifyRequest> modifies;
+    private final List<String> deletes;
+    private final int unchanged;
+
+    private LdapSnapshotDiff(List<Entry> adds, List<ModifyRequest> modifies, List<String> deletes, int unchanged) {
+        this.adds = Collections.unmodifiableList(adds);
+        this.modifies = Collections.unmodifiableList(modifies);
+        this.deletes = Collections.unmodifiableList(deletes);
+        this.unchanged = unchanged;
+    }
+
+    /**
+     * 게시 대상과 LDAP 스냅샷 비교
+     *
+     * @param desired 게시 대상 엔트리 (Key: 정규화 DN)
+     * @param current LDAP 스냅샷 (Key: 정규화 DN)
+     * @param prune true면 게시 대상에 없는 LDAP 엔트리를 삭제 대상으로 포함
+     * @return LdapSnapshotDiff
+     */
+    public static LdapSnapshotDiff compute(Map<String, Entry> desired, Map<String, EntryDigest> current, boolean prune) {
+        List<Entry> adds = new ArrayList<>();
+        List<ModifyRequest> modifies = new ArrayList<>();
+        List<String> deletes = new ArrayList<>();
+        int unchanged = 0;
+
+        for (Map.Entry<String, Entry> item : desired.entrySet()) {
+            Entry entry = item.getValue();
+            EntryDigest existing = current.get(item.getKey());
+            if (existing == null) {
+                adds.add(entry);
+                continue;
+            }
+
+            Optional<ModifyRequest> modify = entry.hasAttribute(CRL_ATTRIBUTE)
+                ? crlModification(entry, existing)
+                : certificateModification(entry, existing);
+            if (modify.isPresent()) {
+                modifies.add(modify.get());
+            } else {
+                unchanged++;
+            }
+        }
+
+        if (prune) {
+            current.forEach((normalizedDn, digest) -> {
+                if (!desired.containsKey(normalizedDn)) {
+                    deletes.add(digest.dn());
+                }
+            });
+        }
+
+        return new LdapSnapshotDiff(adds, modifies, deletes, unchanged);
+    }
+
+    private static Optional<ModifyRequest> certificateModification(Entry entry, EntryDigest existing) {
+        byte[] certBinary = entry.getAttributeValueBytes(CERTIFICATE_ATTRIBUTE);
+        String description = entry.getAttributeValue(DESCRIPTION_ATTRIBUTE);
+
+        if (certBinary != null && !sha256Hex(certBinary).equals(existing.contentHash())) {
+            List<Modification> modifications = new ArrayList<>();
+            modifications.add(new Modification(ModificationType.REPLACE, CERTIFICATE_ATTRIBUTE, certBinary));
+            modifications.add(description != null
+                ? new Modification(ModificationType.REPLACE, DESCRIPTION_ATTRIBUTE, description)
+                : new Modification(ModificationType.REPLACE, DESCRIPTION_ATTRIBUTE));
+            return Optional.of(new ModifyRequest(existing.dn(), modifications));
+        }
+        if (!Objects.equals(Objects.requireNonNullElse(description, ""),
+                Objects.requireNonNullElse(existing.description(), ""))) {
+            return Optional.of(new ModifyRequest(existing.dn(), description != null
+                ? new Modification(ModificationType.REPLACE, DESCRIPTION_ATTRIBUTE, description)
+                : new Modification(ModificationType.REPLACE, DESCRIPTION_ATTRIBUTE)));
+        }
+        return Optional.empty();
+    }
+
+    private static Optional<ModifyRequest> crlModification(Entry entry, EntryDigest existing) {
+        byte[] crlBinary = entry.getAttributeValueBytes(CRL_ATTRIBUTE);
+        BigInteger crlNumber = crlNumber(crlBinary).orElse(null);
+
+        boolean newer = (crlNumber != null && existing.crlNumber() != null)
+            ? crlNumber.compareTo(existing.crlNumber()) > 0
+            : !sha256Hex(crlBinary).equals(existing.contentHash());
+        if (!newer) {
+            return Optional.empty();
+        }
+        return Optional.of(new ModifyRequest(existing.dn(),
+            new Modification(ModificationType.REPLACE, CRL_ATTRIBUTE, crlBinary)));
+    }
+
+    public List<Entry> adds() {
+        return adds;
+    }
+
+    public List<ModifyRequest> modifies() {
+        return modifies;
+    }
+
+    public List<String> deletes() {
+        return deletes;
+    }
+
+    public int unchanged() {
+        return unchanged;
+    }
+
+    public boolean isEmpty() {
+        return adds.isEmpty() && modifies.isEmpty() && deletes.isEmpty();
+    }
+
+    // ========== Digest Helpers ==========
+
+    /**
+     * LDAP 엔트리 요약 (스냅샷 보관용, 바이너리 대신 해시만 유지)
+     *
+     * @param dn LDAP이 반환한 원본 DN (쓰기 요청에 그대로 사용)
+     * @param contentHash 인증서/CRL 바이너리 SHA-256 (16진수, 바이너리 없으면 null)
+     * @param description description 속성 값
+     * @param crlNumber CRL Number (CRL 엔트리가 아니거나 확장이 없으면 null)
+     */
+    public record EntryDigest(String dn, String contentHash, String description, BigInteger crlNumber) {
+
+        /**
+         * 엔트리에서 요약 생성
+         */
+        public static EntryDigest of(Entry entry) {
+            byte[] crlBinary = entry.getAttributeValueBytes(CRL_ATTRIBUTE);
+            byte[] binary = crlBinary != null ? crlBinary : entry.getAttributeValueBytes(CERTIFICATE_ATTRIBUTE);
+            return new EntryDigest(
+                entry.getDN(),
+                binary != null ? sha256Hex(binary) : null,
+                entry.getAttributeValue(DESCRIPTION_ATTRIBUTE),
+                crlBinary != null ? crlNumber(crlBinary).orElse(null) : null
+            );
+        }
+    }
+
+    /**
+     * 동일 DN의 CRL 엔트리 중 CRL Number가 더 큰 엔트리 선택 (같거나 비교 불가하면 먼저 것 유지)
+     */
+    public static Entry latestCrl(Entry first, Entry second) {
+        BigInteger firstNumber = crlNumber(first.getAttributeValueBytes(CRL_ATTRIBUTE)).orElse(null);
+        BigInteger secondNumber = crlNumber(second.getAttributeValueBytes(CRL_ATTRIBUTE)).orElse(null);
+        if (firstNumber == null) {
+            return secondNumber != null ? second : first;
+        }
+        return secondNumber != null && secondNumber.compareTo(firstNumber) > 0 ? second : first;
+    }
+
+    /**
+     * DN 정규화 (대소문자/공백/이스케이프 표기 차이 무시)
+     */
+    public static String normalizeDn(String dn) {
+        try {
+            return new DN(dn).toNormalizedString();
+        } catch (LDAPException e) {
+            return dn.toLowerCase(java.util.Locale.ROOT);
+        }
+    }
+
+    /**
+     * X.509 CRL 바이너리에서 CRL Number 추출 (RFC 5280 Section 5.2.3)
+     */
+    static Optional<BigInteger> crlNumber(byte[] crlBinary) {
+        if (crlBinary == null || crlBinary.length == 0) {
+            return Optional.empty();
+        }
+        try {
+            Extension crlNumberExt = new X509CRLHolder(crlBinary).getExtension(Extension.cRLNumber);
+            if (crlNumberExt == null) {
+                return Optional.empty();
+            }
+            return Optional.of(ASN1Integer.getInstance(crlNumberExt.getParsedValue()).getValue());
+        } catch (Exception e) {
+            return Optional.empty();
+        }
+    }
+
+    static String sha256Hex(byte[] data) {
+        try {
+            return HEX.formatHex(MessageDigest.getInstance("SHA-256").digest(data));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
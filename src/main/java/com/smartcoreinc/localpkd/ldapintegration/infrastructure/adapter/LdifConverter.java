@@ -4,6 +4,8 @@ import com.smartcoreinc.localpkd.certificatevalidation.domain.model.Certificate;
 import com.smartcoreinc.localpkd.certificatevalidation.domain.model.CertificateRevocationList;
 import com.smartcoreinc.localpkd.certificatevalidation.domain.model.CertificateType;
 import com.smartcoreinc.localpkd.fileparsing.domain.model.MasterList;
+import com.unboundid.ldap.sdk.Attribute;
+import com.unboundid.ldap.sdk.Entry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -15,8 +17,8 @@ import java.util.List;
 /**
  * LdifConverter - Certificate and CRL to LDIF format converter
  *
- * <p><b>Purpose</b>: Convert domain Certificate and CRL objects to LDIF text format
- * for uploading to OpenLDAP server</p>
+ * <p><b>Purpose</b>: Convert domain Certificate and CRL objects to UnboundID {@link Entry} objects
+ * for uploading to OpenLDAP server, and to LDIF text format for export</p>
  *
  * <h3>ICAO PKD LDIF Format (analyzed from real files)</h3>
  * <pre>
@@ -72,19 +74,33 @@ public class LdifConverter {
     /**
      * Convert Certificate to LDIF format following ICAO PKD structure
      *
+     * <p>Export only. LDAP publishing uses {@link #certificateToEntry(Certificate)} directly
+     * so the certificate binary is never base64-encoded and re-parsed.</p>
+     *
      * @param certificate Certificate aggregate to convert
      * @return LDIF formatted text
      * @throws IllegalArgumentException if certificate data is invalid
      */
     public String certificateToLdif(Certificate certificate) {
+        return certificateToEntry(certificate).toLDIFString();
+    }
+
+    /**
+     * Build LDAP Entry for Certificate following ICAO PKD structure
+     *
+     * <p>The DER binary is attached as the {@code userCertificate;binary} value without copying
+     * or base64 encoding; the returned entry can be sent as an {@code AddRequest} as-is.</p>
+     *
+     * @param certificate Certificate aggregate to convert
+     * @return UnboundID Entry (DN already under the configured base DN)
+     * @throws IllegalArgumentException if certificate data is invalid
+     */
+    public Entry certificateToEntry(Certificate certificate) {
         if (certificate == null) {
             throw new IllegalArgumentException("Certificate cannot be null");
         }
 
         try {
-            // Manual creation from domain object properties
-            log.debug("Converting certificate to LDIF from domain object: certId={}", certificate.getId().getId());
-
             // Extract certificate data
             String countryCode = certificate.getSubjectInfo().getCountryCode();
             String serialNumber = certificate.getX509Data().getSerialNumber();
@@ -109,60 +125,65 @@ public class LdifConverter {
                     dataHierarchy,
                     ldapProperties.getBase());
 
-            // Base64 encode certificate binary
-            String base64Cert = Base64.getEncoder().encodeToString(certBinary);
-
-            // Build validation status description
-            String description = buildValidationDescription(certificate);
-
-            // Build LDIF entry following ICAO PKD format
-            StringBuilder ldif = new StringBuilder();
-            ldif.append("dn: ").append(dn).append("\n");
-            ldif.append("pkdVersion: 1150").append("\n");  // ICAO PKD version
-            ldif.append("userCertificate;binary:: ").append(base64Cert).append("\n");
-            ldif.append("sn: ").append(serialNumber).append("\n");
-            ldif.append("cn: ").append(subjectDn).append("\n");
-            ldif.append("description: ").append(description).append("\n");  // Validation status
-            ldif.append("objectClass: inetOrgPerson").append("\n");
-            ldif.append("objectClass: pkdDownload").append("\n");
-            ldif.append("objectClass: organizationalPerson").append("\n");
-            ldif.append("objectClass: top").append("\n");
-            ldif.append("objectClass: person").append("\n");
+            // Build entry following ICAO PKD format
+            Entry entry = new Entry(dn);
+            entry.addAttribute("pkdVersion", "1150");  // ICAO PKD version
+            entry.addAttribute(new Attribute("userCertificate;binary", certBinary));
+            entry.addAttribute("sn", serialNumber);
+            entry.addAttribute("cn", subjectDn);
+            entry.addAttribute("description", buildValidationDescription(certificate));  // Validation status
 
             // Add pkdMasterList objectClass for CSCA
             if (certType == CertificateType.CSCA) {
-                ldif.append("objectClass: pkdMasterList").append("\n");
+                entry.addAttribute("objectClass", "inetOrgPerson", "pkdDownload", "organizationalPerson",
+                        "top", "person", "pkdMasterList");
+            } else {
+                entry.addAttribute("objectClass", "inetOrgPerson", "pkdDownload", "organizationalPerson",
+                        "top", "person");
             }
 
             // Append optional conformance attributes if they exist
             if (certificate.getAllAttributes() != null) {
                 List.of("pkdConformanceText", "pkdConformanceCode", "pkdConformancePolicy").forEach(attrName -> {
-                    if (certificate.getAllAttributes().containsKey(attrName)) {
-                        certificate.getAllAttributes().get(attrName)
-                                .forEach(value -> ldif.append(attrName).append(": ").append(value).append("\n"));
+                    List<String> values = certificate.getAllAttributes().get(attrName);
+                    if (values != null && !values.isEmpty()) {
+                        entry.addAttribute(new Attribute(attrName, values));
                     }
                 });
             }
 
-            log.debug("Converted certificate to LDIF: dn={}, type={}, size={} bytes",
+            log.debug("Converted certificate to LDAP entry: dn={}, type={}, size={} bytes",
                     dn, certType, certBinary.length);
 
-            return ldif.toString();
+            return entry;
 
         } catch (Exception e) {
-            log.error("Failed to convert certificate to LDIF: id={}", certificate.getId(), e);
-            throw new IllegalArgumentException("Failed to convert certificate to LDIF: " + e.getMessage(), e);
+            log.error("Failed to convert certificate to LDAP entry: id={}", certificate.getId(), e);
+            throw new IllegalArgumentException("Failed to convert certificate to LDAP entry: " + e.getMessage(), e);
         }
     }
 
     /**
      * Convert CertificateRevocationList to LDIF format
      *
+     * <p>Export only. LDAP publishing uses {@link #crlToEntry(CertificateRevocationList)}.</p>
+     *
      * @param crl CRL aggregate to convert
      * @return LDIF formatted text
      * @throws IllegalArgumentException if CRL data is invalid
      */
     public String crlToLdif(CertificateRevocationList crl) {
+        return crlToEntry(crl).toLDIFString();
+    }
+
+    /**
+     * Build LDAP Entry for CertificateRevocationList
+     *
+     * @param crl CRL aggregate to convert
+     * @return UnboundID Entry with the CRL DER as {@code certificateRevocationList;binary}
+     * @throws IllegalArgumentException if CRL data is invalid
+     */
+    public Entry crlToEntry(CertificateRevocationList crl) {
         if (crl == null) {
             throw new IllegalArgumentException("CRL cannot be null");
         }
@@ -181,28 +202,40 @@ public class LdifConverter {
                     countryCode,
                     ldapProperties.getBase());
 
-            // Base64 encode CRL binary
-            String base64Crl = Base64.getEncoder().encodeToString(crlBinary);
+            Entry entry = new Entry(dn);
+            entry.addAttribute("objectClass", "top", "cRLDistributionPoint");
+            entry.addAttribute("cn", issuerName);
+            entry.addAttribute(new Attribute("certificateRevocationList;binary", crlBinary));
 
-            // Build LDIF entry
-            StringBuilder ldif = new StringBuilder();
-            ldif.append("dn: ").append(dn).append("\n");
-            ldif.append("objectClass: top").append("\n");
-            ldif.append("objectClass: cRLDistributionPoint").append("\n");
-            ldif.append("cn: ").append(issuerName).append("\n");
-            ldif.append("certificateRevocationList;binary:: ").append(base64Crl).append("\n");
-
-            log.debug("Converted CRL to LDIF: dn={}, size={} bytes",
+            log.debug("Converted CRL to LDAP entry: dn={}, size={} bytes",
                     dn, crlBinary.length);
 
-            return ldif.toString();
+            return entry;
 
         } catch (Exception e) {
-            log.error("Failed to convert CRL to LDIF: id={}", crl.getId(), e);
-            throw new IllegalArgumentException("Failed to convert CRL to LDIF: " + e.getMessage(), e);
+            log.error("Failed to convert CRL to LDAP entry: id={}", crl.getId(), e);
+            throw new IllegalArgumentException("Failed to convert CRL to LDAP entry: " + e.getMessage(), e);
         }
     }
 
+    /**
+     * Container DNs that hold certificate and CRL entries for a country
+     *
+     * <p>These are the parents of every DN built by {@link #certificateToEntry(Certificate)} and
+     * {@link #crlToEntry(CertificateRevocationList)}. Master List containers (o=ml) are not included.</p>
+     *
+     * @param countryCode ISO 3166-1 alpha-2 country code
+     * @return o=csca, o=dsc (data/nc-data) and o=crl container DNs
+     */
+    public List<String> certificateContainerDns(String countryCode) {
+        String base = ldapProperties.getBase();
+        return List.of(
+                String.format("o=csca,c=%s,dc=data,dc=download,dc=pkd,%s", countryCode, base),
+                String.format("o=dsc,c=%s,dc=data,dc=download,dc=pkd,%s", countryCode, base),
+                String.format("o=dsc,c=%s,dc=nc-data,dc=download,dc=pkd,%s", countryCode, base),
+                String.format("o=crl,c=%s,dc=data,dc=download,dc=pkd,%s", countryCode, base));
+    }
+
     /**
      * Convert Master List to country-specific LDIF entry
      *
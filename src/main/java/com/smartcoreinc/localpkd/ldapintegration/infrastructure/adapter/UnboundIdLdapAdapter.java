@@ -1,11 +1,15 @@
 package com.smartcoreinc.localpkd.ldapintegration.infrastructure.adapter;
 
 import com.unboundid.ldap.sdk.*;
+import com.unboundid.asn1.ASN1OctetString;
+import com.unboundid.ldap.sdk.controls.SimplePagedResultsControl;
 import com.unboundid.ldif.LDIFReader;
 import lombok.extern.slf4j.Slf4j;
 import org.bouncycastle.cert.X509CRLHolder;
 import org.bouncycastle.asn1.x509.Extension;
 import org.bouncycastle.asn1.ASN1Integer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
@@ -15,13 +19,16 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
@@ -36,9 +43,10 @@ import com.smartcoreinc.localpkd.ldapintegration.domain.port.LdapConnectionPort;
  * <ul>
  *   <li>LDAP 연결/해제 (Connection Pool 사용)</li>
  *   <li>LDIF 엔트리 직접 추가 (원시 LDIF 데이터 → OpenLDAP)</li>
+ *   <li>도메인 객체에서 생성한 {@link Entry} 직접 추가 (LDIF 텍스트 변환 없음)</li>
  *   <li>DN 자동 변환 (dc=icao,dc=int → dc=ldap,dc=smartcoreinc,dc=com)</li>
  *   <li>중복 체크 (DN 기준 - OpenLDAP 기준)</li>
- *   <li>배치 추가 지원</li>
+ *   <li>배치 추가 지원 (비동기 파이프라인 쓰기: asyncAdd/asyncModify)</li>
  * </ul>
  *
  * <h3>DN 변환 규칙</h3>
@@ -100,9 +108,40 @@ public class UnboundIdLdapAdapter implements LdapConnectionPort {
     private final Set<String> existingDnCache = ConcurrentHashMap.newKeySet();
 
     /**
-     * 병렬 LDAP 업로드를 위한 스레드 풀 크기
+     * 배치 쓰기 완료 대기 시간 (분)
      */
-    private static final int PARALLEL_UPLOAD_THREADS = 8;
+    private static final long WRITE_BATCH_TIMEOUT_MINUTES = 5;
+
+    /**
+     * 비동기 파이프라인 쓰기 사용 여부 (false면 스레드당 1건씩 블로킹 쓰기)
+     */
+    @Value("${app.ldap.write.pipeline.enabled:true}")
+    private boolean pipelineEnabled;
+
+    /**
+     * 파이프라인이 대여하는 LDAP 연결 수
+     */
+    @Value("${app.ldap.write.pipeline.connections:4}")
+    private int pipelineConnections;
+
+    /**
+     * 연결당 최대 미완료 요청 수
+     */
+    @Value("${app.ldap.write.pipeline.max-outstanding:64}")
+    private int pipelineMaxOutstanding;
+
+    /**
+     * 파이프라인 요청별 응답 타임아웃 (ms)
+     */
+    @Value("${app.ldap.write.response-timeout-ms:30000}")
+    private long writeResponseTimeoutMillis;
+
+    /**
+     * 블로킹 쓰기 및 파이프라인 후속 작업(기존 엔트리 비교)용 장기 실행 스레드 풀
+     */
+    @Autowired
+    @Qualifier("ldapWriteExecutor")
+    private Executor ldapWriteExecutor;
 
     /**
      * LDAP 연결 수립 (Connection Pool 생성)
@@ -285,7 +324,24 @@ public class UnboundIdLdapAdapter implements LdapConnectionPort {
     }
 
     /**
-     * LDIF 엔트리 배치 추가 (병렬 처리 최적화)
+     * LDIF 엔트리 배치 추가
+     *
+     * <p>LDIF 텍스트를 한 번씩 파싱한 뒤 {@link #addEntriesBatch(List)}로 위임합니다.
+     * 도메인 객체에서 바로 업로드하는 경우에는 {@link LdifConverter#certificateToEntry}로 생성한
+     * {@link Entry}를 직접 전달하십시오.</p>
+     *
+     * @param ldifEntries LDIF 엔트리 텍스트 목록
+     * @return 추가 성공 횟수
+     */
+    public int addLdifEntriesBatch(List<String> ldifEntries) {
+        if (ldifEntries == null || ldifEntries.isEmpty()) {
+            return 0;
+        }
+        return addEntriesBatch(parseLdifEntries(ldifEntries));
+    }
+
+    /**
+     * LDAP 엔트리 배치 추가 (병렬 처리 최적화)
      *
      * <p><b>성능 최적화</b>:</p>
      * <ul>
@@ -294,55 +350,101 @@ public class UnboundIdLdapAdapter implements LdapConnectionPort {
      *   <li>Phase 3: 중복 체크 캐싱 - 이미 확인된 DN 스킵</li>
      * </ul>
      *
-     * @param ldifEntries LDIF 엔트리 텍스트 목록
+     * @param entries 추가할 엔트리 목록 (DN 변환은 자동 적용)
      * @return 추가 성공 횟수
      */
-    public int addLdifEntriesBatch(List<String> ldifEntries) {
-        if (ldifEntries == null || ldifEntries.isEmpty()) {
+    public int addEntriesBatch(List<Entry> entries) {
+        if (entries == null || entries.isEmpty()) {
             return 0;
         }
 
         long startTime = System.currentTimeMillis();
-        log.info("=== LDIF Batch Add started: {} entries (Parallel Mode) ===", ldifEntries.size());
+        log.info("=== LDAP Entry Batch Add started: {} entries (Parallel Mode) ===", entries.size());
 
         // 캐시 초기화 (새 배치 시작)
         clearCaches();
 
-        // Phase 1: 모든 엔트리 사전 파싱 및 부모 DN 수집
-        List<ParsedLdifEntry> parsedEntries = new ArrayList<>();
+        // Phase 1: DN 변환 및 부모 DN 수집
         Set<String> allParentDns = ConcurrentHashMap.newKeySet();
+        List<PreparedEntry> preparedEntries = prepareEntries(entries, allParentDns);
 
-        for (String ldifEntryText : ldifEntries) {
-            try {
-                ParsedLdifEntry parsed = parseLdifEntry(ldifEntryText);
-                if (parsed != null) {
-                    parsedEntries.add(parsed);
-                    collectParentDns(parsed.convertedDn, allParentDns);
-                }
-            } catch (Exception e) {
-                log.debug("Failed to parse LDIF entry: {}", e.getMessage());
-            }
-        }
-
-        log.info("Parsed {} entries, {} unique parent DNs to check",
-            parsedEntries.size(), allParentDns.size());
+        log.info("Prepared {} entries, {} unique parent DNs to check",
+            preparedEntries.size(), allParentDns.size());
 
         // Phase 2: 부모 엔트리 순차 생성 (계층 구조 보장)
         ensureAllParentEntriesExist(allParentDns);
 
-        // Phase 3: 데이터 엔트리 병렬 업로드
+        // Phase 3: 데이터 엔트리 업로드 (비동기 파이프라인 또는 병렬 블로킹)
         AtomicInteger successCount = new AtomicInteger(0);
         AtomicInteger skipCount = new AtomicInteger(0);
         AtomicInteger errorCount = new AtomicInteger(0);
 
-        int poolSize = Math.min(PARALLEL_UPLOAD_THREADS,
-            connectionPool.getMaximumAvailableConnections());
-        ExecutorService executor = Executors.newFixedThreadPool(poolSize);
+        boolean pipelined = pipelineEnabled && addPreparedEntriesPipelined(preparedEntries, successCount, skipCount, errorCount);
+        if (!pipelined) {
+            addPreparedEntriesBlocking(preparedEntries, successCount, skipCount, errorCount);
+        }
 
-        List<CompletableFuture<Void>> futures = parsedEntries.stream()
-            .map(parsed -> CompletableFuture.runAsync(() -> {
+        long elapsed = System.currentTimeMillis() - startTime;
+        log.info("=== LDAP Entry Batch Add completed in {}ms ({}): {} success, {} skipped, {} errors ===",
+            elapsed, pipelined ? "pipelined" : "blocking", successCount.get(), skipCount.get(), errorCount.get());
+
+        return successCount.get();
+    }
+
+    /**
+     * 비동기 파이프라인 추가 (사전 중복 검색 없이 ADD 후 ENTRY_ALREADY_EXISTS는 스킵)
+     *
+     * @return 파이프라인으로 처리했으면 true, 연결 대여 실패로 처리하지 못했으면 false
+     */
+    private boolean addPreparedEntriesPipelined(
+        List<PreparedEntry> preparedEntries,
+        AtomicInteger successCount,
+        AtomicInteger skipCount,
+        AtomicInteger errorCount
+    ) {
+        try (AsyncWritePipeline pipeline = openWritePipeline()) {
+            for (PreparedEntry prepared : preparedEntries) {
+                if (existingDnCache.contains(prepared.convertedDn)) {
+                    skipCount.incrementAndGet();
+                    continue;
+                }
+                pipeline.add(new AddRequest(prepared.convertedDn, prepared.attributes), result -> {
+                    if (result.getResultCode() == ResultCode.SUCCESS) {
+                        successCount.incrementAndGet();
+                    } else if (result.getResultCode() == ResultCode.ENTRY_ALREADY_EXISTS) {
+                        existingDnCache.add(prepared.convertedDn);
+                        skipCount.incrementAndGet();
+                    } else {
+                        log.debug("Failed to add entry: {} ({})", prepared.convertedDn, result.getResultCode());
+                        errorCount.incrementAndGet();
+                    }
+                });
+            }
+            awaitPipeline(pipeline);
+            return true;
+        } catch (LDAPException e) {
+            log.warn("Async write pipeline unavailable, falling back to blocking writes: {}", e.getMessage());
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Async write pipeline interrupted");
+            return true;
+        }
+    }
+
+    /**
+     * 병렬 블로킹 추가 (엔트리당 중복 검색 + ADD)
+     */
+    private void addPreparedEntriesBlocking(
+        List<PreparedEntry> preparedEntries,
+        AtomicInteger successCount,
+        AtomicInteger skipCount,
+        AtomicInteger errorCount
+    ) {
+        List<CompletableFuture<Void>> futures = preparedEntries.stream()
+            .map(prepared -> CompletableFuture.runAsync(() -> {
                 try {
-                    boolean success = addParsedEntry(parsed);
+                    boolean success = addPreparedEntry(prepared);
                     if (success) {
                         successCount.incrementAndGet();
                     } else {
@@ -352,43 +454,40 @@ public class UnboundIdLdapAdapter implements LdapConnectionPort {
                     log.debug("Failed to add entry: {}", e.getMessage());
                     errorCount.incrementAndGet();
                 }
-            }, executor))
+            }, ldapWriteExecutor))
             .collect(Collectors.toList());
 
         // 모든 작업 완료 대기
         CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+    }
 
-        executor.shutdown();
-        try {
-            executor.awaitTermination(5, TimeUnit.MINUTES);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            log.warn("Executor interrupted during shutdown");
-        }
-
-        long elapsed = System.currentTimeMillis() - startTime;
-        log.info("=== LDIF Batch Add completed in {}ms: {} success, {} skipped, {} errors ===",
-            elapsed, successCount.get(), skipCount.get(), errorCount.get());
+    private AsyncWritePipeline openWritePipeline() throws LDAPException {
+        return AsyncWritePipeline.open(connectionPool, pipelineConnections, pipelineMaxOutstanding,
+            writeResponseTimeoutMillis);
+    }
 
-        return successCount.get();
+    /**
+     * 파이프라인 응답 대기 (제한 시간 내 응답이 없는 요청은 TIMEOUT 실패로 콜백되어 오류로 집계됨)
+     */
+    private void awaitPipeline(AsyncWritePipeline pipeline) throws InterruptedException {
+        if (!pipeline.awaitCompletion(WRITE_BATCH_TIMEOUT_MINUTES, TimeUnit.MINUTES)) {
+            int failed = pipeline.failOutstanding(
+                "No response within " + WRITE_BATCH_TIMEOUT_MINUTES + " minutes");
+            log.warn("Async write pipeline did not drain within {} minutes: {} outstanding operations failed",
+                WRITE_BATCH_TIMEOUT_MINUTES, failed);
+        }
     }
 
     /**
-     * LDIF 엔트리 사전 파싱 (DN 변환 포함)
+     * LDIF 텍스트 1건 파싱 (DN 변환 없음)
+     *
+     * @return 파싱된 엔트리 (빈 텍스트면 null)
      */
-    private ParsedLdifEntry parseLdifEntry(String ldifEntryText) throws LDAPException, IOException {
+    private Entry readLdifEntry(String ldifEntryText) throws LDAPException {
         LDIFReader ldifReader = new LDIFReader(new ByteArrayInputStream(ldifEntryText.getBytes()));
         try {
-            Entry entry = ldifReader.readEntry();
-            if (entry == null) {
-                return null;
-            }
-
-            String originalDn = entry.getDN();
-            String convertedDn = convertDn(originalDn);
-
-            return new ParsedLdifEntry(convertedDn, entry.getAttributes());
-        } catch (com.unboundid.ldif.LDIFException e) {
+            return ldifReader.readEntry();
+        } catch (com.unboundid.ldif.LDIFException | IOException e) {
             throw new LDAPException(ResultCode.DECODING_ERROR, "LDIF parsing error: " + e.getMessage(), e);
         } finally {
             try {
@@ -400,9 +499,40 @@ public class UnboundIdLdapAdapter implements LdapConnectionPort {
     }
 
     /**
-     * 파싱된 엔트리 추가 (부모 체크 없이)
+     * LDIF 텍스트 목록 파싱 (파싱 실패 항목은 제외)
+     */
+    private List<Entry> parseLdifEntries(List<String> ldifEntries) {
+        List<Entry> entries = new ArrayList<>(ldifEntries.size());
+        for (String ldifEntryText : ldifEntries) {
+            try {
+                Entry entry = readLdifEntry(ldifEntryText);
+                if (entry != null) {
+                    entries.add(entry);
+                }
+            } catch (Exception e) {
+                log.debug("Failed to parse LDIF entry: {}", e.getMessage());
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * DN 변환 및 부모 DN 수집
+     */
+    private List<PreparedEntry> prepareEntries(List<Entry> entries, Set<String> allParentDns) {
+        List<PreparedEntry> preparedEntries = new ArrayList<>(entries.size());
+        for (Entry entry : entries) {
+            PreparedEntry prepared = new PreparedEntry(convertDn(entry.getDN()), entry.getAttributes());
+            preparedEntries.add(prepared);
+            collectParentDns(prepared.convertedDn, allParentDns);
+        }
+        return preparedEntries;
+    }
+
+    /**
+     * DN 변환된 엔트리 추가 (부모 체크 없이)
      */
-    private boolean addParsedEntry(ParsedLdifEntry parsed) throws LDAPException {
+    private boolean addPreparedEntry(PreparedEntry parsed) throws LDAPException {
         // 캐시된 중복 체크
         if (existingDnCache.contains(parsed.convertedDn)) {
             return false;
@@ -492,13 +622,13 @@ public class UnboundIdLdapAdapter implements LdapConnectionPort {
     }
 
     /**
-     * 파싱된 LDIF 엔트리 (내부 사용)
+     * DN 변환이 적용된 엔트리 (내부 사용)
      */
-    private static class ParsedLdifEntry {
+    private static class PreparedEntry {
         final String convertedDn;
         final java.util.Collection<Attribute> attributes;
 
-        ParsedLdifEntry(String convertedDn, java.util.Collection<Attribute> attributes) {
+        PreparedEntry(String convertedDn, java.util.Collection<Attribute> attributes) {
             this.convertedDn = convertedDn;
             this.attributes = attributes;
         }
@@ -1032,19 +1162,26 @@ public class UnboundIdLdapAdapter implements LdapConnectionPort {
      */
     public CrlAddResult addOrUpdateCrlEntry(String ldifEntryText) {
         try {
-            // LDIF 파싱
-            LDIFReader ldifReader = new LDIFReader(new ByteArrayInputStream(ldifEntryText.getBytes()));
-            Entry entry;
-            try {
-                entry = ldifReader.readEntry();
-            } finally {
-                try { ldifReader.close(); } catch (IOException ignored) {}
-            }
-
+            Entry entry = readLdifEntry(ldifEntryText);
             if (entry == null) {
                 return CrlAddResult.ERROR;
             }
+            return addOrUpdateCrlEntry(entry);
+        } catch (Exception e) {
+            log.error("Failed to add or update CRL: {}", e.getMessage(), e);
+            return CrlAddResult.ERROR;
+        }
+    }
 
+    /**
+     * CRL 엔트리 추가 또는 업데이트 (RFC 5280 기준 비교 포함)
+     *
+     * @param entry {@link LdifConverter#crlToEntry}로 생성한 CRL 엔트리
+     * @return 결과 (ADDED, UPDATED, SKIPPED, ERROR)
+     * @see #addOrUpdateCrlEntry(String)
+     */
+    public CrlAddResult addOrUpdateCrlEntry(Entry entry) {
+        try {
             // DN 변환
             String originalDn = entry.getDN();
             String convertedDn = convertDn(originalDn);
@@ -1136,16 +1273,33 @@ public class UnboundIdLdapAdapter implements LdapConnectionPort {
             return new CrlBatchResult(0, 0, 0, 0);
         }
 
+        List<Entry> entries = parseLdifEntries(ldifEntries);
+        CrlBatchResult result = addOrUpdateCrls(entries);
+        int parseErrors = ldifEntries.size() - entries.size();
+        return new CrlBatchResult(result.added(), result.updated(), result.skipped(), result.errors() + parseErrors);
+    }
+
+    /**
+     * CRL 엔트리 배치 추가/업데이트 (RFC 5280 기준 비교 포함)
+     *
+     * @param entries {@link LdifConverter#crlToEntry}로 생성한 CRL 엔트리 목록
+     * @return 처리 결과
+     */
+    public CrlBatchResult addOrUpdateCrls(List<Entry> entries) {
+        if (entries == null || entries.isEmpty()) {
+            return new CrlBatchResult(0, 0, 0, 0);
+        }
+
         long startTime = System.currentTimeMillis();
-        log.info("=== CRL Batch Add/Update started: {} entries (RFC 5280 Comparison) ===", ldifEntries.size());
+        log.info("=== CRL Batch Add/Update started: {} entries (RFC 5280 Comparison) ===", entries.size());
 
         AtomicInteger addedCount = new AtomicInteger(0);
         AtomicInteger updatedCount = new AtomicInteger(0);
         AtomicInteger skippedCount = new AtomicInteger(0);
         AtomicInteger errorCount = new AtomicInteger(0);
 
-        for (String ldifEntryText : ldifEntries) {
-            CrlAddResult result = addOrUpdateCrlEntry(ldifEntryText);
+        for (Entry entry : entries) {
+            CrlAddResult result = addOrUpdateCrlEntry(entry);
 
             switch (result) {
                 case ADDED -> addedCount.incrementAndGet();
@@ -1362,19 +1516,26 @@ public class UnboundIdLdapAdapter implements LdapConnectionPort {
      */
     public CertAddResult addOrUpdateCertificateEntry(String ldifEntryText) {
         try {
-            // LDIF 파싱
-            LDIFReader ldifReader = new LDIFReader(new ByteArrayInputStream(ldifEntryText.getBytes()));
-            Entry entry;
-            try {
-                entry = ldifReader.readEntry();
-            } finally {
-                try { ldifReader.close(); } catch (IOException ignored) {}
-            }
-
+            Entry entry = readLdifEntry(ldifEntryText);
             if (entry == null) {
                 return CertAddResult.ERROR;
             }
+            return addOrUpdateCertificateEntry(entry);
+        } catch (Exception e) {
+            log.error("Failed to add or update certificate: {}", e.getMessage(), e);
+            return CertAddResult.ERROR;
+        }
+    }
 
+    /**
+     * 인증서 엔트리 추가 또는 업데이트 (RFC 5280 기준 비교 포함)
+     *
+     * @param entry {@link LdifConverter#certificateToEntry}로 생성한 인증서 엔트리
+     * @return 결과 (ADDED, UPDATED, SKIPPED, ERROR)
+     * @see #addOrUpdateCertificateEntry(String)
+     */
+    public CertAddResult addOrUpdateCertificateEntry(Entry entry) {
+        try {
             // DN 변환
             String originalDn = entry.getDN();
             String convertedDn = convertDn(originalDn);
@@ -1447,73 +1608,163 @@ public class UnboundIdLdapAdapter implements LdapConnectionPort {
             return new CertBatchResult(0, 0, 0, 0);
         }
 
+        List<Entry> entries = parseLdifEntries(ldifEntries);
+        CertBatchResult result = addOrUpdateCertificates(entries);
+        int parseErrors = ldifEntries.size() - entries.size();
+        return new CertBatchResult(result.added(), result.updated(), result.skipped(), result.errors() + parseErrors);
+    }
+
+    /**
+     * 인증서 엔트리 배치 추가/업데이트 (RFC 5280 기준 비교 포함)
+     *
+     * @param entries {@link LdifConverter#certificateToEntry}로 생성한 인증서 엔트리 목록
+     * @return 처리 결과
+     */
+    public CertBatchResult addOrUpdateCertificates(List<Entry> entries) {
+        if (entries == null || entries.isEmpty()) {
+            return new CertBatchResult(0, 0, 0, 0);
+        }
+
         long startTime = System.currentTimeMillis();
-        log.info("=== Certificate Batch Add/Update started: {} entries (RFC 5280 Comparison) ===", ldifEntries.size());
+        log.info("=== Certificate Batch Add/Update started: {} entries (RFC 5280 Comparison) ===", entries.size());
 
         // 캐시 초기화
         clearCaches();
 
-        // Phase 1: 모든 엔트리 사전 파싱 및 부모 DN 수집
-        List<ParsedLdifEntry> parsedEntries = new ArrayList<>();
+        // Phase 1: 부모 DN 수집
         Set<String> allParentDns = ConcurrentHashMap.newKeySet();
-
-        for (String ldifEntryText : ldifEntries) {
-            try {
-                ParsedLdifEntry parsed = parseLdifEntry(ldifEntryText);
-                if (parsed != null) {
-                    parsedEntries.add(parsed);
-                    collectParentDns(parsed.convertedDn, allParentDns);
-                }
-            } catch (Exception e) {
-                log.debug("Failed to parse LDIF entry: {}", e.getMessage());
-            }
+        for (Entry entry : entries) {
+            collectParentDns(convertDn(entry.getDN()), allParentDns);
         }
 
-        log.info("Parsed {} certificate entries, {} unique parent DNs",
-            parsedEntries.size(), allParentDns.size());
+        log.info("Collected {} unique parent DNs for {} certificate entries",
+            allParentDns.size(), entries.size());
 
         // Phase 2: 부모 엔트리 생성
         ensureAllParentEntriesExist(allParentDns);
 
-        // Phase 3: 인증서 병렬 업로드
+        // Phase 3: 인증서 업로드 (비동기 파이프라인 또는 병렬 블로킹)
         AtomicInteger addedCount = new AtomicInteger(0);
         AtomicInteger updatedCount = new AtomicInteger(0);
         AtomicInteger skippedCount = new AtomicInteger(0);
         AtomicInteger errorCount = new AtomicInteger(0);
 
-        int poolSize = Math.min(PARALLEL_UPLOAD_THREADS, connectionPool.getMaximumAvailableConnections());
-        ExecutorService executor = Executors.newFixedThreadPool(poolSize);
-
-        List<CompletableFuture<Void>> futures = ldifEntries.stream()
-            .map(ldifEntryText -> CompletableFuture.runAsync(() -> {
-                CertAddResult result = addOrUpdateCertificateEntry(ldifEntryText);
-                switch (result) {
-                    case ADDED -> addedCount.incrementAndGet();
-                    case UPDATED -> updatedCount.incrementAndGet();
-                    case SKIPPED -> skippedCount.incrementAndGet();
-                    case ERROR -> errorCount.incrementAndGet();
-                }
-            }, executor))
-            .collect(Collectors.toList());
-
-        // 모든 작업 완료 대기
-        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        boolean pipelined = pipelineEnabled
+            && addOrUpdateCertificatesPipelined(entries, addedCount, updatedCount, skippedCount, errorCount);
+        if (!pipelined) {
+            List<CompletableFuture<Void>> futures = entries.stream()
+                .map(entry -> CompletableFuture.runAsync(() -> {
+                    CertAddResult result = addOrUpdateCertificateEntry(entry);
+                    switch (result) {
+                        case ADDED -> addedCount.incrementAndGet();
+                        case UPDATED -> updatedCount.incrementAndGet();
+                        case SKIPPED -> skippedCount.incrementAndGet();
+                        case ERROR -> errorCount.incrementAndGet();
+                    }
+                }, ldapWriteExecutor))
+                .collect(Collectors.toList());
 
-        executor.shutdown();
-        try {
-            executor.awaitTermination(5, TimeUnit.MINUTES);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            log.warn("Executor interrupted during shutdown");
+            // 모든 작업 완료 대기
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
         }
 
         long elapsed = System.currentTimeMillis() - startTime;
-        log.info("=== Certificate Batch Add/Update completed in {}ms: {} added, {} updated, {} skipped, {} errors ===",
-            elapsed, addedCount.get(), updatedCount.get(), skippedCount.get(), errorCount.get());
+        log.info("=== Certificate Batch Add/Update completed in {}ms ({}): {} added, {} updated, {} skipped, {} errors ===",
+            elapsed, pipelined ? "pipelined" : "blocking",
+            addedCount.get(), updatedCount.get(), skippedCount.get(), errorCount.get());
 
         return new CertBatchResult(addedCount.get(), updatedCount.get(), skippedCount.get(), errorCount.get());
     }
 
+    /**
+     * 인증서 비동기 파이프라인 추가/업데이트
+     *
+     * <ol>
+     *   <li>전체 엔트리를 asyncAdd로 전송 (신규 인증서는 비교 검색 없이 1회 왕복)</li>
+     *   <li>ENTRY_ALREADY_EXISTS 엔트리만 기존 인증서와 비교 ({@link #compareCertificate}, 스레드 풀 병렬)</li>
+     *   <li>description이 달라진 엔트리를 asyncModify로 전송</li>
+     * </ol>
+     *
+     * @return 파이프라인으로 처리했으면 true, 연결 대여 실패로 처리하지 못했으면 false
+     */
+    private boolean addOrUpdateCertificatesPipelined(
+        List<Entry> entries,
+        AtomicInteger addedCount,
+        AtomicInteger updatedCount,
+        AtomicInteger skippedCount,
+        AtomicInteger errorCount
+    ) {
+        try (AsyncWritePipeline pipeline = openWritePipeline()) {
+            // 1. ADD
+            Queue<PendingCertificate> existing = new ConcurrentLinkedQueue<>();
+            for (Entry entry : entries) {
+                String convertedDn = convertDn(entry.getDN());
+                pipeline.add(new AddRequest(convertedDn, entry.getAttributes()), result -> {
+                    if (result.getResultCode() == ResultCode.SUCCESS) {
+                        addedCount.incrementAndGet();
+                    } else if (result.getResultCode() == ResultCode.ENTRY_ALREADY_EXISTS) {
+                        existing.add(new PendingCertificate(convertedDn,
+                            entry.getAttributeValueBytes("userCertificate;binary"),
+                            entry.getAttributeValue("description")));
+                    } else {
+                        log.error("Failed to add certificate: {} ({})", convertedDn, result.getResultCode());
+                        errorCount.incrementAndGet();
+                    }
+                });
+            }
+            awaitPipeline(pipeline);
+
+            if (existing.isEmpty()) {
+                return true;
+            }
+
+            // 2. 기존 인증서 비교 (블로킹 검색은 reader 스레드가 아닌 스레드 풀에서 수행)
+            Queue<PendingCertificate> changed = new ConcurrentLinkedQueue<>();
+            CompletableFuture.allOf(existing.stream()
+                .map(pending -> CompletableFuture.runAsync(() -> {
+                    switch (compareCertificate(pending.dn(), pending.certBinary(), pending.description())) {
+                        case DESCRIPTION_CHANGED -> changed.add(pending);
+                        case IDENTICAL -> skippedCount.incrementAndGet();
+                        default -> errorCount.incrementAndGet();
+                    }
+                }, ldapWriteExecutor))
+                .toArray(CompletableFuture[]::new)).join();
+
+            // 3. MODIFY
+            for (PendingCertificate pending : changed) {
+                ModifyRequest modifyRequest = new ModifyRequest(pending.dn(),
+                    new Modification(ModificationType.REPLACE, "description", pending.description()));
+                pipeline.modify(modifyRequest, result -> {
+                    if (result.getResultCode() == ResultCode.SUCCESS) {
+                        updatedCount.incrementAndGet();
+                    } else {
+                        log.error("Failed to update certificate description: {} ({})",
+                            pending.dn(), result.getResultCode());
+                        errorCount.incrementAndGet();
+                    }
+                });
+            }
+            awaitPipeline(pipeline);
+
+            log.debug("Pipelined certificate batch: {} existing entries compared, {} descriptions updated",
+                existing.size(), changed.size());
+            return true;
+
+        } catch (LDAPException e) {
+            log.warn("Async write pipeline unavailable, falling back to blocking writes: {}", e.getMessage());
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Async write pipeline interrupted");
+            return true;
+        }
+    }
+
+    /**
+     * 이미 존재하는 인증서 엔트리 (비교/업데이트 대기)
+     */
+    private record PendingCertificate(String dn, byte[] certBinary, String description) {}
+
     /**
      * 인증서 배치 처리 결과
      */
@@ -1523,6 +1774,175 @@ public class UnboundIdLdapAdapter implements LdapConnectionPort {
         }
     }
 
+    // ============================================================================
+    // Snapshot Sync Methods (Bulk Diff)
+    // ============================================================================
+
+    /**
+     * 스냅샷 조회 페이지 크기 (Simple Paged Results)
+     */
+    private static final int SNAPSHOT_PAGE_SIZE = 1000;
+
+    /**
+     * 컨테이너 스냅샷 조회 (한 단계 하위 엔트리 전체를 페이지 단위로 1회 검색)
+     *
+     * <p>엔트리마다 BASE 검색을 하지 않고, 컨테이너(o=csca/o=dsc/o=crl) 하위 엔트리의
+     * DN과 내용 요약(바이너리 해시, CRL Number, description)만 메모리에 보관합니다.</p>
+     *
+     * @param containerDn 컨테이너 DN (예: o=dsc,c=KR,dc=data,dc=download,dc=pkd,{baseDN})
+     * @return 정규화 DN → EntryDigest (컨테이너가 없으면 빈 맵)
+     * @throws LDAPException 검색 실패 시 (NO_SUCH_OBJECT 제외)
+     */
+    public Map<String, LdapSnapshotDiff.EntryDigest> snapshotContainer(String containerDn) throws LDAPException {
+        Map<String, LdapSnapshotDiff.EntryDigest> snapshot = new HashMap<>();
+        LDAPConnection connection = connectionPool.getConnection();
+        try {
+            ASN1OctetString cookie = null;
+            do {
+                SearchRequest request = new SearchRequest(containerDn, SearchScope.ONE, "(objectClass=*)",
+                    LdapSnapshotDiff.CERTIFICATE_ATTRIBUTE,
+                    LdapSnapshotDiff.CRL_ATTRIBUTE,
+                    LdapSnapshotDiff.DESCRIPTION_ATTRIBUTE);
+                request.setControls(new SimplePagedResultsControl(SNAPSHOT_PAGE_SIZE, cookie));
+
+                SearchResult result = connection.search(request);
+                for (SearchResultEntry entry : result.getSearchEntries()) {
+                    snapshot.put(LdapSnapshotDiff.normalizeDn(entry.getDN()), LdapSnapshotDiff.EntryDigest.of(entry));
+                }
+
+                SimplePagedResultsControl responseControl = SimplePagedResultsControl.get(result);
+                cookie = (responseControl != null && responseControl.moreResultsToReturn())
+                    ? responseControl.getCookie()
+                    : null;
+            } while (cookie != null);
+
+        } catch (LDAPException e) {
+            if (e.getResultCode() == ResultCode.NO_SUCH_OBJECT) {
+                log.debug("Snapshot container does not exist: {}", containerDn);
+                return Map.of();
+            }
+            throw e;
+        } finally {
+            connectionPool.releaseConnection(connection);
+        }
+
+        log.debug("Snapshot loaded: container={}, entries={}", containerDn, snapshot.size());
+        return snapshot;
+    }
+
+    /**
+     * 스냅샷 비교 결과 적용 (필요한 ADD/MODIFY/DELETE만 전송)
+     *
+     * @param diff 스냅샷 비교 결과
+     * @return 적용 결과
+     */
+    public SnapshotApplyResult applySnapshotDiff(LdapSnapshotDiff diff) {
+        if (diff.isEmpty()) {
+            return new SnapshotApplyResult(0, 0, 0, 0);
+        }
+
+        // 신규 엔트리의 부모 엔트리 보장
+        if (!diff.adds().isEmpty()) {
+            Set<String> allParentDns = ConcurrentHashMap.newKeySet();
+            for (Entry entry : diff.adds()) {
+                collectParentDns(convertDn(entry.getDN()), allParentDns);
+            }
+            ensureAllParentEntriesExist(allParentDns);
+        }
+
+        AtomicInteger addedCount = new AtomicInteger(0);
+        AtomicInteger modifiedCount = new AtomicInteger(0);
+        AtomicInteger deletedCount = new AtomicInteger(0);
+        AtomicInteger errorCount = new AtomicInteger(0);
+
+        boolean pipelined = false;
+        if (pipelineEnabled) {
+            try (AsyncWritePipeline pipeline = openWritePipeline()) {
+                for (String dn : diff.deletes()) {
+                    pipeline.delete(new DeleteRequest(dn),
+                        result -> countWrite("delete", dn, result, ResultCode.NO_SUCH_OBJECT, deletedCount, errorCount));
+                }
+                for (ModifyRequest modifyRequest : diff.modifies()) {
+                    pipeline.modify(modifyRequest,
+                        result -> countWrite("modify", modifyRequest.getDN(), result, null, modifiedCount, errorCount));
+                }
+                for (Entry entry : diff.adds()) {
+                    String convertedDn = convertDn(entry.getDN());
+                    pipeline.add(new AddRequest(convertedDn, entry.getAttributes()),
+                        result -> countWrite("add", convertedDn, result, null, addedCount, errorCount));
+                }
+                awaitPipeline(pipeline);
+                pipelined = true;
+            } catch (LDAPException e) {
+                log.warn("Async write pipeline unavailable, falling back to blocking writes: {}", e.getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("Async write pipeline interrupted");
+                pipelined = true;
+            }
+        }
+
+        if (!pipelined) {
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            for (String dn : diff.deletes()) {
+                futures.add(runBlockingWrite(() -> connectionPool.delete(new DeleteRequest(dn)),
+                    result -> countWrite("delete", dn, result, ResultCode.NO_SUCH_OBJECT, deletedCount, errorCount)));
+            }
+            for (ModifyRequest modifyRequest : diff.modifies()) {
+                futures.add(runBlockingWrite(() -> connectionPool.modify(modifyRequest),
+                    result -> countWrite("modify", modifyRequest.getDN(), result, null, modifiedCount, errorCount)));
+            }
+            for (Entry entry : diff.adds()) {
+                String convertedDn = convertDn(entry.getDN());
+                futures.add(runBlockingWrite(() -> connectionPool.add(new AddRequest(convertedDn, entry.getAttributes())),
+                    result -> countWrite("add", convertedDn, result, null, addedCount, errorCount)));
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        }
+
+        return new SnapshotApplyResult(addedCount.get(), modifiedCount.get(), deletedCount.get(), errorCount.get());
+    }
+
+    private CompletableFuture<Void> runBlockingWrite(BlockingWrite write, java.util.function.Consumer<LDAPResult> onResult) {
+        return CompletableFuture.runAsync(() -> {
+            LDAPResult result;
+            try {
+                result = write.execute();
+            } catch (LDAPException e) {
+                result = e.toLDAPResult();
+            }
+            onResult.accept(result);
+        }, ldapWriteExecutor);
+    }
+
+    private void countWrite(
+        String operation,
+        String dn,
+        LDAPResult result,
+        ResultCode alsoAccepted,
+        AtomicInteger successCount,
+        AtomicInteger errorCount
+    ) {
+        ResultCode resultCode = result.getResultCode();
+        if (resultCode == ResultCode.SUCCESS || (alsoAccepted != null && resultCode == alsoAccepted)) {
+            successCount.incrementAndGet();
+        } else {
+            log.error("Snapshot sync {} failed: {} ({})", operation, dn, resultCode);
+            errorCount.incrementAndGet();
+        }
+    }
+
+    @FunctionalInterface
+    private interface BlockingWrite {
+        LDAPResult execute() throws LDAPException;
+    }
+
+    /**
+     * 스냅샷 동기화 적용 결과
+     */
+    public record SnapshotApplyResult(int added, int modified, int deleted, int errors) {
+    }
+
     // ============================================================================
     // Master List Comparison and Update Methods
     // ============================================================================
@@ -1,6 +1,8 @@
 package com.smartcoreinc.localpkd.ldapintegration.infrastructure.web;
 
+import com.smartcoreinc.localpkd.ldapintegration.application.response.SyncLdapSnapshotResponse;
 import com.smartcoreinc.localpkd.ldapintegration.application.usecase.LdapHealthCheckUseCase;
+import com.smartcoreinc.localpkd.ldapintegration.application.usecase.SyncLdapSnapshotUseCase;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -24,6 +26,7 @@ import java.util.UUID;
  * <ul>
  *   <li>검증된 인증서/CRL LDAP 업로드 시작</li>
  *   <li>업로드 상태 조회</li>
+ *   <li>DB 기준 LDAP 스냅샷 동기화</li>
  * </ul>
  *
  * <p><b>Event-Driven</b>:</p>
@@ -44,6 +47,7 @@ import java.util.UUID;
 public class LdapUploadApiController {
 
     private final LdapHealthCheckUseCase ldapHealthCheckUseCase;
+    private final SyncLdapSnapshotUseCase syncLdapSnapshotUseCase;
 
     /**
      * LDAP 업로드 상태 조회
@@ -107,6 +111,43 @@ public class LdapUploadApiController {
         return new ResponseEntity<>(healthStatus, status);
     }
 
+    /**
+     * DB 기준 LDAP 스냅샷 동기화
+     *
+     * <p>국가별 LDAP 컨테이너를 일괄 조회하여 DB와 비교하고, 변경된 엔트리만 추가/수정/삭제합니다.
+     * 변경이 없으면 LDAP 쓰기 없이 종료되므로 반복 호출해도 안전합니다.</p>
+     *
+     * @param countryCode 대상 국가 코드 (생략 시 전체 국가)
+     * @param prune DB에 없는 LDAP 엔트리 삭제 여부
+     * @return 동기화 결과
+     */
+    @Operation(summary = "LDAP 스냅샷 동기화",
+               description = "DB의 인증서/CRL과 LDAP 컨테이너를 일괄 비교하여 변경분만 반영합니다.")
+    @ApiResponse(responseCode = "200", description = "동기화 완료",
+        content = @Content(mediaType = "application/json",
+            schema = @Schema(implementation = SyncLdapSnapshotResponse.class)))
+    @ApiResponse(responseCode = "500", description = "서버 내부 오류",
+        content = @Content(mediaType = "application/json",
+            schema = @Schema(example = "{\"success\": false, \"message\": \"LDAP 동기화 중 오류가 발생했습니다\", \"errorCode\": \"INTERNAL_ERROR\"}")))
+    @PostMapping("/sync")
+    public ResponseEntity<?> syncSnapshot(
+        @RequestParam(required = false) String countryCode,
+        @RequestParam(defaultValue = "true") boolean prune
+    ) {
+        log.info("LDAP snapshot sync requested: countryCode={}, prune={}", countryCode, prune);
+
+        try {
+            return ResponseEntity.ok(syncLdapSnapshotUseCase.execute(countryCode, prune));
+        } catch (Exception e) {
+            log.error("Error during LDAP snapshot sync", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(createErrorResponse(
+                false,
+                "LDAP 동기화 중 오류가 발생했습니다",
+                "INTERNAL_ERROR"
+            ));
+        }
+    }
+
     /**
      * 에러 응답 생성
      *
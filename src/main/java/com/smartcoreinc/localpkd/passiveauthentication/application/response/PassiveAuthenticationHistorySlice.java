@@ -0,0 +1,17 @@
+package com.smartcoreinc.localpkd.passiveauthentication.application.response;
+
+import java.util.List;
+
+/**
+ * One keyset page of Passive Authentication history.
+ *
+ * @param content verification summaries, most recent first
+ * @param nextCursor opaque cursor for the next page (null if this is the last page)
+ * @param hasNext whether more verifications follow
+ */
+public record PassiveAuthenticationHistorySlice(
+    List<PassiveAuthenticationResponse> content,
+    String nextCursor,
+    boolean hasNext
+) {
+}
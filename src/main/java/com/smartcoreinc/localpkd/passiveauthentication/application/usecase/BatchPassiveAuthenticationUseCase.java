@@ -0,0 +1,231 @@
+package com.smartcoreinc.localpkd.passiveauthentication.application.usecase;
+
+import com.smartcoreinc.localpkd.passiveauthentication.application.command.PerformPassiveAuthenticationCommand;
+import com.smartcoreinc.localpkd.passiveauthentication.application.response.PassiveAuthenticationResponse;
+import com.smartcoreinc.localpkd.passiveauthentication.domain.model.PassiveAuthenticationStatus;
+import com.smartcoreinc.localpkd.passiveauthentication.domain.port.ParsedSod;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.cert.X509Certificate;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Use Case for verifying a stream of ePassport documents (batch Passive Authentication).
+ * <p>
+ * Each document is verified by {@link PerformPassiveAuthenticationUseCase} (one transaction and one
+ * stored PassportData per document). Documents are read lazily from the input iterator and processed on
+ * virtual threads, with at most {@code app.pa.batch.max-concurrency} documents in flight; the reader blocks
+ * when the limit is reached, so large batches are never held in memory. Results are handed to the sink in
+ * completion order, one at a time.
+ * </p>
+ *
+ * <h3>DSC grouping:</h3>
+ * <p>
+ * Documents signed by the same DSC share the certificate chain and CRL checks through
+ * {@code VerifiedDscCache}. The first document of each DSC in a batch is the leader; later documents of
+ * that DSC wait until the leader has finished, so they reuse its cached chain result instead of all
+ * missing the cache at the same time.
+ * </p>
+ *
+ * @see PerformPassiveAuthenticationUseCase
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BatchPassiveAuthenticationUseCase {
+
+    private static final HexFormat HEX = HexFormat.of();
+
+    private final PerformPassiveAuthenticationUseCase performPassiveAuthenticationUseCase;
+
+    /**
+     * Maximum number of documents verified concurrently per batch.
+     */
+    @Value("${app.pa.batch.max-concurrency:64}")
+    private int maxConcurrency;
+
+    /**
+     * Verifies all documents of the input and streams one result per document to the sink.
+     *
+     * @param items Raw batch items (read lazily, on the calling thread)
+     * @param preparer Converts a raw item into a command and its parsed SOD (runs on a worker thread)
+     * @param sink Receives results in completion order; calls are serialized. An {@link UncheckedIOException}
+     *             (e.g., the client disconnected) stops the batch: no further items are read, and results
+     *             of documents still in flight are dropped
+     * @param <T> Raw item type (e.g., one NDJSON line)
+     * @return Batch summary
+     * @throws UncheckedIOException the first sink failure, after in-flight documents have finished
+     */
+    public <T> BatchSummary execute(
+        Iterator<T> items,
+        Function<T, PreparedDocument> preparer,
+        Consumer<BatchItemResult> sink
+    ) {
+        long startTime = System.currentTimeMillis();
+        Semaphore permits = new Semaphore(Math.max(1, maxConcurrency));
+        Map<String, CompletableFuture<Void>> dscLeaders = new ConcurrentHashMap<>();
+        // ReentrantLock instead of synchronized: a virtual thread blocked in sink I/O must not pin its carrier
+        ReentrantLock sinkLock = new ReentrantLock();
+        AtomicReference<UncheckedIOException> sinkFailure = new AtomicReference<>();
+        AtomicLong valid = new AtomicLong();
+        AtomicLong invalid = new AtomicLong();
+        AtomicLong failed = new AtomicLong();
+        long submitted = 0;
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            while (sinkFailure.get() == null && items.hasNext()) {
+                T item = items.next();
+                long index = submitted++;
+                permits.acquireUninterruptibly();
+                if (sinkFailure.get() != null) {
+                    // Sink failed while waiting for a permit
+                    permits.release();
+                    break;
+                }
+                executor.execute(() -> {
+                    try {
+                        BatchItemResult result = verifyItem(index, item, preparer, dscLeaders);
+                        if (result.error() != null) {
+                            failed.incrementAndGet();
+                        } else if (result.response().status() == PassiveAuthenticationStatus.VALID) {
+                            valid.incrementAndGet();
+                        } else {
+                            invalid.incrementAndGet();
+                        }
+                        sinkLock.lock();
+                        try {
+                            if (sinkFailure.get() == null) {
+                                sink.accept(result);
+                            }
+                        } finally {
+                            sinkLock.unlock();
+                        }
+                    } catch (UncheckedIOException e) {
+                        if (sinkFailure.compareAndSet(null, e)) {
+                            log.warn("Batch PA result sink failed at #{}, stopping batch: {}", index, e.getMessage());
+                        }
+                    } catch (RuntimeException e) {
+                        log.warn("Failed to deliver batch PA result #{}: {}", index, e.getMessage());
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+        }
+
+        if (sinkFailure.get() != null) {
+            throw sinkFailure.get();
+        }
+
+        BatchSummary summary = new BatchSummary(
+            submitted, valid.get(), invalid.get(), failed.get(), System.currentTimeMillis() - startTime);
+        log.info("Batch Passive Authentication completed - total: {}, valid: {}, invalid: {}, failed: {}, {}ms",
+            summary.total(), summary.valid(), summary.invalid(), summary.failed(), summary.durationMs());
+        return summary;
+    }
+
+    private <T> BatchItemResult verifyItem(
+        long index,
+        T item,
+        Function<T, PreparedDocument> preparer,
+        Map<String, CompletableFuture<Void>> dscLeaders
+    ) {
+        PreparedDocument document;
+        try {
+            document = preparer.apply(item);
+        } catch (Exception e) {
+            log.debug("Batch PA item #{} rejected: {}", index, e.getMessage());
+            return BatchItemResult.failure(index, null, e.getMessage());
+        }
+
+        String documentNumber = document.command().documentNumber();
+        String dscKey = dscKey(document);
+        CompletableFuture<Void> leadership = new CompletableFuture<>();
+        CompletableFuture<Void> leader = dscKey != null ? dscLeaders.putIfAbsent(dscKey, leadership) : null;
+        if (leader != null) {
+            // Same DSC already being verified: wait for its chain/CRL result to be cached
+            leader.join();
+        }
+
+        try {
+            PassiveAuthenticationResponse response =
+                performPassiveAuthenticationUseCase.execute(document.command(), document.parsedSod());
+            return BatchItemResult.success(index, response);
+        } catch (Exception e) {
+            log.warn("Batch PA item #{} ({}) failed: {}", index, documentNumber, e.getMessage());
+            return BatchItemResult.failure(index, documentNumber, e.getMessage());
+        } finally {
+            if (leader == null) {
+                leadership.complete(null);
+            }
+        }
+    }
+
+    private static String dscKey(PreparedDocument document) {
+        try {
+            X509Certificate dsc = document.parsedSod().dscCertificate();
+            byte[] fingerprint = MessageDigest.getInstance("SHA-256").digest(dsc.getEncoded());
+            return document.command().issuingCountry().getValue() + ":" + HEX.formatHex(fingerprint);
+        } catch (Exception e) {
+            // No groupable DSC; the verification itself reports the error
+            return null;
+        }
+    }
+
+    /**
+     * Batch item ready for verification.
+     *
+     * @param command Verification command
+     * @param parsedSod SOD parsed from {@code command.sodBytes()}
+     */
+    public record PreparedDocument(PerformPassiveAuthenticationCommand command, ParsedSod parsedSod) {
+    }
+
+    /**
+     * Verification result of one batch item.
+     *
+     * @param index Zero-based position of the item in the input
+     * @param documentNumber Document number (null if the item could not be read)
+     * @param response Verification response (null on failure)
+     * @param error Error message (null on success)
+     */
+    public record BatchItemResult(long index, String documentNumber, PassiveAuthenticationResponse response, String error) {
+
+        static BatchItemResult success(long index, PassiveAuthenticationResponse response) {
+            return new BatchItemResult(index, response.documentNumber(), response, null);
+        }
+
+        static BatchItemResult failure(long index, String documentNumber, String error) {
+            return new BatchItemResult(index, documentNumber, null, error != null ? error : "Verification failed");
+        }
+    }
+
+    /**
+     * Batch totals.
+     *
+     * @param total Number of items read
+     * @param valid Items verified as VALID
+     * @param invalid Items verified as INVALID or ERROR status
+     * @param failed Items that could not be verified (unreadable input or exception)
+     * @param durationMs Elapsed time in milliseconds
+     */
+    public record BatchSummary(long total, long valid, long invalid, long failed, long durationMs) {
+    }
+}
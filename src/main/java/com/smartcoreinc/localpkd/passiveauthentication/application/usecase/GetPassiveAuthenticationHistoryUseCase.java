@@ -1,6 +1,7 @@
 package com.smartcoreinc.localpkd.passiveauthentication.application.usecase;
 
 import com.smartcoreinc.localpkd.passiveauthentication.application.exception.PassiveAuthenticationApplicationException;
+import com.smartcoreinc.localpkd.passiveauthentication.application.response.PassiveAuthenticationHistorySlice;
 import com.smartcoreinc.localpkd.passiveauthentication.application.response.PassiveAuthenticationResponse;
 import com.smartcoreinc.localpkd.passiveauthentication.domain.model.DataGroup;
 import com.smartcoreinc.localpkd.passiveauthentication.domain.model.DataGroupNumber;
@@ -8,14 +9,22 @@ import com.smartcoreinc.localpkd.passiveauthentication.domain.model.PassiveAuthe
 import com.smartcoreinc.localpkd.passiveauthentication.domain.model.PassiveAuthenticationStatus;
 import com.smartcoreinc.localpkd.passiveauthentication.domain.model.PassportData;
 import com.smartcoreinc.localpkd.passiveauthentication.domain.model.PassportDataId;
+import com.smartcoreinc.localpkd.passiveauthentication.domain.model.PassportDataSummary;
 import com.smartcoreinc.localpkd.passiveauthentication.domain.repository.PassportDataRepository;
+import com.smartcoreinc.localpkd.passiveauthentication.domain.repository.PassportDataSummaryFilter;
 import com.smartcoreinc.localpkd.passiveauthentication.infrastructure.adapter.Dg1MrzParser;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.Base64;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -32,6 +41,8 @@ import java.util.stream.Collectors;
  * <ul>
  *   <li>Get verification by ID</li>
  *   <li>Get all verifications (paginated)</li>
+ *   <li>Get history by keyset cursor (slim summaries, no SOD/DG binaries)</li>
+ *   <li>Get Data Groups of one verification on demand</li>
  *   <li>Get verifications by status</li>
  *   <li>Get verifications by date range</li>
  *   <li>Get verifications by DSC fingerprint</li>
@@ -63,6 +74,8 @@ import java.util.stream.Collectors;
 @Slf4j
 public class GetPassiveAuthenticationHistoryUseCase {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final PassportDataRepository passportDataRepository;
     private final Dg1MrzParser dg1MrzParser;
 
@@ -86,16 +99,92 @@ public class GetPassiveAuthenticationHistoryUseCase {
     }
 
     /**
-     * Retrieves PassportData domain entity by ID for accessing raw DG data.
+     * Retrieves the Data Groups of a single verification (on demand, without the SOD).
      *
      * @param verificationId Verification UUID
-     * @return PassportData or null if not found
+     * @return List of DataGroup, or null if the verification does not exist
+     */
+    public List<DataGroup> getDataGroups(UUID verificationId) {
+        log.debug("Retrieving data groups for verification: {}", verificationId);
+
+        PassportDataId id = PassportDataId.of(verificationId.toString());
+        if (!passportDataRepository.existsById(id)) {
+            return null;
+        }
+        return passportDataRepository.findDataGroupsById(id);
+    }
+
+    /**
+     * Retrieves one keyset page of verification history (most recent first).
+     * <p>
+     * Only the scalar columns of each verification are read (no SOD or Data Group binaries),
+     * and the page is located by the (startedAt, id) position in the cursor instead of an offset,
+     * so the cost per page stays constant however deep the client pages.
+     * </p>
+     *
+     * @param issuingCountry Optional country filter
+     * @param status Optional status filter
+     * @param cursor Cursor returned with the previous page (null for the first page)
+     * @param size Page size (1-100)
+     * @return PassiveAuthenticationHistorySlice
+     */
+    public PassiveAuthenticationHistorySlice getHistorySlice(
+        String issuingCountry,
+        PassiveAuthenticationStatus status,
+        String cursor,
+        int size
+    ) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        LocalDateTime afterStartedAt = null;
+        UUID afterId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] position = decodeCursor(cursor);
+            afterStartedAt = LocalDateTime.parse(position[0]);
+            afterId = UUID.fromString(position[1]);
+        }
+
+        List<PassportDataSummary> rows = passportDataRepository.findSummaries(
+            PassportDataSummaryFilter.of(issuingCountry, status), afterStartedAt, afterId, pageSize + 1);
+
+        boolean hasNext = rows.size() > pageSize;
+        List<PassportDataSummary> page = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext ? encodeCursor(page.get(page.size() - 1)) : null;
+
+        return new PassiveAuthenticationHistorySlice(
+            page.stream().map(this::toResponse).toList(),
+            nextCursor,
+            hasNext
+        );
+    }
+
+    /**
+     * Retrieves one offset page of verification history (for page-numbered UIs).
+     * <p>
+     * Filtering, sorting and paging run in the database on slim summaries. Supported sort
+     * properties: verifiedAt / completedAt / verificationTimestamp, startedAt, status,
+     * issuingCountry, documentNumber.
+     * </p>
+     *
+     * @param issuingCountry Optional country filter
+     * @param status Optional status filter
+     * @param pageable Page request
+     * @return Page of PassiveAuthenticationResponse
      */
-    public PassportData getPassportDataById(UUID verificationId) {
-        log.debug("Retrieving PassportData by ID: {}", verificationId);
+    public Page<PassiveAuthenticationResponse> getHistoryPage(
+        String issuingCountry,
+        PassiveAuthenticationStatus status,
+        Pageable pageable
+    ) {
+        PassportDataSummaryFilter filter = PassportDataSummaryFilter.of(issuingCountry, status);
+        Sort.Order order = pageable.getSort().stream().findFirst()
+            .orElse(Sort.Order.desc("completedAt"));
 
-        return passportDataRepository.findById(PassportDataId.of(verificationId.toString()))
-            .orElse(null);
+        List<PassportDataSummary> rows = passportDataRepository.findSummaryPage(
+            filter, toSortProperty(order.getProperty()), order.isDescending(),
+            pageable.getOffset(), pageable.getPageSize());
+        long total = passportDataRepository.countSummaries(filter);
+
+        return new PageImpl<>(rows.stream().map(this::toResponse).toList(), pageable, total);
     }
 
     /**
@@ -106,8 +195,8 @@ public class GetPassiveAuthenticationHistoryUseCase {
     public List<PassiveAuthenticationResponse> getAll() {
         log.debug("Retrieving all verifications");
 
-        List<PassportData> passportDataList = passportDataRepository.findAll();
-        return passportDataList.stream()
+        List<PassportDataSummary> summaries = summaries(PassportDataSummaryFilter.all());
+        return summaries.stream()
             .map(this::toResponse)
             .collect(Collectors.toList());
     }
@@ -121,8 +210,8 @@ public class GetPassiveAuthenticationHistoryUseCase {
     public List<PassiveAuthenticationResponse> getByStatus(PassiveAuthenticationStatus status) {
         log.debug("Retrieving verifications by status: {}", status);
 
-        List<PassportData> passportDataList = passportDataRepository.findByVerificationStatus(status);
-        return passportDataList.stream()
+        List<PassportDataSummary> summaries = summaries(PassportDataSummaryFilter.byStatus(status));
+        return summaries.stream()
             .map(this::toResponse)
             .collect(Collectors.toList());
     }
@@ -140,12 +229,11 @@ public class GetPassiveAuthenticationHistoryUseCase {
     ) {
         log.debug("Retrieving verifications by date range: {} to {}", startDate, endDate);
 
-        List<PassportData> passportDataList = passportDataRepository.findByStartedAtBetween(
-            startDate,
-            endDate
+        List<PassportDataSummary> summaries = summaries(
+            PassportDataSummaryFilter.byDateRange(startDate, endDate)
         );
 
-        return passportDataList.stream()
+        return summaries.stream()
             .map(this::toResponse)
             .collect(Collectors.toList());
     }
@@ -158,8 +246,8 @@ public class GetPassiveAuthenticationHistoryUseCase {
     public List<PassiveAuthenticationResponse> getCompleted() {
         log.debug("Retrieving completed verifications");
 
-        List<PassportData> passportDataList = passportDataRepository.findCompleted();
-        return passportDataList.stream()
+        List<PassportDataSummary> summaries = summaries(PassportDataSummaryFilter.completedOnly());
+        return summaries.stream()
             .map(this::toResponse)
             .collect(Collectors.toList());
     }
@@ -172,12 +260,16 @@ public class GetPassiveAuthenticationHistoryUseCase {
     public List<PassiveAuthenticationResponse> getInProgress() {
         log.debug("Retrieving in-progress verifications");
 
-        List<PassportData> passportDataList = passportDataRepository.findInProgress();
-        return passportDataList.stream()
+        List<PassportDataSummary> summaries = summaries(PassportDataSummaryFilter.inProgressOnly());
+        return summaries.stream()
             .map(this::toResponse)
             .collect(Collectors.toList());
     }
 
+    private List<PassportDataSummary> summaries(PassportDataSummaryFilter filter) {
+        return passportDataRepository.findSummaries(filter, null, null, 0);
+    }
+
     /**
      * Counts verifications by status.
      *
@@ -199,6 +291,72 @@ public class GetPassiveAuthenticationHistoryUseCase {
         return passportDataRepository.countInProgress();
     }
 
+    /**
+     * Converts a history summary to PassiveAuthenticationResponse DTO.
+     * <p>
+     * Same mapping as {@link #toResponse(PassportData)}, except that a missing document number
+     * is not recovered from DG1 (summaries carry no Data Groups).
+     * </p>
+     */
+    private PassiveAuthenticationResponse toResponse(PassportDataSummary summary) {
+        PassiveAuthenticationStatus status = summary.verificationStatus();
+        LocalDateTime timestamp = summary.completedAt() != null ? summary.completedAt() : summary.startedAt();
+        String issuingCountry = summary.issuingCountry() != null ? summary.issuingCountry() : "UNKNOWN";
+        String documentNumber = summary.documentNumber() != null && !summary.documentNumber().isBlank()
+            ? summary.documentNumber()
+            : "UNKNOWN";
+        UUID verificationId = summary.id().getId();
+
+        if (status == PassiveAuthenticationStatus.VALID) {
+            return PassiveAuthenticationResponse.valid(
+                verificationId, timestamp, issuingCountry, documentNumber,
+                null, null, null, summary.processingDurationMs()
+            );
+        } else if (status == PassiveAuthenticationStatus.INVALID) {
+            return PassiveAuthenticationResponse.invalid(
+                verificationId, timestamp, issuingCountry, documentNumber,
+                null, null, null, summary.processingDurationMs(), summary.errors()
+            );
+        } else {
+            return PassiveAuthenticationResponse.error(
+                verificationId, timestamp, issuingCountry, documentNumber,
+                summary.processingDurationMs(), summary.errors()
+            );
+        }
+    }
+
+    private static String toSortProperty(String property) {
+        return switch (property) {
+            case "completedAt", "verifiedAt", "verificationTimestamp" -> "completedAt";
+            case "status" -> "verificationStatus";
+            case "issuingCountry", "documentNumber", "startedAt" -> property;
+            default -> "startedAt";
+        };
+    }
+
+    private static String encodeCursor(PassportDataSummary last) {
+        String position = last.startedAt() + "|" + last.id().getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String[] decodeCursor(String cursor) {
+        try {
+            String position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = position.split("\\|", 2);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("malformed position");
+            }
+            LocalDateTime.parse(parts[0]);
+            UUID.fromString(parts[1]);
+            return parts;
+        } catch (RuntimeException e) {
+            throw new PassiveAuthenticationApplicationException(
+                "INVALID_CURSOR",
+                String.format("Invalid history cursor: %s", cursor)
+            );
+        }
+    }
+
     /**
      * Converts PassportData domain entity to PassiveAuthenticationResponse DTO.
      * <p>
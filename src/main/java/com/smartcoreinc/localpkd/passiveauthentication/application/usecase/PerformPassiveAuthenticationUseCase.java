@@ -1,9 +1,12 @@
 package com.smartcoreinc.localpkd.passiveauthentication.application.usecase;
 
+import com.smartcoreinc.localpkd.certificatevalidation.domain.port.CscaTrustStore;
 import com.smartcoreinc.localpkd.passiveauthentication.application.command.PerformPassiveAuthenticationCommand;
 import com.smartcoreinc.localpkd.passiveauthentication.domain.model.CrlCheckResult;
 import com.smartcoreinc.localpkd.passiveauthentication.domain.service.CrlVerificationService;
 import com.smartcoreinc.localpkd.passiveauthentication.infrastructure.cache.CrlCacheService;
+import com.smartcoreinc.localpkd.passiveauthentication.infrastructure.cache.VerifiedDscCache;
+import com.smartcoreinc.localpkd.passiveauthentication.infrastructure.repository.PassportDataWriter;
 import com.smartcoreinc.localpkd.passiveauthentication.application.exception.PassiveAuthenticationApplicationException;
 import com.smartcoreinc.localpkd.passiveauthentication.application.response.CertificateChainValidationDto;
 import com.smartcoreinc.localpkd.passiveauthentication.application.response.DataGroupValidationDto;
@@ -19,9 +22,10 @@ import com.smartcoreinc.localpkd.passiveauthentication.domain.model.PassportData
 import com.smartcoreinc.localpkd.passiveauthentication.domain.model.PassportDataId;
 import com.smartcoreinc.localpkd.passiveauthentication.domain.model.RequestMetadata;
 import com.smartcoreinc.localpkd.passiveauthentication.domain.model.SecurityObjectDocument;
+import com.smartcoreinc.localpkd.passiveauthentication.domain.model.VerifiedCrl;
 import com.smartcoreinc.localpkd.passiveauthentication.domain.port.LdapCscaRepository;
+import com.smartcoreinc.localpkd.passiveauthentication.domain.port.ParsedSod;
 import com.smartcoreinc.localpkd.passiveauthentication.domain.port.SodParserPort;
-import com.smartcoreinc.localpkd.passiveauthentication.domain.repository.PassportDataRepository;
 import com.smartcoreinc.localpkd.shared.exception.DomainException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -50,10 +54,11 @@ import java.util.Map;
  *
  * <h3>Dependencies:</h3>
  * <ul>
- *   <li>{@link LdapCscaRepository} - Retrieve CSCA from LDAP (ICAO 9303 standard)</li>
+ *   <li>{@link CscaTrustStore} - In-memory CSCA index lookup (AKI → SKI, normalized DN)</li>
+ *   <li>{@link LdapCscaRepository} - Retrieve CSCA from LDAP-backed CSCA index (ICAO 9303 standard, fallback)</li>
  *   <li>{@link CertificateRevocationListRepository} - CRL checking</li>
- *   <li>{@link SodParserPort} - SOD parsing, DSC extraction, signature verification</li>
- *   <li>{@link PassportDataRepository} - Store verification results</li>
+ *   <li>{@link SodParserPort} - SOD parsing (once per verification, shared via {@link ParsedSod})</li>
+ *   <li>{@link PassportDataWriter} - Store verification results (synchronous or write-behind)</li>
  * </ul>
  *
  * <h3>Usage Example:</h3>
@@ -78,11 +83,13 @@ import java.util.Map;
 @Slf4j
 public class PerformPassiveAuthenticationUseCase {
 
+    private final CscaTrustStore cscaTrustStore;
     private final LdapCscaRepository ldapCscaRepository;
     private final SodParserPort sodParser;
-    private final PassportDataRepository passportDataRepository;
+    private final PassportDataWriter passportDataWriter;
     private final CrlCacheService crlCacheService;
     private final CrlVerificationService crlVerificationService;
+    private final VerifiedDscCache verifiedDscCache;
 
     /**
      * Executes the Passive Authentication verification process.
@@ -93,6 +100,24 @@ public class PerformPassiveAuthenticationUseCase {
      * @throws DomainException if validation fails
      */
     public PassiveAuthenticationResponse execute(PerformPassiveAuthenticationCommand command) {
+        return verify(command, null);
+    }
+
+    /**
+     * Executes the Passive Authentication verification process with an already parsed SOD.
+     * <p>
+     * Used when the caller has parsed the SOD itself (e.g., to read the DSC info for the command),
+     * so the same decoded SOD is reused instead of parsing {@code command.sodBytes()} again.
+     *
+     * @param command Verification command containing SOD and data groups
+     * @param parsedSod SOD parsed from {@code command.sodBytes()}
+     * @return PassiveAuthenticationResponse with verification results
+     */
+    public PassiveAuthenticationResponse execute(PerformPassiveAuthenticationCommand command, ParsedSod parsedSod) {
+        return verify(command, parsedSod);
+    }
+
+    private PassiveAuthenticationResponse verify(PerformPassiveAuthenticationCommand command, ParsedSod preParsedSod) {
         log.info("Starting Passive Authentication for document: {}-{}",
             command.issuingCountry().getValue(), command.documentNumber());
 
@@ -100,36 +125,32 @@ public class PerformPassiveAuthenticationUseCase {
         List<PassiveAuthenticationError> errors = new ArrayList<>();
 
         try {
-            // Step 1: Extract DSC from SOD (ICAO 9303 standard approach)
-            java.security.cert.X509Certificate dscX509 = sodParser.extractDscCertificate(command.sodBytes());
+            // Step 1: Parse SOD once and extract DSC (ICAO 9303 standard approach)
+            ParsedSod parsedSod = preParsedSod != null ? preParsedSod : sodParser.parse(command.sodBytes());
+            java.security.cert.X509Certificate dscX509 = parsedSod.dscCertificate();
             log.debug("Extracted DSC from SOD: {}", dscX509.getSubjectX500Principal().getName());
 
-            // Step 2: Retrieve CSCA from LDAP using DSC issuer DN
-            String cscaDn = dscX509.getIssuerX500Principal().getName();
-            X509Certificate cscaX509 = retrieveCscaFromLdap(cscaDn);
-            log.debug("Retrieved CSCA from LDAP: {}", cscaX509.getSubjectX500Principal().getName());
-
-            // Step 3: Validate Certificate Chain (DSC → CSCA)
-            CertificateChainValidationDto chainValidation = validateCertificateChainWithX509Dsc(
-                dscX509, cscaX509, command.issuingCountry().getValue(), errors
+            // Step 2-3: Retrieve CSCA and validate Certificate Chain (DSC → CSCA, CRL), cached per DSC
+            CertificateChainValidationDto chainValidation = validateDsc(
+                dscX509, command.issuingCountry().getValue(), errors
             );
 
-            // Step 4: Parse SOD and validate signature
+            // Step 4: Validate SOD signature
             SecurityObjectDocument sod = SecurityObjectDocument.of(command.sodBytes());
             SodSignatureValidationDto sodValidation = validateSodSignatureWithX509Dsc(
-                sod, dscX509, errors
+                parsedSod, dscX509, errors
             );
 
             // Step 5: Validate Data Group Hashes
             DataGroupValidationDto dgValidation = validateDataGroupHashes(
-                command.dataGroups(), sod, errors
+                command.dataGroups(), parsedSod, errors
             );
 
-            // Step 6: Create PassportData aggregate and save
+            // Step 6: Create PassportData aggregate and save (synchronously or write-behind)
             PassportData passportData = createPassportData(
                 command, sod, chainValidation, sodValidation, dgValidation, errors
             );
-            passportDataRepository.save(passportData);
+            passportDataWriter.write(passportData);
 
             // Step 7: Build response
             LocalDateTime endTime = LocalDateTime.now();
@@ -190,64 +211,85 @@ public class PerformPassiveAuthenticationUseCase {
     }
 
     /**
-     * Retrieves Country Signing CA (CSCA) from LDAP using issuer DN.
-     * <p>
-     * Architecture Decision: PA Module uses LDAP only for CSCA lookup, not DBMS.
-     * This follows ICAO 9303 Part 11 standard where PKD (Public Key Directory)
-     * is the authoritative source for certificate validation.
+     * Retrieves the CSCA that issued the given DSC.
      * <p>
-     * DN Format Handling: This method tries multiple DN formats because:
-     * <ul>
-     *   <li>DSC Issuer DN may be in RFC 2253 format (CN=...,O=...,C=...)</li>
-     *   <li>CSCA Subject DN in LDAP may be in RFC 1779 format (C=...,O=...,CN=...)</li>
-     *   <li>Both formats represent the same certificate but in different order</li>
-     * </ul>
+     * The in-memory CSCA index is consulted first: the DSC's Authority Key Identifier selects
+     * the CSCA by Subject Key Identifier, which disambiguates key rollovers and link certificates
+     * sharing the same DN. Only a non-revoked candidate whose key verifies the DSC is returned.
+     * If the index has no match, the LDAP CSCA repository is used. It is itself backed by a
+     * preloaded index of the CSCAs published in LDAP (ICAO 9303 Part 11: PKD is the authoritative
+     * source), so a lookup does not search LDAP unless the CSCA is unknown to that index.
+     * When no CSCA verifies the DSC, the LDAP repository returns the DN/AKI match, and the
+     * signature failure is reported by the chain validation (CHAIN_VALIDATION_FAILED).
      *
-     * @param issuerDn DSC issuer DN (should match CSCA subject DN)
-     * @return CSCA X.509 certificate from LDAP
-     * @throws PassiveAuthenticationApplicationException if CSCA not found in LDAP
+     * @param dscX509 DSC extracted from SOD
+     * @return CSCA X.509 certificate
+     * @throws PassiveAuthenticationApplicationException if CSCA not found
      */
-    private X509Certificate retrieveCscaFromLdap(String issuerDn) {
+    private X509Certificate retrieveCsca(X509Certificate dscX509) {
+        var indexed = cscaTrustStore.resolveIssuer(dscX509);
+        if (indexed.isPresent()) {
+            log.debug("Found CSCA in CSCA index");
+            return indexed.get();
+        }
+
+        String issuerDn = dscX509.getIssuerX500Principal().getName();
         log.debug("Looking up CSCA from LDAP with DN: {}", issuerDn);
+        return ldapCscaRepository.findIssuerOf(dscX509)
+            .orElseThrow(() -> new PassiveAuthenticationApplicationException(
+                "CSCA_NOT_FOUND",
+                String.format("CSCA not found in LDAP for issuer DN: %s. " +
+                    "Ensure CSCA is uploaded to LDAP before performing PA verification.", issuerDn)
+            ));
+    }
 
-        // Try exact match first
-        var csca = ldapCscaRepository.findBySubjectDn(issuerDn);
-        if (csca.isPresent()) {
-            log.debug("Found CSCA with exact DN match");
-            return csca.get();
+    /**
+     * Validates the DSC (CSCA lookup, trust chain and CRL), reusing a cached outcome for the same DSC.
+     * <p>
+     * On a cache hit the CSCA lookup, the DSC signature verification and the CRL signature verification
+     * are all skipped; the errors recorded for that DSC are added again with the current timestamp.
+     * Only stable outcomes are cached (see {@link VerifiedDscCache}).
+     *
+     * @throws PassiveAuthenticationApplicationException if CSCA not found
+     */
+    private CertificateChainValidationDto validateDsc(
+        X509Certificate dscX509,
+        String countryCode,
+        List<PassiveAuthenticationError> errors
+    ) {
+        var cached = verifiedDscCache.get(dscX509, countryCode);
+        if (cached.isPresent()) {
+            log.debug("Verified DSC cache HIT: serial={}", cached.get().chainValidation().dscSerialNumber());
+            cached.get().errors().forEach(error -> errors.add(reissue(error)));
+            return cached.get().chainValidation();
         }
 
-        // Try normalized DN (RFC 2253 format)
-        try {
-            javax.security.auth.x500.X500Principal principal =
-                new javax.security.auth.x500.X500Principal(issuerDn);
-            String normalizedDn = principal.getName(javax.security.auth.x500.X500Principal.RFC2253);
-
-            log.debug("Trying normalized DN (RFC 2253): {}", normalizedDn);
-            csca = ldapCscaRepository.findBySubjectDn(normalizedDn);
-            if (csca.isPresent()) {
-                log.debug("Found CSCA with normalized DN match");
-                return csca.get();
-            }
-
-            // Try canonical format (reverse order)
-            String canonicalDn = principal.getName(javax.security.auth.x500.X500Principal.CANONICAL);
-            log.debug("Trying canonical DN: {}", canonicalDn);
-            csca = ldapCscaRepository.findBySubjectDn(canonicalDn);
-            if (csca.isPresent()) {
-                log.debug("Found CSCA with canonical DN match");
-                return csca.get();
-            }
+        // Retrieve CSCA (in-memory index by AKI → SKI, fallback to LDAP)
+        X509Certificate cscaX509 = retrieveCsca(dscX509);
+        log.debug("Retrieved CSCA: {}", cscaX509.getSubjectX500Principal().getName());
 
-        } catch (IllegalArgumentException e) {
-            log.warn("Failed to normalize DN: {}", e.getMessage());
-        }
+        // Phase 4.12: CRL Check (RFC 5280, ICAO 9303 Part 12)
+        CrlCheck crlCheck = performCrlCheck(
+            dscX509, cscaX509, cscaX509.getSubjectX500Principal().getName(), countryCode
+        );
 
-        throw new PassiveAuthenticationApplicationException(
-            "CSCA_NOT_FOUND",
-            String.format("CSCA not found in LDAP for issuer DN: %s. " +
-                "Ensure CSCA is uploaded to LDAP before performing PA verification.", issuerDn)
+        List<PassiveAuthenticationError> chainErrors = new ArrayList<>();
+        CertificateChainValidationDto chainValidation = validateCertificateChainWithX509Dsc(
+            dscX509, cscaX509, crlCheck.result(), countryCode, chainErrors
         );
+        errors.addAll(chainErrors);
+
+        verifiedDscCache.put(dscX509, countryCode, chainValidation, chainErrors,
+            crlCheck.result(), crlCheck.nextUpdate());
+        return chainValidation;
+    }
+
+    private static PassiveAuthenticationError reissue(PassiveAuthenticationError error) {
+        return switch (error.getSeverity()) {
+            case CRITICAL -> PassiveAuthenticationError.critical(error.getCode(), error.getMessage());
+            case WARNING -> PassiveAuthenticationError.warning(error.getCode(), error.getMessage());
+            default -> PassiveAuthenticationError.info(error.getCode(), error.getMessage());
+        };
     }
 
     /**
@@ -262,6 +304,7 @@ public class PerformPassiveAuthenticationUseCase {
     private CertificateChainValidationDto validateCertificateChainWithX509Dsc(
         X509Certificate dscX509,
         X509Certificate cscaX509,
+        CrlCheckResult crlCheckResult,
         String countryCode,
         List<PassiveAuthenticationError> errors
     ) {
@@ -299,9 +342,7 @@ public class PerformPassiveAuthenticationUseCase {
             ));
         }
 
-        // Phase 4.12: CRL Check (RFC 5280, ICAO 9303 Part 12)
-        // Check if DSC certificate is revoked by querying CRL from LDAP/Cache
-        CrlCheckResult crlCheckResult = performCrlCheck(dscX509, cscaX509, cscaSubjectDn, countryCode);
+        // Phase 4.12: CRL Check result (RFC 5280, ICAO 9303 Part 12)
         crlChecked = !crlCheckResult.hasCrlVerificationFailed();
         revoked = crlCheckResult.isCertificateRevoked();
 
@@ -358,7 +399,7 @@ public class PerformPassiveAuthenticationUseCase {
      * verifySignature(X509Certificate) method (like sod_example).
      */
     private SodSignatureValidationDto validateSodSignatureWithX509Dsc(
-        SecurityObjectDocument sod,
+        ParsedSod parsedSod,
         java.security.cert.X509Certificate dscX509,
         List<PassiveAuthenticationError> errors
     ) {
@@ -371,13 +412,13 @@ public class PerformPassiveAuthenticationUseCase {
 
         try {
             // Extract algorithms
-            signatureAlgorithm = sodParser.extractSignatureAlgorithm(sod.getEncodedData());
-            hashAlgorithm = sodParser.extractHashAlgorithm(sod.getEncodedData());
+            signatureAlgorithm = parsedSod.signatureAlgorithm();
+            hashAlgorithm = parsedSod.hashAlgorithm();
 
             log.debug("SOD algorithms - Signature: {}, Hash: {}", signatureAlgorithm, hashAlgorithm);
 
             // Verify signature using X509Certificate (recommended approach - matches sod_example)
-            signatureValid = sodParser.verifySignature(sod.getEncodedData(), dscX509);
+            signatureValid = parsedSod.verifySignature(dscX509);
 
             if (!signatureValid) {
                 validationErrors.append("SOD signature verification failed; ");
@@ -412,14 +453,16 @@ public class PerformPassiveAuthenticationUseCase {
      */
     private DataGroupValidationDto validateDataGroupHashes(
         Map<DataGroupNumber, byte[]> dataGroupsFromCommand,
-        SecurityObjectDocument sod,
+        ParsedSod parsedSod,
         List<PassiveAuthenticationError> errors
     ) {
         log.debug("Validating {} data groups", dataGroupsFromCommand.size());
 
         Map<DataGroupNumber, DataGroupHash> expectedHashes;
+        String hashAlg;
         try {
-            expectedHashes = sodParser.parseDataGroupHashes(sod.getEncodedData());
+            expectedHashes = parsedSod.dataGroupHashes();
+            hashAlg = parsedSod.hashAlgorithm();
         } catch (Exception e) {
             log.error("Failed to parse data group hashes from SOD", e);
             errors.add(PassiveAuthenticationError.critical(
@@ -449,7 +492,6 @@ public class PerformPassiveAuthenticationUseCase {
             }
 
             DataGroup dataGroup = DataGroup.of(dgNumber, dgContent);
-            String hashAlg = sodParser.extractHashAlgorithm(sod.getEncodedData());
             dataGroup.calculateActualHash(hashAlg);
             DataGroupHash actualHash = dataGroup.getActualHash();
 
@@ -583,7 +625,7 @@ public class PerformPassiveAuthenticationUseCase {
      * <p>Implementation follows RFC 5280 and ICAO 9303 Part 12:</p>
      * <ol>
      *   <li>Retrieve CRL from LDAP/Cache using CSCA DN and country code</li>
-     *   <li>Verify CRL signature using CSCA public key</li>
+     *   <li>Verify CRL signature using CSCA public key (once per CRL, cached with the revoked-serial index)</li>
      *   <li>Verify CRL freshness (thisUpdate, nextUpdate)</li>
      *   <li>Check if DSC serial number is in revoked list</li>
      * </ol>
@@ -599,10 +641,10 @@ public class PerformPassiveAuthenticationUseCase {
      * @param cscaX509 CSCA certificate (CRL issuer)
      * @param cscaSubjectDn CSCA Subject DN
      * @param countryCode ISO 3166-1 alpha-2 country code
-     * @return CrlCheckResult with verification outcome
+     * @return CrlCheck with verification outcome and the CRL's nextUpdate
      * @since Phase 4.12
      */
-    private CrlCheckResult performCrlCheck(
+    private CrlCheck performCrlCheck(
         X509Certificate dscX509,
         X509Certificate cscaX509,
         String cscaSubjectDn,
@@ -611,32 +653,41 @@ public class PerformPassiveAuthenticationUseCase {
         log.debug("Starting CRL check for DSC certificate: serial={}", dscX509.getSerialNumber());
 
         try {
-            // Step 1: Retrieve CRL from LDAP/Cache (two-tier caching)
-            java.util.Optional<java.security.cert.X509CRL> crlOpt =
-                crlCacheService.getCrl(cscaSubjectDn, countryCode);
+            // Step 1: Retrieve CRL verified with the CSCA key and indexed (two-tier caching)
+            java.util.Optional<VerifiedCrl> crlOpt =
+                crlCacheService.getVerifiedCrl(cscaSubjectDn, countryCode, cscaX509);
 
             if (crlOpt.isEmpty()) {
                 log.debug("CRL not available for CSCA: {}, country: {}", cscaSubjectDn, countryCode);
-                return CrlCheckResult.unavailable(
+                return new CrlCheck(CrlCheckResult.unavailable(
                     String.format("CRL not found in LDAP for CSCA: %s (country: %s)", cscaSubjectDn, countryCode)
-                );
+                ), null);
             }
 
-            java.security.cert.X509CRL crl = crlOpt.get();
+            VerifiedCrl crl = crlOpt.get();
             log.debug("CRL retrieved successfully. Issuer: {}, thisUpdate: {}, nextUpdate: {}",
-                crl.getIssuerX500Principal().getName(), crl.getThisUpdate(), crl.getNextUpdate());
+                crl.getIssuerDn(), crl.getThisUpdate(), crl.getNextUpdate());
 
-            // Step 2-4: Verify CRL and check revocation status
-            return crlVerificationService.verifyCertificate(dscX509, crl, cscaX509);
+            // Step 2-4: Check signature outcome, freshness and revocation status against the index
+            return new CrlCheck(
+                crlVerificationService.verifyCertificate(dscX509, crl),
+                crl.getNextUpdate()
+            );
 
         } catch (Exception e) {
             log.error("CRL check failed with exception: serial={}", dscX509.getSerialNumber(), e);
-            return CrlCheckResult.invalid(
+            return new CrlCheck(CrlCheckResult.invalid(
                 "CRL verification failed: " + e.getMessage()
-            );
+            ), null);
         }
     }
 
+    /**
+     * CRL check outcome with the nextUpdate of the CRL used (null if no CRL was used).
+     */
+    private record CrlCheck(CrlCheckResult result, java.time.Instant nextUpdate) {
+    }
+
     /**
      * Builds a user-friendly CRL status message based on the check result.
      *
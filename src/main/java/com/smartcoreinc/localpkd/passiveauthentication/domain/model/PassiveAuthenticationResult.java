@@ -253,7 +253,7 @@ public class PassiveAuthenticationResult {
      * @param json JSON string
      * @return list of PassiveAuthenticationError
      */
-    private static List<PassiveAuthenticationError> deserializeErrors(String json) {
+    static List<PassiveAuthenticationError> deserializeErrors(String json) {
         try {
             if (json == null || json.isBlank() || "[]".equals(json)) {
                 return new ArrayList<>();
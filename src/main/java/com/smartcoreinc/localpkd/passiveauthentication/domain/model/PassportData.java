@@ -48,7 +48,11 @@ public class PassportData extends AggregateRoot<PassportDataId> {
     @Embedded
     private SecurityObjectDocument sod;
 
-    @ElementCollection(fetch = FetchType.EAGER)
+    /**
+     * Data Groups are loaded on first access only; history listings use
+     * {@link PassportDataSummary} and never touch them.
+     */
+    @ElementCollection(fetch = FetchType.LAZY)
     @CollectionTable(
         name = "passport_data_group",
         joinColumns = @JoinColumn(name = "passport_data_id")
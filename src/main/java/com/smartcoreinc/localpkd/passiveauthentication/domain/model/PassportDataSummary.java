@@ -0,0 +1,42 @@
+package com.smartcoreinc.localpkd.passiveauthentication.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Read-only summary of a PassportData verification for history listings.
+ *
+ * <p>Projected directly from the {@code passport_data} row: it carries no SOD bytes and no
+ * Data Group content, so listing thousands of verifications does not load any binaries.
+ * Use {@link com.smartcoreinc.localpkd.passiveauthentication.domain.repository.PassportDataRepository#findDataGroupsById}
+ * to fetch the Data Groups of a single verification on demand.
+ *
+ * @param id verification (PassportData) ID
+ * @param issuingCountry issuing country code
+ * @param documentNumber passport document number
+ * @param verificationStatus overall verification status
+ * @param startedAt verification start time (keyset sort key)
+ * @param completedAt verification completion time (null while in progress)
+ * @param processingDurationMs processing duration in milliseconds
+ * @param errorsJson serialized verification errors (JSONB)
+ */
+public record PassportDataSummary(
+    PassportDataId id,
+    String issuingCountry,
+    String documentNumber,
+    PassiveAuthenticationStatus verificationStatus,
+    LocalDateTime startedAt,
+    LocalDateTime completedAt,
+    Long processingDurationMs,
+    String errorsJson
+) {
+
+    /**
+     * Get verification errors.
+     *
+     * @return list of PassiveAuthenticationError (empty if none)
+     */
+    public List<PassiveAuthenticationError> errors() {
+        return PassiveAuthenticationResult.deserializeErrors(errorsJson);
+    }
+}
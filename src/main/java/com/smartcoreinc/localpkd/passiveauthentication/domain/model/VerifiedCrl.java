@@ -0,0 +1,208 @@
+package com.smartcoreinc.localpkd.passiveauthentication.domain.model;
+
+import java.math.BigInteger;
+import java.security.PublicKey;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * VerifiedCrl - 서명 검증과 색인이 완료된 CRL 조회용 Value Object
+ *
+ * <p>CRL 서명은 생성 시 CSCA 공개키로 한 번만 검증되며, 폐기된 시리얼 번호는 정렬된 배열로 색인되어
+ * 이진 탐색으로 조회됩니다. 폐기 일시와 사유 코드도 미리 추출해 두므로, 요청마다 수행되는 검사는
+ * 유효기간 비교와 시리얼 번호 탐색뿐입니다 (암호 연산, ASN.1 디코딩 없음).</p>
+ *
+ * <p>불변 객체이므로 여러 요청 스레드에서 공유할 수 있습니다.</p>
+ *
+ * @see com.smartcoreinc.localpkd.passiveauthentication.domain.service.CrlVerificationService#verifyCrl
+ */
+public final class VerifiedCrl {
+
+    /**
+     * 사유 코드 없음 표시값
+     */
+    private static final byte NO_REASON = -1;
+
+    private final String issuerDn;
+    private final Instant thisUpdate;
+    private final Instant nextUpdate;
+    private final boolean signatureValid;
+    private final PublicKey verifiedWith;
+
+    /**
+     * 오름차순 정렬된 폐기 시리얼 번호 (revocationTimes, reasonCodes와 같은 인덱스)
+     */
+    private final BigInteger[] serials;
+    private final long[] revocationTimes;
+    private final byte[] reasonCodes;
+
+    private VerifiedCrl(String issuerDn, Instant thisUpdate, Instant nextUpdate, boolean signatureValid,
+                        PublicKey verifiedWith, BigInteger[] serials, long[] revocationTimes, byte[] reasonCodes) {
+        this.issuerDn = issuerDn;
+        this.thisUpdate = thisUpdate;
+        this.nextUpdate = nextUpdate;
+        this.signatureValid = signatureValid;
+        this.verifiedWith = verifiedWith;
+        this.serials = serials;
+        this.revocationTimes = revocationTimes;
+        this.reasonCodes = reasonCodes;
+    }
+
+    /**
+     * 서명 검증에 실패한 CRL (폐기 목록은 색인하지 않음)
+     *
+     * @param issuerDn CRL 발행자 DN
+     * @param thisUpdate CRL thisUpdate
+     * @param nextUpdate CRL nextUpdate (없으면 null)
+     * @param verifiedWith 검증에 사용한 CSCA 공개키
+     * @return 서명 무효 CRL
+     */
+    public static VerifiedCrl invalidSignature(String issuerDn, Instant thisUpdate, Instant nextUpdate,
+                                               PublicKey verifiedWith) {
+        return new VerifiedCrl(issuerDn, thisUpdate, nextUpdate, false, verifiedWith,
+            new BigInteger[0], new long[0], new byte[0]);
+    }
+
+    /**
+     * CRL 색인 빌더 생성 (서명 검증 성공 시)
+     *
+     * @param issuerDn CRL 발행자 DN
+     * @param thisUpdate CRL thisUpdate
+     * @param nextUpdate CRL nextUpdate (없으면 null)
+     * @param verifiedWith 검증에 사용한 CSCA 공개키
+     * @param expectedEntries 예상 폐기 항목 수
+     * @return Builder
+     */
+    public static Builder builder(String issuerDn, Instant thisUpdate, Instant nextUpdate,
+                                  PublicKey verifiedWith, int expectedEntries) {
+        return new Builder(issuerDn, thisUpdate, nextUpdate, verifiedWith, expectedEntries);
+    }
+
+    /**
+     * 지정한 공개키로 서명 검증된 CRL인지 확인 (CSCA 키 교체 대응)
+     *
+     * @param publicKey CSCA 공개키
+     * @return 같은 키로 검증되었으면 true
+     */
+    public boolean isVerifiedWith(PublicKey publicKey) {
+        return verifiedWith != null && verifiedWith.equals(publicKey);
+    }
+
+    /**
+     * 시리얼 번호의 폐기 정보 조회 (이진 탐색)
+     *
+     * @param serialNumber 인증서 시리얼 번호
+     * @return 폐기된 경우 Revocation, 아니면 empty
+     */
+    public Optional<Revocation> findRevocation(BigInteger serialNumber) {
+        int index = Arrays.binarySearch(serials, serialNumber);
+        if (index < 0) {
+            return Optional.empty();
+        }
+        LocalDateTime revocationDate = revocationTimes[index] == Long.MIN_VALUE
+            ? null
+            : Instant.ofEpochMilli(revocationTimes[index]).atZone(ZoneId.systemDefault()).toLocalDateTime();
+        Integer reasonCode = reasonCodes[index] == NO_REASON ? null : (int) reasonCodes[index];
+        return Optional.of(new Revocation(revocationDate, reasonCode));
+    }
+
+    public String getIssuerDn() {
+        return issuerDn;
+    }
+
+    public Instant getThisUpdate() {
+        return thisUpdate;
+    }
+
+    public Instant getNextUpdate() {
+        return nextUpdate;
+    }
+
+    public boolean isSignatureValid() {
+        return signatureValid;
+    }
+
+    public int getRevokedCount() {
+        return serials.length;
+    }
+
+    /**
+     * 폐기 정보
+     *
+     * @param revocationDate 폐기 일시
+     * @param reasonCode RFC 5280 사유 코드 (없으면 null)
+     */
+    public record Revocation(LocalDateTime revocationDate, Integer reasonCode) {
+    }
+
+    /**
+     * 폐기 항목을 추가한 뒤 시리얼 번호 순으로 정렬된 VerifiedCrl을 생성합니다.
+     */
+    public static final class Builder {
+
+        private final String issuerDn;
+        private final Instant thisUpdate;
+        private final Instant nextUpdate;
+        private final PublicKey verifiedWith;
+        private BigInteger[] serials;
+        private long[] revocationTimes;
+        private byte[] reasonCodes;
+        private int size;
+
+        private Builder(String issuerDn, Instant thisUpdate, Instant nextUpdate,
+                        PublicKey verifiedWith, int expectedEntries) {
+            this.issuerDn = issuerDn;
+            this.thisUpdate = thisUpdate;
+            this.nextUpdate = nextUpdate;
+            this.verifiedWith = verifiedWith;
+            int capacity = Math.max(0, expectedEntries);
+            this.serials = new BigInteger[capacity];
+            this.revocationTimes = new long[capacity];
+            this.reasonCodes = new byte[capacity];
+        }
+
+        /**
+         * 폐기 항목 추가
+         *
+         * @param serialNumber 시리얼 번호
+         * @param revocationDate 폐기 일시 (없으면 null)
+         * @param reasonCode 사유 코드 (없으면 null)
+         * @return this
+         */
+        public Builder add(BigInteger serialNumber, Instant revocationDate, Integer reasonCode) {
+            if (size == serials.length) {
+                int capacity = Math.max(16, size * 2);
+                serials = Arrays.copyOf(serials, capacity);
+                revocationTimes = Arrays.copyOf(revocationTimes, capacity);
+                reasonCodes = Arrays.copyOf(reasonCodes, capacity);
+            }
+            serials[size] = serialNumber;
+            revocationTimes[size] = revocationDate != null ? revocationDate.toEpochMilli() : Long.MIN_VALUE;
+            reasonCodes[size] = reasonCode != null ? reasonCode.byteValue() : NO_REASON;
+            size++;
+            return this;
+        }
+
+        public VerifiedCrl build() {
+            Integer[] order = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> serials[a].compareTo(serials[b]));
+
+            BigInteger[] sortedSerials = new BigInteger[size];
+            long[] sortedTimes = new long[size];
+            byte[] sortedReasons = new byte[size];
+            for (int i = 0; i < size; i++) {
+                sortedSerials[i] = serials[order[i]];
+                sortedTimes[i] = revocationTimes[order[i]];
+                sortedReasons[i] = reasonCodes[order[i]];
+            }
+            return new VerifiedCrl(issuerDn, thisUpdate, nextUpdate, true, verifiedWith,
+                sortedSerials, sortedTimes, sortedReasons);
+        }
+    }
+}
@@ -32,4 +32,18 @@ public interface LdapCscaRepository {
      * @return CSCA X.509 인증서 (존재하지 않으면 Optional.empty())
      */
     Optional<X509Certificate> findBySubjectDn(String subjectDn);
+
+    /**
+     * 하위 인증서(DSC)를 발급한 CSCA 인증서를 조회합니다.
+     *
+     * <p>기본 구현은 Issuer DN으로 {@link #findBySubjectDn(String)}을 호출합니다.
+     * 인덱스 기반 구현은 AKI → SKI 매칭 후 공개키로 서명이 검증되는 CSCA를 우선 반환하고,
+     * 검증되는 CSCA가 없으면 AKI/DN이 일치하는 CSCA를 반환합니다 (서명 검증은 호출자 책임).</p>
+     *
+     * @param child DSC 등 하위 인증서
+     * @return 발급자 CSCA X.509 인증서 (존재하지 않으면 Optional.empty())
+     */
+    default Optional<X509Certificate> findIssuerOf(X509Certificate child) {
+        return findBySubjectDn(child.getIssuerX500Principal().getName());
+    }
 }
@@ -0,0 +1,82 @@
+package com.smartcoreinc.localpkd.passiveauthentication.domain.port;
+
+import com.smartcoreinc.localpkd.passiveauthentication.domain.model.DataGroupHash;
+import com.smartcoreinc.localpkd.passiveauthentication.domain.model.DataGroupNumber;
+
+import java.security.PublicKey;
+import java.security.cert.X509Certificate;
+import java.util.Map;
+
+/**
+ * Security Object Document (SOD) decoded once for a single verification.
+ * <p>
+ * Created by {@link SodParserPort#parse(byte[])}. The ICAO Tag 0x77 wrapper, the CMS SignedData,
+ * the first SignerInfo and the LDSSecurityObject are decoded a single time, so that DSC extraction,
+ * algorithm lookup, signature verification and Data Group hash comparison of one passport
+ * all share the same decoded structures instead of re-parsing the SOD bytes for each step.
+ * <p>
+ * Derived values (DSC certificate, Data Group hashes) are computed on first access and memoized.
+ * Instances are intended to be confined to the request that created them and are not thread-safe.
+ *
+ * @see SodParserPort
+ */
+public interface ParsedSod {
+
+    /**
+     * Returns the Document Signer Certificate embedded in the SOD (first certificate of SignedData).
+     *
+     * @return DSC X509 certificate
+     * @throws com.smartcoreinc.localpkd.shared.exception.InfrastructureException if no DSC found in SOD
+     */
+    X509Certificate dscCertificate();
+
+    /**
+     * Returns the DSC Subject DN and Serial Number.
+     *
+     * @return DscInfo
+     * @throws com.smartcoreinc.localpkd.shared.exception.InfrastructureException if no DSC found in SOD
+     */
+    DscInfo dscInfo();
+
+    /**
+     * Returns the Data Group hash algorithm of the LDSSecurityObject (e.g., "SHA-256").
+     *
+     * @return Hash algorithm name
+     * @throws com.smartcoreinc.localpkd.shared.exception.InfrastructureException if the LDSSecurityObject is missing
+     */
+    String hashAlgorithm();
+
+    /**
+     * Returns the SignerInfo signature algorithm (e.g., "SHA256withRSA").
+     *
+     * @return Signature algorithm name
+     * @throws com.smartcoreinc.localpkd.shared.exception.InfrastructureException if no SignerInfo found
+     */
+    String signatureAlgorithm();
+
+    /**
+     * Returns the Data Group hashes of the LDSSecurityObject.
+     *
+     * @return Unmodifiable map of Data Group Number to DataGroupHash
+     * @throws com.smartcoreinc.localpkd.shared.exception.InfrastructureException if the LDSSecurityObject is missing
+     */
+    Map<DataGroupNumber, DataGroupHash> dataGroupHashes();
+
+    /**
+     * Verifies the SOD signature with the DSC certificate.
+     *
+     * @param dscCertificate DSC X509 certificate
+     * @return true if signature is valid, false otherwise
+     * @throws com.smartcoreinc.localpkd.shared.exception.InfrastructureException if verification process fails
+     */
+    boolean verifySignature(X509Certificate dscCertificate);
+
+    /**
+     * Verifies the SOD signature with the DSC public key.
+     *
+     * @param dscPublicKey DSC public key
+     * @return true if signature is valid, false otherwise
+     * @throws com.smartcoreinc.localpkd.shared.exception.InfrastructureException if verification process fails
+     */
+    boolean verifySignature(PublicKey dscPublicKey);
+}
@@ -24,6 +24,19 @@ import java.util.Map;
  */
 public interface SodParserPort {
 
+    /**
+     * Parses SOD once and returns the decoded structure.
+     * <p>
+     * Preferred entry point when more than one value is needed from the same SOD
+     * (e.g., DSC, algorithms, signature and Data Group hashes during Passive Authentication).
+     * The single-value methods below each decode the SOD again and are kept for one-off lookups.
+     *
+     * @param sodBytes Binary SOD data (PKCS#7 SignedData, optionally wrapped with Tag 0x77)
+     * @return ParsedSod decoded SOD
+     * @throws com.smartcoreinc.localpkd.shared.exception.InfrastructureException if SOD parsing fails
+     */
+    ParsedSod parse(byte[] sodBytes);
+
     /**
      * Parses SOD and extracts Data Group hashes.
      * <p>
@@ -1,12 +1,15 @@
 package com.smartcoreinc.localpkd.passiveauthentication.domain.repository;
 
+import com.smartcoreinc.localpkd.passiveauthentication.domain.model.DataGroup;
 import com.smartcoreinc.localpkd.passiveauthentication.domain.model.PassportData;
+import com.smartcoreinc.localpkd.passiveauthentication.domain.model.PassportDataSummary;
 import com.smartcoreinc.localpkd.passiveauthentication.domain.model.PassportDataId;
 import com.smartcoreinc.localpkd.passiveauthentication.domain.model.PassiveAuthenticationStatus;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 /**
  * Repository interface for PassportData aggregate.
@@ -70,6 +73,51 @@ public interface PassportDataRepository {
      */
     List<PassportData> findInProgress();
 
+    /**
+     * Find verification summaries (no SOD / Data Group binaries) using keyset pagination.
+     *
+     * <p>Rows are ordered by {@code startedAt DESC, id DESC}. The next page starts after the
+     * ({@code startedAt}, {@code id}) of the last row of the previous page.
+     *
+     * @param filter summary filter
+     * @param afterStartedAt startedAt of the last row of the previous page (null for the first page)
+     * @param afterId id of the last row of the previous page (null for the first page)
+     * @param limit maximum number of rows (0 or less for no limit)
+     * @return list of PassportDataSummary
+     */
+    List<PassportDataSummary> findSummaries(
+        PassportDataSummaryFilter filter, LocalDateTime afterStartedAt, UUID afterId, int limit);
+
+    /**
+     * Find verification summaries (no SOD / Data Group binaries) for an offset page.
+     *
+     * @param filter summary filter
+     * @param sortProperty startedAt, completedAt, verificationStatus, issuingCountry or documentNumber
+     *                     (other values sort by startedAt)
+     * @param descending true for descending order
+     * @param offset number of rows to skip
+     * @param limit page size
+     * @return list of PassportDataSummary
+     */
+    List<PassportDataSummary> findSummaryPage(
+        PassportDataSummaryFilter filter, String sortProperty, boolean descending, long offset, int limit);
+
+    /**
+     * Count PassportData matching a summary filter.
+     *
+     * @param filter summary filter
+     * @return count of matching PassportData
+     */
+    long countSummaries(PassportDataSummaryFilter filter);
+
+    /**
+     * Find the Data Groups of a single verification without loading the SOD.
+     *
+     * @param id PassportData ID
+     * @return list of DataGroup (empty if not found)
+     */
+    List<DataGroup> findDataGroupsById(PassportDataId id);
+
     /**
      * Count PassportData by verification status.
      *
@@ -0,0 +1,49 @@
+package com.smartcoreinc.localpkd.passiveauthentication.domain.repository;
+
+import com.smartcoreinc.localpkd.passiveauthentication.domain.model.PassiveAuthenticationStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Filter for PassportData summary (history) queries.
+ *
+ * <p>Every component is optional; {@code null} means "no restriction".
+ *
+ * @param issuingCountry issuing country code
+ * @param status verification status
+ * @param startedFrom verification start time lower bound (inclusive)
+ * @param startedTo verification start time upper bound (inclusive)
+ * @param completed {@code true} for completed, {@code false} for in-progress verifications
+ */
+public record PassportDataSummaryFilter(
+    String issuingCountry,
+    PassiveAuthenticationStatus status,
+    LocalDateTime startedFrom,
+    LocalDateTime startedTo,
+    Boolean completed
+) {
+
+    public static PassportDataSummaryFilter all() {
+        return new PassportDataSummaryFilter(null, null, null, null, null);
+    }
+
+    public static PassportDataSummaryFilter of(String issuingCountry, PassiveAuthenticationStatus status) {
+        return new PassportDataSummaryFilter(issuingCountry, status, null, null, null);
+    }
+
+    public static PassportDataSummaryFilter byStatus(PassiveAuthenticationStatus status) {
+        return new PassportDataSummaryFilter(null, status, null, null, null);
+    }
+
+    public static PassportDataSummaryFilter byDateRange(LocalDateTime startedFrom, LocalDateTime startedTo) {
+        return new PassportDataSummaryFilter(null, null, startedFrom, startedTo, null);
+    }
+
+    public static PassportDataSummaryFilter completedOnly() {
+        return new PassportDataSummaryFilter(null, null, null, null, true);
+    }
+
+    public static PassportDataSummaryFilter inProgressOnly() {
+        return new PassportDataSummaryFilter(null, null, null, null, false);
+    }
+}
@@ -1,18 +1,20 @@
 package com.smartcoreinc.localpkd.passiveauthentication.domain.service;
 
 import com.smartcoreinc.localpkd.passiveauthentication.domain.model.CrlCheckResult;
+import com.smartcoreinc.localpkd.passiveauthentication.domain.model.VerifiedCrl;
 import com.smartcoreinc.localpkd.shared.exception.DomainException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.math.BigInteger;
+import java.security.PublicKey;
 import java.security.cert.X509CRL;
 import java.security.cert.X509CRLEntry;
 import java.security.cert.X509Certificate;
 import java.time.Instant;
-import java.time.LocalDateTime;
-import java.time.ZoneId;
 import java.util.Date;
+import java.util.Optional;
+import java.util.Set;
 
 /**
  * CrlVerificationService - CRL 검증 Domain Service
@@ -73,6 +75,9 @@ public class CrlVerificationService {
      *   <li>폐기된 경우 revocationDate 및 reason 추출</li>
      * </ol>
      *
+     * <p>같은 CRL로 여러 인증서를 검증하는 경우 {@link #verifyCrl}로 한 번 만든 {@link VerifiedCrl}을
+     * {@link #verifyCertificate(X509Certificate, VerifiedCrl)}에 재사용하십시오.</p>
+     *
      * @param certificate 검증할 인증서 (DSC)
      * @param crl CRL (CSCA가 서명)
      * @param issuerCert 발행자 인증서 (CSCA)
@@ -82,25 +87,43 @@ public class CrlVerificationService {
     public CrlCheckResult verifyCertificate(X509Certificate certificate,
                                             X509CRL crl,
                                             X509Certificate issuerCert) {
+        return verifyCertificate(certificate, verifyCrl(crl, issuerCert));
+    }
+
+    /**
+     * 서명 검증과 색인이 끝난 CRL로 인증서를 검증합니다 (암호 연산 없음).
+     *
+     * <ol>
+     *   <li>CRL 서명 검증 결과 확인 ({@link #verifyCrl}에서 수행됨)</li>
+     *   <li>CRL 유효기간 검증 (thisUpdate, nextUpdate)</li>
+     *   <li>폐기 시리얼 번호 색인 조회</li>
+     * </ol>
+     *
+     * @param certificate 검증할 인증서 (DSC)
+     * @param verifiedCrl 검증된 CRL
+     * @return CRL 검증 결과
+     * @throws DomainException if verification process fails unexpectedly
+     */
+    public CrlCheckResult verifyCertificate(X509Certificate certificate, VerifiedCrl verifiedCrl) {
         log.debug("Starting CRL verification for certificate serial: {}", certificate.getSerialNumber());
 
         try {
-            // Step 1: CRL 서명 검증
-            if (!verifyCrlSignature(crl, issuerCert)) {
-                log.warn("CRL signature verification failed. Issuer: {}", crl.getIssuerX500Principal());
+            // Step 1: CRL 서명 검증 결과
+            if (!verifiedCrl.isSignatureValid()) {
+                log.warn("CRL signature verification failed. Issuer: {}", verifiedCrl.getIssuerDn());
                 return CrlCheckResult.invalid(
                     "CRL signature verification failed using CSCA public key"
                 );
             }
 
             // Step 2: CRL 유효기간 검증 (Freshness Check)
-            CrlCheckResult freshnessResult = checkCrlFreshness(crl);
+            CrlCheckResult freshnessResult = checkCrlFreshness(verifiedCrl);
             if (freshnessResult.getStatus() != CrlCheckResult.CrlStatus.VALID) {
                 return freshnessResult;  // CRL_EXPIRED
             }
 
             // Step 3: 인증서 폐기 여부 확인
-            return checkRevocationStatus(certificate, crl);
+            return checkRevocationStatus(certificate, verifiedCrl);
 
         } catch (Exception e) {
             log.error("Unexpected error during CRL verification for serial: {}",
@@ -110,6 +133,45 @@ public class CrlVerificationService {
         }
     }
 
+    /**
+     * CRL 서명을 CSCA 공개키로 한 번 검증하고 폐기 목록을 색인합니다.
+     *
+     * <p>서명 검증에 실패하면 폐기 목록을 색인하지 않은 VerifiedCrl을 반환하며,
+     * 이 CRL로 검증한 결과는 항상 CRL_INVALID입니다.</p>
+     *
+     * @param crl CRL (CSCA가 서명)
+     * @param issuerCert 발행자 인증서 (CSCA)
+     * @return 검증/색인된 CRL
+     */
+    public VerifiedCrl verifyCrl(X509CRL crl, X509Certificate issuerCert) {
+        String issuerDn = crl.getIssuerX500Principal().getName();
+        Instant thisUpdate = crl.getThisUpdate().toInstant();
+        Instant nextUpdate = crl.getNextUpdate() != null ? crl.getNextUpdate().toInstant() : null;
+        PublicKey publicKey = issuerCert.getPublicKey();
+
+        if (!verifyCrlSignature(crl, issuerCert)) {
+            return VerifiedCrl.invalidSignature(issuerDn, thisUpdate, nextUpdate, publicKey);
+        }
+
+        Set<? extends X509CRLEntry> entries = crl.getRevokedCertificates();
+        VerifiedCrl.Builder builder = VerifiedCrl.builder(
+            issuerDn, thisUpdate, nextUpdate, publicKey, entries != null ? entries.size() : 0);
+        if (entries != null) {
+            for (X509CRLEntry entry : entries) {
+                Date revocationDate = entry.getRevocationDate();
+                builder.add(
+                    entry.getSerialNumber(),
+                    revocationDate != null ? revocationDate.toInstant() : null,
+                    extractReasonCode(entry)
+                );
+            }
+        }
+        VerifiedCrl verifiedCrl = builder.build();
+        log.debug("CRL verified and indexed. Issuer: {}, revoked entries: {}",
+            issuerDn, verifiedCrl.getRevokedCount());
+        return verifiedCrl;
+    }
+
     /**
      * CRL 서명을 CSCA 공개키로 검증합니다.
      *
@@ -141,27 +203,27 @@ public class CrlVerificationService {
      * @param crl 검증할 CRL
      * @return VALID if CRL is fresh, CRL_EXPIRED otherwise
      */
-    private CrlCheckResult checkCrlFreshness(X509CRL crl) {
-        Date thisUpdate = crl.getThisUpdate();
-        Date nextUpdate = crl.getNextUpdate();
-        Date now = new Date();
+    private CrlCheckResult checkCrlFreshness(VerifiedCrl crl) {
+        Instant thisUpdate = crl.getThisUpdate();
+        Instant nextUpdate = crl.getNextUpdate();
+        Instant now = Instant.now();
 
         log.debug("CRL thisUpdate: {}, nextUpdate: {}, current time: {}",
             thisUpdate, nextUpdate, now);
 
         // thisUpdate 체크
-        if (now.before(thisUpdate)) {
+        if (now.isBefore(thisUpdate)) {
             log.warn("CRL is not yet valid. thisUpdate: {}, current: {}", thisUpdate, now);
             return CrlCheckResult.expired(
-                String.format("CRL is not yet valid (thisUpdate: %s)", thisUpdate)
+                String.format("CRL is not yet valid (thisUpdate: %s)", Date.from(thisUpdate))
             );
         }
 
         // nextUpdate 체크
-        if (nextUpdate != null && now.after(nextUpdate)) {
+        if (nextUpdate != null && now.isAfter(nextUpdate)) {
             log.warn("CRL has expired. nextUpdate: {}, current: {}", nextUpdate, now);
             return CrlCheckResult.expired(
-                String.format("CRL has expired (nextUpdate: %s)", nextUpdate)
+                String.format("CRL has expired (nextUpdate: %s)", Date.from(nextUpdate))
             );
         }
 
@@ -175,30 +237,25 @@ public class CrlVerificationService {
      * <p>RFC 5280 Section 5.3 - Revoked Certificates</p>
      *
      * @param certificate 검증할 인증서
-     * @param crl CRL
+     * @param crl 검증된 CRL
      * @return VALID if not revoked, REVOKED if revoked
      */
-    private CrlCheckResult checkRevocationStatus(X509Certificate certificate, X509CRL crl) {
+    private CrlCheckResult checkRevocationStatus(X509Certificate certificate, VerifiedCrl crl) {
         BigInteger serialNumber = certificate.getSerialNumber();
 
-        // CRL에서 인증서 시리얼 번호 검색
-        X509CRLEntry revokedEntry = crl.getRevokedCertificate(serialNumber);
+        // 색인된 폐기 목록에서 인증서 시리얼 번호 검색
+        Optional<VerifiedCrl.Revocation> revocation = crl.findRevocation(serialNumber);
 
-        if (revokedEntry == null) {
+        if (revocation.isEmpty()) {
             log.debug("Certificate serial {} is not revoked", serialNumber);
             return CrlCheckResult.valid();
         }
 
-        // 폐기된 경우 - revocationDate 및 reason 추출
-        Date revocationDate = revokedEntry.getRevocationDate();
-        LocalDateTime revocationDateTime = convertToLocalDateTime(revocationDate);
-
-        Integer reasonCode = extractReasonCode(revokedEntry);
-
+        VerifiedCrl.Revocation revoked = revocation.get();
         log.warn("Certificate serial {} is REVOKED. Date: {}, Reason code: {}",
-            serialNumber, revocationDate, reasonCode);
+            serialNumber, revoked.revocationDate(), revoked.reasonCode());
 
-        return CrlCheckResult.revoked(revocationDateTime, reasonCode);
+        return CrlCheckResult.revoked(revoked.revocationDate(), revoked.reasonCode());
     }
 
     /**
@@ -236,16 +293,4 @@ public class CrlVerificationService {
             return null;
         }
     }
-
-    /**
-     * Date를 LocalDateTime으로 변환
-     */
-    private LocalDateTime convertToLocalDateTime(Date date) {
-        if (date == null) {
-            return null;
-        }
-        return Instant.ofEpochMilli(date.getTime())
-            .atZone(ZoneId.systemDefault())
-            .toLocalDateTime();
-    }
 }
@@ -0,0 +1,432 @@
+package com.smartcoreinc.localpkd.passiveauthentication.infrastructure.adapter;
+
+import com.smartcoreinc.localpkd.passiveauthentication.domain.model.DataGroupHash;
+import com.smartcoreinc.localpkd.passiveauthentication.domain.model.DataGroupNumber;
+import com.smartcoreinc.localpkd.passiveauthentication.domain.port.DscInfo;
+import com.smartcoreinc.localpkd.passiveauthentication.domain.port.ParsedSod;
+import com.smartcoreinc.localpkd.shared.exception.InfrastructureException;
+import lombok.extern.slf4j.Slf4j;
+import org.bouncycastle.asn1.ASN1Encoding;
+import org.bouncycastle.asn1.ASN1InputStream;
+import org.bouncycastle.asn1.ASN1Primitive;
+import org.bouncycastle.asn1.ASN1Sequence;
+import org.bouncycastle.asn1.ASN1TaggedObject;
+import org.bouncycastle.asn1.BERTags;
+import org.bouncycastle.asn1.icao.LDSSecurityObject;
+import org.bouncycastle.cert.X509CertificateHolder;
+import org.bouncycastle.cms.CMSException;
+import org.bouncycastle.cms.CMSSignedData;
+import org.bouncycastle.cms.SignerInformation;
+import org.bouncycastle.cms.SignerInformationStore;
+import org.bouncycastle.cms.SignerInformationVerifier;
+import org.bouncycastle.cms.jcajce.JcaSimpleSignerInfoVerifierBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.security.PublicKey;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bouncy Castle implementation of {@link ParsedSod}.
+ *
+ * <p>The SOD is decoded once in {@link #parse(byte[])}:
+ * <ol>
+ *   <li>ICAO 9303 Tag 0x77 wrapper removed (if present)</li>
+ *   <li>CMS SignedData parsed</li>
+ *   <li>LDSSecurityObject decoded from eContent (if present)</li>
+ * </ol>
+ * The DSC certificate and Data Group hash map are built on first access and reused afterwards.
+ *
+ * <p>A missing LDSSecurityObject or SignerInfo is not a parse error; it is reported by the accessor
+ * that needs it, so that e.g. the DSC can still be extracted from such a SOD.
+ *
+ * @see BouncyCastleSodParserAdapter
+ */
+@Slf4j
+final class BouncyCastleParsedSod implements ParsedSod {
+
+    // OID mappings for hash algorithms
+    private static final Map<String, String> HASH_ALGORITHM_NAMES = Map.of(
+        "1.3.14.3.2.26", "SHA-1",       // Deprecated, legacy only
+        "2.16.840.1.101.3.4.2.1", "SHA-256",
+        "2.16.840.1.101.3.4.2.2", "SHA-384",
+        "2.16.840.1.101.3.4.2.3", "SHA-512"
+    );
+
+    // OID mappings for signature algorithms
+    private static final Map<String, String> SIGNATURE_ALGORITHM_NAMES = Map.of(
+        "1.2.840.113549.1.1.11", "SHA256withRSA",
+        "1.2.840.113549.1.1.12", "SHA384withRSA",
+        "1.2.840.113549.1.1.13", "SHA512withRSA",
+        "1.2.840.10045.4.3.2", "SHA256withECDSA",
+        "1.2.840.10045.4.3.3", "SHA384withECDSA",
+        "1.2.840.10045.4.3.4", "SHA512withECDSA"
+    );
+
+    private final CMSSignedData cmsSignedData;
+    private final SignerInformation signerInfo;
+    private final LDSSecurityObject ldsSecurityObject;
+
+    private X509CertificateHolder dscHolder;
+    private X509Certificate dscCertificate;
+    private Map<DataGroupNumber, DataGroupHash> dataGroupHashes;
+
+    private BouncyCastleParsedSod(
+        CMSSignedData cmsSignedData,
+        SignerInformation signerInfo,
+        LDSSecurityObject ldsSecurityObject
+    ) {
+        this.cmsSignedData = cmsSignedData;
+        this.signerInfo = signerInfo;
+        this.ldsSecurityObject = ldsSecurityObject;
+    }
+
+    /**
+     * Decodes SOD bytes.
+     *
+     * @param sodBytes SOD bytes (optionally wrapped with Tag 0x77)
+     * @return BouncyCastleParsedSod
+     * @throws InfrastructureException if the SOD cannot be decoded
+     */
+    static BouncyCastleParsedSod parse(byte[] sodBytes) {
+        if (sodBytes == null || sodBytes.length == 0) {
+            throw new InfrastructureException("SOD_PARSE_ERROR", "SOD bytes are empty");
+        }
+        try {
+            log.debug("Parsing SOD ({} bytes)", sodBytes.length);
+
+            // Remove ICAO 9303 Tag 0x77 wrapper if present
+            byte[] cmsBytes = unwrapIcaoSod(sodBytes);
+
+            // Parse CMS SignedData
+            CMSSignedData cmsSignedData = new CMSSignedData(cmsBytes);
+
+            // First SignerInfo (ICAO 9303: exactly one signer, the DSC)
+            SignerInformationStore signerInfos = cmsSignedData.getSignerInfos();
+            SignerInformation signerInfo = signerInfos.size() > 0
+                ? signerInfos.getSigners().iterator().next()
+                : null;
+
+            return new BouncyCastleParsedSod(cmsSignedData, signerInfo, decodeLdsSecurityObject(cmsSignedData));
+
+        } catch (InfrastructureException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new InfrastructureException(
+                "SOD_PARSE_ERROR",
+                "Failed to parse SOD: " + e.getMessage(),
+                e
+            );
+        }
+    }
+
+    @Override
+    public X509Certificate dscCertificate() {
+        if (dscCertificate == null) {
+            try {
+                // Convert BouncyCastle X509CertificateHolder to Java X509Certificate
+                CertificateFactory certFactory = CertificateFactory.getInstance("X.509", "BC");
+                dscCertificate = (X509Certificate) certFactory.generateCertificate(
+                    new ByteArrayInputStream(dscHolder().getEncoded())
+                );
+
+                log.debug("Extracted DSC certificate - Subject: {}, Serial: {}, Issuer: {}",
+                    dscCertificate.getSubjectX500Principal().getName(),
+                    dscCertificate.getSerialNumber().toString(16).toUpperCase(),
+                    dscCertificate.getIssuerX500Principal().getName());
+
+            } catch (InfrastructureException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new InfrastructureException(
+                    "DSC_EXTRACT_ERROR",
+                    "Failed to extract DSC certificate from SOD: " + e.getMessage(),
+                    e
+                );
+            }
+        }
+        return dscCertificate;
+    }
+
+    @Override
+    public DscInfo dscInfo() {
+        X509CertificateHolder holder = dscHolder();
+        return new DscInfo(
+            holder.getSubject().toString(),
+            holder.getSerialNumber().toString(16).toUpperCase()
+        );
+    }
+
+    @Override
+    public String hashAlgorithm() {
+        String oid = requireLdsSecurityObject().getDigestAlgorithmIdentifier().getAlgorithm().getId();
+
+        // Map OID to algorithm name
+        String algorithmName = HASH_ALGORITHM_NAMES.get(oid);
+        if (algorithmName == null) {
+            log.warn("Unknown hash algorithm OID: {}", oid);
+            algorithmName = "UNKNOWN(" + oid + ")";
+        }
+        return algorithmName;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p><b>IMPORTANT:</b> CMS SignerInfo contains:
+     * <ul>
+     *   <li>digestAlgorithmID - Hash algorithm (SHA-256, SHA-384, etc.)</li>
+     *   <li>signatureAlgorithm (encryptionAlgOID) - Signature algorithm (RSA, ECDSA, etc.)</li>
+     * </ul>
+     */
+    @Override
+    public String signatureAlgorithm() {
+        if (signerInfo == null) {
+            throw new InfrastructureException(
+                "NO_SIGNER_INFO",
+                "No SignerInfo found in SOD"
+            );
+        }
+
+        // Get encryption algorithm OID (this is the actual signature algorithm, e.g., RSA, ECDSA)
+        String encryptionAlgOid = signerInfo.getEncryptionAlgOID();
+
+        // Get digest algorithm OID (hash algorithm)
+        String digestAlgOid = signerInfo.getDigestAlgorithmID().getAlgorithm().getId();
+
+        // Combine to get full signature algorithm name
+        return deriveSignatureAlgorithmName(digestAlgOid, encryptionAlgOid);
+    }
+
+    @Override
+    public Map<DataGroupNumber, DataGroupHash> dataGroupHashes() {
+        if (dataGroupHashes == null) {
+            Map<DataGroupNumber, DataGroupHash> hashMap = new LinkedHashMap<>();
+
+            org.bouncycastle.asn1.icao.DataGroupHash[] asn1Hashes = requireLdsSecurityObject().getDatagroupHash();
+            if (asn1Hashes == null || asn1Hashes.length == 0) {
+                log.warn("No Data Group hashes found in SOD");
+            } else {
+                for (org.bouncycastle.asn1.icao.DataGroupHash dgHash : asn1Hashes) {
+                    hashMap.put(
+                        DataGroupNumber.fromInt(dgHash.getDataGroupNumber()),
+                        DataGroupHash.of(dgHash.getDataGroupHashValue().getOctets())
+                    );
+                }
+            }
+            dataGroupHashes = Collections.unmodifiableMap(hashMap);
+        }
+        return dataGroupHashes;
+    }
+
+    @Override
+    public boolean verifySignature(X509Certificate dscCertificate) {
+        try {
+            return verify(new JcaSimpleSignerInfoVerifierBuilder()
+                .setProvider("BC")
+                .build(dscCertificate));
+        } catch (Exception e) {
+            throw new InfrastructureException(
+                "SOD_SIGNATURE_VERIFY_ERROR",
+                "Failed to verify SOD signature with DSC certificate: " + e.getMessage(),
+                e
+            );
+        }
+    }
+
+    @Override
+    public boolean verifySignature(PublicKey dscPublicKey) {
+        try {
+            return verify(new JcaSimpleSignerInfoVerifierBuilder()
+                .setProvider("BC")
+                .build(dscPublicKey));
+        } catch (Exception e) {
+            throw new InfrastructureException(
+                "SOD_SIGNATURE_VERIFY_ERROR",
+                "Failed to verify SOD signature: " + e.getMessage(),
+                e
+            );
+        }
+    }
+
+    private boolean verify(SignerInformationVerifier verifier) throws CMSException {
+        if (signerInfo == null) {
+            log.error("No SignerInfo found in SOD");
+            return false;
+        }
+        boolean valid = signerInfo.verify(verifier);
+        if (valid) {
+            log.debug("SOD signature verification succeeded");
+        } else {
+            log.error("SOD signature verification failed");
+        }
+        return valid;
+    }
+
+    /**
+     * First certificate of SignedData.certificates (ICAO 9303: the DSC).
+     */
+    private X509CertificateHolder dscHolder() {
+        if (dscHolder == null) {
+            var certificates = cmsSignedData.getCertificates();
+            Collection<X509CertificateHolder> matches = certificates != null
+                ? certificates.getMatches(null)
+                : Collections.emptyList();
+            if (matches.isEmpty()) {
+                throw new InfrastructureException(
+                    "NO_DSC_IN_SOD",
+                    "No certificates found in SOD"
+                );
+            }
+            dscHolder = matches.iterator().next();
+        }
+        return dscHolder;
+    }
+
+    private LDSSecurityObject requireLdsSecurityObject() {
+        if (ldsSecurityObject == null) {
+            throw new InfrastructureException(
+                "EMPTY_SOD_CONTENT",
+                "SOD content (eContent) is empty"
+            );
+        }
+        return ldsSecurityObject;
+    }
+
+    /**
+     * Derives the full signature algorithm name from digest and encryption algorithm OIDs.
+     *
+     * <p>CMS SignedData stores digest and encryption algorithms separately.
+     * This method combines them to produce standard algorithm names like "SHA256withRSA".
+     *
+     * <p>Common OID mappings:
+     * <ul>
+     *   <li>RSA encryption: 1.2.840.113549.1.1.1</li>
+     *   <li>RSA with SHA-256: 1.2.840.113549.1.1.11</li>
+     *   <li>ECDSA with SHA-256: 1.2.840.10045.4.3.2</li>
+     * </ul>
+     *
+     * @param digestOid Digest algorithm OID (e.g., SHA-256)
+     * @param encryptionOid Encryption algorithm OID (e.g., RSA, ECDSA)
+     * @return Full signature algorithm name (e.g., "SHA256withRSA")
+     */
+    private static String deriveSignatureAlgorithmName(String digestOid, String encryptionOid) {
+        // First, check if encryptionOid is a full signature algorithm OID
+        String directMatch = SIGNATURE_ALGORITHM_NAMES.get(encryptionOid);
+        if (directMatch != null) {
+            return directMatch;
+        }
+
+        // Map digest OID to prefix
+        String digestPrefix = switch (digestOid) {
+            case "1.3.14.3.2.26" -> "SHA1";       // SHA-1 (deprecated)
+            case "2.16.840.1.101.3.4.2.1" -> "SHA256";
+            case "2.16.840.1.101.3.4.2.2" -> "SHA384";
+            case "2.16.840.1.101.3.4.2.3" -> "SHA512";
+            default -> "UNKNOWN";
+        };
+
+        // Map encryption OID to suffix
+        String encryptionSuffix = switch (encryptionOid) {
+            // RSA encryption (raw)
+            case "1.2.840.113549.1.1.1" -> "RSA";
+            // RSA OAEP
+            case "1.2.840.113549.1.1.7" -> "RSA-OAEP";
+            // RSA PSS
+            case "1.2.840.113549.1.1.10" -> "RSA-PSS";
+            // ECDSA (unrestricted)
+            case "1.2.840.10045.2.1" -> "ECDSA";
+            // DSA
+            case "1.2.840.10040.4.1" -> "DSA";
+            default -> {
+                log.warn("Unknown encryption algorithm OID: {}", encryptionOid);
+                yield "UNKNOWN(" + encryptionOid + ")";
+            }
+        };
+
+        return digestPrefix + "with" + encryptionSuffix;
+    }
+
+    /**
+     * Unwraps ICAO 9303 Tag 0x77 wrapper from SOD if present.
+     * <p>
+     * ICAO Doc 9303 Part 10 specifies that EF.SOD file is wrapped with Tag 0x77 (Application 23).
+     * The structure is:
+     * <pre>
+     * Tag 0x77 (Application 23) - EF.SOD wrapper
+     *   ├─ Length (TLV format)
+     *   └─ Value: CMS SignedData (Tag 0x30 SEQUENCE)
+     * </pre>
+     * <p>
+     * This method uses ASN.1 parsing (like sod_example) to properly handle the ICAO wrapper.
+     *
+     * @param sodBytes SOD bytes potentially wrapped with Tag 0x77
+     * @return Pure CMS SignedData bytes (starts with Tag 0x30)
+     */
+    private static byte[] unwrapIcaoSod(byte[] sodBytes) {
+        if (sodBytes == null || sodBytes.length < 4) {
+            return sodBytes;
+        }
+
+        try (ASN1InputStream asn1InputStream = new ASN1InputStream(sodBytes)) {
+            ASN1Primitive asn1Primitive = asn1InputStream.readObject();
+
+            // Check if wrapped with ICAO Tag 0x77
+            if (!(asn1Primitive instanceof ASN1TaggedObject tagged)) {
+                // Already unwrapped CMS data (starts with SEQUENCE)
+                log.debug("SOD does not have Tag 0x77 wrapper, using raw bytes");
+                return sodBytes;
+            }
+
+            // Verify ICAO EF.SOD Application[23] tag
+            if (tagged.getTagClass() != BERTags.APPLICATION || tagged.getTagNo() != 23) {
+                throw new InfrastructureException(
+                    "INVALID_SOD_FORMAT",
+                    String.format("Invalid EF.SOD tag: class=%d, number=%d (expected APPLICATION[23])",
+                        tagged.getTagClass(), tagged.getTagNo())
+                );
+            }
+
+            // Extract CMS ContentInfo (EXPLICIT tagging)
+            ASN1Primitive content = tagged.getBaseObject().toASN1Primitive();
+            byte[] cmsBytes = content.getEncoded(ASN1Encoding.DER);
+
+            log.debug("Unwrapped SOD: {} bytes (was {} bytes with wrapper)", cmsBytes.length, sodBytes.length);
+
+            return cmsBytes;
+
+        } catch (InfrastructureException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new InfrastructureException(
+                "SOD_UNWRAP_ERROR",
+                "Failed to unwrap ICAO Tag 0x77: " + e.getMessage(),
+                e
+            );
+        }
+    }
+
+    /**
+     * Decodes LDSSecurityObject from the SignedData content (eContent).
+     *
+     * @return LDSSecurityObject, or null if eContent is absent
+     */
+    private static LDSSecurityObject decodeLdsSecurityObject(CMSSignedData cmsSignedData) throws Exception {
+        if (cmsSignedData.getSignedContent() == null) {
+            return null;
+        }
+        byte[] contentBytes = (byte[]) cmsSignedData.getSignedContent().getContent();
+        if (contentBytes == null || contentBytes.length == 0) {
+            return null;
+        }
+
+        try (ASN1InputStream asn1InputStream = new ASN1InputStream(new ByteArrayInputStream(contentBytes))) {
+            ASN1Sequence sequence = (ASN1Sequence) asn1InputStream.readObject();
+            return LDSSecurityObject.getInstance(sequence);
+        }
+    }
+}
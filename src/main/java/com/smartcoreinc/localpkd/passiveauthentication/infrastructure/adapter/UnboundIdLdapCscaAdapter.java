@@ -2,7 +2,10 @@ package com.smartcoreinc.localpkd.passiveauthentication.infrastructure.adapter;
 
 import com.smartcoreinc.localpkd.passiveauthentication.domain.port.LdapCscaRepository;
 import com.smartcoreinc.localpkd.shared.exception.InfrastructureException;
+import com.smartcoreinc.localpkd.shared.util.CertificateFactoryCache;
+import com.unboundid.asn1.ASN1OctetString;
 import com.unboundid.ldap.sdk.*;
+import com.unboundid.ldap.sdk.controls.SimplePagedResultsControl;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -10,8 +13,9 @@ import org.springframework.stereotype.Component;
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
 import java.io.ByteArrayInputStream;
-import java.security.cert.CertificateFactory;
 import java.security.cert.X509Certificate;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -73,6 +77,11 @@ public class UnboundIdLdapCscaAdapter implements LdapCscaRepository {
      */
     private static final String PKD_BASE_DN = "dc=data,dc=download,dc=pkd";
 
+    /**
+     * 전체 CSCA 적재 시 페이지 크기 (Simple Paged Results)
+     */
+    private static final int LOAD_PAGE_SIZE = 500;
+
     /**
      * LDAP 연결 수립 (Connection Pool 생성)
      */
@@ -215,6 +224,77 @@ public class UnboundIdLdapCscaAdapter implements LdapCscaRepository {
         }
     }
 
+    /**
+     * LDAP에 게시된 전체 CSCA 인증서를 조회합니다 (인메모리 인덱스 적재용).
+     *
+     * <p>{@code dc=data} 아래 국가 노드(c=XX)를 나열한 뒤, 국가별 {@code o=csca} 하위를
+     * 페이지 검색으로 읽습니다. DSC/CRL 컨테이너는 읽지 않습니다.
+     * 파싱할 수 없는 인증서는 건너뜁니다.</p>
+     *
+     * @return CSCA X.509 인증서 목록
+     */
+    public List<X509Certificate> findAllCscas() {
+        String dataDn = PKD_BASE_DN + "," + baseDn;
+        List<X509Certificate> cscas = new ArrayList<>();
+
+        try {
+            LDAPConnection connection = connectionPool.getConnection();
+            try {
+                SearchResult countries = connection.search(dataDn, SearchScope.ONE, "(c=*)", "c");
+                for (SearchResultEntry countryEntry : countries.getSearchEntries()) {
+                    loadCscasUnder(connection, "o=csca," + countryEntry.getDN(), cscas);
+                }
+            } finally {
+                connectionPool.releaseConnection(connection);
+            }
+
+        } catch (LDAPException e) {
+            if (e.getResultCode() == ResultCode.NO_SUCH_OBJECT) {
+                log.debug("PKD data container does not exist: {}", dataDn);
+                return cscas;
+            }
+            log.error("LDAP search failed while loading CSCAs", e);
+            throw new InfrastructureException("LDAP_SEARCH_ERROR",
+                "Failed to load CSCAs from LDAP: " + e.getMessage(), e);
+        }
+
+        log.info("Loaded {} CSCAs from LDAP", cscas.size());
+        return cscas;
+    }
+
+    private void loadCscasUnder(LDAPConnection connection, String cscaContainerDn, List<X509Certificate> cscas)
+            throws LDAPException {
+        try {
+            ASN1OctetString cookie = null;
+            do {
+                SearchRequest request = new SearchRequest(cscaContainerDn, SearchScope.SUB,
+                    "(userCertificate;binary=*)", "userCertificate;binary");
+                request.setControls(new SimplePagedResultsControl(LOAD_PAGE_SIZE, cookie));
+
+                SearchResult result = connection.search(request);
+                for (SearchResultEntry entry : result.getSearchEntries()) {
+                    byte[] certBytes = entry.getAttributeValueBytes("userCertificate;binary");
+                    try {
+                        cscas.add(parseCertificate(certBytes));
+                    } catch (InfrastructureException e) {
+                        log.warn("Skipping unparsable CSCA entry: {}", entry.getDN());
+                    }
+                }
+
+                SimplePagedResultsControl responseControl = SimplePagedResultsControl.get(result);
+                cookie = (responseControl != null && responseControl.moreResultsToReturn())
+                    ? responseControl.getCookie()
+                    : null;
+            } while (cookie != null);
+
+        } catch (LDAPException e) {
+            if (e.getResultCode() != ResultCode.NO_SUCH_OBJECT) {
+                throw e;
+            }
+            // 해당 국가에 CSCA 컨테이너 없음
+        }
+    }
+
     /**
      * Extract country code from DN string.
      *
@@ -293,8 +373,7 @@ public class UnboundIdLdapCscaAdapter implements LdapCscaRepository {
      */
     private X509Certificate parseCertificate(byte[] certBytes) {
         try {
-            CertificateFactory certFactory = CertificateFactory.getInstance("X.509");
-            return (X509Certificate) certFactory.generateCertificate(
+            return (X509Certificate) CertificateFactoryCache.x509().generateCertificate(
                 new ByteArrayInputStream(certBytes)
             );
         } catch (Exception e) {
@@ -1,21 +1,30 @@
 package com.smartcoreinc.localpkd.passiveauthentication.infrastructure.cache;
 
+import com.smartcoreinc.localpkd.passiveauthentication.domain.model.VerifiedCrl;
 import com.smartcoreinc.localpkd.passiveauthentication.domain.port.CrlLdapPort;
+import com.smartcoreinc.localpkd.passiveauthentication.domain.service.CrlVerificationService;
 import com.smartcoreinc.localpkd.certificatevalidation.domain.model.*;
 import com.smartcoreinc.localpkd.certificatevalidation.domain.repository.CertificateRevocationListRepository;
+import com.smartcoreinc.localpkd.shared.util.CertificateFactoryCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.io.ByteArrayInputStream;
-import java.security.cert.CertificateFactory;
 import java.security.cert.X509CRL;
+import java.security.cert.X509CRLEntry;
+import java.security.cert.X509Certificate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.Date;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * CrlCacheService - Two-tier CRL Caching Strategy
@@ -48,6 +57,12 @@ import java.util.concurrent.ConcurrentHashMap;
  *    └─ Failure → Return empty
  * </pre>
  *
+ * <h3>Verified CRL View</h3>
+ * <p>{@link #getVerifiedCrl}는 위 조회 결과를 CSCA 공개키로 한 번 서명 검증하고 폐기 목록을 색인한
+ * {@link VerifiedCrl}로 캐시합니다. 이후 요청은 서명 재검증이나 {@code X509CRL.getRevokedCertificate}
+ * 없이 색인만 조회합니다. 같은 키에 대한 동시 캐시 미스는 하나의 로드로 합쳐지며(single-flight),
+ * 나머지 요청은 그 결과를 기다립니다.</p>
+ *
  * <h3>Cache Expiration Strategy</h3>
  * <ul>
  *   <li>Memory cache expires based on CRL's nextUpdate field</li>
@@ -55,6 +70,13 @@ import java.util.concurrent.ConcurrentHashMap;
  *   <li>Expired entries are automatically evicted on next access</li>
  * </ul>
  *
+ * <h3>Proactive Refresh</h3>
+ * <p>메모리에 캐시된 CRL마다 갱신 예정 시각(nextUpdate - lead time - 무작위 jitter)을 기록하고,
+ * {@link #refreshExpiringCrls()}가 주기적으로 예정 시각이 지난 CRL을 DB, LDAP 순으로 다시 조회합니다.
+ * 더 최신(thisUpdate 기준) CRL을 찾으면 검증 뷰를 먼저 만든 뒤 메모리 캐시 항목을 교체하며, 교체 전까지
+ * (그리고 아직 새 CRL이 발행되지 않은 경우 nextUpdate까지) 요청은 이전 CRL을 계속 사용합니다.
+ * 따라서 CRL 교체 시점에 요청 스레드가 DB/LDAP 조회를 기다리지 않습니다.</p>
+ *
  * @see com.smartcoreinc.localpkd.passiveauthentication.domain.port.CrlLdapPort
  * @see com.smartcoreinc.localpkd.certificatevalidation.domain.model.CertificateRevocationList
  * @since Phase 4.12
@@ -66,6 +88,26 @@ public class CrlCacheService {
 
     private final CrlLdapPort crlLdapPort;
     private final CertificateRevocationListRepository crlRepository;
+    private final CrlVerificationService crlVerificationService;
+    private final VerifiedDscCache verifiedDscCache;
+
+    /**
+     * nextUpdate 이전 선제 갱신 시작 시점 (초)
+     */
+    @Value("${app.pa.crl-refresh.lead-time-seconds:3600}")
+    private long refreshLeadTimeSeconds;
+
+    /**
+     * 갱신 예정 시각에 더하는 무작위 분산 최대값 (초, CRL별 갱신 시점 분산)
+     */
+    @Value("${app.pa.crl-refresh.jitter-seconds:600}")
+    private long refreshJitterSeconds;
+
+    /**
+     * 새 CRL이 아직 없거나 조회 실패 시 재시도 간격 (초)
+     */
+    @Value("${app.pa.crl-refresh.retry-interval-seconds:300}")
+    private long refreshRetryIntervalSeconds;
 
     /**
      * In-memory cache (Tier 1)
@@ -74,6 +116,76 @@ public class CrlCacheService {
      */
     private final Map<String, CachedCrl> memoryCache = new ConcurrentHashMap<>();
 
+    /**
+     * Verified CRL cache (Tier 1, 서명 검증 + 폐기 목록 색인 완료)
+     * Key: "{countryCode}:{cscaSubjectDn}"
+     * Value: CachedVerifiedCrl (VerifiedCrl + expiry timestamp)
+     */
+    private final Map<String, CachedVerifiedCrl> verifiedCache = new ConcurrentHashMap<>();
+
+    /**
+     * 진행 중인 Verified CRL 로드 (동시 미스 병합용)
+     */
+    private final Map<String, CompletableFuture<Optional<VerifiedCrl>>> inFlightLoads = new ConcurrentHashMap<>();
+
+    /**
+     * 선제 갱신 대상
+     * Key: "{countryCode}:{cscaSubjectDn}"
+     * Value: RefreshTarget (CSCA DN, 국가 코드, 갱신 예정 시각)
+     */
+    private final Map<String, RefreshTarget> refreshTargets = new ConcurrentHashMap<>();
+
+    /**
+     * 서명 검증과 폐기 목록 색인이 완료된 CRL을 조회합니다.
+     *
+     * <p>캐시된 VerifiedCrl이 만료되지 않았고 같은 CSCA 공개키로 검증된 경우 그대로 반환합니다.
+     * 그 외에는 {@link #getCrl}로 CRL을 조회하여 한 번 검증/색인한 뒤 캐시합니다.
+     * 같은 키의 동시 미스는 먼저 도착한 요청 하나만 로드를 수행합니다.</p>
+     *
+     * @param cscaSubjectDn CSCA Subject DN
+     * @param countryCode ISO 3166-1 alpha-2 country code
+     * @param cscaCert CRL 서명 검증에 사용할 CSCA 인증서
+     * @return VerifiedCrl if CRL found, empty otherwise
+     */
+    public Optional<VerifiedCrl> getVerifiedCrl(String cscaSubjectDn, String countryCode, X509Certificate cscaCert) {
+        String cacheKey = buildCacheKey(countryCode, cscaSubjectDn);
+
+        Optional<VerifiedCrl> cached = getFromVerifiedCache(cacheKey, cscaCert);
+        if (cached.isPresent()) {
+            log.debug("Verified CRL cache HIT: {}", cacheKey);
+            return cached;
+        }
+
+        CompletableFuture<Optional<VerifiedCrl>> load = new CompletableFuture<>();
+        CompletableFuture<Optional<VerifiedCrl>> running = inFlightLoads.putIfAbsent(cacheKey, load);
+        if (running != null) {
+            log.debug("Verified CRL load already in progress, waiting: {}", cacheKey);
+            Optional<VerifiedCrl> loaded = running.join();
+            if (loaded.isEmpty() || loaded.get().isVerifiedWith(cscaCert.getPublicKey())) {
+                return loaded;
+            }
+            // 다른 CSCA 키로 검증된 결과 - 캐시된 X509CRL로 재검증
+            return getCrl(cscaSubjectDn, countryCode)
+                .map(crl -> crlVerificationService.verifyCrl(crl, cscaCert));
+        }
+
+        try {
+            Optional<VerifiedCrl> loaded = getCrl(cscaSubjectDn, countryCode)
+                .map(crl -> {
+                    VerifiedCrl verifiedCrl = crlVerificationService.verifyCrl(crl, cscaCert);
+                    verifiedCache.put(cacheKey, new CachedVerifiedCrl(verifiedCrl, expiryTimestampOf(crl), cscaCert));
+                    return verifiedCrl;
+                });
+            load.complete(loaded);
+            return loaded;
+        } catch (RuntimeException e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightLoads.remove(cacheKey, load);
+        }
+    }
+
     /**
      * CRL을 2단계 캐시 전략으로 조회합니다.
      *
@@ -104,7 +216,7 @@ public class CrlCacheService {
         if (dbCached.isPresent()) {
             log.debug("CRL cache HIT (database): {}", cacheKey);
             // Load to memory cache for faster future access
-            putToMemoryCache(cacheKey, dbCached.get());
+            putToMemoryCache(cscaSubjectDn, countryCode, dbCached.get());
             return dbCached;
         }
 
@@ -154,6 +266,34 @@ public class CrlCacheService {
         return Optional.of(cached.crl);
     }
 
+    /**
+     * Verified CRL cache에서 조회합니다.
+     *
+     * @param cacheKey Cache key
+     * @param cscaCert CSCA 인증서 (검증 키 일치 확인용)
+     * @return VerifiedCrl if found, not expired and verified with the same key, empty otherwise
+     */
+    private Optional<VerifiedCrl> getFromVerifiedCache(String cacheKey, X509Certificate cscaCert) {
+        CachedVerifiedCrl cached = verifiedCache.get(cacheKey);
+
+        if (cached == null) {
+            return Optional.empty();
+        }
+
+        if (cached.isExpired()) {
+            log.debug("Verified CRL cache entry expired: {}", cacheKey);
+            verifiedCache.remove(cacheKey, cached);
+            return Optional.empty();
+        }
+
+        if (!cached.verifiedCrl().isVerifiedWith(cscaCert.getPublicKey())) {
+            log.debug("Verified CRL cache entry was verified with another CSCA key: {}", cacheKey);
+            return Optional.empty();
+        }
+
+        return Optional.of(cached.verifiedCrl());
+    }
+
     /**
      * Database cache에서 CRL을 조회합니다.
      *
@@ -183,8 +323,7 @@ public class CrlCacheService {
         // Parse X509CRL from stored binary
         try {
             byte[] crlBinary = crl.getCrlBinary();
-            CertificateFactory certFactory = CertificateFactory.getInstance("X.509");
-            X509CRL x509Crl = (X509CRL) certFactory.generateCRL(new ByteArrayInputStream(crlBinary));
+            X509CRL x509Crl = (X509CRL) CertificateFactoryCache.x509().generateCRL(new ByteArrayInputStream(crlBinary));
             return Optional.of(x509Crl);
         } catch (Exception e) {
             log.error("Failed to parse X509CRL from database cache: issuer={}, country={}",
@@ -194,19 +333,19 @@ public class CrlCacheService {
     }
 
     /**
-     * CRL을 in-memory cache에 저장합니다.
+     * CRL을 in-memory cache에 저장하고 선제 갱신 대상으로 등록합니다.
      *
-     * @param cacheKey Cache key
+     * @param cscaSubjectDn CSCA Subject DN
+     * @param countryCode Country code
      * @param crl X509CRL
      */
-    private void putToMemoryCache(String cacheKey, X509CRL crl) {
-        Date nextUpdate = crl.getNextUpdate();
-        Long expiryTimestamp = (nextUpdate != null)
-            ? nextUpdate.getTime()
-            : System.currentTimeMillis() + (24 * 60 * 60 * 1000L); // Default: 24 hours
+    private void putToMemoryCache(String cscaSubjectDn, String countryCode, X509CRL crl) {
+        String cacheKey = buildCacheKey(countryCode, cscaSubjectDn);
+        Long expiryTimestamp = expiryTimestampOf(crl);
 
         CachedCrl cachedCrl = new CachedCrl(crl, expiryTimestamp);
         memoryCache.put(cacheKey, cachedCrl);
+        refreshTargets.put(cacheKey, new RefreshTarget(cscaSubjectDn, countryCode, refreshAtOf(expiryTimestamp)));
 
         log.debug("CRL cached in memory: {} (expiry: {})", cacheKey, new Date(expiryTimestamp));
     }
@@ -222,7 +361,7 @@ public class CrlCacheService {
         String cacheKey = buildCacheKey(countryCode, cscaSubjectDn);
 
         // Save to memory cache
-        putToMemoryCache(cacheKey, crl);
+        putToMemoryCache(cscaSubjectDn, countryCode, crl);
 
         // Save to database cache
         try {
@@ -235,31 +374,7 @@ public class CrlCacheService {
                 return;  // Skip duplicate save
             }
 
-            // Create Value Objects
-            LocalDateTime thisUpdate = convertToLocalDateTime(crl.getThisUpdate());
-            LocalDateTime nextUpdate = (crl.getNextUpdate() != null)
-                ? convertToLocalDateTime(crl.getNextUpdate())
-                : null;
-
-            CrlId crlId = CrlId.newId();
-            IssuerName issuerName = IssuerName.of(cscaSubjectDn);
-            CountryCode country = CountryCode.of(countryCode);
-            ValidityPeriod validityPeriod = ValidityPeriod.of(thisUpdate, nextUpdate);
-            X509CrlData crlData = X509CrlData.of(crl.getEncoded(), 0); // 0 = revoked count not tracked in cache
-            RevokedCertificates revokedCerts = RevokedCertificates.empty(); // Empty for cache
-
-            // Create CRL entity
-            CertificateRevocationList crlEntity = CertificateRevocationList.create(
-                java.util.UUID.randomUUID(),  // uploadId - use random for cached CRLs
-                crlId,
-                issuerName,
-                country,
-                validityPeriod,
-                crlData,
-                revokedCerts
-            );
-
-            crlRepository.save(crlEntity);
+            crlRepository.save(toEntity(crl, cscaSubjectDn, countryCode));
             log.debug("CRL saved to database cache: {}", cacheKey);
 
         } catch (Exception e) {
@@ -268,6 +383,69 @@ public class CrlCacheService {
         }
     }
 
+    /**
+     * X509CRL을 Database cache용 CRL entity로 변환합니다.
+     */
+    private CertificateRevocationList toEntity(X509CRL crl, String cscaSubjectDn, String countryCode)
+            throws java.security.cert.CRLException {
+        // Create Value Objects
+        LocalDateTime thisUpdate = convertToLocalDateTime(crl.getThisUpdate());
+        LocalDateTime nextUpdate = (crl.getNextUpdate() != null)
+            ? convertToLocalDateTime(crl.getNextUpdate())
+            : null;
+
+        CrlId crlId = CrlId.newId();
+        IssuerName issuerName = IssuerName.of(cscaSubjectDn);
+        CountryCode country = CountryCode.of(countryCode);
+        ValidityPeriod validityPeriod = ValidityPeriod.of(thisUpdate, nextUpdate);
+        Set<? extends X509CRLEntry> entries = crl.getRevokedCertificates();
+        RevokedCertificates revokedCerts = entries != null
+            ? RevokedCertificates.ofSerialNumbers(entries.stream()
+                .map(X509CRLEntry::getSerialNumber)
+                .toList())
+            : RevokedCertificates.empty();
+        X509CrlData crlData = X509CrlData.of(crl.getEncoded(), revokedCerts.calculateCount());
+
+        // Create CRL entity
+        return CertificateRevocationList.create(
+            java.util.UUID.randomUUID(),  // uploadId - use random for cached CRLs
+            crlId,
+            issuerName,
+            country,
+            validityPeriod,
+            crlData,
+            revokedCerts
+        );
+    }
+
+    /**
+     * CRL 캐시 만료 시각 (nextUpdate, 없으면 24시간 후)
+     *
+     * @param crl X509CRL
+     * @return Expiry timestamp (milliseconds since epoch)
+     */
+    private long expiryTimestampOf(X509CRL crl) {
+        Date nextUpdate = crl.getNextUpdate();
+        return (nextUpdate != null)
+            ? nextUpdate.getTime()
+            : System.currentTimeMillis() + (24 * 60 * 60 * 1000L); // Default: 24 hours
+    }
+
+    /**
+     * 선제 갱신 예정 시각 (만료 lead time 전, 무작위 jitter 적용)
+     *
+     * <p>이미 lead time 이내인 CRL은 지금부터 jitter 범위 내에서 갱신합니다.</p>
+     *
+     * @param expiryTimestamp CRL 만료 시각 (milliseconds since epoch)
+     * @return Refresh timestamp (milliseconds since epoch)
+     */
+    private long refreshAtOf(long expiryTimestamp) {
+        long jitter = ThreadLocalRandom.current().nextLong(refreshJitterSeconds * 1000L + 1);
+        long refreshAt = expiryTimestamp - refreshLeadTimeSeconds * 1000L - jitter;
+        long now = System.currentTimeMillis();
+        return refreshAt > now ? refreshAt : now + jitter;
+    }
+
     /**
      * Cache key 생성
      *
@@ -309,6 +487,132 @@ public class CrlCacheService {
         }
     }
 
+    /**
+     * Verified CRL cache entry
+     *
+     * @param verifiedCrl VerifiedCrl
+     * @param expiryTimestamp Expiry timestamp (milliseconds since epoch)
+     * @param cscaCert CRL 서명 검증에 사용한 CSCA 인증서 (선제 갱신 시 재검증용)
+     */
+    private record CachedVerifiedCrl(VerifiedCrl verifiedCrl, long expiryTimestamp, X509Certificate cscaCert) {
+
+        public boolean isExpired() {
+            return System.currentTimeMillis() > expiryTimestamp;
+        }
+    }
+
+    /**
+     * 선제 갱신 대상
+     *
+     * @param cscaSubjectDn CSCA Subject DN
+     * @param countryCode Country code
+     * @param refreshAt 갱신 예정 시각 (milliseconds since epoch)
+     */
+    private record RefreshTarget(String cscaSubjectDn, String countryCode, long refreshAt) {
+
+        RefreshTarget retryAt(long timestamp) {
+            return new RefreshTarget(cscaSubjectDn, countryCode, timestamp);
+        }
+    }
+
+    // ========== Proactive Refresh ==========
+
+    /**
+     * 갱신 예정 시각이 지난 CRL을 다시 조회하여 더 최신 CRL이 있으면 교체합니다.
+     *
+     * <p>교체 시 검증 뷰를 먼저 만든 뒤 캐시 항목을 바꾸므로 요청은 항상 이전 또는 새 CRL 중
+     * 하나를 사용합니다. CRL이 교체되면 이전 CRL 기준으로 캐시된 DSC 검증 결과를 비웁니다.</p>
+     */
+    @Scheduled(
+        initialDelayString = "${app.pa.crl-refresh.check-interval-ms:60000}",
+        fixedDelayString = "${app.pa.crl-refresh.check-interval-ms:60000}"
+    )
+    public void refreshExpiringCrls() {
+        long now = System.currentTimeMillis();
+        int refreshed = 0;
+
+        for (Map.Entry<String, RefreshTarget> entry : refreshTargets.entrySet()) {
+            String cacheKey = entry.getKey();
+            RefreshTarget target = entry.getValue();
+            if (now < target.refreshAt()) {
+                continue;
+            }
+
+            CachedCrl current = memoryCache.get(cacheKey);
+            if (current == null || current.isExpired()) {
+                // 만료 후에는 다음 요청의 lazy 조회에 맡김
+                refreshTargets.remove(cacheKey, target);
+                continue;
+            }
+
+            try {
+                if (refresh(cacheKey, target, current)) {
+                    refreshed++;
+                } else {
+                    refreshTargets.replace(cacheKey, target,
+                        target.retryAt(now + refreshRetryIntervalSeconds * 1000L));
+                }
+            } catch (Exception e) {
+                log.warn("CRL refresh failed for {}, keeping previous CRL: {}", cacheKey, e.getMessage());
+                refreshTargets.replace(cacheKey, target,
+                    target.retryAt(now + refreshRetryIntervalSeconds * 1000L));
+            }
+        }
+
+        if (refreshed > 0) {
+            verifiedDscCache.invalidateAll();
+            log.info("Proactively refreshed {} CRL(s) ahead of nextUpdate", refreshed);
+        }
+    }
+
+    /**
+     * 한 CRL의 선제 갱신 (DB → LDAP 순으로 더 최신 CRL 조회)
+     *
+     * <p>갱신된 CRL은 메모리 캐시에만 반영합니다. DB의 CRL 행은 업로드가 소유하며(업로드 ID, 폐기 일련번호)
+     * 업로드/검증 파이프라인만 교체합니다. 검증 뷰가 있는 CRL은 새 CRL의 서명이 같은 CSCA로 검증될 때만
+     * 교체하며, 검증에 실패하면 이전 CRL을 유지하고 다음 주기에 다시 시도합니다.</p>
+     *
+     * @return 새 CRL로 교체되었으면 true, 아직 새 CRL이 없거나 서명 검증에 실패하면 false
+     */
+    private boolean refresh(String cacheKey, RefreshTarget target, CachedCrl current) {
+        String cscaSubjectDn = target.cscaSubjectDn();
+        String countryCode = target.countryCode();
+
+        Optional<X509CRL> newer = getFromDatabaseCache(cscaSubjectDn, countryCode)
+            .filter(crl -> isNewer(crl, current.crl()));
+        if (newer.isEmpty()) {
+            newer = crlLdapPort.findCrlByCsca(cscaSubjectDn, countryCode)
+                .filter(crl -> isNewer(crl, current.crl()));
+        }
+        if (newer.isEmpty()) {
+            log.debug("No newer CRL published yet for {}, serving previous CRL", cacheKey);
+            return false;
+        }
+
+        X509CRL crl = newer.get();
+        CachedVerifiedCrl verified = verifiedCache.get(cacheKey);
+        if (verified != null) {
+            X509Certificate cscaCert = verified.cscaCert();
+            VerifiedCrl verifiedCrl = crlVerificationService.verifyCrl(crl, cscaCert);
+            if (!verifiedCrl.isSignatureValid()) {
+                log.warn("Newer CRL for {} failed signature verification, keeping previous CRL (thisUpdate: {})",
+                    cacheKey, crl.getThisUpdate());
+                return false;
+            }
+            verifiedCache.put(cacheKey, new CachedVerifiedCrl(verifiedCrl, expiryTimestampOf(crl), cscaCert));
+        }
+        // 검증 뷰가 없으면 CSCA 키를 알 수 없으므로 교체만 하고, 서명은 getVerifiedCrl 첫 조회 시 검증
+        putToMemoryCache(cscaSubjectDn, countryCode, crl);
+
+        log.info("CRL refreshed ahead of expiry: {} (thisUpdate: {}, nextUpdate: {})",
+            cacheKey, crl.getThisUpdate(), crl.getNextUpdate());
+        return true;
+    }
+
+    private static boolean isNewer(X509CRL candidate, X509CRL current) {
+        return candidate.getThisUpdate().after(current.getThisUpdate());
+    }
+
     // ========== Cache Management Methods ==========
 
     /**
@@ -316,6 +620,8 @@ public class CrlCacheService {
      */
     public void clearMemoryCache() {
         memoryCache.clear();
+        verifiedCache.clear();
+        refreshTargets.clear();
         log.info("Memory cache cleared");
     }
 
@@ -343,6 +649,8 @@ public class CrlCacheService {
             }
         }
 
+        verifiedCache.entrySet().removeIf(entry -> entry.getValue().isExpired());
+
         if (evictedCount > 0) {
             log.info("Evicted {} expired entries from memory cache", evictedCount);
         }
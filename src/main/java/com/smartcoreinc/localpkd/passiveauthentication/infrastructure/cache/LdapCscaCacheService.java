@@ -0,0 +1,344 @@
+package com.smartcoreinc.localpkd.passiveauthentication.infrastructure.cache;
+
+import com.smartcoreinc.localpkd.ldapintegration.domain.event.LdapUploadCompletedEvent;
+import com.smartcoreinc.localpkd.passiveauthentication.domain.port.LdapCscaRepository;
+import com.smartcoreinc.localpkd.passiveauthentication.infrastructure.adapter.UnboundIdLdapCscaAdapter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bouncycastle.asn1.ASN1OctetString;
+import org.bouncycastle.asn1.x509.AuthorityKeyIdentifier;
+import org.bouncycastle.asn1.x509.Extension;
+import org.bouncycastle.asn1.x509.SubjectKeyIdentifier;
+import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.security.auth.x500.X500Principal;
+import java.security.PublicKey;
+import java.security.cert.X509Certificate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * LdapCscaCacheService - LDAP CSCA 인메모리 인덱스 ({@link LdapCscaRepository} 기본 구현체)
+ *
+ * <p>PA 검증마다 LDAP을 검색하지 않도록, LDAP에 게시된 전체 CSCA를 한 번에 적재하여
+ * 디코딩된 인증서와 공개키를 메모리에 유지합니다. 원본 LDAP 어댑터({@link UnboundIdLdapCscaAdapter})는
+ * 전체 적재와 인덱스 미스 시 조회에만 사용됩니다.</p>
+ *
+ * <h3>Index</h3>
+ * <pre>
+ * bySubjectKeyId: SKI(16진수) → CSCA 목록 (DSC의 AKI와 매칭, 키 롤오버/링크 인증서 구분)
+ * bySubjectDn:    X500Principal CANONICAL DN → CSCA 목록
+ * 각 목록은 notBefore 최신순
+ * </pre>
+ *
+ * <h3>Refresh</h3>
+ * <ul>
+ *   <li>최초 조회 시 또는 스케줄러 첫 실행 시 전체 적재</li>
+ *   <li>{@code app.pa.csca-cache.refresh-interval-ms} 주기로 전체 재적재 (TTL)</li>
+ *   <li>{@link LdapUploadCompletedEvent} 커밋 후 비동기 재적재 (변경 알림)</li>
+ * </ul>
+ *
+ * <p>인덱스 미스는 LDAP을 1회 조회하며(DN 표기 변형 포함), 결과가 없으면 다음 재적재까지
+ * 동일 DN을 다시 조회하지 않습니다. 발급자 조회에서 서명이 검증되는 후보가 LDAP에도 없으면
+ * (Issuer DN, AKI) 쌍을 다음 재적재까지 다시 조회하지 않습니다.
+ * 재적재 중에도 조회는 이전 인덱스 스냅샷으로 계속 처리됩니다.</p>
+ *
+ * @see LdapCscaRepository
+ * @see UnboundIdLdapCscaAdapter
+ */
+@Slf4j
+@Primary
+@Service
+@RequiredArgsConstructor
+public class LdapCscaCacheService implements LdapCscaRepository {
+
+    private static final HexFormat HEX = HexFormat.of();
+
+    private static final Comparator<CachedCsca> NEWEST_FIRST =
+        Comparator.comparing((CachedCsca csca) -> csca.certificate().getNotBefore()).reversed();
+
+    private final UnboundIdLdapCscaAdapter ldapCscaAdapter;
+
+    /**
+     * 현재 인덱스 스냅샷 (null이면 아직 초기 적재 전)
+     */
+    private volatile Index index;
+
+    /**
+     * LDAP에서도 찾지 못한 CANONICAL DN (재적재 시 초기화)
+     */
+    private final Set<String> negativeCache = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 서명이 검증되는 발급자를 LDAP에서도 찾지 못한 (CANONICAL Issuer DN, AKI) 쌍 (재적재 시 초기화)
+     */
+    private final Set<String> unverifiedIssuerCache = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public Optional<X509Certificate> findBySubjectDn(String subjectDn) {
+        String canonicalDn = canonicalize(subjectDn);
+        if (canonicalDn != null) {
+            List<CachedCsca> matches = getIndex().bySubjectDn().getOrDefault(canonicalDn, List.of());
+            if (!matches.isEmpty()) {
+                return Optional.of(matches.get(0).certificate());
+            }
+        }
+        return loadMissing(subjectDn, canonicalDn).map(CachedCsca::certificate);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>AKI → SKI 후보, Issuer DN 후보 순으로 캐시된 공개키를 사용해 DSC 서명을 검증합니다.
+     * 검증되는 후보가 없으면 LDAP을 1회 조회합니다. LDAP에도 검증되는 후보가 없으면 AKI/DN이
+     * 일치하는 첫 후보를 반환하여, 호출자의 체인 검증이 서명 실패를 보고하도록 합니다.</p>
+     */
+    @Override
+    public Optional<X509Certificate> findIssuerOf(X509Certificate child) {
+        Index current = getIndex();
+        String issuerDn = child.getIssuerX500Principal().getName(X500Principal.CANONICAL);
+
+        Set<CachedCsca> candidates = new LinkedHashSet<>();
+        String authorityKeyId = authorityKeyIdentifier(child);
+        if (authorityKeyId != null) {
+            candidates.addAll(current.bySubjectKeyId().getOrDefault(authorityKeyId, List.of()));
+        }
+        candidates.addAll(current.bySubjectDn().getOrDefault(issuerDn, List.of()));
+
+        for (CachedCsca candidate : candidates) {
+            if (verifies(child, candidate)) {
+                return Optional.of(candidate.certificate());
+            }
+        }
+
+        String unverifiedKey = issuerDn + "|" + authorityKeyId;
+        if (!unverifiedIssuerCache.contains(unverifiedKey)) {
+            Optional<CachedCsca> loaded = loadMissing(child.getIssuerX500Principal().getName(), issuerDn);
+            if (loaded.isPresent() && verifies(child, loaded.get())) {
+                return loaded.map(CachedCsca::certificate);
+            }
+            unverifiedIssuerCache.add(unverifiedKey);
+            loaded.ifPresent(candidates::add);
+        }
+
+        // 서명이 검증되는 후보 없음: DN/AKI 일치 후보로 대체 (체인 검증 실패로 보고됨)
+        return candidates.stream().findFirst().map(CachedCsca::certificate);
+    }
+
+    /**
+     * 전체 재적재 (TTL)
+     */
+    @Scheduled(
+        initialDelayString = "${app.pa.csca-cache.initial-delay-ms:10000}",
+        fixedDelayString = "${app.pa.csca-cache.refresh-interval-ms:600000}"
+    )
+    public void scheduledRefresh() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            log.warn("LDAP CSCA cache refresh failed, keeping previous index: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * LDAP 업로드 완료 후 재적재 (변경 알림)
+     */
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onLdapUploadCompleted(LdapUploadCompletedEvent event) {
+        log.debug("LDAP upload completed, refreshing LDAP CSCA cache");
+        scheduledRefresh();
+    }
+
+    /**
+     * LDAP 전체 CSCA 재적재
+     */
+    public synchronized void refresh() {
+        long startTime = System.currentTimeMillis();
+        List<CachedCsca> cscas = new ArrayList<>();
+        for (X509Certificate certificate : ldapCscaAdapter.findAllCscas()) {
+            cscas.add(CachedCsca.of(certificate));
+        }
+
+        index = Index.build(cscas);
+        negativeCache.clear();
+        unverifiedIssuerCache.clear();
+
+        log.info("LDAP CSCA cache loaded: {} CSCAs ({}ms)", cscas.size(), System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * 색인된 CSCA 수
+     */
+    public int size() {
+        return getIndex().size();
+    }
+
+    private Index getIndex() {
+        Index current = index;
+        if (current == null) {
+            synchronized (this) {
+                if (index == null) {
+                    refresh();
+                }
+                current = index;
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 인덱스 미스 처리: LDAP 조회 (원본 DN, RFC 2253, CANONICAL 순) 후 결과를 인덱스에 추가
+     */
+    private Optional<CachedCsca> loadMissing(String subjectDn, String canonicalDn) {
+        String missKey = canonicalDn != null ? canonicalDn : subjectDn;
+        if (subjectDn == null || negativeCache.contains(missKey)) {
+            return Optional.empty();
+        }
+
+        List<String> dnVariants = new ArrayList<>(List.of(subjectDn));
+        try {
+            X500Principal principal = new X500Principal(subjectDn);
+            dnVariants.add(principal.getName(X500Principal.RFC2253));
+            dnVariants.add(principal.getName(X500Principal.CANONICAL));
+        } catch (IllegalArgumentException e) {
+            log.debug("Failed to normalize DN: {}", e.getMessage());
+        }
+
+        for (String dn : dnVariants.stream().distinct().toList()) {
+            Optional<X509Certificate> found = ldapCscaAdapter.findBySubjectDn(dn);
+            if (found.isPresent()) {
+                CachedCsca csca = CachedCsca.of(found.get());
+                addToIndex(csca);
+                return Optional.of(csca);
+            }
+        }
+
+        negativeCache.add(missKey);
+        return Optional.empty();
+    }
+
+    private synchronized void addToIndex(CachedCsca csca) {
+        Index current = getIndex();
+        List<CachedCsca> all = new ArrayList<>(current.all());
+        boolean known = all.stream().anyMatch(existing -> existing.certificate().equals(csca.certificate()));
+        if (!known) {
+            all.add(csca);
+            index = Index.build(all);
+        }
+    }
+
+    private static boolean verifies(X509Certificate child, CachedCsca candidate) {
+        try {
+            child.verify(candidate.publicKey());
+            return true;
+        } catch (Exception e) {
+            log.debug("LDAP CSCA candidate did not verify child certificate: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private static String canonicalize(String dn) {
+        if (dn == null || dn.isBlank()) {
+            return null;
+        }
+        try {
+            return new X500Principal(dn).getName(X500Principal.CANONICAL);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Subject Key Identifier 추출 (16진수 소문자, 없거나 해석 불가하면 null)
+     */
+    private static String subjectKeyIdentifier(X509Certificate certificate) {
+        try {
+            byte[] extensionValue = certificate.getExtensionValue(Extension.subjectKeyIdentifier.getId());
+            if (extensionValue == null) {
+                return null;
+            }
+            return HEX.formatHex(SubjectKeyIdentifier.getInstance(
+                ASN1OctetString.getInstance(extensionValue).getOctets()).getKeyIdentifier());
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Authority Key Identifier의 keyIdentifier 추출 (16진수 소문자, 없거나 해석 불가하면 null)
+     */
+    private static String authorityKeyIdentifier(X509Certificate certificate) {
+        try {
+            byte[] extensionValue = certificate.getExtensionValue(Extension.authorityKeyIdentifier.getId());
+            if (extensionValue == null) {
+                return null;
+            }
+            byte[] keyId = AuthorityKeyIdentifier.getInstance(
+                ASN1OctetString.getInstance(extensionValue).getOctets()).getKeyIdentifier();
+            return keyId == null ? null : HEX.formatHex(keyId);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 캐시된 CSCA (디코딩된 인증서 + 공개키 + SKI)
+     */
+    private record CachedCsca(X509Certificate certificate, PublicKey publicKey, String subjectKeyId) {
+
+        static CachedCsca of(X509Certificate certificate) {
+            return new CachedCsca(certificate, certificate.getPublicKey(), subjectKeyIdentifier(certificate));
+        }
+    }
+
+    /**
+     * 불변 인덱스 스냅샷
+     */
+    private record Index(
+        List<CachedCsca> all,
+        Map<String, List<CachedCsca>> bySubjectKeyId,
+        Map<String, List<CachedCsca>> bySubjectDn
+    ) {
+
+        static Index build(Collection<CachedCsca> cscas) {
+            Map<String, List<CachedCsca>> bySki = new HashMap<>();
+            Map<String, List<CachedCsca>> byDn = new HashMap<>();
+            for (CachedCsca csca : cscas) {
+                if (csca.subjectKeyId() != null) {
+                    bySki.computeIfAbsent(csca.subjectKeyId(), key -> new ArrayList<>()).add(csca);
+                }
+                byDn.computeIfAbsent(csca.certificate().getSubjectX500Principal().getName(X500Principal.CANONICAL),
+                    key -> new ArrayList<>()).add(csca);
+            }
+            return new Index(List.copyOf(cscas), freeze(bySki), freeze(byDn));
+        }
+
+        private static Map<String, List<CachedCsca>> freeze(Map<String, List<CachedCsca>> map) {
+            Map<String, List<CachedCsca>> frozen = new HashMap<>(map.size() * 2);
+            map.forEach((key, list) -> {
+                list.sort(NEWEST_FIRST);
+                frozen.put(key, List.copyOf(list));
+            });
+            return Map.copyOf(frozen);
+        }
+
+        int size() {
+            return all.size();
+        }
+    }
+}
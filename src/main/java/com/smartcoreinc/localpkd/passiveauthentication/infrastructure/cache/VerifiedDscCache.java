@@ -0,0 +1,189 @@
+package com.smartcoreinc.localpkd.passiveauthentication.infrastructure.cache;
+
+import com.smartcoreinc.localpkd.passiveauthentication.application.response.CertificateChainValidationDto;
+import com.smartcoreinc.localpkd.passiveauthentication.domain.model.CrlCheckResult;
+import com.smartcoreinc.localpkd.passiveauthentication.domain.model.PassiveAuthenticationError;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.cert.CertificateEncodingException;
+import java.security.cert.X509Certificate;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * VerifiedDscCache - 검증 완료된 DSC의 인증서 체인/CRL 검증 결과 캐시
+ *
+ * <p>같은 국가의 여권 수천 건이 하나의 DSC를 공유하므로, DSC → CSCA 서명 검증과 CRL 서명 검증/폐기 확인 결과를
+ * DSC 지문(SHA-256) 기준으로 보관합니다. 캐시 적중 시 요청은 SOD 서명과 DG 해시 검증 비용만 부담합니다.</p>
+ *
+ * <h3>캐시 대상</h3>
+ * <ul>
+ *   <li>체인 유효 + CRL 확인 결과 VALID: CRL nextUpdate, DSC 만료, 최대 TTL 중 가장 이른 시점까지</li>
+ *   <li>CRL 확인 결과 REVOKED: DSC 만료, 최대 TTL 중 이른 시점까지 (폐기는 되돌릴 수 없음)</li>
+ *   <li>그 외 (CSCA 미존재, 서명 실패, CRL 없음/만료/검증 실패): 캐시하지 않음 (다음 요청에서 재검증)</li>
+ * </ul>
+ *
+ * <p>크기는 {@code app.pa.dsc-cache.max-entries}로 제한되며 초과 시 가장 오래 사용되지 않은 항목부터 제거합니다 (LRU).
+ * CRL이 갱신되면 {@link #invalidateAll()}로 비울 수 있습니다.</p>
+ */
+@Slf4j
+@Component
+public class VerifiedDscCache {
+
+    private static final HexFormat HEX = HexFormat.of();
+
+    private final int maxEntries;
+    private final Duration maxTtl;
+
+    /**
+     * Key: "{countryCode}:{DSC SHA-256}"
+     * Value: VerifiedDsc (접근 순서 LRU)
+     */
+    private final Map<String, VerifiedDsc> entries;
+
+    public VerifiedDscCache(
+        @Value("${app.pa.dsc-cache.max-entries:10000}") int maxEntries,
+        @Value("${app.pa.dsc-cache.max-ttl-seconds:3600}") long maxTtlSeconds
+    ) {
+        this.maxEntries = Math.max(1, maxEntries);
+        this.maxTtl = Duration.ofSeconds(Math.max(0, maxTtlSeconds));
+        this.entries = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, VerifiedDsc> eldest) {
+                return size() > VerifiedDscCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * 캐시된 검증 결과 조회 (만료된 항목은 제거 후 empty)
+     *
+     * @param dscX509 SOD에서 추출한 DSC
+     * @param countryCode 요청 국가 코드
+     * @return 캐시된 검증 결과
+     */
+    public Optional<VerifiedDsc> get(X509Certificate dscX509, String countryCode) {
+        String key = cacheKey(dscX509, countryCode);
+        if (key == null) {
+            return Optional.empty();
+        }
+        synchronized (entries) {
+            VerifiedDsc cached = entries.get(key);
+            if (cached == null) {
+                return Optional.empty();
+            }
+            if (!Instant.now().isBefore(cached.expiresAt())) {
+                entries.remove(key);
+                return Optional.empty();
+            }
+            return Optional.of(cached);
+        }
+    }
+
+    /**
+     * 검증 결과 저장 (캐시 대상이 아닌 결과는 무시)
+     *
+     * @param dscX509 DSC
+     * @param countryCode 요청 국가 코드
+     * @param chainValidation 체인 검증 결과
+     * @param chainErrors 체인/CRL 검증 단계에서 발생한 오류
+     * @param crlResult CRL 확인 결과
+     * @param crlNextUpdate CRL nextUpdate (없으면 null)
+     */
+    public void put(
+        X509Certificate dscX509,
+        String countryCode,
+        CertificateChainValidationDto chainValidation,
+        List<PassiveAuthenticationError> chainErrors,
+        CrlCheckResult crlResult,
+        Instant crlNextUpdate
+    ) {
+        Instant now = Instant.now();
+        Instant expiresAt = now.plus(maxTtl);
+        Instant dscNotAfter = dscX509.getNotAfter().toInstant();
+        if (dscNotAfter.isBefore(expiresAt)) {
+            expiresAt = dscNotAfter;
+        }
+
+        switch (crlResult.getStatus()) {
+            case VALID -> {
+                if (!chainValidation.valid()) {
+                    return;
+                }
+                if (crlNextUpdate != null && crlNextUpdate.isBefore(expiresAt)) {
+                    expiresAt = crlNextUpdate;
+                }
+            }
+            case REVOKED -> {
+                // 폐기 결과는 CRL 갱신과 무관하게 유지
+            }
+            default -> {
+                return;
+            }
+        }
+        if (!now.isBefore(expiresAt)) {
+            return;
+        }
+
+        String key = cacheKey(dscX509, countryCode);
+        if (key == null) {
+            return;
+        }
+        synchronized (entries) {
+            entries.put(key, new VerifiedDsc(chainValidation, List.copyOf(chainErrors), expiresAt));
+        }
+        log.debug("Verified DSC cached: serial={}, status={}, expiresAt={}",
+            chainValidation.dscSerialNumber(), crlResult.getStatus(), expiresAt);
+    }
+
+    /**
+     * 전체 캐시 비우기 (CRL/CSCA 갱신 시)
+     */
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * 캐시 항목 수
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private static String cacheKey(X509Certificate dscX509, String countryCode) {
+        try {
+            byte[] fingerprint = MessageDigest.getInstance("SHA-256").digest(dscX509.getEncoded());
+            return countryCode + ":" + HEX.formatHex(fingerprint);
+        } catch (CertificateEncodingException | NoSuchAlgorithmException e) {
+            log.debug("Failed to fingerprint DSC, not cached: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 캐시된 DSC 검증 결과
+     *
+     * @param chainValidation 체인 검증 결과
+     * @param errors 체인/CRL 검증 단계에서 발생한 오류 (적중 시 요청 오류 목록에 다시 추가)
+     * @param expiresAt 만료 시각
+     */
+    public record VerifiedDsc(
+        CertificateChainValidationDto chainValidation,
+        List<PassiveAuthenticationError> errors,
+        Instant expiresAt
+    ) {
+    }
+}
@@ -1,5 +1,6 @@
 package com.smartcoreinc.localpkd.passiveauthentication.infrastructure.repository;
 
+import com.smartcoreinc.localpkd.passiveauthentication.domain.model.DataGroup;
 import com.smartcoreinc.localpkd.passiveauthentication.domain.model.PassportData;
 import com.smartcoreinc.localpkd.passiveauthentication.domain.model.PassportDataId;
 import com.smartcoreinc.localpkd.passiveauthentication.domain.model.PassiveAuthenticationStatus;
@@ -34,11 +35,23 @@ import java.util.List;
  *   <li>countByStatus - Count by status</li>
  *   <li>countInProgress - Count in-progress verifications</li>
  *   <li>findByStartedAtBetween - Find by date range</li>
+ *   <li>findSummaries / findSummaryPage / countSummaries - Slim history projections
+ *       ({@link PassportDataSummaryQueriesImpl})</li>
+ *   <li>findDataGroupsById - Data Groups of one verification on demand</li>
  * </ul>
  */
 @Repository
 public interface JpaPassportDataRepository
-    extends JpaRepository<PassportData, PassportDataId>, PassportDataRepository {
+    extends JpaRepository<PassportData, PassportDataId>, PassportDataRepository, PassportDataSummaryQueries {
+
+    /**
+     * Find the Data Groups of a single PassportData (the SOD is not loaded).
+     *
+     * @param id PassportData ID
+     * @return list of DataGroup
+     */
+    @Query("SELECT dg FROM PassportData p JOIN p.dataGroups dg WHERE p.id = :id")
+    List<DataGroup> findDataGroupsById(@Param("id") PassportDataId id);
 
     /**
      * Find PassportData by verification status.
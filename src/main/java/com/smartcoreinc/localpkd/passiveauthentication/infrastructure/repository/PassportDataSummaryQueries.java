@@ -0,0 +1,27 @@
+package com.smartcoreinc.localpkd.passiveauthentication.infrastructure.repository;
+
+import com.smartcoreinc.localpkd.passiveauthentication.domain.model.PassportDataSummary;
+import com.smartcoreinc.localpkd.passiveauthentication.domain.repository.PassportDataSummaryFilter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Spring Data fragment for PassportData summary (history) queries.
+ *
+ * <p>Implemented by {@link PassportDataSummaryQueriesImpl} with JPQL built from the non-null filter
+ * components only, and mixed into {@link JpaPassportDataRepository}.
+ *
+ * @see com.smartcoreinc.localpkd.passiveauthentication.domain.repository.PassportDataRepository
+ */
+public interface PassportDataSummaryQueries {
+
+    List<PassportDataSummary> findSummaries(
+        PassportDataSummaryFilter filter, LocalDateTime afterStartedAt, UUID afterId, int limit);
+
+    List<PassportDataSummary> findSummaryPage(
+        PassportDataSummaryFilter filter, String sortProperty, boolean descending, long offset, int limit);
+
+    long countSummaries(PassportDataSummaryFilter filter);
+}
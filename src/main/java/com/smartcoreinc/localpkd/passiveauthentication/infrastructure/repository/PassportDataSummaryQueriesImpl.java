@@ -0,0 +1,117 @@
+package com.smartcoreinc.localpkd.passiveauthentication.infrastructure.repository;
+
+import com.smartcoreinc.localpkd.passiveauthentication.domain.model.PassportDataSummary;
+import com.smartcoreinc.localpkd.passiveauthentication.domain.repository.PassportDataSummaryFilter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * JPQL implementation of {@link PassportDataSummaryQueries}.
+ *
+ * <p>Selects only the scalar columns of {@code passport_data} into {@link PassportDataSummary}
+ * (constructor expression), so neither the SOD nor the {@code passport_data_group} rows are read.
+ * Only non-null filter components become WHERE conditions.
+ */
+@RequiredArgsConstructor
+public class PassportDataSummaryQueriesImpl implements PassportDataSummaryQueries {
+
+    private static final String SELECT_SUMMARY =
+        "SELECT new com.smartcoreinc.localpkd.passiveauthentication.domain.model.PassportDataSummary("
+            + "p.id, p.issuingCountry, p.documentNumber, p.verificationStatus, "
+            + "p.startedAt, p.completedAt, p.processingDurationMs, p.result.errorsJson) "
+            + "FROM PassportData p";
+
+    private static final Set<String> SORTABLE_PROPERTIES =
+        Set.of("startedAt", "completedAt", "verificationStatus", "issuingCountry", "documentNumber");
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<PassportDataSummary> findSummaries(
+        PassportDataSummaryFilter filter, LocalDateTime afterStartedAt, UUID afterId, int limit) {
+
+        Map<String, Object> parameters = new HashMap<>();
+        StringBuilder where = where(filter, parameters);
+        if (afterStartedAt != null && afterId != null) {
+            and(where).append("(p.startedAt < :afterStartedAt OR (p.startedAt = :afterStartedAt AND p.id.id < :afterId))");
+            parameters.put("afterStartedAt", afterStartedAt);
+            parameters.put("afterId", afterId);
+        }
+
+        TypedQuery<PassportDataSummary> query = entityManager.createQuery(
+            SELECT_SUMMARY + where + " ORDER BY p.startedAt DESC, p.id.id DESC", PassportDataSummary.class);
+        parameters.forEach(query::setParameter);
+        if (limit > 0) {
+            query.setMaxResults(limit);
+        }
+        return query.getResultList();
+    }
+
+    @Override
+    public List<PassportDataSummary> findSummaryPage(
+        PassportDataSummaryFilter filter, String sortProperty, boolean descending, long offset, int limit) {
+
+        Map<String, Object> parameters = new HashMap<>();
+        StringBuilder where = where(filter, parameters);
+        String property = SORTABLE_PROPERTIES.contains(sortProperty) ? sortProperty : "startedAt";
+        String direction = descending ? " DESC" : " ASC";
+
+        TypedQuery<PassportDataSummary> query = entityManager.createQuery(
+            SELECT_SUMMARY + where + " ORDER BY p." + property + direction + " NULLS LAST, p.id.id" + direction,
+            PassportDataSummary.class);
+        parameters.forEach(query::setParameter);
+        query.setFirstResult(Math.toIntExact(offset));
+        query.setMaxResults(Math.max(1, limit));
+        return query.getResultList();
+    }
+
+    @Override
+    public long countSummaries(PassportDataSummaryFilter filter) {
+        Map<String, Object> parameters = new HashMap<>();
+        StringBuilder where = where(filter, parameters);
+
+        TypedQuery<Long> query = entityManager.createQuery(
+            "SELECT COUNT(p) FROM PassportData p" + where, Long.class);
+        parameters.forEach(query::setParameter);
+        return query.getSingleResult();
+    }
+
+    private static StringBuilder where(PassportDataSummaryFilter filter, Map<String, Object> parameters) {
+        StringBuilder where = new StringBuilder();
+        if (filter == null) {
+            return where;
+        }
+        if (filter.issuingCountry() != null) {
+            and(where).append("p.issuingCountry = :issuingCountry");
+            parameters.put("issuingCountry", filter.issuingCountry());
+        }
+        if (filter.status() != null) {
+            and(where).append("p.verificationStatus = :status");
+            parameters.put("status", filter.status());
+        }
+        if (filter.startedFrom() != null) {
+            and(where).append("p.startedAt >= :startedFrom");
+            parameters.put("startedFrom", filter.startedFrom());
+        }
+        if (filter.startedTo() != null) {
+            and(where).append("p.startedAt <= :startedTo");
+            parameters.put("startedTo", filter.startedTo());
+        }
+        if (filter.completed() != null) {
+            and(where).append(filter.completed() ? "p.completedAt IS NOT NULL" : "p.completedAt IS NULL");
+        }
+        return where;
+    }
+
+    private static StringBuilder and(StringBuilder where) {
+        return where.append(where.isEmpty() ? " WHERE " : " AND ");
+    }
+}
@@ -0,0 +1,236 @@
+package com.smartcoreinc.localpkd.passiveauthentication.infrastructure.repository;
+
+import com.smartcoreinc.localpkd.passiveauthentication.domain.model.PassportData;
+import com.smartcoreinc.localpkd.passiveauthentication.domain.repository.PassportDataRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Persists PassportData verification results, synchronously or write-behind.
+ *
+ * <p><b>Modes</b> ({@code app.pa.persistence.mode}):</p>
+ * <ul>
+ *   <li><b>sync</b> (default) - {@link PassportDataRepository#save} in the caller's transaction.
+ *       The verification result is readable as soon as the request returns.</li>
+ *   <li><b>write-behind</b> - Results are put on a bounded queue and a background writer inserts them in
+ *       batches: one transaction per batch, {@code EntityManager.persist} (no merge SELECT for the
+ *       pre-assigned ids) and Hibernate JDBC batching for {@code passport_data} and
+ *       {@code passport_data_group} rows.</li>
+ * </ul>
+ *
+ * <p><b>Backpressure:</b> when the queue stays full for {@code enqueue-timeout-ms}, the caller saves its
+ * result synchronously instead, so results are never dropped and callers slow down to the writer's pace.</p>
+ *
+ * <p><b>Durability</b> ({@code app.pa.persistence.wait-for-commit}): with {@code false} a request returns
+ * before its result is committed and results still queued are lost if the process dies (they are flushed
+ * on orderly shutdown). With {@code true} a request waits until the batch containing its result has
+ * committed (group commit): still one INSERT batch for many concurrent requests, but no acknowledged
+ * result can be lost.</p>
+ *
+ * <p>A failed batch is retried one result per transaction so that a single bad row does not discard the
+ * rest of the batch.</p>
+ */
+@Slf4j
+@Component
+public class PassportDataWriter {
+
+    private final PassportDataRepository passportDataRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${app.pa.persistence.mode:sync}")
+    private String mode;
+
+    @Value("${app.pa.persistence.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${app.pa.persistence.batch-size:200}")
+    private int batchSize;
+
+    @Value("${app.pa.persistence.flush-interval-ms:200}")
+    private long flushIntervalMs;
+
+    @Value("${app.pa.persistence.enqueue-timeout-ms:100}")
+    private long enqueueTimeoutMs;
+
+    @Value("${app.pa.persistence.wait-for-commit:false}")
+    private boolean waitForCommit;
+
+    @Value("${app.pa.persistence.commit-timeout-ms:30000}")
+    private long commitTimeoutMs;
+
+    private BlockingQueue<PendingWrite> queue;
+    private Thread writerThread;
+    private volatile boolean running;
+
+    public PassportDataWriter(
+        PassportDataRepository passportDataRepository,
+        PlatformTransactionManager transactionManager
+    ) {
+        this.passportDataRepository = passportDataRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @PostConstruct
+    void start() {
+        if (!isWriteBehind()) {
+            return;
+        }
+        queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+        running = true;
+        writerThread = new Thread(this::runWriter, "pa-passport-data-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+        log.info("PassportData write-behind enabled (queue: {}, batch: {}, waitForCommit: {})",
+            queueCapacity, batchSize, waitForCommit);
+    }
+
+    /**
+     * Stores a verification result according to the configured mode.
+     *
+     * @param passportData New PassportData aggregate (not yet persisted)
+     */
+    public void write(PassportData passportData) {
+        if (!running) {
+            passportDataRepository.save(passportData);
+            return;
+        }
+
+        PendingWrite pending = new PendingWrite(passportData, new CompletableFuture<>());
+        boolean queued;
+        try {
+            queued = queue.offer(pending, enqueueTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            queued = false;
+        }
+        if (!queued) {
+            log.debug("PassportData write-behind queue full, saving synchronously: {}", passportData.getId());
+            passportDataRepository.save(passportData);
+            return;
+        }
+
+        if (waitForCommit) {
+            try {
+                pending.committed().get(commitTimeoutMs, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for PassportData commit", e);
+            } catch (TimeoutException e) {
+                throw new IllegalStateException("PassportData commit timed out after " + commitTimeoutMs + "ms", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Failed to persist PassportData: " + e.getCause().getMessage(), e.getCause());
+            }
+        }
+    }
+
+    /**
+     * Number of results waiting to be written (monitoring).
+     */
+    public int getPendingCount() {
+        return queue != null ? queue.size() : 0;
+    }
+
+    @PreDestroy
+    void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        writerThread.interrupt();
+        try {
+            writerThread.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // Flush whatever the writer did not get to
+        List<PendingWrite> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            log.info("Flushing {} pending PassportData on shutdown", remaining.size());
+            flush(remaining);
+        }
+    }
+
+    private void runWriter() {
+        List<PendingWrite> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                PendingWrite first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                flush(batch);
+            } catch (InterruptedException e) {
+                if (!running) {
+                    break;
+                }
+            } catch (RuntimeException e) {
+                log.error("PassportData writer failed unexpectedly", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<PendingWrite> batch) {
+        long start = System.currentTimeMillis();
+        try {
+            transactionTemplate.executeWithoutResult(status -> persist(batch));
+            batch.forEach(pending -> pending.committed().complete(null));
+            log.debug("Persisted {} PassportData in {}ms", batch.size(), System.currentTimeMillis() - start);
+        } catch (RuntimeException e) {
+            log.warn("PassportData batch insert failed ({} rows), retrying one by one: {}",
+                batch.size(), e.getMessage());
+            for (PendingWrite pending : batch) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> persist(List.of(pending)));
+                    pending.committed().complete(null);
+                } catch (RuntimeException single) {
+                    log.error("Failed to persist PassportData {}: {}",
+                        pending.passportData().getId(), single.getMessage());
+                    pending.committed().completeExceptionally(single);
+                }
+            }
+        }
+    }
+
+    private void persist(List<PendingWrite> batch) {
+        entityManager.unwrap(Session.class).setJdbcBatchSize(Math.max(1, batchSize));
+        for (PendingWrite pending : batch) {
+            entityManager.persist(pending.passportData());
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private boolean isWriteBehind() {
+        return "write-behind".equalsIgnoreCase(mode);
+    }
+
+    private record PendingWrite(PassportData passportData, CompletableFuture<Void> committed) {
+    }
+}
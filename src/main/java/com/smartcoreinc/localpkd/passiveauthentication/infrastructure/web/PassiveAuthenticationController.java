@@ -1,11 +1,17 @@
 package com.smartcoreinc.localpkd.passiveauthentication.infrastructure.web;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.smartcoreinc.localpkd.certificatevalidation.domain.model.CountryCode;
 import com.smartcoreinc.localpkd.passiveauthentication.application.command.PerformPassiveAuthenticationCommand;
+import com.smartcoreinc.localpkd.passiveauthentication.application.response.PassiveAuthenticationHistorySlice;
 import com.smartcoreinc.localpkd.passiveauthentication.application.response.PassiveAuthenticationResponse;
+import com.smartcoreinc.localpkd.passiveauthentication.application.usecase.BatchPassiveAuthenticationUseCase;
 import com.smartcoreinc.localpkd.passiveauthentication.application.usecase.GetPassiveAuthenticationHistoryUseCase;
 import com.smartcoreinc.localpkd.passiveauthentication.application.usecase.PerformPassiveAuthenticationUseCase;
+import com.smartcoreinc.localpkd.passiveauthentication.domain.model.DataGroup;
 import com.smartcoreinc.localpkd.passiveauthentication.domain.model.DataGroupNumber;
+import com.smartcoreinc.localpkd.passiveauthentication.domain.model.PassiveAuthenticationStatus;
 import com.smartcoreinc.localpkd.passiveauthentication.infrastructure.adapter.Dg1MrzParser;
 import com.smartcoreinc.localpkd.passiveauthentication.infrastructure.adapter.Dg2FaceImageParser;
 import io.swagger.v3.oas.annotations.Operation;
@@ -20,7 +26,9 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.core.io.InputStreamSource;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -29,9 +37,20 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
-
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.Base64;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -43,11 +62,15 @@ import java.util.UUID;
 @Slf4j
 public class PassiveAuthenticationController {
 
+    private static final String NDJSON = "application/x-ndjson";
+
     private final PerformPassiveAuthenticationUseCase performPassiveAuthenticationUseCase;
+    private final BatchPassiveAuthenticationUseCase batchPassiveAuthenticationUseCase;
     private final GetPassiveAuthenticationHistoryUseCase getPassiveAuthenticationHistoryUseCase;
     private final com.smartcoreinc.localpkd.passiveauthentication.domain.port.SodParserPort sodParserPort;
     private final Dg1MrzParser dg1MrzParser;
     private final Dg2FaceImageParser dg2FaceImageParser;
+    private final ObjectMapper objectMapper;
 
     /**
      * Performs Passive Authentication verification for ePassport data.
@@ -123,65 +146,16 @@ public class PassiveAuthenticationController {
             request.documentNumber(), request.issuingCountry());
 
         try {
-            // Decode Base64-encoded SOD
-            byte[] sodBytes = Base64.getDecoder().decode(request.sod());
-
-            // Decode Base64-encoded Data Groups
-            Map<DataGroupNumber, byte[]> dataGroupBytes = new HashMap<>();
-            for (Map.Entry<String, String> entry : request.dataGroups().entrySet()) {
-                String dgNumberStr = entry.getKey();
-                String base64Data = entry.getValue();
-                
-                DataGroupNumber dgNumber = DataGroupNumber.valueOf(dgNumberStr);
-                byte[] dgBytes = Base64.getDecoder().decode(base64Data);
-                
-                dataGroupBytes.put(dgNumber, dgBytes);
-            }
-
             // Extract client metadata for audit
             String clientIp = extractClientIpAddress(httpRequest);
             String userAgent = httpRequest.getHeader("User-Agent");
-            String requestedBy = request.requestedBy() != null ? request.requestedBy() : "anonymous";
-
-            // Extract DSC Subject DN and Serial Number from SOD
-            com.smartcoreinc.localpkd.passiveauthentication.domain.port.DscInfo dscInfo =
-                sodParserPort.extractDscInfo(sodBytes);
-
-            log.info("Extracted DSC from SOD - Subject: {}, Serial: {}",
-                dscInfo.subjectDn(), dscInfo.serialNumber());
-
-            // Extract country code from DSC Subject DN if not provided in request
-            String countryCode = request.issuingCountry();
-            if (countryCode == null || countryCode.isBlank()) {
-                // Extract country from DSC DN (e.g., "C=KR,O=Government,..." -> "KOR")
-                countryCode = extractCountryFromDN(dscInfo.subjectDn());
-            }
-
-            // Use placeholder document number if not provided
-            String docNumber = request.documentNumber();
-            if (docNumber == null || docNumber.isBlank()) {
-                // Try to extract document number from DG1 (MRZ)
-                docNumber = extractDocumentNumberFromDg1(dataGroupBytes);
-                if (docNumber == null || docNumber.isBlank()) {
-                    docNumber = "UNKNOWN";
-                }
-            }
 
-            // Build command using constructor (Record class)
-            PerformPassiveAuthenticationCommand command = new PerformPassiveAuthenticationCommand(
-                CountryCode.of(countryCode),
-                docNumber,
-                sodBytes,
-                dscInfo.subjectDn(),
-                dscInfo.serialNumber(),
-                dataGroupBytes,
-                clientIp,
-                userAgent,
-                requestedBy
-            );
+            BatchPassiveAuthenticationUseCase.PreparedDocument document = prepare(request, clientIp, userAgent);
+            PerformPassiveAuthenticationCommand command = document.command();
+            com.smartcoreinc.localpkd.passiveauthentication.domain.port.ParsedSod parsedSod = document.parsedSod();
 
             // Execute verification use case
-            PassiveAuthenticationResponse response = performPassiveAuthenticationUseCase.execute(command);
+            PassiveAuthenticationResponse response = performPassiveAuthenticationUseCase.execute(command, parsedSod);
 
             log.info("Passive Authentication verification completed - Status: {}, VerificationId: {}",
                 response.status(), response.verificationId());
@@ -197,6 +171,189 @@ public class PassiveAuthenticationController {
         }
     }
 
+    /**
+     * Verifies a batch of ePassport documents and streams one result line per document.
+     *
+     * <p>The request body is NDJSON: one {@link PassiveAuthenticationRequest} JSON object per line.
+     * Documents are verified concurrently (bounded by {@code app.pa.batch.max-concurrency}), and each
+     * result is written as soon as it is available, in completion order. The last line is the summary.
+     *
+     * <p><b>Response lines:</b>
+     * <pre>
+     * {"index":0,"documentNumber":"M12345678","response":{...},"error":null}
+     * {"index":2,"documentNumber":null,"response":null,"error":"Invalid Base64 encoding: ..."}
+     * {"summary":{"total":3,"valid":2,"invalid":0,"failed":1,"durationMs":412}}
+     * </pre>
+     *
+     * @param httpRequest HTTP servlet request (NDJSON body)
+     * @return Streaming NDJSON response
+     */
+    @Operation(
+        summary = "전자여권 일괄 무결성 검증 (NDJSON)",
+        description = "NDJSON 스트림(한 줄에 검증 요청 하나)을 동시 검증하고 결과를 완료 순서대로 NDJSON으로 스트리밍합니다."
+    )
+    @ApiResponse(responseCode = "200", description = "검증 결과 스트림 (마지막 줄은 요약)")
+    @PostMapping(value = "/verify/batch", consumes = NDJSON, produces = NDJSON)
+    public ResponseEntity<StreamingResponseBody> verifyBatch(HttpServletRequest httpRequest) {
+        String clientIp = extractClientIpAddress(httpRequest);
+        String userAgent = httpRequest.getHeader("User-Agent");
+        log.info("Received batch Passive Authentication request (NDJSON) from {}", clientIp);
+
+        return streamBatch(httpRequest::getInputStream, clientIp, userAgent);
+    }
+
+    /**
+     * Verifies a batch of ePassport documents uploaded as an NDJSON file (multipart).
+     *
+     * @param file NDJSON file, one {@link PassiveAuthenticationRequest} JSON object per line
+     * @param httpRequest HTTP servlet request for extracting client metadata
+     * @return Streaming NDJSON response (same format as {@link #verifyBatch})
+     */
+    @Operation(
+        summary = "전자여권 일괄 무결성 검증 (파일 업로드)",
+        description = "NDJSON 파일(한 줄에 검증 요청 하나)을 업로드하여 동시 검증하고 결과를 NDJSON으로 스트리밍합니다."
+    )
+    @ApiResponse(responseCode = "200", description = "검증 결과 스트림 (마지막 줄은 요약)")
+    @PostMapping(value = "/verify/batch", consumes = MediaType.MULTIPART_FORM_DATA_VALUE, produces = NDJSON)
+    public ResponseEntity<StreamingResponseBody> verifyBatchFile(
+        @Parameter(description = "NDJSON 파일", required = true)
+        @RequestParam("file") MultipartFile file,
+        HttpServletRequest httpRequest
+    ) {
+        String clientIp = extractClientIpAddress(httpRequest);
+        String userAgent = httpRequest.getHeader("User-Agent");
+        log.info("Received batch Passive Authentication file: {} ({} bytes) from {}",
+            file.getOriginalFilename(), file.getSize(), clientIp);
+
+        return streamBatch(file::getInputStream, clientIp, userAgent);
+    }
+
+    private ResponseEntity<StreamingResponseBody> streamBatch(
+        InputStreamSource source,
+        String clientIp,
+        String userAgent
+    ) {
+        StreamingResponseBody body = out -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(source.getInputStream(), StandardCharsets.UTF_8))) {
+
+                Iterator<String> lines = reader.lines()
+                    .filter(line -> !line.isBlank())
+                    .iterator();
+
+                BatchPassiveAuthenticationUseCase.BatchSummary summary = batchPassiveAuthenticationUseCase.execute(
+                    lines,
+                    line -> prepare(readBatchLine(line), clientIp, userAgent),
+                    result -> writeLine(writer, result)
+                );
+                writeLine(writer, Map.of("summary", summary));
+            }
+        };
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(NDJSON))
+            .body(body);
+    }
+
+    private PassiveAuthenticationRequest readBatchLine(String line) {
+        PassiveAuthenticationRequest request;
+        try {
+            request = objectMapper.readValue(line, PassiveAuthenticationRequest.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Invalid JSON: " + e.getOriginalMessage(), e);
+        }
+        if (request.sod() == null || request.sod().isBlank()) {
+            throw new IllegalArgumentException("SOD는 필수입니다");
+        }
+        if (request.dataGroups() == null || request.dataGroups().isEmpty()) {
+            throw new IllegalArgumentException("최소 하나의 Data Group이 필요합니다");
+        }
+        return request;
+    }
+
+    private void writeLine(Writer writer, Object value) {
+        try {
+            writer.write(objectMapper.writeValueAsString(value));
+            writer.write('\n');
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write batch result", e);
+        }
+    }
+
+    /**
+     * Converts a verification request into a command, parsing the SOD once.
+     *
+     * @param request Passive Authentication verification request
+     * @param clientIp Client IP address
+     * @param userAgent Client User-Agent
+     * @return Command with the parsed SOD
+     * @throws IllegalArgumentException if Base64 decoding or Data Group keys are invalid
+     */
+    private BatchPassiveAuthenticationUseCase.PreparedDocument prepare(
+        PassiveAuthenticationRequest request,
+        String clientIp,
+        String userAgent
+    ) {
+        // Decode Base64-encoded SOD
+        byte[] sodBytes = Base64.getDecoder().decode(request.sod());
+
+        // Decode Base64-encoded Data Groups
+        Map<DataGroupNumber, byte[]> dataGroupBytes = new HashMap<>();
+        for (Map.Entry<String, String> entry : request.dataGroups().entrySet()) {
+            String dgNumberStr = entry.getKey();
+            String base64Data = entry.getValue();
+
+            DataGroupNumber dgNumber = DataGroupNumber.valueOf(dgNumberStr);
+            byte[] dgBytes = Base64.getDecoder().decode(base64Data);
+
+            dataGroupBytes.put(dgNumber, dgBytes);
+        }
+
+        String requestedBy = request.requestedBy() != null ? request.requestedBy() : "anonymous";
+
+        // Parse SOD once; the same parsed SOD is passed to the use case
+        com.smartcoreinc.localpkd.passiveauthentication.domain.port.ParsedSod parsedSod =
+            sodParserPort.parse(sodBytes);
+
+        // Extract DSC Subject DN and Serial Number from SOD
+        com.smartcoreinc.localpkd.passiveauthentication.domain.port.DscInfo dscInfo = parsedSod.dscInfo();
+
+        log.info("Extracted DSC from SOD - Subject: {}, Serial: {}",
+            dscInfo.subjectDn(), dscInfo.serialNumber());
+
+        // Extract country code from DSC Subject DN if not provided in request
+        String countryCode = request.issuingCountry();
+        if (countryCode == null || countryCode.isBlank()) {
+            // Extract country from DSC DN (e.g., "C=KR,O=Government,..." -> "KOR")
+            countryCode = extractCountryFromDN(dscInfo.subjectDn());
+        }
+
+        // Use placeholder document number if not provided
+        String docNumber = request.documentNumber();
+        if (docNumber == null || docNumber.isBlank()) {
+            // Try to extract document number from DG1 (MRZ)
+            docNumber = extractDocumentNumberFromDg1(dataGroupBytes);
+            if (docNumber == null || docNumber.isBlank()) {
+                docNumber = "UNKNOWN";
+            }
+        }
+
+        // Build command using constructor (Record class)
+        PerformPassiveAuthenticationCommand command = new PerformPassiveAuthenticationCommand(
+            CountryCode.of(countryCode),
+            docNumber,
+            sodBytes,
+            dscInfo.subjectDn(),
+            dscInfo.serialNumber(),
+            dataGroupBytes,
+            clientIp,
+            userAgent,
+            requestedBy
+        );
+        return new BatchPassiveAuthenticationUseCase.PreparedDocument(command, parsedSod);
+    }
+
     /**
      * Retrieves Passive Authentication verification history.
      *
@@ -244,7 +401,7 @@ public class PassiveAuthenticationController {
         }
     )
     @GetMapping("/history")
-    public ResponseEntity<org.springframework.data.domain.Page<PassiveAuthenticationResponse>> getHistory(
+    public ResponseEntity<Page<PassiveAuthenticationResponse>> getHistory(
         @Parameter(description = "발급 국가 (ISO 3166-1 alpha-2)", example = "KR")
         @RequestParam(required = false) String issuingCountry,
 
@@ -259,69 +416,20 @@ public class PassiveAuthenticationController {
         log.info("Retrieving Passive Authentication history - country: {}, success: {}, status: {}",
             issuingCountry, success, status);
 
-        // Get all verifications (filtering will be applied in-memory for now)
-        java.util.List<PassiveAuthenticationResponse> allHistory = getPassiveAuthenticationHistoryUseCase.getAll();
-
-        // Apply filters
-        java.util.List<PassiveAuthenticationResponse> filtered = allHistory.stream()
-            .filter(r -> issuingCountry == null || issuingCountry.equals(r.issuingCountry()))
-            .filter(r -> status == null || status.equals(r.status().name()))
-            .toList();
-
-        // Apply sorting (default: completedAt DESC for showing most recent first)
-        java.util.List<PassiveAuthenticationResponse> sorted = new java.util.ArrayList<>(filtered);
-        org.springframework.data.domain.Sort sort = pageable.getSort();
-        if (sort.isSorted()) {
-            sort.forEach(order -> {
-                java.util.Comparator<PassiveAuthenticationResponse> comparator;
-                String property = order.getProperty();
-                if ("completedAt".equals(property) || "verifiedAt".equals(property) || "verificationTimestamp".equals(property)) {
-                    comparator = java.util.Comparator.comparing(
-                        PassiveAuthenticationResponse::verificationTimestamp,
-                        java.util.Comparator.nullsLast(java.util.Comparator.naturalOrder())
-                    );
-                } else if ("status".equals(property)) {
-                    comparator = java.util.Comparator.comparing(r -> r.status().name());
-                } else if ("issuingCountry".equals(property)) {
-                    comparator = java.util.Comparator.comparing(
-                        PassiveAuthenticationResponse::issuingCountry,
-                        java.util.Comparator.nullsLast(java.util.Comparator.naturalOrder())
-                    );
-                } else if ("documentNumber".equals(property)) {
-                    comparator = java.util.Comparator.comparing(
-                        PassiveAuthenticationResponse::documentNumber,
-                        java.util.Comparator.nullsLast(java.util.Comparator.naturalOrder())
-                    );
-                } else {
-                    // Default: sort by verificationTimestamp
-                    comparator = java.util.Comparator.comparing(
-                        PassiveAuthenticationResponse::verificationTimestamp,
-                        java.util.Comparator.nullsLast(java.util.Comparator.naturalOrder())
-                    );
-                }
-                if (order.isDescending()) {
-                    comparator = comparator.reversed();
-                }
-                sorted.sort(comparator);
-            });
-        } else {
-            // Default: sort by verificationTimestamp DESC (most recent first)
-            sorted.sort(java.util.Comparator.comparing(
-                PassiveAuthenticationResponse::verificationTimestamp,
-                java.util.Comparator.nullsLast(java.util.Comparator.naturalOrder())
-            ).reversed());
+        PassiveAuthenticationStatus statusFilter = null;
+        if (status != null && !status.isBlank()) {
+            try {
+                statusFilter = PassiveAuthenticationStatus.valueOf(status.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                log.debug("Unknown status filter: {}", status);
+                return ResponseEntity.ok(Page.empty(pageable));
+            }
         }
 
-        // Apply pagination manually
-        int start = (int) pageable.getOffset();
-        int end = Math.min(start + pageable.getPageSize(), sorted.size());
-
-        java.util.List<PassiveAuthenticationResponse> pageContent = start < sorted.size()
-            ? sorted.subList(start, end)
-            : java.util.Collections.emptyList();
-
-        org.springframework.data.domain.Page<PassiveAuthenticationResponse> page =
-            new org.springframework.data.domain.PageImpl<>(pageContent, pageable, sorted.size());
+        // Filtering, sorting and paging run in the database on slim summaries (no SOD/DG binaries)
+        Page<PassiveAuthenticationResponse> page =
+            getPassiveAuthenticationHistoryUseCase.getHistoryPage(issuingCountry, statusFilter, pageable);
+        List<PassiveAuthenticationResponse> pageContent = page.getContent();
 
         log.info("Retrieved {} verification records (page {} of {})",
             pageContent.size(), pageable.getPageNumber(), page.getTotalPages());
@@ -329,6 +437,47 @@ public class PassiveAuthenticationController {
         return ResponseEntity.ok(page);
     }
 
+    /**
+     * Retrieves Passive Authentication history by keyset cursor.
+     * <p>
+     * Unlike {@code /history}, pages are located by the position of the last row of the previous page
+     * rather than by offset, so deep pages cost the same as the first one. Pass the {@code nextCursor}
+     * of a response as {@code cursor} to get the following page.
+     * </p>
+     *
+     * @param issuingCountry Optional country filter
+     * @param status Optional status filter (VALID, INVALID, ERROR)
+     * @param cursor Cursor from the previous page (omit for the first page)
+     * @param size Page size (max 100)
+     * @return History slice with next cursor
+     */
+    @Operation(
+        summary = "PA 검증 이력 조회 (커서 기반)",
+        description = "최근 검증 순으로 커서 기반 페이지를 반환합니다. 응답의 nextCursor를 다음 요청의 cursor로 전달합니다."
+    )
+    @ApiResponse(responseCode = "200", description = "조회 성공")
+    @ApiResponse(responseCode = "400", description = "잘못된 커서")
+    @GetMapping("/history/keyset")
+    public ResponseEntity<PassiveAuthenticationHistorySlice> getHistoryByCursor(
+        @Parameter(description = "발급 국가 (ISO 3166-1 alpha-2)", example = "KR")
+        @RequestParam(required = false) String issuingCountry,
+
+        @Parameter(description = "검증 결과 상태 (VALID, INVALID, ERROR)", example = "VALID")
+        @RequestParam(required = false) PassiveAuthenticationStatus status,
+
+        @Parameter(description = "이전 페이지의 nextCursor")
+        @RequestParam(required = false) String cursor,
+
+        @Parameter(description = "페이지 크기 (최대 100)", example = "20")
+        @RequestParam(defaultValue = "20") int size
+    ) {
+        log.debug("Retrieving Passive Authentication history by cursor - country: {}, status: {}, size: {}",
+            issuingCountry, status, size);
+
+        return ResponseEntity.ok(
+            getPassiveAuthenticationHistoryUseCase.getHistorySlice(issuingCountry, status, cursor, size));
+    }
+
     /**
      * Retrieves a specific Passive Authentication verification result.
      *
@@ -595,19 +744,17 @@ public class PassiveAuthenticationController {
         log.info("Retrieving data groups for verification ID: {}", verificationId);
 
         try {
-            // Get PassportData from repository
-            com.smartcoreinc.localpkd.passiveauthentication.domain.model.PassportData passportData =
-                getPassiveAuthenticationHistoryUseCase.getPassportDataById(verificationId);
+            // Load only the Data Groups (not the SOD or the rest of the aggregate)
+            List<DataGroup> dataGroups = getPassiveAuthenticationHistoryUseCase.getDataGroups(verificationId);
 
-            if (passportData == null) {
+            if (dataGroups == null) {
                 return ResponseEntity.notFound().build();
             }
 
             Map<String, Object> result = new HashMap<>();
 
             // Parse DG1 if available
-            java.util.Optional<com.smartcoreinc.localpkd.passiveauthentication.domain.model.DataGroup> dg1Opt =
-                passportData.getDataGroup(DataGroupNumber.DG1);
+            java.util.Optional<DataGroup> dg1Opt = findDataGroup(dataGroups, DataGroupNumber.DG1);
             if (dg1Opt.isPresent()) {
                 try {
                     byte[] dg1Content = dg1Opt.get().getContent();
@@ -622,8 +769,7 @@ public class PassiveAuthenticationController {
             }
 
             // Parse DG2 if available
-            java.util.Optional<com.smartcoreinc.localpkd.passiveauthentication.domain.model.DataGroup> dg2Opt =
-                passportData.getDataGroup(DataGroupNumber.DG2);
+            java.util.Optional<DataGroup> dg2Opt = findDataGroup(dataGroups, DataGroupNumber.DG2);
             if (dg2Opt.isPresent()) {
                 try {
                     byte[] dg2Content = dg2Opt.get().getContent();
@@ -666,4 +812,9 @@ public class PassiveAuthenticationController {
         }
     }
 
+    private static java.util.Optional<DataGroup> findDataGroup(List<DataGroup> dataGroups, DataGroupNumber number) {
+        return dataGroups.stream()
+            .filter(dg -> dg.getNumber() == number)
+            .findFirst();
+    }
 }
@@ -153,17 +153,20 @@ public class PassiveAuthenticationUiController {
 
             byte[] sodBytes = Base64.getDecoder().decode(sodBase64);
 
+            // Parse SOD once
+            var parsedSod = sodParserPort.parse(sodBytes);
+
             // Extract DSC info
-            var dscInfo = sodParserPort.extractDscInfo(sodBytes);
+            var dscInfo = parsedSod.dscInfo();
 
             // Extract hash algorithm
-            String hashAlgorithm = sodParserPort.extractHashAlgorithm(sodBytes);
+            String hashAlgorithm = parsedSod.hashAlgorithm();
 
             // Extract signature algorithm
-            String signatureAlgorithm = sodParserPort.extractSignatureAlgorithm(sodBytes);
+            String signatureAlgorithm = parsedSod.signatureAlgorithm();
 
             // Parse data group hashes
-            var dataGroupHashes = sodParserPort.parseDataGroupHashes(sodBytes);
+            var dataGroupHashes = parsedSod.dataGroupHashes();
 
             // Build response
             Map<String, Object> response = new HashMap<>();
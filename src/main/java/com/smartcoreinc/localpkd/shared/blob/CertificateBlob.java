@@ -0,0 +1,45 @@
+package com.smartcoreinc.localpkd.shared.blob;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+
+import java.time.LocalDateTime;
+
+/**
+ * CertificateBlob - SHA-256 지문으로 식별되는 인증서 DER 바이너리
+ *
+ * <p>{@code parsed_certificate}와 {@code certificate}는 DER 바이너리를 직접 저장하지 않고 지문 컬럼으로
+ * 이 테이블을 참조합니다. 엔티티의 {@code certificateBinary}는 {@code @Formula} 서브쿼리로 읽습니다.</p>
+ *
+ * <p>쓰기는 {@link CertificateBlobStore}, 삭제는 {@link CertificateBlobGarbageCollector}만 수행합니다.
+ * 이 엔티티는 테이블 매핑(스키마 검증, 테스트 DDL 생성) 용도입니다.</p>
+ */
+@Entity
+@Table(name = "certificate_blob")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CertificateBlob {
+
+    /**
+     * SHA-256 지문 (소문자 16진수 64자)
+     */
+    @Id
+    @Column(name = "sha256", length = 64)
+    private String sha256;
+
+    @JdbcTypeCode(java.sql.Types.BINARY)  // Hibernate 6: bytea 매핑을 위해 필수
+    @Column(name = "der", nullable = false, columnDefinition = "BYTEA")
+    private byte[] der;
+
+    /**
+     * 마지막으로 저장(참조) 요청된 시각 - GC 유예 기준
+     */
+    @Column(name = "last_seen_at", nullable = false)
+    private LocalDateTime lastSeenAt;
+}
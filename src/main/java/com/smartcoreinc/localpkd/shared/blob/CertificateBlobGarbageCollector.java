@@ -0,0 +1,88 @@
+package com.smartcoreinc.localpkd.shared.blob;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+/**
+ * CertificateBlobGarbageCollector - 참조되지 않는 인증서 blob 정리 (mark-and-sweep)
+ *
+ * <p>참조 카운트는 인증서 저장/삭제 경로(JPA, COPY, 델타 LDIF, ParsedFile 재작성)마다 증감을 맞춰야 하고
+ * 카운터 행 자체가 갱신 경합과 WAL을 만듭니다. 대신 주기적으로 {@code certificate}와
+ * {@code parsed_certificate} 어디에서도 참조되지 않으면서 {@code last_seen_at}이 유예 시간보다 오래된
+ * blob을 배치 단위로 삭제합니다.</p>
+ *
+ * <p>유예 시간({@code grace-period-hours})은 {@link CertificateBlobStore}의 {@code touch-interval-minutes}와
+ * 가장 긴 업로드 트랜잭션보다 길어야 합니다. 저장 직후 아직 커밋되지 않은 참조의 blob을 지우지 않기 위함입니다.</p>
+ */
+@Slf4j
+@Component
+public class CertificateBlobGarbageCollector {
+
+    private static final String DELETE_UNREFERENCED_SQL =
+        "DELETE FROM certificate_blob WHERE sha256 IN ("
+            + " SELECT b.sha256 FROM certificate_blob b"
+            + " WHERE b.last_seen_at < :cutoff"
+            + " AND NOT EXISTS (SELECT 1 FROM certificate c WHERE c.x509_fingerprint_sha256 = b.sha256)"
+            + " AND NOT EXISTS (SELECT 1 FROM parsed_certificate p WHERE p.fingerprint_sha256 = b.sha256)"
+            + " LIMIT :limit)"
+            // 동시에 last_seen_at이 갱신된 행은 잠금 해제 후 재평가되어 제외됨
+            + " AND last_seen_at < :cutoff";
+
+    private final TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${app.certificate-blob.gc.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.certificate-blob.gc.grace-period-hours:24}")
+    private long gracePeriodHours;
+
+    @Value("${app.certificate-blob.gc.batch-size:1000}")
+    private int batchSize;
+
+    public CertificateBlobGarbageCollector(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(
+        initialDelayString = "${app.certificate-blob.gc.interval-ms:3600000}",
+        fixedDelayString = "${app.certificate-blob.gc.interval-ms:3600000}"
+    )
+    public void collect() {
+        if (!enabled) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        LocalDateTime cutoff = LocalDateTime.now().minusHours(gracePeriodHours);
+        int total = 0;
+        try {
+            int deleted;
+            do {
+                // 배치마다 별도 트랜잭션 - 긴 잠금/대형 트랜잭션 방지
+                deleted = transactionTemplate.execute(status -> entityManager
+                    .createNativeQuery(DELETE_UNREFERENCED_SQL)
+                    .setParameter("cutoff", cutoff)
+                    .setParameter("limit", batchSize)
+                    .executeUpdate());
+                total += deleted;
+            } while (deleted >= batchSize);
+        } catch (Exception e) {
+            log.warn("Certificate blob GC failed after deleting {} blob(s): {}", total, e.getMessage());
+            return;
+        }
+        if (total > 0) {
+            log.info("Certificate blob GC deleted {} unreferenced blob(s) in {}ms",
+                total, System.currentTimeMillis() - start);
+        }
+    }
+}
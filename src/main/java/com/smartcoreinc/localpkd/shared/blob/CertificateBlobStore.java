@@ -0,0 +1,93 @@
+package com.smartcoreinc.localpkd.shared.blob;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.postgresql.PGConnection;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * CertificateBlobStore - 인증서 DER 바이너리 content-addressed 저장
+ *
+ * <p>지문(SHA-256)이 같은 DER은 한 번만 저장됩니다. 이미 있는 blob은 다시 쓰지 않고, 마지막 갱신 후
+ * {@code touch-interval-minutes}가 지난 경우에만 {@code last_seen_at}을 갱신합니다 (GC 유예 기준).
+ * 따라서 재업로드된 컬렉션의 인증서는 blob 행의 WAL을 거의 만들지 않습니다.</p>
+ *
+ * <p>호출자의 트랜잭션(Hibernate Session의 JDBC 연결)에서 실행되므로, 같은 트랜잭션에서 이후 flush되는
+ * {@code certificate}/{@code parsed_certificate} 행의 FK 검사 시점에는 blob이 항상 존재합니다.</p>
+ *
+ * <p>PostgreSQL은 {@code INSERT ... ON CONFLICT}, 그 외 DB(H2 테스트)는 {@code MERGE}를 사용합니다.</p>
+ */
+@Slf4j
+@Component
+public class CertificateBlobStore {
+
+    private static final String UPSERT_SQL =
+        "INSERT INTO certificate_blob (sha256, der, last_seen_at) VALUES (?, ?, ?)"
+            + " ON CONFLICT (sha256) DO UPDATE SET last_seen_at = EXCLUDED.last_seen_at"
+            + " WHERE certificate_blob.last_seen_at < ?";
+
+    private static final String MERGE_SQL =
+        "MERGE INTO certificate_blob (sha256, der, last_seen_at) KEY (sha256) VALUES (?, ?, ?)";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${app.certificate-blob.touch-interval-minutes:60}")
+    private long touchIntervalMinutes;
+
+    @Value("${app.certificate-blob.batch-size:500}")
+    private int batchSize;
+
+    /**
+     * DER 바이너리 저장 (이미 있으면 건너뜀)
+     *
+     * @param blobs SHA-256 지문(소문자 16진수) → DER 바이너리
+     */
+    public void storeAll(Map<String, byte[]> blobs) {
+        if (blobs.isEmpty()) {
+            return;
+        }
+        entityManager.unwrap(Session.class).doWork(connection -> write(connection, blobs));
+    }
+
+    private void write(Connection connection, Map<String, byte[]> blobs) throws SQLException {
+        boolean postgres = connection.isWrapperFor(PGConnection.class);
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp seenAt = Timestamp.valueOf(now);
+        Timestamp touchBefore = Timestamp.valueOf(now.minusMinutes(touchIntervalMinutes));
+
+        try (PreparedStatement statement = connection.prepareStatement(postgres ? UPSERT_SQL : MERGE_SQL)) {
+            int pending = 0;
+            for (Map.Entry<String, byte[]> blob : blobs.entrySet()) {
+                if (blob.getKey() == null || blob.getValue() == null) {
+                    continue;
+                }
+                statement.setString(1, blob.getKey());
+                statement.setBytes(2, blob.getValue());
+                statement.setTimestamp(3, seenAt);
+                if (postgres) {
+                    statement.setTimestamp(4, touchBefore);
+                }
+                statement.addBatch();
+                if (++pending >= batchSize) {
+                    statement.executeBatch();
+                    pending = 0;
+                }
+            }
+            if (pending > 0) {
+                statement.executeBatch();
+            }
+        }
+        log.debug("Stored {} certificate blob(s)", blobs.size());
+    }
+}
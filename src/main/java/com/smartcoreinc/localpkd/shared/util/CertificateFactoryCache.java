@@ -0,0 +1,52 @@
+package com.smartcoreinc.localpkd.shared.util;
+
+import com.smartcoreinc.localpkd.shared.exception.InfrastructureException;
+
+import java.security.NoSuchProviderException;
+import java.security.cert.CertificateException;
+import java.security.cert.CertificateFactory;
+
+/**
+ * CertificateFactoryCache - 스레드별 X.509 CertificateFactory 캐시
+ *
+ * <p>{@link CertificateFactory#getInstance(String)}는 호출마다 Provider 조회와 인스턴스 생성을 수행하므로,
+ * 대량 인증서 파싱 시 스레드별로 생성된 인스턴스를 재사용합니다.
+ * CertificateFactory는 thread-safe가 보장되지 않으므로 ThreadLocal로 격리합니다.</p>
+ */
+public final class CertificateFactoryCache {
+
+    private static final ThreadLocal<CertificateFactory> X509 =
+        ThreadLocal.withInitial(() -> create(null));
+
+    private static final ThreadLocal<CertificateFactory> X509_BC =
+        ThreadLocal.withInitial(() -> create("BC"));
+
+    private CertificateFactoryCache() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * 기본 Provider의 X.509 CertificateFactory (현재 스레드 전용)
+     */
+    public static CertificateFactory x509() {
+        return X509.get();
+    }
+
+    /**
+     * BouncyCastle Provider의 X.509 CertificateFactory (현재 스레드 전용)
+     */
+    public static CertificateFactory x509BouncyCastle() {
+        return X509_BC.get();
+    }
+
+    private static CertificateFactory create(String provider) {
+        try {
+            return provider == null
+                ? CertificateFactory.getInstance("X.509")
+                : CertificateFactory.getInstance("X.509", provider);
+        } catch (CertificateException | NoSuchProviderException e) {
+            throw new InfrastructureException("CERTIFICATE_FACTORY_ERROR",
+                "Could not create X.509 CertificateFactory (provider=" + provider + ")", e);
+        }
+    }
+}
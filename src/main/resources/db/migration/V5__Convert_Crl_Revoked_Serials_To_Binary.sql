@@ -0,0 +1,33 @@
+-- V5: CRL 폐기 일련번호를 정렬된 바이너리 형식으로 변환
+-- 기존 revoked_serial_numbers(TEXT, 세미콜론 구분)는 조회마다 split + 선형 탐색이 필요하므로
+-- 정수 값 순으로 정렬된 길이-prefix 바이너리(revoked_serials)로 변환하여 이진 탐색을 지원한다.
+--
+-- 형식: [len(1 byte)][magnitude bytes(len)] ... (길이 오름차순 → 바이트 사전순, 중복 제거)
+--   예: 'A1;00FF;0123' → [01 A1][01 FF][02 01 23]
+
+ALTER TABLE certificate_revocation_list ADD COLUMN revoked_serials BYTEA;
+
+UPDATE certificate_revocation_list crl
+SET revoked_serials = COALESCE((
+    SELECT string_agg(set_byte(decode('00', 'hex'), 0, length(s.magnitude)) || s.magnitude, ''::bytea
+                      ORDER BY length(s.magnitude), s.magnitude)
+    FROM (
+        SELECT DISTINCT decode(lpad(h.hex, length(h.hex) + length(h.hex) % 2, '0'), 'hex') AS magnitude
+        FROM (
+            -- 선행 0 제거 (전부 0이면 '0')
+            SELECT COALESCE(NULLIF(ltrim(upper(trim(token)), '0'), ''), '0') AS hex
+            FROM unnest(string_to_array(crl.revoked_serial_numbers, ';')) AS token
+            WHERE trim(token) <> ''
+        ) h
+    ) s
+), ''::bytea);
+
+ALTER TABLE certificate_revocation_list ALTER COLUMN revoked_serials SET DEFAULT ''::bytea;
+ALTER TABLE certificate_revocation_list ALTER COLUMN revoked_serials SET NOT NULL;
+
+COMMENT ON COLUMN certificate_revocation_list.revoked_serials IS
+    'Revoked serial numbers: sorted length-prefixed unsigned magnitudes (binary-searchable)';
+
+-- 기존 TEXT 컬럼은 애플리케이션에서 더 이상 사용하지 않음 (롤백 호환을 위해 유지, 이후 마이그레이션에서 제거)
+COMMENT ON COLUMN certificate_revocation_list.revoked_serial_numbers IS
+    'DEPRECATED since V5: superseded by revoked_serials';
@@ -0,0 +1,10 @@
+-- V6: PA 검증 이력 커서(keyset) 페이지 조회용 인덱스
+-- 이력 조회는 (started_at DESC, id DESC) 순으로 정렬하고 마지막 행 위치 이후부터 읽으므로,
+-- 동일 started_at 행까지 id로 정렬된 복합 인덱스로 OFFSET 없이 필요한 행만 스캔한다.
+
+CREATE INDEX IF NOT EXISTS idx_passport_started_at_id
+    ON passport_data(started_at DESC, id DESC);
+
+-- 국가 필터 + 최신순 이력 조회
+CREATE INDEX IF NOT EXISTS idx_passport_country_started_at_id
+    ON passport_data(issuing_country, started_at DESC, id DESC);
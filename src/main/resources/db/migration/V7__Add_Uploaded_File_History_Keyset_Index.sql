@@ -0,0 +1,9 @@
+-- V7: 업로드 이력 커서(keyset) 페이지 조회용 인덱스
+-- 이력은 (uploaded_at DESC, id DESC) 순으로 정렬하고 이전 페이지 마지막 행 위치 이후부터 읽으므로,
+-- 동일 uploaded_at 행까지 id로 정렬된 복합 인덱스로 OFFSET 없이 필요한 행만 스캔한다.
+-- 기존 idx_uploaded_file_uploaded_at(uploaded_at DESC)는 이 인덱스의 접두어이므로 대체된다.
+
+CREATE INDEX IF NOT EXISTS idx_uploaded_file_uploaded_at_id
+    ON uploaded_file(uploaded_at DESC, id DESC);
+
+DROP INDEX IF EXISTS idx_uploaded_file_uploaded_at;
@@ -0,0 +1,7 @@
+-- V8: 인증서 일련 번호 조회용 인덱스
+-- Delta LDIF의 delete/modify 레코드는 DN(cn=Subject DN+sn=일련 번호)으로 대상 인증서를 지정하므로,
+-- 일련 번호로 후보 인증서를 찾는다. 인덱스가 없으면 레코드마다 certificate 전체를 스캔하게 되어
+-- 델타 적용 시간이 델타 크기가 아닌 컬렉션 크기에 비례한다.
+
+CREATE INDEX IF NOT EXISTS idx_certificate_serial_number
+    ON certificate(x509_serial_number);
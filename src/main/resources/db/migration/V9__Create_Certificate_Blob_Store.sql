@@ -0,0 +1,43 @@
+-- V9: 인증서 DER 바이너리 content-addressed 저장소
+-- 같은 인증서의 DER 바이트가 parsed_certificate.certificate_binary(업로드마다 새 사본)와
+-- certificate.x509_certificate_binary에 중복 저장되어 DB 크기, WAL 양, 백업/VACUUM 시간이
+-- 업로드 횟수에 비례해 늘어난다. DER은 SHA-256 지문을 키로 certificate_blob에 한 번만 저장하고
+-- 두 테이블은 지문 컬럼으로 참조한다.
+--
+-- 참조 카운트 대신 mark-and-sweep GC(CertificateBlobGarbageCollector)가 어느 테이블에서도
+-- 참조되지 않고 last_seen_at이 유예 시간보다 오래된 blob을 삭제한다. 저장 시 이미 있는 blob의
+-- last_seen_at을 갱신하므로 진행 중인 트랜잭션이 참조하려는 blob은 삭제되지 않는다.
+
+CREATE TABLE IF NOT EXISTS certificate_blob (
+    sha256 VARCHAR(64) PRIMARY KEY,
+    der BYTEA NOT NULL,
+    last_seen_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- GC 후보 조회용 (last_seen_at이 유예 시간보다 오래된 blob)
+CREATE INDEX IF NOT EXISTS idx_certificate_blob_last_seen_at
+    ON certificate_blob(last_seen_at);
+
+-- 기존 바이너리 이관 (지문은 소문자 16진수 SHA-256)
+INSERT INTO certificate_blob (sha256, der)
+SELECT x509_fingerprint_sha256, x509_certificate_binary
+FROM certificate
+WHERE x509_fingerprint_sha256 IS NOT NULL
+ON CONFLICT (sha256) DO NOTHING;
+
+INSERT INTO certificate_blob (sha256, der)
+SELECT DISTINCT ON (fingerprint_sha256) fingerprint_sha256, certificate_binary
+FROM parsed_certificate
+WHERE fingerprint_sha256 IS NOT NULL
+ON CONFLICT (sha256) DO NOTHING;
+
+ALTER TABLE certificate
+    ADD CONSTRAINT fk_certificate_blob
+    FOREIGN KEY (x509_fingerprint_sha256) REFERENCES certificate_blob(sha256);
+
+ALTER TABLE parsed_certificate
+    ADD CONSTRAINT fk_parsed_certificate_blob
+    FOREIGN KEY (fingerprint_sha256) REFERENCES certificate_blob(sha256);
+
+ALTER TABLE certificate DROP COLUMN x509_certificate_binary;
+ALTER TABLE parsed_certificate DROP COLUMN certificate_binary;
@@ -0,0 +1,115 @@
+package com.smartcoreinc.localpkd.certificatevalidation.domain.model;
+
+import com.smartcoreinc.localpkd.shared.exception.DomainException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("RevokedCertificates Value Object Tests")
+class RevokedCertificatesTest {
+
+    @Test
+    @DisplayName("폐기 일련번호 조회: 대소문자/선행 0 무시")
+    void contains_IgnoresCaseAndLeadingZeros() {
+        // Given
+        RevokedCertificates revoked = RevokedCertificates.of(Set.of("0a1b", "FEDCBA0987654321", "0"));
+
+        // Then
+        assertThat(revoked.contains("A1B")).isTrue();
+        assertThat(revoked.contains("000A1B")).isTrue();
+        assertThat(revoked.contains("fedcba0987654321")).isTrue();
+        assertThat(revoked.contains("00")).isTrue();
+        assertThat(revoked.contains("A1C")).isFalse();
+        assertThat(revoked.contains("XYZ")).isFalse();
+        assertThat(revoked.contains("")).isFalse();
+        assertThat(revoked.contains(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("동일 정수 값의 일련번호는 하나로 저장")
+    void of_DuplicateValues_Deduplicated() {
+        // Given
+        RevokedCertificates revoked = RevokedCertificates.of(Set.of("0A", "a", "000A", "0123"));
+
+        // Then
+        assertThat(revoked.calculateCount()).isEqualTo(2);
+        assertThat(revoked.getSerialNumbers()).containsExactlyInAnyOrder("0A", "0123");
+    }
+
+    @Test
+    @DisplayName("대량 일련번호: 이진 탐색 결과가 집합 포함 여부와 일치")
+    void contains_LargeCrl_MatchesSetMembership() {
+        // Given
+        Random random = new Random(42);
+        Set<BigInteger> values = new HashSet<>();
+        Set<String> serials = new HashSet<>();
+        for (int i = 0; i < 20_000; i++) {
+            BigInteger value = new BigInteger(1 + random.nextInt(160), random);
+            values.add(value);
+            serials.add(value.toString(16));
+        }
+        RevokedCertificates revoked = RevokedCertificates.of(serials);
+
+        // Then
+        assertThat(revoked.calculateCount()).isEqualTo(values.size());
+        for (BigInteger value : values) {
+            assertThat(revoked.contains(value.toString(16).toUpperCase())).isTrue();
+        }
+        for (int i = 0; i < 2_000; i++) {
+            BigInteger probe = new BigInteger(1 + random.nextInt(160), random);
+            assertThat(revoked.contains(probe.toString(16))).isEqualTo(values.contains(probe));
+        }
+    }
+
+    @Test
+    @DisplayName("빈 폐기 목록")
+    void empty_ContainsNothing() {
+        RevokedCertificates revoked = RevokedCertificates.empty();
+
+        assertThat(revoked.isEmpty()).isTrue();
+        assertThat(revoked.calculateCount()).isZero();
+        assertThat(revoked.contains("01")).isFalse();
+        assertThat(revoked.getSerialNumbers()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("16진수가 아닌 일련번호는 생성 시 거부")
+    void of_InvalidHex_ThrowsDomainException() {
+        assertThatThrownBy(() -> RevokedCertificates.of(Set.of("12G4")))
+            .isInstanceOf(DomainException.class);
+    }
+
+    @Test
+    @DisplayName("CRL 항목 일련번호(BigInteger)로 생성: 16진수 문자열로 생성한 것과 동등")
+    void ofSerialNumbers_MatchesHexFactory() {
+        // Given
+        RevokedCertificates revoked = RevokedCertificates.ofSerialNumbers(List.of(
+            BigInteger.valueOf(0x0A1B), new BigInteger("FEDCBA0987654321", 16), BigInteger.ZERO, BigInteger.valueOf(0x0A1B)));
+
+        // Then
+        assertThat(revoked).isEqualTo(RevokedCertificates.of(Set.of("0A1B", "FEDCBA0987654321", "0")));
+        assertThat(revoked.contains("a1b")).isTrue();
+        assertThat(revoked.calculateCount()).isEqualTo(3);
+        assertThat(RevokedCertificates.ofSerialNumbers(List.of())).isEqualTo(RevokedCertificates.empty());
+        assertThatThrownBy(() -> RevokedCertificates.ofSerialNumbers(List.of(BigInteger.valueOf(-1))))
+            .isInstanceOf(DomainException.class);
+    }
+
+    @Test
+    @DisplayName("동일 일련번호 집합은 동등")
+    void equals_SameSerials_Equal() {
+        RevokedCertificates a = RevokedCertificates.of(Set.of("01", "02"));
+        RevokedCertificates b = RevokedCertificates.of(Set.of("2", "1"));
+        a.contains("01"); // 오프셋 인덱스 구성 여부는 동등성에 영향 없음
+
+        assertThat(a).isEqualTo(b).hasSameHashCodeAs(b);
+    }
+}
@@ -0,0 +1,103 @@
+package com.smartcoreinc.localpkd.certificatevalidation.infrastructure.cache;
+
+import com.smartcoreinc.localpkd.certificatevalidation.domain.model.CertificateId;
+import com.smartcoreinc.localpkd.certificatevalidation.domain.model.CertificateStatus;
+import com.smartcoreinc.localpkd.certificatevalidation.domain.model.TrustedCsca;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("CscaIndex - AKI/SKI 및 정규화 DN 기반 CSCA 색인 테스트")
+class CscaIndexTest {
+
+    private static final Path CERT_DIR = Paths.get("src/test/resources/test-data/certificates");
+
+    private static X509Certificate cscaX509;
+    private static X509Certificate dscX509;
+
+    @BeforeAll
+    static void loadCertificates() throws Exception {
+        CertificateFactory factory = CertificateFactory.getInstance("X.509");
+        try (InputStream csca = Files.newInputStream(CERT_DIR.resolve("korean-csca.pem"));
+             InputStream dsc = Files.newInputStream(CERT_DIR.resolve("korean-dsc.pem"))) {
+            cscaX509 = (X509Certificate) factory.generateCertificate(csca);
+            dscX509 = (X509Certificate) factory.generateCertificate(dsc);
+        }
+    }
+
+    @Test
+    @DisplayName("DSC의 AKI는 발급 CSCA의 SKI와 일치")
+    void keyIdentifiers_DscAkiMatchesCscaSki() {
+        String ski = CscaIndex.subjectKeyIdentifier(cscaX509);
+        String aki = CscaIndex.authorityKeyIdentifier(dscX509);
+
+        assertThat(ski).isEqualTo("f37f189c575b626b041835f5fac2468e8c687a17");
+        assertThat(aki).isEqualTo(ski);
+    }
+
+    @Test
+    @DisplayName("DN 정규화: RDN 순서/대소문자/공백 차이를 무시")
+    void normalizeDn_IgnoresOrderCaseAndSpacing() {
+        String rfc2253 = "CN=CSCA003,OU=MOFA,O=Government,C=KR";
+        String reversed = "C=KR, O=Government, OU=MOFA, CN=CSCA003";
+        String lowerCase = "cn=csca003,ou=mofa,o=government,c=kr";
+
+        assertThat(CscaIndex.normalizeDn(reversed)).isEqualTo(CscaIndex.normalizeDn(rfc2253));
+        assertThat(CscaIndex.normalizeDn(lowerCase)).isEqualTo(CscaIndex.normalizeDn(rfc2253));
+        assertThat(CscaIndex.normalizeDn("CN=CSCA004,OU=MOFA,O=Government,C=KR"))
+            .isNotEqualTo(CscaIndex.normalizeDn(rfc2253));
+    }
+
+    @Test
+    @DisplayName("발급자 후보: SKI 일치 CSCA가 DN만 일치하는 최신 CSCA보다 먼저 반환")
+    void findIssuerCandidates_SkiMatchBeforeDnMatch() {
+        // Given: 동일 DN을 가진 두 CSCA (키 교체) - 실제 발급 CSCA가 더 오래됨
+        TrustedCsca issuing = trustedCsca(cscaX509, LocalDateTime.now().minusYears(2));
+        TrustedCsca rolledOver = trustedCsca(mock(X509Certificate.class), LocalDateTime.now());
+
+        CscaIndex index = CscaIndex.build(List.of(rolledOver, issuing));
+
+        // When
+        List<TrustedCsca> candidates = index.findIssuerCandidates(
+            CscaIndex.authorityKeyIdentifier(dscX509), dscX509.getIssuerX500Principal().getName());
+
+        // Then
+        assertThat(candidates).containsExactly(issuing, rolledOver);
+        assertThat(index.findBySubjectDn("C=KR,O=Government,OU=MOFA,CN=CSCA003")).containsExactly(rolledOver, issuing);
+        assertThat(index.findByCountry("kr")).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("AKI가 없거나 일치하지 않으면 DN으로만 조회")
+    void findIssuerCandidates_UnknownAki_FallsBackToDn() {
+        TrustedCsca csca = trustedCsca(cscaX509, LocalDateTime.now());
+        CscaIndex index = CscaIndex.build(List.of(csca));
+
+        assertThat(index.findIssuerCandidates("00ff", "CN=CSCA003,OU=MOFA,O=Government,C=KR")).containsExactly(csca);
+        assertThat(index.findIssuerCandidates(null, "CN=Unknown,C=KR")).isEmpty();
+    }
+
+    private static TrustedCsca trustedCsca(X509Certificate certificate, LocalDateTime createdAt) {
+        return new TrustedCsca(
+            new CertificateId(UUID.randomUUID()),
+            "C=KR, O=Government, OU=MOFA, CN=CSCA003",
+            "KR",
+            CertificateStatus.VALID,
+            createdAt,
+            certificate
+        );
+    }
+}
@@ -0,0 +1,87 @@
+package com.smartcoreinc.localpkd.certificatevalidation.infrastructure.cache;
+
+import com.smartcoreinc.localpkd.certificatevalidation.domain.model.Certificate;
+import com.smartcoreinc.localpkd.certificatevalidation.domain.model.CertificateId;
+import com.smartcoreinc.localpkd.certificatevalidation.domain.model.X509Data;
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.Security;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("CscaKeyCacheService - CSCA 공개키 캐시 LRU 크기 제한 및 통계")
+class CscaKeyCacheServiceTest {
+
+    private static final Path CERT_DIR = Paths.get("src/test/resources/test-data/certificates");
+
+    private static byte[] cscaDer;
+
+    @BeforeAll
+    static void loadCsca() throws Exception {
+        if (Security.getProvider("BC") == null) {
+            Security.addProvider(new BouncyCastleProvider());
+        }
+        try (InputStream in = Files.newInputStream(CERT_DIR.resolve("korean-csca.pem"))) {
+            cscaDer = ((X509Certificate) CertificateFactory.getInstance("X.509").generateCertificate(in)).getEncoded();
+        }
+    }
+
+    @Test
+    @DisplayName("같은 CSCA는 최초 1회만 디코딩하고 이후 적중")
+    void getPublicKey_DecodesOnce() {
+        // Given
+        CscaKeyCacheService cache = new CscaKeyCacheService(10);
+        Certificate csca = csca();
+
+        // When
+        cache.getPublicKey(csca);
+        cache.getX509Certificate(csca);
+
+        // Then
+        assertThat(cache.getStats()).isEqualTo(new CscaKeyCacheService.CacheStats(1, 10, 1, 1, 0));
+    }
+
+    @Test
+    @DisplayName("최대 항목 수 초과 시 가장 오래 사용되지 않은 항목부터 제거")
+    void maxEntries_EvictsLeastRecentlyUsed() {
+        // Given
+        CscaKeyCacheService cache = new CscaKeyCacheService(2);
+        Certificate first = csca();
+        Certificate second = csca();
+        Certificate third = csca();
+        cache.getPublicKey(first);
+        cache.getPublicKey(second);
+        cache.getPublicKey(first); // second가 가장 오래 사용되지 않은 항목
+
+        // When
+        cache.getPublicKey(third);
+
+        // Then
+        assertThat(cache.getMemoryCacheSize()).isEqualTo(2);
+        assertThat(cache.getStats().evictions()).isEqualTo(1);
+        assertThat(cache.evict(second.getId())).isFalse();
+        assertThat(cache.evict(first.getId())).isTrue();
+        assertThat(cache.evict(third.getId())).isTrue();
+    }
+
+    private static Certificate csca() {
+        Certificate certificate = mock(Certificate.class);
+        when(certificate.getId()).thenReturn(new CertificateId(UUID.randomUUID()));
+        X509Data x509Data = mock(X509Data.class);
+        when(x509Data.getCertificateBinary()).thenReturn(cscaDer);
+        when(certificate.getX509Data()).thenReturn(x509Data);
+        return certificate;
+    }
+}
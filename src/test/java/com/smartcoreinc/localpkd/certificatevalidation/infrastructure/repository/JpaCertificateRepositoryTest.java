@@ -0,0 +1,141 @@
+package com.smartcoreinc.localpkd.certificatevalidation.infrastructure.repository;
+
+import com.smartcoreinc.localpkd.certificatevalidation.domain.model.Certificate;
+import com.smartcoreinc.localpkd.certificatevalidation.domain.model.CertificateId;
+import com.smartcoreinc.localpkd.certificatevalidation.domain.model.CertificateStatus;
+import com.smartcoreinc.localpkd.certificatevalidation.domain.model.CertificateStatusProjection;
+import com.smartcoreinc.localpkd.certificatevalidation.domain.model.CertificateType;
+import com.smartcoreinc.localpkd.certificatevalidation.domain.model.IssuerInfo;
+import com.smartcoreinc.localpkd.certificatevalidation.domain.model.SubjectInfo;
+import com.smartcoreinc.localpkd.certificatevalidation.domain.model.ValidityPeriod;
+import com.smartcoreinc.localpkd.certificatevalidation.domain.model.X509Data;
+import com.smartcoreinc.localpkd.fileupload.domain.model.UploadId;
+import com.smartcoreinc.localpkd.shared.blob.CertificateBlob;
+import com.smartcoreinc.localpkd.shared.blob.CertificateBlobStore;
+import com.smartcoreinc.localpkd.shared.event.EventBus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * JpaCertificateRepositoryTest - DER 바이너리의 certificate_blob 저장 및 {@code @Formula} 조회 통합 테스트
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@EntityScan(basePackages = "com.smartcoreinc.localpkd")
+@Import({JpaCertificateRepository.class, CertificateBlobStore.class, EventBus.class})
+@DisplayName("JpaCertificateRepository - certificate_blob 기반 DER 저장/조회")
+class JpaCertificateRepositoryTest {
+
+    private static final byte[] DER = {0x30, (byte) 0x82, 0x01, 0x0a, 0x02, 0x01};
+
+    @Autowired
+    private JpaCertificateRepository repository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    @DisplayName("save 후 다시 조회하면 DER이 certificate_blob에서 읽힘")
+    void save_ThenFind_ReadsDerThroughFormula() {
+        // Given
+        Certificate certificate = certificate(fingerprint('a'), "0A");
+
+        // When
+        repository.save(certificate);
+        entityManager.flush();
+        entityManager.clear();
+
+        // Then
+        Certificate found = repository.findById(certificate.getId()).orElseThrow();
+        assertThat(found.getX509Data().getCertificateBinary()).containsExactly(DER);
+        assertThat(entityManager.find(CertificateBlob.class, fingerprint('a')).getDer()).containsExactly(DER);
+    }
+
+    @Test
+    @DisplayName("saveAll은 인증서마다 blob을 저장하고 지문 조회 시 각자의 DER을 반환")
+    void saveAll_ThenFindByFingerprint_ReadsEachDer() {
+        // Given
+        Certificate first = certificate(fingerprint('b'), "0B");
+        Certificate second = certificate(fingerprint('c'), "0C", new byte[] {0x30, 0x03});
+
+        // When
+        repository.saveAll(List.of(first, second));
+        entityManager.flush();
+        entityManager.clear();
+
+        // Then
+        assertThat(repository.findByFingerprint(fingerprint('b')).orElseThrow()
+            .getX509Data().getCertificateBinary()).containsExactly(DER);
+        assertThat(repository.findByFingerprint(fingerprint('c')).orElseThrow()
+            .getX509Data().getCertificateBinary()).containsExactly(0x30, 0x03);
+    }
+
+    @Test
+    @DisplayName("업로드 ID와 fingerprint로 ID/상태만 조회 (다른 업로드의 같은 범위 인증서는 제외)")
+    void findStatusesByUploadIdAndFingerprintIn_ReturnsOnlyThisUpload() {
+        // Given
+        UploadId uploadId = UploadId.newId();
+        Certificate valid = certificate(uploadId, fingerprint('d'), "0D", DER, CertificateStatus.VALID);
+        Certificate invalid = certificate(uploadId, fingerprint('e'), "0E", DER, CertificateStatus.INVALID);
+        Certificate otherUpload = certificate(fingerprint('f'), "0F");
+        repository.saveAll(List.of(valid, invalid, otherUpload));
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        List<CertificateStatusProjection> statuses = repository.findStatusesByUploadIdAndFingerprintIn(
+            uploadId.getId(), Set.of(fingerprint('d'), fingerprint('e'), fingerprint('f')));
+
+        // Then
+        assertThat(statuses)
+            .extracting(CertificateStatusProjection::fingerprintSha256, CertificateStatusProjection::isValid)
+            .containsExactlyInAnyOrder(
+                tuple(fingerprint('d'), true),
+                tuple(fingerprint('e'), false));
+        assertThat(statuses)
+            .extracting(CertificateStatusProjection::certificateId)
+            .containsExactlyInAnyOrder(valid.getId(), invalid.getId());
+    }
+
+    private static Certificate certificate(String fingerprint, String serialNumber) {
+        return certificate(fingerprint, serialNumber, DER);
+    }
+
+    private static Certificate certificate(String fingerprint, String serialNumber, byte[] der) {
+        return certificate(UploadId.newId(), fingerprint, serialNumber, der, CertificateStatus.VALID);
+    }
+
+    private static Certificate certificate(UploadId uploadId, String fingerprint, String serialNumber, byte[] der,
+                                           CertificateStatus status) {
+        LocalDateTime now = LocalDateTime.now();
+        return Certificate.createForTest(
+            CertificateId.newId(),
+            uploadId,
+            CertificateType.DSC,
+            SubjectInfo.of("CN=DSC " + serialNumber + ",C=KR", "KR", null, null, "DSC " + serialNumber),
+            IssuerInfo.of("CN=CSCA,C=KR", "KR", null, null, "CSCA", true),
+            ValidityPeriod.of(now.minusDays(1), now.plusYears(1)),
+            X509Data.ofIncomplete(der, null, serialNumber, fingerprint),
+            status
+        );
+    }
+
+    private static String fingerprint(char key) {
+        return String.valueOf(key).repeat(64);
+    }
+}
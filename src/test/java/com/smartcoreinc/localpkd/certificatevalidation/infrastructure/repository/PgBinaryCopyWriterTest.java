@@ -0,0 +1,165 @@
+package com.smartcoreinc.localpkd.certificatevalidation.infrastructure.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PgBinaryCopyWriterTest - PostgreSQL COPY BINARY 형식의 바이트 단위 검증
+ */
+@DisplayName("PgBinaryCopyWriter - COPY BINARY 바이트 형식")
+class PgBinaryCopyWriterTest {
+
+    /**
+     * 11바이트 서명 + flags(int32) + header extension 길이(int32)
+     */
+    private static final int HEADER_LENGTH = 19;
+
+    private ByteArrayOutputStream output;
+    private PgBinaryCopyWriter writer;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        output = new ByteArrayOutputStream();
+        writer = new PgBinaryCopyWriter(output);
+    }
+
+    @Test
+    @DisplayName("헤더: PGCOPY 서명, flags 0, 확장 길이 0")
+    void header() {
+        assertThat(output.toByteArray()).containsExactly(
+            'P', 'G', 'C', 'O', 'P', 'Y', '\n', 0xFF, '\r', '\n', 0,
+            0, 0, 0, 0,
+            0, 0, 0, 0);
+    }
+
+    @Test
+    @DisplayName("trailer: 필드 수 -1 (0xFFFF) 기록 후 스트림 종료")
+    void trailer() throws IOException {
+        writer.close();
+
+        assertThat(body()).containsExactly(0xFF, 0xFF);
+    }
+
+    @Test
+    @DisplayName("행 시작: 필드 수 int16")
+    void startRow() throws IOException {
+        writer.startRow(12);
+
+        assertThat(body()).containsExactly(0, 12);
+    }
+
+    @Test
+    @DisplayName("NULL: 길이 -1, 값 없음 (null 인자는 모두 NULL로 기록)")
+    void nullValues() throws IOException {
+        writer.writeNull();
+        writer.writeUuid(null);
+        writer.writeText(null);
+        writer.writeBytes(null);
+        writer.writeBoolean(null);
+        writer.writeLong(null);
+        writer.writeTimestamp(null);
+        writer.writeJsonb(null);
+
+        byte[] minusOne = {(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF};
+        ByteBuffer expected = ByteBuffer.allocate(8 * 4);
+        for (int i = 0; i < 8; i++) {
+            expected.put(minusOne);
+        }
+        assertThat(body()).containsExactly(expected.array());
+    }
+
+    @Test
+    @DisplayName("uuid: 길이 16 + 상위/하위 64비트 big-endian")
+    void uuid() throws IOException {
+        UUID value = UUID.fromString("01234567-89ab-cdef-0123-456789abcdef");
+
+        writer.writeUuid(value);
+
+        assertThat(body()).containsExactly(
+            0, 0, 0, 16,
+            0x01, 0x23, 0x45, 0x67, 0x89, 0xAB, 0xCD, 0xEF,
+            0x01, 0x23, 0x45, 0x67, 0x89, 0xAB, 0xCD, 0xEF);
+    }
+
+    @Test
+    @DisplayName("text: 길이 + UTF-8 바이트 (문자 수가 아닌 바이트 수)")
+    void text() throws IOException {
+        writer.writeText("KR대한");
+
+        byte[] utf8 = "KR대한".getBytes(StandardCharsets.UTF_8);
+        assertThat(body()).containsExactly(concat(new byte[] {0, 0, 0, (byte) utf8.length}, utf8));
+    }
+
+    @Test
+    @DisplayName("bytea: 길이 + 원본 바이트 (이스케이프 없음)")
+    void bytes() throws IOException {
+        writer.writeBytes(new byte[] {0x30, (byte) 0x82, 0x00, 0x5C});
+
+        assertThat(body()).containsExactly(0, 0, 0, 4, 0x30, 0x82, 0x00, 0x5C);
+    }
+
+    @Test
+    @DisplayName("boolean: 길이 1 + 0/1")
+    void booleans() throws IOException {
+        writer.writeBoolean(true);
+        writer.writeBoolean(false);
+
+        assertThat(body()).containsExactly(0, 0, 0, 1, 1, 0, 0, 0, 1, 0);
+    }
+
+    @Test
+    @DisplayName("int4/int8: 길이 4/8 + big-endian 값")
+    void integers() throws IOException {
+        writer.writeInt(-2);
+        writer.writeLong(0x0102030405060708L);
+
+        assertThat(body()).containsExactly(
+            0, 0, 0, 4, 0xFF, 0xFF, 0xFF, 0xFE,
+            0, 0, 0, 8, 0x01, 0x02, 0x03, 0x04, 0x05, 0x06, 0x07, 0x08);
+    }
+
+    @Test
+    @DisplayName("timestamp: 2000-01-01 기준 마이크로초 int64 (이전 시각은 음수)")
+    void timestamp() throws IOException {
+        writer.writeTimestamp(LocalDateTime.of(2000, 1, 1, 0, 0));
+        writer.writeTimestamp(LocalDateTime.of(2000, 1, 1, 0, 0, 1, 500_000_000));
+        writer.writeTimestamp(LocalDateTime.of(1999, 12, 31, 23, 59, 59));
+
+        ByteBuffer expected = ByteBuffer.allocate(3 * 12);
+        expected.putInt(8).putLong(0L);
+        expected.putInt(8).putLong(1_500_000L);
+        expected.putInt(8).putLong(-1_000_000L);
+        assertThat(body()).containsExactly(expected.array());
+    }
+
+    @Test
+    @DisplayName("jsonb: 길이(본문 + 1) + 버전 1 + UTF-8 JSON 본문")
+    void jsonb() throws IOException {
+        writer.writeJsonb("{\"cn\":[\"a\"]}");
+
+        byte[] json = "{\"cn\":[\"a\"]}".getBytes(StandardCharsets.UTF_8);
+        assertThat(body()).containsExactly(concat(new byte[] {0, 0, 0, (byte) (json.length + 1), 1}, json));
+    }
+
+    private byte[] body() {
+        byte[] all = output.toByteArray();
+        return Arrays.copyOfRange(all, HEADER_LENGTH, all.length);
+    }
+
+    private static byte[] concat(byte[] first, byte[] second) {
+        byte[] result = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, result, first.length, second.length);
+        return result;
+    }
+}
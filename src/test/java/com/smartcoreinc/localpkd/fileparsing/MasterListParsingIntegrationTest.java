@@ -4,6 +4,7 @@ import com.smartcoreinc.localpkd.fileparsing.application.service.CertificateExis
 import com.smartcoreinc.localpkd.fileparsing.domain.model.ParsedFile;
 import com.smartcoreinc.localpkd.fileparsing.domain.model.ParsedFileId;
 import com.smartcoreinc.localpkd.fileparsing.infrastructure.adapter.MasterListParserAdapter;
+import com.smartcoreinc.localpkd.fileparsing.infrastructure.adapter.ParallelCertificateDecoder;
 import com.smartcoreinc.localpkd.fileupload.domain.model.FileFormat;
 import com.smartcoreinc.localpkd.fileupload.domain.model.UploadId;
 import com.smartcoreinc.localpkd.shared.progress.ProgressService;
@@ -12,6 +13,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.mockito.Mockito;
 import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 
 import java.io.IOException;
 import java.nio.file.Files;
@@ -35,7 +37,9 @@ class MasterListParsingIntegrationTest {
         // Configure mock to always return false for existence check in test
         Mockito.when(certificateExistenceServiceMock.existsByFingerprintSha256(Mockito.anyString())).thenReturn(false);
 
-        masterListParser = new MasterListParserAdapter(progressServiceMock, certificateExistenceServiceMock);
+        ParallelCertificateDecoder parallelDecoder = new ParallelCertificateDecoder(new SimpleAsyncTaskExecutor(), 0, 64);
+
+        masterListParser = new MasterListParserAdapter(progressServiceMock, certificateExistenceServiceMock, parallelDecoder);
 
         // 2. Trust Anchor 설정
         Path trustAnchorPath = Paths.get("data/cert/UN_CSCA_2.pem");
@@ -65,7 +69,7 @@ class MasterListParsingIntegrationTest {
     private void parseFile() throws Exception {
         parsedFile.startParsing();
         masterListParser.parse(masterListBytes, FileFormat.of(FileFormat.Type.ML_SIGNED_CMS), parsedFile);
-        int totalEntries = parsedFile.getCertificates().size() + parsedFile.getCrls().size();
+        int totalEntries = parsedFile.getCertificateCount() + parsedFile.getCrlCount();
         parsedFile.completeParsing(totalEntries);
     }
     
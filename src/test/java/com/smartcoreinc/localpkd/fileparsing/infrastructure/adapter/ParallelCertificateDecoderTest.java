@@ -0,0 +1,149 @@
+package com.smartcoreinc.localpkd.fileparsing.infrastructure.adapter;
+
+import com.smartcoreinc.localpkd.fileparsing.config.FileParsingAsyncConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Slf4j
+@DisplayName("ParallelCertificateDecoder - 순서 보장 병렬 디코딩 테스트")
+class ParallelCertificateDecoderTest {
+
+    private static final Path CERT_DIR = Paths.get("src/test/resources/test-data/certificates");
+
+    private ThreadPoolTaskExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = new FileParsingAsyncConfig().certificateDecodeExecutor(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("병렬 변환 결과는 입력 순서를 유지")
+    void map_PreservesInputOrder() {
+        // Given
+        ParallelCertificateDecoder decoder = new ParallelCertificateDecoder(executor, 4, 8);
+        List<Integer> input = IntStream.range(0, 1000).boxed().toList();
+
+        // When
+        List<Integer> result = decoder.map(input, i -> i * 2);
+
+        // Then
+        assertThat(result).containsExactlyElementsOf(input.stream().map(i -> i * 2).toList());
+    }
+
+    @Test
+    @DisplayName("입력이 minBatchSize 미만이면 호출 스레드에서 순차 처리")
+    void map_SmallInput_RunsOnCallerThread() {
+        // Given
+        ParallelCertificateDecoder decoder = new ParallelCertificateDecoder(executor, 4, 64);
+        String callerThread = Thread.currentThread().getName();
+
+        // When
+        List<String> threads = decoder.map(List.of(1, 2, 3), i -> Thread.currentThread().getName());
+
+        // Then
+        assertThat(threads).containsOnly(callerThread);
+    }
+
+    @Test
+    @DisplayName("mapper 예외는 IllegalStateException으로 전파")
+    void map_MapperThrows_PropagatesIllegalStateException() {
+        // Given
+        ParallelCertificateDecoder decoder = new ParallelCertificateDecoder(executor, 4, 8);
+        List<Integer> input = IntStream.range(0, 100).boxed().toList();
+
+        // When & Then
+        assertThatThrownBy(() -> decoder.map(input, i -> {
+            if (i == 50) {
+                throw new IllegalArgumentException("boom");
+            }
+            return i;
+        }))
+            .isInstanceOf(IllegalStateException.class)
+            .hasRootCauseInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("인증서 디코딩: 순차/병렬 결과(fingerprint 순서) 동일 및 처리량 비교")
+    void decode_SequentialVsParallel_SameFingerprintOrder() throws IOException {
+        // Given: 테스트 인증서(CSCA/DSC)를 번갈아 배치하여 입력 순서 검증이 가능하도록 구성
+        byte[] csca = readPemAsDer(CERT_DIR.resolve("korean-csca.pem"));
+        byte[] dsc = readPemAsDer(CERT_DIR.resolve("korean-dsc.pem"));
+        List<byte[]> input = new ArrayList<>();
+        for (int i = 0; i < 4000; i++) {
+            input.add(i % 3 == 0 ? csca : dsc);
+        }
+
+        int cores = FileParsingAsyncConfig.resolveParallelism(0);
+        ThreadPoolTaskExecutor coreExecutor = new FileParsingAsyncConfig().certificateDecodeExecutor(cores);
+        try {
+            ParallelCertificateDecoder sequential = new ParallelCertificateDecoder(coreExecutor, 1, 64);
+            ParallelCertificateDecoder parallel = new ParallelCertificateDecoder(coreExecutor, cores, 64);
+
+            // 워밍업 (JIT, 스레드별 CertificateFactory 초기화)
+            sequential.map(input, ParallelCertificateDecoderTest::fingerprintOf);
+            parallel.map(input, ParallelCertificateDecoderTest::fingerprintOf);
+
+            // When
+            long seqStart = System.nanoTime();
+            List<String> sequentialResult = sequential.map(input, ParallelCertificateDecoderTest::fingerprintOf);
+            long seqNanos = System.nanoTime() - seqStart;
+
+            long parStart = System.nanoTime();
+            List<String> parallelResult = parallel.map(input, ParallelCertificateDecoderTest::fingerprintOf);
+            long parNanos = System.nanoTime() - parStart;
+
+            // Then
+            assertThat(parallelResult).containsExactlyElementsOf(sequentialResult);
+            assertThat(parallelResult.get(0)).isNotEqualTo(parallelResult.get(1));
+
+            // 처리량은 실행 환경에 따라 달라지므로 로그로만 기록 (속도 향상은 assert하지 않음)
+            log.info("Certificate decode throughput: items={}, sequential={} certs/s, parallel({} threads)={} certs/s",
+                input.size(), throughput(input.size(), seqNanos), cores, throughput(input.size(), parNanos));
+        } finally {
+            coreExecutor.shutdown();
+        }
+    }
+
+    private static String fingerprintOf(byte[] der) {
+        try {
+            return DecodedCertificate.decode(der).getFingerprint();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static long throughput(int items, long nanos) {
+        return nanos == 0 ? 0 : items * 1_000_000_000L / nanos;
+    }
+
+    private static byte[] readPemAsDer(Path pemPath) throws IOException {
+        String pem = Files.readString(pemPath, StandardCharsets.US_ASCII)
+            .replace("-----BEGIN CERTIFICATE-----", "")
+            .replace("-----END CERTIFICATE-----", "")
+            .replaceAll("\\s", "");
+        return Base64.getDecoder().decode(pem);
+    }
+}
@@ -0,0 +1,186 @@
+package com.smartcoreinc.localpkd.fileparsing.infrastructure.repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smartcoreinc.localpkd.fileparsing.domain.model.CertificateData;
+import com.smartcoreinc.localpkd.fileparsing.domain.model.CrlData;
+import com.smartcoreinc.localpkd.fileparsing.domain.model.ParsedFile;
+import com.smartcoreinc.localpkd.fileparsing.domain.model.ParsedFileId;
+import com.smartcoreinc.localpkd.fileparsing.domain.model.ParsingError;
+import com.smartcoreinc.localpkd.fileupload.domain.model.FileFormat;
+import com.smartcoreinc.localpkd.fileupload.domain.model.UploadId;
+import com.smartcoreinc.localpkd.shared.blob.CertificateBlobStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JpaParsedFileRepositoryTest - 파싱 결과 append 저장 및 keyset 페이지 조회 통합 테스트
+ *
+ * <p>parsed_certificate/parsed_crl/parsing_error는 JPA로 매핑되지 않으므로 H2 테이블은
+ * {@code schema-h2.sql}로 생성됩니다.</p>
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@EntityScan(basePackages = "com.smartcoreinc.localpkd")
+@Import({
+    JpaParsedFileRepository.class,
+    ParsedFileContentStore.class,
+    CertificateBlobStore.class,
+    JpaParsedFileRepositoryTest.JacksonConfig.class
+})
+@TestPropertySource(properties = "app.parsing.content.batch-size=2")
+@DisplayName("JpaParsedFileRepository - 파싱 결과 append 및 keyset 페이지 조회")
+class JpaParsedFileRepositoryTest {
+
+    private static final Set<String> DSC_TYPES = Set.of("DSC", "DSC_NC");
+
+    @TestConfiguration
+    static class JacksonConfig {
+        @Bean
+        ObjectMapper objectMapper() {
+            return new ObjectMapper();
+        }
+    }
+
+    @Autowired
+    private JpaParsedFileRepository repository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private ParsedFile parsedFile;
+
+    @BeforeEach
+    void setUp() {
+        parsedFile = ParsedFile.create(ParsedFileId.newId(), UploadId.newId(), FileFormat.of(FileFormat.Type.DSC_COMPLETE_LDIF));
+        parsedFile.startParsing();
+    }
+
+    @Test
+    @DisplayName("save는 대기 중인 인증서/CRL/오류를 추가하고 버퍼를 비움")
+    void save_AppendsPendingContent() {
+        // Given
+        parsedFile.addCertificate(certificate("DSC", 'c'));
+        parsedFile.addCertificate(certificate("CSCA", 'a'));
+        parsedFile.addCertificate(certificate("DSC_NC", 'b'));
+        parsedFile.addCrl(crl("CN=CSCA-KR,C=KR"));
+        parsedFile.addError(ParsingError.parseError("broken entry"));
+
+        // When
+        repository.save(parsedFile);
+        entityManager.flush();
+        entityManager.clear();
+
+        // Then
+        assertThat(parsedFile.hasPendingContent()).isFalse();
+        assertThat(repository.countCertificates(parsedFile.getId(), Set.of("CSCA"))).isEqualTo(1);
+        assertThat(repository.countCertificates(parsedFile.getId(), DSC_TYPES)).isEqualTo(2);
+        assertThat(countRows("parsed_crl")).isEqualTo(1);
+        assertThat(countRows("parsing_error")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("청크별 appendPendingContent 결과를 fingerprint 순서 페이지로 모두 조회 (DER/속성 포함)")
+    void appendPendingContent_ChunksAreReadBackInKeyOrder() {
+        // Given: 첫 청크는 save, 다음 청크는 appendPendingContent로 추가
+        parsedFile.addCertificate(certificate("DSC", 'e'));
+        parsedFile.addCertificate(certificate("DSC", 'b'));
+        repository.save(parsedFile);
+
+        parsedFile.addCertificate(certificate("DSC_NC", 'd'));
+        parsedFile.addCertificate(certificate("DSC", 'a'));
+        parsedFile.addCertificate(certificate("CSCA", 'c'));
+        repository.appendPendingContent(parsedFile);
+        entityManager.flush();
+        entityManager.clear();
+
+        // When: 페이지 크기 2 → 3페이지 (2, 2, 0건)
+        List<CertificateData> dscs = drain(repository.iterateCertificates(parsedFile.getId(), DSC_TYPES, 2));
+
+        // Then
+        assertThat(dscs).extracting(CertificateData::getFingerprintSha256)
+            .containsExactly(fingerprint('a'), fingerprint('b'), fingerprint('d'), fingerprint('e'));
+        CertificateData first = dscs.get(0);
+        assertThat(first.getCertificateBinary()).containsExactly(der('a'));
+        assertThat(first.getAllAttributes()).containsEntry("cn", List.of("DSC a"));
+        assertThat(drain(repository.iterateCertificates(parsedFile.getId(), Set.of("CSCA"), 2)))
+            .extracting(CertificateData::getFingerprintSha256)
+            .containsExactly(fingerprint('c'));
+    }
+
+    @Test
+    @DisplayName("CRL은 Issuer DN 순서 페이지로 조회")
+    void iterateCrls_ReturnsAllPagesInIssuerOrder() {
+        // Given
+        parsedFile.addCrl(crl("CN=CSCA-NZ,C=NZ"));
+        parsedFile.addCrl(crl("CN=CSCA-FR,C=FR"));
+        parsedFile.addCrl(crl("CN=CSCA-KR,C=KR"));
+        repository.save(parsedFile);
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        List<CrlData> crls = drain(repository.iterateCrls(parsedFile.getId(), 1));
+
+        // Then
+        assertThat(crls).extracting(CrlData::getIssuerDN)
+            .containsExactly("CN=CSCA-FR,C=FR", "CN=CSCA-KR,C=KR", "CN=CSCA-NZ,C=NZ");
+        assertThat(crls.get(0).getCrlBinary()).containsExactly(1, 2, 3);
+    }
+
+    private long countRows(String table) {
+        Number count = (Number) entityManager.getEntityManager()
+            .createNativeQuery("SELECT COUNT(*) FROM " + table + " WHERE parsed_file_id = :id")
+            .setParameter("id", parsedFile.getId().getId())
+            .getSingleResult();
+        return count.longValue();
+    }
+
+    private static CertificateData certificate(String type, char key) {
+        LocalDateTime now = LocalDateTime.now();
+        return CertificateData.of(
+            type, "KR", "CN=" + type + " " + key + ",C=KR", "CN=CSCA,C=KR", "0" + (int) key,
+            now.minusDays(1), now.plusYears(1), der(key), fingerprint(key), true,
+            Map.of("cn", List.of(type + " " + key)));
+    }
+
+    private static CrlData crl(String issuerDn) {
+        LocalDateTime now = LocalDateTime.now();
+        return CrlData.of(issuerDn.substring(issuerDn.length() - 2), issuerDn, "1",
+            now.minusDays(1), now.plusDays(30), new byte[] {1, 2, 3}, 0, true);
+    }
+
+    private static String fingerprint(char key) {
+        return String.valueOf(key).repeat(64);
+    }
+
+    private static byte[] der(char key) {
+        return new byte[] {0x30, (byte) key};
+    }
+
+    private static <T> List<T> drain(Iterator<T> iterator) {
+        List<T> result = new ArrayList<>();
+        iterator.forEachRemaining(result::add);
+        return result;
+    }
+}
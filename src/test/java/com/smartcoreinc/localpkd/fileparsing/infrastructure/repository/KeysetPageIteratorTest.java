@@ -0,0 +1,94 @@
+package com.smartcoreinc.localpkd.fileparsing.infrastructure.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("KeysetPageIterator - keyset 페이지 연결 조회")
+class KeysetPageIteratorTest {
+
+    private static final List<String> KEYS = List.of("a", "b", "c", "d", "e");
+
+    @Test
+    @DisplayName("마지막 키 다음부터 페이지를 이어서 조회하고, 짧은 페이지에서 종료")
+    void iteratesAllPagesInKeyOrder() {
+        // Given
+        List<String> requestedKeys = new ArrayList<>();
+        KeysetPageIterator<String> iterator = new KeysetPageIterator<>(recording(requestedKeys), Function.identity(), 2);
+
+        // When
+        List<String> result = drain(iterator);
+
+        // Then
+        assertThat(result).containsExactlyElementsOf(KEYS);
+        assertThat(requestedKeys).containsExactly("", "b", "d");
+    }
+
+    @Test
+    @DisplayName("전체 건수가 페이지 크기의 배수이면 빈 페이지 조회 한 번으로 종료")
+    void exactMultipleOfPageSize_EndsWithEmptyPage() {
+        // Given
+        List<String> requestedKeys = new ArrayList<>();
+        List<String> keys = KEYS.subList(0, 4);
+        KeysetPageIterator<String> iterator = new KeysetPageIterator<>(
+            after -> {
+                requestedKeys.add(after);
+                return keys.stream().filter(key -> key.compareTo(after) > 0).limit(2).toList();
+            },
+            Function.identity(), 2);
+
+        // When
+        List<String> result = drain(iterator);
+
+        // Then
+        assertThat(result).containsExactly("a", "b", "c", "d");
+        assertThat(requestedKeys).containsExactly("", "b", "d");
+    }
+
+    @Test
+    @DisplayName("결과가 없으면 hasNext는 false, next는 NoSuchElementException")
+    void emptyResult() {
+        // Given
+        KeysetPageIterator<String> iterator = new KeysetPageIterator<>(after -> List.of(), Function.identity(), 10);
+
+        // Then
+        assertThat(iterator.hasNext()).isFalse();
+        assertThatThrownBy(iterator::next).isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    @DisplayName("hasNext를 반복 호출해도 페이지를 다시 조회하지 않음")
+    void repeatedHasNext_DoesNotReloadPage() {
+        // Given
+        List<String> requestedKeys = new ArrayList<>();
+        KeysetPageIterator<String> iterator = new KeysetPageIterator<>(recording(requestedKeys), Function.identity(), 10);
+
+        // When
+        iterator.hasNext();
+        iterator.hasNext();
+
+        // Then
+        assertThat(requestedKeys).containsExactly("");
+        assertThat(iterator.next()).isEqualTo("a");
+    }
+
+    private static Function<String, List<String>> recording(List<String> requestedKeys) {
+        return after -> {
+            requestedKeys.add(after);
+            return KEYS.stream().filter(key -> key.compareTo(after) > 0).limit(2).toList();
+        };
+    }
+
+    private static List<String> drain(KeysetPageIterator<String> iterator) {
+        List<String> result = new ArrayList<>();
+        iterator.forEachRemaining(result::add);
+        return result;
+    }
+}
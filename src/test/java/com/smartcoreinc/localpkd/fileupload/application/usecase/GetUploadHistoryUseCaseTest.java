@@ -0,0 +1,86 @@
+package com.smartcoreinc.localpkd.fileupload.application.usecase;
+
+import com.smartcoreinc.localpkd.certificatevalidation.infrastructure.repository.SpringDataCertificateRepository;
+import com.smartcoreinc.localpkd.certificatevalidation.infrastructure.repository.SpringDataCertificateRevocationListRepository;
+import com.smartcoreinc.localpkd.fileparsing.infrastructure.repository.ParsedCertificateQueryRepository;
+import com.smartcoreinc.localpkd.fileparsing.infrastructure.repository.SpringDataMasterListRepository;
+import com.smartcoreinc.localpkd.fileupload.application.query.GetUploadHistoryQuery;
+import com.smartcoreinc.localpkd.fileupload.application.response.UploadHistorySlice;
+import com.smartcoreinc.localpkd.fileupload.infrastructure.exception.FileUploadException;
+import com.smartcoreinc.localpkd.fileupload.infrastructure.repository.SpringDataUploadedFileRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("GetUploadHistoryUseCase - Keyset 커서 해석")
+class GetUploadHistoryUseCaseTest {
+
+    private SpringDataUploadedFileRepository repository;
+    private GetUploadHistoryUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(SpringDataUploadedFileRepository.class);
+        useCase = new GetUploadHistoryUseCase(
+            repository,
+            mock(ParsedCertificateQueryRepository.class),
+            mock(SpringDataCertificateRevocationListRepository.class),
+            mock(SpringDataMasterListRepository.class),
+            mock(SpringDataCertificateRepository.class));
+    }
+
+    @Test
+    @DisplayName("유효한 커서: 커서 위치(업로드 일시, ID) 다음부터 조회")
+    void executeKeyset_ValidCursor_QueriesAfterPosition() {
+        // Given
+        LocalDateTime uploadedAt = LocalDateTime.of(2025, 10, 19, 9, 30, 15, 123_000_000);
+        UUID id = UUID.randomUUID();
+        when(repository.findHistory(any(), any(), any(), anyLong(), anyInt())).thenReturn(List.of());
+
+        // When
+        UploadHistorySlice slice = useCase.executeKeyset(query(cursor(uploadedAt + "|" + id)));
+
+        // Then
+        assertThat(slice.hasNext()).isFalse();
+        assertThat(slice.nextCursor()).isNull();
+        verify(repository).findHistory(any(), eq(uploadedAt), eq(id), eq(0L), eq(21));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"not base64!", "bm8tc2VwYXJhdG9y", "MjAyNS0xMC0xOVQwOTozMHxub3QtYS11dWlk"})
+    @DisplayName("해석할 수 없는 커서: 빈 결과 대신 INVALID_CURSOR 예외 (400)")
+    void executeKeyset_MalformedCursor_ThrowsInvalidCursor(String cursor) {
+        assertThatThrownBy(() -> useCase.executeKeyset(query(cursor)))
+            .isInstanceOf(FileUploadException.class)
+            .extracting(e -> ((FileUploadException) e).getErrorCode())
+            .isEqualTo("INVALID_CURSOR");
+        verify(repository, never()).findHistory(any(), any(), any(), anyLong(), anyInt());
+    }
+
+    private static GetUploadHistoryQuery query(String cursor) {
+        return new GetUploadHistoryQuery(null, null, null, 0, 20, "uploadedAt", "desc", cursor);
+    }
+
+    private static String cursor(String position) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+}
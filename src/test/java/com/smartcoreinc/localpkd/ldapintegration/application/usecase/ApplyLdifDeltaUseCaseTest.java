@@ -0,0 +1,217 @@
+package com.smartcoreinc.localpkd.ldapintegration.application.usecase;
+
+import com.smartcoreinc.localpkd.certificatevalidation.domain.event.CertificateDeletedEvent;
+import com.smartcoreinc.localpkd.certificatevalidation.domain.model.Certificate;
+import com.smartcoreinc.localpkd.certificatevalidation.domain.model.CertificateId;
+import com.smartcoreinc.localpkd.certificatevalidation.domain.model.CertificateStatus;
+import com.smartcoreinc.localpkd.certificatevalidation.domain.model.CertificateType;
+import com.smartcoreinc.localpkd.certificatevalidation.domain.model.CscaProjection;
+import com.smartcoreinc.localpkd.certificatevalidation.domain.model.SubjectInfo;
+import com.smartcoreinc.localpkd.certificatevalidation.domain.model.X509Data;
+import com.smartcoreinc.localpkd.certificatevalidation.domain.repository.CertificateRepository;
+import com.smartcoreinc.localpkd.certificatevalidation.domain.repository.CertificateRevocationListRepository;
+import com.smartcoreinc.localpkd.certificatevalidation.infrastructure.cache.CscaTrustStoreService;
+import com.smartcoreinc.localpkd.ldapintegration.application.response.ApplyLdifDeltaResponse;
+import com.smartcoreinc.localpkd.ldapintegration.infrastructure.adapter.LdifConverter;
+import com.smartcoreinc.localpkd.ldapintegration.infrastructure.adapter.UnboundIdLdapAdapter;
+import com.smartcoreinc.localpkd.shared.event.EventBus;
+import com.unboundid.ldap.sdk.Entry;
+import org.bouncycastle.asn1.x500.X500Name;
+import org.bouncycastle.cert.jcajce.JcaX509v3CertificateBuilder;
+import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.math.BigInteger;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ApplyLdifDeltaUseCase - 일련 번호가 겹치는 인증서의 delete/modify 대상 식별")
+class ApplyLdifDeltaUseCaseTest {
+
+    private static final String SERIAL = "1A2B";
+    private static final String SUBJECT_DN = "CN=DSC 01,O=Government,C=KR";
+    private static final String DSC_DN =
+        "cn=CN\\=DSC 01\\,O\\=Government\\,C\\=KR+sn=1A2B,o=dsc,c=KR,dc=data,dc=download,dc=pkd,dc=icao,dc=int";
+
+    @TempDir
+    Path tempDir;
+
+    private CertificateRepository certificateRepository;
+    private UnboundIdLdapAdapter ldapAdapter;
+    private CscaTrustStoreService trustStore;
+    private ApplyLdifDeltaUseCase useCase;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        certificateRepository = mock(CertificateRepository.class);
+        ldapAdapter = mock(UnboundIdLdapAdapter.class);
+        LdifConverter ldifConverter = mock(LdifConverter.class);
+        when(ldifConverter.certificateToEntry(any())).thenAnswer(invocation ->
+            new Entry("cn=" + ((Certificate) invocation.getArgument(0)).getId().getId() + ",dc=test"));
+        when(ldapAdapter.deleteEntry(any())).thenReturn(true);
+
+        // 트랜잭션 없이 실행되므로 AFTER_COMMIT 리스너는 발행 즉시 호출됨 (fallbackExecution)
+        trustStore = new CscaTrustStoreService(certificateRepository);
+        EventBus eventBus = new EventBus(event -> {
+            if (event instanceof CertificateDeletedEvent deleted) {
+                trustStore.onCertificateDeleted(deleted);
+            }
+        });
+
+        useCase = new ApplyLdifDeltaUseCase(
+            certificateRepository, mock(CertificateRevocationListRepository.class), ldapAdapter, ldifConverter,
+            eventBus);
+    }
+
+    @Test
+    @DisplayName("delete: 같은 일련 번호 중 Subject DN/국가/컨테이너가 일치하는 인증서만 삭제")
+    void delete_OnlyExactMatchIsDeleted() throws Exception {
+        // Given: 같은 일련 번호를 가진 다른 발행자의 인증서들
+        Certificate target = certificate(CertificateType.DSC, SUBJECT_DN, "KR", "aa");
+        Certificate otherCountry = certificate(CertificateType.DSC, "CN=DSC 01,O=Government,C=FR", "FR", "bb");
+        Certificate otherContainer = certificate(CertificateType.DSC_NC, SUBJECT_DN, "KR", "cc");
+        when(certificateRepository.findAllBySerialNumber(SERIAL))
+            .thenReturn(List.of(otherCountry, target, otherContainer));
+
+        // When
+        ApplyLdifDeltaResponse response = useCase.execute(UUID.randomUUID(), ldif(
+            "dn: " + DSC_DN,
+            "changetype: delete"));
+
+        // Then
+        assertThat(response.deletedCertificateCount()).isEqualTo(1);
+        assertThat(response.ldapDeletedCount()).isEqualTo(1);
+        verify(certificateRepository).deleteById(target.getId());
+        verify(certificateRepository, never()).deleteById(otherCountry.getId());
+        verify(certificateRepository, never()).deleteById(otherContainer.getId());
+    }
+
+    @Test
+    @DisplayName("delete: 일련 번호만 같은 유일 후보는 삭제하지 않고 대상 없음으로 집계")
+    void delete_SingleCandidateWithDifferentSubject_IsNotFound() throws Exception {
+        // Given
+        Certificate unrelated = certificate(CertificateType.DSC, "CN=DSC 99,O=Government,C=KR", "KR", "dd");
+        when(certificateRepository.findAllBySerialNumber(SERIAL)).thenReturn(List.of(unrelated));
+
+        // When
+        ApplyLdifDeltaResponse response = useCase.execute(UUID.randomUUID(), ldif(
+            "dn: " + DSC_DN,
+            "changetype: delete"));
+
+        // Then
+        assertThat(response.deletedCertificateCount()).isZero();
+        assertThat(response.notFoundCount()).isEqualTo(1);
+        verify(certificateRepository, never()).deleteById(any());
+        verify(ldapAdapter, never()).deleteEntry(any());
+    }
+
+    @Test
+    @DisplayName("modify: 새 바이너리가 저장되면 일치하는 이전 인증서만 교체 처리")
+    void modify_OnlyExactMatchIsSuperseded() throws Exception {
+        // Given
+        byte[] newBinary = {1, 2, 3};
+        String newFingerprint = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(newBinary));
+        Certificate previous = certificate(CertificateType.DSC, SUBJECT_DN, "KR", "ee");
+        Certificate replacement = certificate(CertificateType.DSC, SUBJECT_DN, "KR", newFingerprint);
+        Certificate unrelated = certificate(CertificateType.DSC, "CN=DSC 99,O=Government,C=KR", "KR", "ff");
+        when(certificateRepository.existsByFingerprint(newFingerprint)).thenReturn(true);
+        when(certificateRepository.findAllBySerialNumber(SERIAL))
+            .thenReturn(List.of(previous, replacement, unrelated));
+
+        // When
+        ApplyLdifDeltaResponse response = useCase.execute(UUID.randomUUID(), ldif(
+            "dn: " + DSC_DN,
+            "changetype: modify",
+            "replace: userCertificate;binary",
+            "userCertificate;binary:: AQID",
+            "-"));
+
+        // Then
+        assertThat(response.supersededCount()).isEqualTo(1);
+        verify(certificateRepository).deleteById(previous.getId());
+        verify(certificateRepository, never()).deleteById(replacement.getId());
+        verify(certificateRepository, never()).deleteById(unrelated.getId());
+    }
+
+    @Test
+    @DisplayName("delete: 삭제된 CSCA는 CSCA 신뢰 저장소에서도 제거")
+    void delete_Csca_IsEvictedFromTrustStore() throws Exception {
+        // Given: 신뢰 저장소에 적재된 CSCA
+        String cscaSubjectDn = "CN=CSCA 01,O=Government,C=KR";
+        Certificate csca = certificate(CertificateType.CSCA, cscaSubjectDn, "KR", "ab");
+        when(certificateRepository.findCscaProjections()).thenReturn(List.of(new CscaProjection(
+            csca.getId(), cscaSubjectDn, "KR", CertificateStatus.VALID,
+            selfSignedDer("CN=CSCA 01,O=Government,C=KR"), LocalDateTime.now())));
+        when(certificateRepository.findAllBySerialNumber("A")).thenReturn(List.of(csca));
+        assertThat(trustStore.findBySubjectDn(cscaSubjectDn)).isPresent();
+
+        // When
+        ApplyLdifDeltaResponse response = useCase.execute(UUID.randomUUID(), ldif(
+            "dn: cn=CN\\=CSCA 01\\,O\\=Government\\,C\\=KR+sn=0A,o=csca,c=KR,dc=data,dc=download,dc=pkd,"
+                + "dc=icao,dc=int",
+            "changetype: delete"));
+
+        // Then
+        assertThat(response.deletedCertificateCount()).isEqualTo(1);
+        verify(certificateRepository).deleteById(csca.getId());
+        assertThat(trustStore.findBySubjectDn(cscaSubjectDn)).isEmpty();
+        assertThat(trustStore.size()).isZero();
+    }
+
+    private Path ldif(String... lines) throws Exception {
+        Path file = tempDir.resolve("delta.ldif");
+        Files.writeString(file, String.join("\n", lines) + "\n", StandardCharsets.UTF_8);
+        return file;
+    }
+
+    private static Certificate certificate(CertificateType type, String subjectDn, String countryCode,
+                                           String fingerprint) {
+        Certificate certificate = mock(Certificate.class);
+        when(certificate.getId()).thenReturn(new CertificateId(UUID.randomUUID()));
+        when(certificate.getCertificateType()).thenReturn(type);
+
+        SubjectInfo subjectInfo = mock(SubjectInfo.class);
+        when(subjectInfo.getDistinguishedName()).thenReturn(subjectDn);
+        when(subjectInfo.getCountryCode()).thenReturn(countryCode);
+        when(certificate.getSubjectInfo()).thenReturn(subjectInfo);
+
+        X509Data x509Data = mock(X509Data.class);
+        when(x509Data.getFingerprintSha256()).thenReturn(fingerprint);
+        when(certificate.getX509Data()).thenReturn(x509Data);
+        return certificate;
+    }
+
+    private static byte[] selfSignedDer(String subjectDn) throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        KeyPair keys = generator.generateKeyPair();
+        Instant now = Instant.now();
+        X500Name name = new X500Name(subjectDn);
+        return new JcaX509v3CertificateBuilder(
+            name, BigInteger.TEN, Date.from(now.minus(1, ChronoUnit.DAYS)), Date.from(now.plus(365, ChronoUnit.DAYS)),
+            name, keys.getPublic())
+            .build(new JcaContentSignerBuilder("SHA256withRSA").build(keys.getPrivate()))
+            .getEncoded();
+    }
+}
@@ -0,0 +1,95 @@
+package com.smartcoreinc.localpkd.ldapintegration.application.usecase;
+
+import com.smartcoreinc.localpkd.certificatevalidation.domain.model.CertificateRevocationList;
+import com.smartcoreinc.localpkd.certificatevalidation.domain.model.CountryCount;
+import com.smartcoreinc.localpkd.certificatevalidation.domain.repository.CertificateRepository;
+import com.smartcoreinc.localpkd.certificatevalidation.domain.repository.CertificateRevocationListRepository;
+import com.smartcoreinc.localpkd.ldapintegration.application.response.SyncLdapSnapshotResponse;
+import com.smartcoreinc.localpkd.ldapintegration.infrastructure.adapter.LdapSnapshotDiff;
+import com.smartcoreinc.localpkd.ldapintegration.infrastructure.adapter.LdifConverter;
+import com.smartcoreinc.localpkd.ldapintegration.infrastructure.adapter.UnboundIdLdapAdapter;
+import com.unboundid.ldap.sdk.Entry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("SyncLdapSnapshotUseCase - 국가별 LDAP 스냅샷 동기화")
+class SyncLdapSnapshotUseCaseTest {
+
+    private static final String FR_CRL_DN = "cn=CSCA-FR,o=crl,c=FR,dc=data,dc=download,dc=pkd,dc=icao,dc=int";
+
+    private CertificateRepository certificateRepository;
+    private CertificateRevocationListRepository crlRepository;
+    private UnboundIdLdapAdapter ldapAdapter;
+    private LdifConverter ldifConverter;
+    private PlatformTransactionManager transactionManager;
+    private SyncLdapSnapshotUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        certificateRepository = mock(CertificateRepository.class);
+        crlRepository = mock(CertificateRevocationListRepository.class);
+        ldapAdapter = mock(UnboundIdLdapAdapter.class);
+        ldifConverter = mock(LdifConverter.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        when(ldapAdapter.applySnapshotDiff(any())).thenAnswer(invocation -> {
+            LdapSnapshotDiff diff = invocation.getArgument(0);
+            return new UnboundIdLdapAdapter.SnapshotApplyResult(
+                diff.adds().size(), diff.modifies().size(), diff.deletes().size(), 0);
+        });
+
+        useCase = new SyncLdapSnapshotUseCase(
+            certificateRepository, crlRepository, ldapAdapter, ldifConverter, transactionManager);
+    }
+
+    @Test
+    @DisplayName("전체 동기화: 인증서 없이 CRL만 있는 국가도 대상에 포함하여 CRL을 게시")
+    void execute_AllCountries_IncludesCrlOnlyCountry() {
+        // Given: KR은 인증서만, FR은 CRL만 보유
+        CertificateRevocationList frCrl = mock(CertificateRevocationList.class);
+        Entry frCrlEntry = new Entry(FR_CRL_DN);
+        when(certificateRepository.countCertificatesByCountry()).thenReturn(List.of(new CountryCount("KR", 0)));
+        when(crlRepository.findDistinctCountryCodes()).thenReturn(List.of("FR"));
+        when(crlRepository.findByCountryCode("FR")).thenReturn(List.of(frCrl));
+        when(ldifConverter.crlToEntry(frCrl)).thenReturn(frCrlEntry);
+
+        // When
+        SyncLdapSnapshotResponse response = useCase.execute(null, false);
+
+        // Then
+        assertThat(response.countryCount()).isEqualTo(2);
+        assertThat(response.addedCount()).isEqualTo(1);
+        verify(certificateRepository).findByCountryCode("FR");
+        verify(crlRepository).findByCountryCode("KR");
+
+        ArgumentCaptor<LdapSnapshotDiff> diffs = ArgumentCaptor.forClass(LdapSnapshotDiff.class);
+        verify(ldapAdapter, times(2)).applySnapshotDiff(diffs.capture());
+        assertThat(diffs.getAllValues()).flatExtracting(LdapSnapshotDiff::adds).containsExactly(frCrlEntry);
+    }
+
+    @Test
+    @DisplayName("DB 읽기 트랜잭션은 국가별로 열리고 LDAP 쓰기 전에 커밋됨")
+    void execute_ReadTransactionPerCountry() {
+        // Given
+        when(certificateRepository.countCertificatesByCountry())
+            .thenReturn(List.of(new CountryCount("DE", 3), new CountryCount("KR", 5)));
+
+        // When
+        useCase.execute(null, false);
+
+        // Then
+        verify(transactionManager, times(2)).getTransaction(any());
+        verify(transactionManager, times(2)).commit(any());
+    }
+}
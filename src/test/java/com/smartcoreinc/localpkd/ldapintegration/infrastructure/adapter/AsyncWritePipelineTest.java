@@ -0,0 +1,146 @@
+package com.smartcoreinc.localpkd.ldapintegration.infrastructure.adapter;
+
+import com.unboundid.ldap.sdk.AddRequest;
+import com.unboundid.ldap.sdk.AsyncResultListener;
+import com.unboundid.ldap.sdk.Entry;
+import com.unboundid.ldap.sdk.LDAPConnection;
+import com.unboundid.ldap.sdk.LDAPConnectionPool;
+import com.unboundid.ldap.sdk.LDAPException;
+import com.unboundid.ldap.sdk.LDAPResult;
+import com.unboundid.ldap.sdk.ResultCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * AsyncWritePipelineTest - 연결별 미완료 요청 상한, 결과 집계, 응답 타임아웃 처리 검증
+ */
+@DisplayName("AsyncWritePipeline - 비동기 LDAP 쓰기 파이프라인")
+class AsyncWritePipelineTest {
+
+    private static final int MAX_OUTSTANDING = 2;
+
+    private LDAPConnectionPool connectionPool;
+    private LDAPConnection connection;
+
+    /**
+     * 전송되었지만 아직 응답하지 않은 요청의 리스너
+     */
+    private Queue<AsyncResultListener> sent;
+
+    private Queue<LDAPResult> results;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        connectionPool = mock(LDAPConnectionPool.class);
+        connection = mock(LDAPConnection.class);
+        sent = new ConcurrentLinkedQueue<>();
+        results = new ConcurrentLinkedQueue<>();
+        when(connectionPool.getConnection()).thenReturn(connection);
+        when(connection.asyncAdd(any(AddRequest.class), any())).thenAnswer(invocation -> {
+            sent.add(invocation.getArgument(1));
+            return null;
+        });
+    }
+
+    @Test
+    @DisplayName("연결별 미완료 요청이 상한이면 응답이 올 때까지 다음 전송을 대기")
+    void submit_BlocksAtMaxOutstanding() throws Exception {
+        AsyncWritePipeline pipeline = AsyncWritePipeline.open(connectionPool, 1, MAX_OUTSTANDING, 0);
+        pipeline.add(addRequest(1), results::add);
+        pipeline.add(addRequest(2), results::add);
+
+        // When: 세 번째 요청은 permit이 없어 대기
+        CompletableFuture<Void> third = CompletableFuture.runAsync(() -> {
+            try {
+                pipeline.add(addRequest(3), results::add);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        Thread.sleep(100);
+        assertThat(third).isNotDone();
+        verify(connection, times(MAX_OUTSTANDING)).asyncAdd(any(AddRequest.class), any());
+
+        // Then: 응답 1건 수신 후 전송됨
+        sent.poll().ldapResultReceived(null, new LDAPResult(1, ResultCode.SUCCESS));
+        third.get(5, TimeUnit.SECONDS);
+        verify(connection, timeout(5_000).times(3)).asyncAdd(any(AddRequest.class), any());
+    }
+
+    @Test
+    @DisplayName("성공/오류 응답과 전송 실패를 요청당 1회씩 콜백, 오류 연결은 폐기")
+    void results_AreDeliveredOncePerRequest() throws Exception {
+        AsyncWritePipeline pipeline = AsyncWritePipeline.open(connectionPool, 1, MAX_OUTSTANDING, 0);
+        pipeline.add(addRequest(1), results::add);
+        pipeline.add(addRequest(2), results::add);
+        sent.poll().ldapResultReceived(null, new LDAPResult(1, ResultCode.SUCCESS));
+        sent.poll().ldapResultReceived(null, new LDAPResult(2, ResultCode.SERVER_DOWN));
+
+        // When: 연결 오류 후 전송은 사용 가능한 연결이 없어 즉시 실패
+        pipeline.add(addRequest(3), results::add);
+
+        // Then
+        assertThat(pipeline.awaitCompletion(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(results).extracting(LDAPResult::getResultCode)
+            .containsExactly(ResultCode.SUCCESS, ResultCode.SERVER_DOWN, ResultCode.SERVER_DOWN);
+        pipeline.close();
+        verify(connectionPool).releaseDefunctConnection(connection);
+        verify(connectionPool, never()).releaseConnection(connection);
+    }
+
+    @Test
+    @DisplayName("전송 시 LDAPException이 발생하면 실패 결과로 콜백")
+    void sendFailure_IsDeliveredAsResult() throws Exception {
+        when(connection.asyncAdd(any(AddRequest.class), any()))
+            .thenThrow(new LDAPException(ResultCode.UNWILLING_TO_PERFORM, "rejected"));
+        AsyncWritePipeline pipeline = AsyncWritePipeline.open(connectionPool, 1, MAX_OUTSTANDING, 0);
+
+        pipeline.add(addRequest(1), results::add);
+
+        assertThat(pipeline.awaitCompletion(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(results).extracting(LDAPResult::getResultCode).containsExactly(ResultCode.UNWILLING_TO_PERFORM);
+    }
+
+    @Test
+    @DisplayName("타임아웃: 미응답 요청은 TIMEOUT 실패로 1회 콜백되고 늦은 응답은 무시, 연결은 폐기")
+    void timeout_FailsOutstandingOperations() throws Exception {
+        AsyncWritePipeline pipeline = AsyncWritePipeline.open(connectionPool, 1, MAX_OUTSTANDING, 0);
+        pipeline.add(addRequest(1), results::add);
+        pipeline.add(addRequest(2), results::add);
+        AsyncResultListener answered = sent.poll();
+        AsyncResultListener late = sent.poll();
+        answered.ldapResultReceived(null, new LDAPResult(1, ResultCode.SUCCESS));
+
+        // When
+        assertThat(pipeline.awaitCompletion(50, TimeUnit.MILLISECONDS)).isFalse();
+        int failed = pipeline.failOutstanding("No response");
+        late.ldapResultReceived(null, new LDAPResult(2, ResultCode.SUCCESS));
+
+        // Then
+        assertThat(failed).isEqualTo(1);
+        assertThat(results).extracting(LDAPResult::getResultCode)
+            .containsExactly(ResultCode.SUCCESS, ResultCode.TIMEOUT);
+        assertThat(pipeline.failOutstanding("No response")).isZero();
+        pipeline.close();
+        verify(connectionPool).releaseDefunctConnection(connection);
+    }
+
+    private static AddRequest addRequest(int index) {
+        return new AddRequest(new Entry("cn=entry-" + index + ",dc=test"));
+    }
+}
@@ -0,0 +1,180 @@
+package com.smartcoreinc.localpkd.ldapintegration.infrastructure.adapter;
+
+import com.unboundid.ldap.sdk.Entry;
+import com.unboundid.ldap.sdk.Modification;
+import com.unboundid.ldap.sdk.ModifyRequest;
+import org.bouncycastle.asn1.ASN1Integer;
+import org.bouncycastle.asn1.x500.X500Name;
+import org.bouncycastle.asn1.x509.Extension;
+import org.bouncycastle.cert.X509v2CRLBuilder;
+import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.time.Instant;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * LdapSnapshotDiffTest - 게시 대상과 LDAP 스냅샷 비교 규칙(ADD/MODIFY/CRL Number/prune) 검증
+ */
+@DisplayName("LdapSnapshotDiff - LDAP 스냅샷 비교")
+class LdapSnapshotDiffTest {
+
+    private static final String CERT_DN = "cn=DSC-01+sn=01,o=dsc,c=KR,dc=data,dc=download,dc=pkd,dc=icao,dc=int";
+    private static final String OTHER_CERT_DN = "cn=DSC-02+sn=02,o=dsc,c=KR,dc=data,dc=download,dc=pkd,dc=icao,dc=int";
+    private static final String CRL_DN = "cn=CSCA-KR,o=crl,c=KR,dc=data,dc=download,dc=pkd,dc=icao,dc=int";
+    private static final X500Name CSCA_NAME = new X500Name("CN=CSCA-KR,C=KR");
+
+    private static KeyPair cscaKeys;
+
+    @BeforeAll
+    static void createKeys() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        cscaKeys = generator.generateKeyPair();
+    }
+
+    @Test
+    @DisplayName("LDAP에 없는 엔트리는 ADD")
+    void missingEntry_IsAdded() {
+        Entry entry = certificateEntry(CERT_DN, new byte[] {1, 2, 3}, "VALID");
+
+        LdapSnapshotDiff diff = LdapSnapshotDiff.compute(desired(entry), Map.of(), false);
+
+        assertThat(diff.adds()).containsExactly(entry);
+        assertThat(diff.modifies()).isEmpty();
+        assertThat(diff.deletes()).isEmpty();
+        assertThat(diff.unchanged()).isZero();
+    }
+
+    @Test
+    @DisplayName("바이너리와 description이 같으면 변경 없음 (DN 대소문자 차이 무시)")
+    void identicalEntry_IsUnchanged() {
+        Entry entry = certificateEntry(CERT_DN, new byte[] {1, 2, 3}, "VALID");
+        Entry ldapEntry = certificateEntry(CERT_DN.toUpperCase(), new byte[] {1, 2, 3}, "VALID");
+
+        LdapSnapshotDiff diff = LdapSnapshotDiff.compute(desired(entry), snapshot(ldapEntry), true);
+
+        assertThat(diff.isEmpty()).isTrue();
+        assertThat(diff.unchanged()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("인증서 바이너리가 다르면 바이너리와 description을 LDAP DN으로 REPLACE")
+    void changedCertificate_IsReplaced() {
+        Entry entry = certificateEntry(CERT_DN, new byte[] {4, 5, 6}, "VALID");
+        Entry ldapEntry = certificateEntry(CERT_DN.toUpperCase(), new byte[] {1, 2, 3}, "VALID");
+
+        LdapSnapshotDiff diff = LdapSnapshotDiff.compute(desired(entry), snapshot(ldapEntry), false);
+
+        assertThat(diff.modifies()).hasSize(1);
+        ModifyRequest modify = diff.modifies().get(0);
+        assertThat(modify.getDN()).isEqualTo(CERT_DN.toUpperCase());
+        assertThat(modify.getModifications())
+            .extracting(Modification::getAttributeName)
+            .containsExactly(LdapSnapshotDiff.CERTIFICATE_ATTRIBUTE, LdapSnapshotDiff.DESCRIPTION_ATTRIBUTE);
+        assertThat(modify.getModifications().get(0).getValueByteArrays()[0]).isEqualTo(new byte[] {4, 5, 6});
+    }
+
+    @Test
+    @DisplayName("description만 다르면 description만 REPLACE")
+    void changedDescription_ReplacesDescriptionOnly() {
+        Entry entry = certificateEntry(CERT_DN, new byte[] {1, 2, 3}, "REVOKED");
+        Entry ldapEntry = certificateEntry(CERT_DN, new byte[] {1, 2, 3}, "VALID");
+
+        LdapSnapshotDiff diff = LdapSnapshotDiff.compute(desired(entry), snapshot(ldapEntry), false);
+
+        assertThat(diff.modifies()).hasSize(1);
+        List<Modification> modifications = diff.modifies().get(0).getModifications();
+        assertThat(modifications)
+            .extracting(Modification::getAttributeName)
+            .containsExactly(LdapSnapshotDiff.DESCRIPTION_ATTRIBUTE);
+        assertThat(modifications.get(0).getValues()).containsExactly("REVOKED");
+    }
+
+    @Test
+    @DisplayName("CRL: 게시 대상 CRL Number가 더 클 때만 REPLACE")
+    void crl_ReplacedOnlyWhenNumberIsGreater() throws Exception {
+        Entry ldapCrl = crlEntry(5);
+
+        LdapSnapshotDiff newer = LdapSnapshotDiff.compute(desired(crlEntry(6)), snapshot(ldapCrl), false);
+        LdapSnapshotDiff same = LdapSnapshotDiff.compute(desired(crlEntry(5)), snapshot(ldapCrl), false);
+        LdapSnapshotDiff older = LdapSnapshotDiff.compute(desired(crlEntry(4)), snapshot(ldapCrl), false);
+
+        assertThat(newer.modifies()).hasSize(1);
+        assertThat(newer.modifies().get(0).getModifications())
+            .extracting(Modification::getAttributeName)
+            .containsExactly(LdapSnapshotDiff.CRL_ATTRIBUTE);
+        assertThat(same.isEmpty()).isTrue();
+        assertThat(same.unchanged()).isEqualTo(1);
+        assertThat(older.isEmpty()).isTrue();
+        assertThat(older.unchanged()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("latestCrl: 같은 DN의 CRL 중 CRL Number가 큰 것을 선택")
+    void latestCrl_PicksGreaterNumber() throws Exception {
+        Entry lower = crlEntry(7);
+        Entry higher = crlEntry(8);
+
+        assertThat(LdapSnapshotDiff.latestCrl(lower, higher)).isSameAs(higher);
+        assertThat(LdapSnapshotDiff.latestCrl(higher, lower)).isSameAs(higher);
+    }
+
+    @Test
+    @DisplayName("게시 대상에 없는 LDAP 엔트리는 prune 모드에서만 DELETE")
+    void extraEntry_DeletedOnlyWhenPruning() {
+        Entry entry = certificateEntry(CERT_DN, new byte[] {1, 2, 3}, "VALID");
+        Entry stale = certificateEntry(OTHER_CERT_DN, new byte[] {7, 8, 9}, "VALID");
+        Map<String, LdapSnapshotDiff.EntryDigest> snapshot = snapshot(entry, stale);
+
+        LdapSnapshotDiff pruned = LdapSnapshotDiff.compute(desired(entry), snapshot, true);
+        LdapSnapshotDiff kept = LdapSnapshotDiff.compute(desired(entry), snapshot, false);
+
+        assertThat(pruned.deletes()).containsExactly(OTHER_CERT_DN);
+        assertThat(kept.deletes()).isEmpty();
+        assertThat(kept.unchanged()).isEqualTo(1);
+    }
+
+    private static Entry certificateEntry(String dn, byte[] binary, String description) {
+        Entry entry = new Entry(dn);
+        entry.addAttribute(LdapSnapshotDiff.CERTIFICATE_ATTRIBUTE, binary);
+        entry.addAttribute(LdapSnapshotDiff.DESCRIPTION_ATTRIBUTE, description);
+        return entry;
+    }
+
+    private static Entry crlEntry(long crlNumber) throws Exception {
+        X509v2CRLBuilder builder = new X509v2CRLBuilder(CSCA_NAME, Date.from(Instant.now()));
+        builder.addExtension(Extension.cRLNumber, false, new ASN1Integer(BigInteger.valueOf(crlNumber)));
+        byte[] crl = builder.build(new JcaContentSignerBuilder("SHA256withRSA").build(cscaKeys.getPrivate()))
+            .getEncoded();
+        Entry entry = new Entry(CRL_DN);
+        entry.addAttribute(LdapSnapshotDiff.CRL_ATTRIBUTE, crl);
+        return entry;
+    }
+
+    private static Map<String, Entry> desired(Entry... entries) {
+        Map<String, Entry> desired = new LinkedHashMap<>();
+        for (Entry entry : entries) {
+            desired.put(LdapSnapshotDiff.normalizeDn(entry.getDN()), entry);
+        }
+        return desired;
+    }
+
+    private static Map<String, LdapSnapshotDiff.EntryDigest> snapshot(Entry... entries) {
+        Map<String, LdapSnapshotDiff.EntryDigest> snapshot = new LinkedHashMap<>();
+        for (Entry entry : List.of(entries)) {
+            snapshot.put(LdapSnapshotDiff.normalizeDn(entry.getDN()), LdapSnapshotDiff.EntryDigest.of(entry));
+        }
+        return snapshot;
+    }
+}
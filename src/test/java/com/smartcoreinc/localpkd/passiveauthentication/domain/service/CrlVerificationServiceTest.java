@@ -0,0 +1,173 @@
+package com.smartcoreinc.localpkd.passiveauthentication.domain.service;
+
+import com.smartcoreinc.localpkd.passiveauthentication.domain.model.CrlCheckResult;
+import com.smartcoreinc.localpkd.passiveauthentication.domain.model.VerifiedCrl;
+import org.bouncycastle.asn1.x500.X500Name;
+import org.bouncycastle.asn1.x509.CRLReason;
+import org.bouncycastle.asn1.x509.Extensions;
+import org.bouncycastle.cert.X509v2CRLBuilder;
+import org.bouncycastle.cert.jcajce.JcaX509CRLConverter;
+import org.bouncycastle.cert.jcajce.JcaX509CertificateConverter;
+import org.bouncycastle.cert.jcajce.JcaX509v3CertificateBuilder;
+import org.bouncycastle.operator.ContentSigner;
+import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.cert.X509CRL;
+import java.security.cert.X509CRLEntry;
+import java.security.cert.X509Certificate;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CrlVerificationServiceTest - verifyCrl 색인 결과를 X509CRL 조회와 비교 검증
+ */
+@DisplayName("CrlVerificationService - CRL 서명 검증 및 폐기 목록 색인")
+class CrlVerificationServiceTest {
+
+    private static final X500Name CSCA_NAME = new X500Name("C=KR,O=Government,OU=MOFA,CN=CSCA-TEST");
+    private static final Instant REVOKED_AT = Instant.now().minus(10, ChronoUnit.DAYS).truncatedTo(ChronoUnit.SECONDS);
+
+    /**
+     * 폐기 항목 (삽입 순서는 정렬되지 않음)
+     */
+    private static final BigInteger KEY_COMPROMISED = new BigInteger("7F3A9C0011223344556677", 16);
+    private static final BigInteger SUPERSEDED = BigInteger.valueOf(0x127);
+    private static final BigInteger NO_REASON = BigInteger.ONE;
+    private static final BigInteger CESSATION = new BigInteger("100000000000000000000000000000001");
+
+    private static KeyPair cscaKeys;
+    private static X509Certificate csca;
+    private static X509CRL crl;
+
+    private final CrlVerificationService service = new CrlVerificationService();
+
+    @BeforeAll
+    static void createCscaAndCrl() throws Exception {
+        cscaKeys = generateKeyPair();
+        csca = certificate(CSCA_NAME, BigInteger.TEN, cscaKeys, cscaKeys);
+
+        Instant thisUpdate = Instant.now().minus(1, ChronoUnit.DAYS);
+        X509v2CRLBuilder builder = new X509v2CRLBuilder(CSCA_NAME, Date.from(thisUpdate));
+        builder.setNextUpdate(Date.from(thisUpdate.plus(30, ChronoUnit.DAYS)));
+        builder.addCRLEntry(KEY_COMPROMISED, Date.from(REVOKED_AT), CRLReason.keyCompromise);
+        builder.addCRLEntry(SUPERSEDED, Date.from(REVOKED_AT.plusSeconds(60)), CRLReason.superseded);
+        builder.addCRLEntry(NO_REASON, Date.from(REVOKED_AT.plusSeconds(120)), (Extensions) null);
+        builder.addCRLEntry(CESSATION, Date.from(REVOKED_AT.plusSeconds(180)), CRLReason.cessationOfOperation);
+        crl = new JcaX509CRLConverter().getCRL(builder.build(signer(cscaKeys)));
+    }
+
+    @Test
+    @DisplayName("findRevocation 결과가 X509CRL.getRevokedCertificate와 일치 (폐기/미폐기 시리얼 모두)")
+    void findRevocation_MatchesX509Crl() {
+        // Given
+        VerifiedCrl verifiedCrl = service.verifyCrl(crl, csca);
+        List<BigInteger> serials = List.of(
+            KEY_COMPROMISED, SUPERSEDED, NO_REASON, CESSATION,
+            BigInteger.ZERO, BigInteger.TWO, SUPERSEDED.add(BigInteger.ONE), CESSATION.negate());
+
+        // Then
+        assertThat(verifiedCrl.isSignatureValid()).isTrue();
+        assertThat(verifiedCrl.getRevokedCount()).isEqualTo(crl.getRevokedCertificates().size());
+        for (BigInteger serial : serials) {
+            assertThat(verifiedCrl.findRevocation(serial).isPresent())
+                .as("serial %s", serial.toString(16))
+                .isEqualTo(crl.getRevokedCertificate(serial) != null);
+        }
+    }
+
+    @Test
+    @DisplayName("폐기 일시와 사유 코드를 CRL 항목에서 추출 (사유 없음은 null)")
+    void findRevocation_ExtractsDateAndReason() {
+        // Given
+        VerifiedCrl verifiedCrl = service.verifyCrl(crl, csca);
+
+        // Then
+        for (BigInteger serial : List.of(KEY_COMPROMISED, SUPERSEDED, NO_REASON, CESSATION)) {
+            X509CRLEntry entry = crl.getRevokedCertificate(serial);
+            VerifiedCrl.Revocation revocation = verifiedCrl.findRevocation(serial).orElseThrow();
+
+            assertThat(revocation.revocationDate())
+                .isEqualTo(LocalDateTime.ofInstant(entry.getRevocationDate().toInstant(), ZoneId.systemDefault()));
+            assertThat(revocation.reasonCode())
+                .isEqualTo(entry.getRevocationReason() != null ? entry.getRevocationReason().ordinal() : null);
+        }
+        assertThat(verifiedCrl.findRevocation(KEY_COMPROMISED).orElseThrow().reasonCode()).isEqualTo(1);
+        assertThat(verifiedCrl.findRevocation(SUPERSEDED).orElseThrow().reasonCode()).isEqualTo(4);
+        assertThat(verifiedCrl.findRevocation(CESSATION).orElseThrow().reasonCode()).isEqualTo(5);
+        assertThat(verifiedCrl.findRevocation(NO_REASON).orElseThrow().reasonCode()).isNull();
+        assertThat(verifiedCrl.findRevocation(KEY_COMPROMISED).orElseThrow().revocationDate())
+            .isEqualTo(LocalDateTime.ofInstant(REVOKED_AT, ZoneId.systemDefault()));
+    }
+
+    @Test
+    @DisplayName("폐기된 DSC는 REVOKED, 폐기되지 않은 DSC는 VALID")
+    void verifyCertificate_UsesIndexedRevocations() throws Exception {
+        // Given
+        VerifiedCrl verifiedCrl = service.verifyCrl(crl, csca);
+        KeyPair dscKeys = generateKeyPair();
+        X509Certificate revokedDsc = certificate(new X500Name("C=KR,CN=DSC-REVOKED"), SUPERSEDED, dscKeys, cscaKeys);
+        X509Certificate validDsc = certificate(new X500Name("C=KR,CN=DSC-VALID"), BigInteger.valueOf(0x128), dscKeys, cscaKeys);
+
+        // When
+        CrlCheckResult revoked = service.verifyCertificate(revokedDsc, verifiedCrl);
+        CrlCheckResult valid = service.verifyCertificate(validDsc, verifiedCrl);
+
+        // Then
+        assertThat(revoked.getStatus()).isEqualTo(CrlCheckResult.CrlStatus.REVOKED);
+        assertThat(revoked.getRevocationReason()).isEqualTo(4);
+        assertThat(valid.getStatus()).isEqualTo(CrlCheckResult.CrlStatus.VALID);
+    }
+
+    @Test
+    @DisplayName("다른 CSCA 키로 검증하면 서명 무효, 폐기 목록 미색인, 검사 결과 CRL_INVALID")
+    void verifyCrl_InvalidSignature() throws Exception {
+        // Given: 같은 DN이지만 키가 다른 CSCA (키 교체 전/후)
+        KeyPair otherKeys = generateKeyPair();
+        X509Certificate otherCsca = certificate(CSCA_NAME, BigInteger.valueOf(11), otherKeys, otherKeys);
+        X509Certificate revokedDsc = certificate(new X500Name("C=KR,CN=DSC-REVOKED"), SUPERSEDED, otherKeys, cscaKeys);
+
+        // When
+        VerifiedCrl verifiedCrl = service.verifyCrl(crl, otherCsca);
+
+        // Then
+        assertThat(verifiedCrl.isSignatureValid()).isFalse();
+        assertThat(verifiedCrl.getRevokedCount()).isZero();
+        assertThat(verifiedCrl.findRevocation(SUPERSEDED)).isEqualTo(Optional.empty());
+        assertThat(verifiedCrl.isVerifiedWith(otherKeys.getPublic())).isTrue();
+        assertThat(verifiedCrl.isVerifiedWith(cscaKeys.getPublic())).isFalse();
+        assertThat(service.verifyCertificate(revokedDsc, verifiedCrl).getStatus())
+            .isEqualTo(CrlCheckResult.CrlStatus.CRL_INVALID);
+    }
+
+    private static KeyPair generateKeyPair() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        return generator.generateKeyPair();
+    }
+
+    private static ContentSigner signer(KeyPair keys) throws Exception {
+        return new JcaContentSignerBuilder("SHA256withRSA").build(keys.getPrivate());
+    }
+
+    private static X509Certificate certificate(X500Name subject, BigInteger serial, KeyPair subjectKeys,
+                                               KeyPair issuerKeys) throws Exception {
+        Instant now = Instant.now();
+        JcaX509v3CertificateBuilder builder = new JcaX509v3CertificateBuilder(
+            CSCA_NAME, serial, Date.from(now.minus(1, ChronoUnit.DAYS)), Date.from(now.plus(365, ChronoUnit.DAYS)),
+            subject, subjectKeys.getPublic());
+        return new JcaX509CertificateConverter().getCertificate(builder.build(signer(issuerKeys)));
+    }
+}
@@ -1,10 +1,13 @@
 package com.smartcoreinc.localpkd.passiveauthentication.infrastructure.adapter;
 
+import com.smartcoreinc.localpkd.passiveauthentication.domain.model.DataGroupNumber;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 
+import java.math.BigInteger;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -120,4 +123,32 @@ class BouncyCastleSodParserAdapterDebugTest {
         System.out.println("Signature algorithm: " + sigAlg);
         assertNotNull(sigAlg, "Should extract signature algorithm");
     }
+
+    @Test
+    @DisplayName("Debug: Parse SOD once and reuse for all values")
+    void testParseOnce() throws Exception {
+        // Given
+        byte[] sodBytes = Files.readAllBytes(Path.of(SOD_PATH));
+        BouncyCastleSodParserAdapter parser = new BouncyCastleSodParserAdapter();
+
+        // When
+        var parsedSod = parser.parse(sodBytes);
+
+        // Then: known values of the Korean passport fixture (see passport-metadata.json)
+        assertEquals("SHA-256", parsedSod.hashAlgorithm());
+        assertEquals("SHA256withRSA-PSS", parsedSod.signatureAlgorithm());
+        assertEquals("C=KR,O=Government,OU=MOFA,CN=DS0120200313 1", parsedSod.dscInfo().subjectDn());
+        assertEquals("127", parsedSod.dscInfo().serialNumber(), "DSC serial 295 (hex 127)");
+
+        var hashes = parsedSod.dataGroupHashes();
+        assertEquals(4, hashes.size(), "SOD should contain DG1, DG2, DG3 and DG14 hashes");
+        assertEquals(Set.of(DataGroupNumber.DG1, DataGroupNumber.DG2, DataGroupNumber.DG3, DataGroupNumber.DG14),
+            hashes.keySet());
+        assertEquals("9d3cccd94f61440bac64df109d9251051e8e4bbf849048277f897f1ed1e41d4b",
+            hashes.get(DataGroupNumber.DG1).getValue());
+
+        assertSame(parsedSod.dscCertificate(), parsedSod.dscCertificate(), "DSC should be decoded once");
+        assertEquals(new BigInteger("295"), parsedSod.dscCertificate().getSerialNumber());
+        assertTrue(parsedSod.verifySignature(parsedSod.dscCertificate()), "SOD signature should be valid");
+    }
 }
@@ -0,0 +1,133 @@
+package com.smartcoreinc.localpkd.passiveauthentication.infrastructure.cache;
+
+import com.smartcoreinc.localpkd.certificatevalidation.domain.repository.CertificateRevocationListRepository;
+import com.smartcoreinc.localpkd.passiveauthentication.domain.model.VerifiedCrl;
+import com.smartcoreinc.localpkd.passiveauthentication.domain.port.CrlLdapPort;
+import com.smartcoreinc.localpkd.passiveauthentication.domain.service.CrlVerificationService;
+import org.bouncycastle.asn1.x500.X500Name;
+import org.bouncycastle.asn1.x509.CRLReason;
+import org.bouncycastle.cert.X509v2CRLBuilder;
+import org.bouncycastle.cert.jcajce.JcaX509CRLConverter;
+import org.bouncycastle.cert.jcajce.JcaX509CertificateConverter;
+import org.bouncycastle.cert.jcajce.JcaX509v3CertificateBuilder;
+import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigInteger;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.cert.X509CRL;
+import java.security.cert.X509Certificate;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * CrlCacheServiceTest - 선제 갱신 시 새 CRL의 서명 검증 결과에 따른 교체/유지 검증
+ */
+@DisplayName("CrlCacheService - nextUpdate 이전 CRL 선제 갱신")
+class CrlCacheServiceTest {
+
+    private static final String CSCA_DN = "CN=CSCA-TEST,O=Government,C=KR";
+    private static final X500Name CSCA_NAME = new X500Name(CSCA_DN);
+    private static final BigInteger REVOKED_SERIAL = BigInteger.valueOf(0x127);
+
+    private static KeyPair cscaKeys;
+    private static X509Certificate csca;
+
+    private CrlLdapPort crlLdapPort;
+    private VerifiedDscCache verifiedDscCache;
+    private CrlCacheService service;
+
+    @BeforeAll
+    static void createCsca() throws Exception {
+        cscaKeys = generateKeyPair();
+        Instant now = Instant.now();
+        csca = new JcaX509CertificateConverter().getCertificate(new JcaX509v3CertificateBuilder(
+            CSCA_NAME, BigInteger.TEN, Date.from(now.minus(1, ChronoUnit.DAYS)),
+            Date.from(now.plus(365, ChronoUnit.DAYS)), CSCA_NAME, cscaKeys.getPublic())
+            .build(new JcaContentSignerBuilder("SHA256withRSA").build(cscaKeys.getPrivate())));
+    }
+
+    @BeforeEach
+    void setUp() {
+        crlLdapPort = mock(CrlLdapPort.class);
+        verifiedDscCache = mock(VerifiedDscCache.class);
+        service = new CrlCacheService(
+            crlLdapPort, mock(CertificateRevocationListRepository.class), new CrlVerificationService(), verifiedDscCache);
+        // nextUpdate까지 1시간 이내인 CRL은 즉시 갱신 대상 (jitter 없음)
+        ReflectionTestUtils.setField(service, "refreshLeadTimeSeconds", 3600L);
+        ReflectionTestUtils.setField(service, "refreshJitterSeconds", 0L);
+        ReflectionTestUtils.setField(service, "refreshRetryIntervalSeconds", 300L);
+    }
+
+    @Test
+    @DisplayName("새 CRL의 서명이 CSCA로 검증되면 교체하고 DSC 검증 캐시를 비움")
+    void refresh_ValidSignature_SwapsCrl() throws Exception {
+        // Given
+        X509CRL current = crl(cscaKeys, Instant.now().minus(1, ChronoUnit.DAYS), false);
+        X509CRL newer = crl(cscaKeys, Instant.now().minus(1, ChronoUnit.MINUTES), true);
+        when(crlLdapPort.findCrlByCsca(CSCA_DN, "KR")).thenReturn(Optional.of(current), Optional.of(newer));
+        assertThat(service.getVerifiedCrl(CSCA_DN, "KR", csca)).isPresent();
+
+        // When
+        service.refreshExpiringCrls();
+
+        // Then
+        assertThat(service.getCrl(CSCA_DN, "KR")).contains(newer);
+        VerifiedCrl verifiedCrl = service.getVerifiedCrl(CSCA_DN, "KR", csca).orElseThrow();
+        assertThat(verifiedCrl.isSignatureValid()).isTrue();
+        assertThat(verifiedCrl.findRevocation(REVOKED_SERIAL)).isPresent();
+        verify(verifiedDscCache).invalidateAll();
+    }
+
+    @Test
+    @DisplayName("새 CRL의 서명 검증에 실패하면 이전 CRL과 검증 뷰를 유지")
+    void refresh_InvalidSignature_KeepsCurrentCrl() throws Exception {
+        // Given: 더 최신이지만 다른 키로 서명된 CRL
+        X509CRL current = crl(cscaKeys, Instant.now().minus(1, ChronoUnit.DAYS), false);
+        X509CRL forged = crl(generateKeyPair(), Instant.now().minus(1, ChronoUnit.MINUTES), true);
+        when(crlLdapPort.findCrlByCsca(CSCA_DN, "KR")).thenReturn(Optional.of(current), Optional.of(forged));
+        assertThat(service.getVerifiedCrl(CSCA_DN, "KR", csca)).isPresent();
+
+        // When
+        service.refreshExpiringCrls();
+
+        // Then
+        assertThat(service.getCrl(CSCA_DN, "KR")).contains(current);
+        VerifiedCrl verifiedCrl = service.getVerifiedCrl(CSCA_DN, "KR", csca).orElseThrow();
+        assertThat(verifiedCrl.isSignatureValid()).isTrue();
+        assertThat(verifiedCrl.findRevocation(REVOKED_SERIAL)).isEmpty();
+        verify(verifiedDscCache, never()).invalidateAll();
+    }
+
+    /**
+     * nextUpdate가 30분 후인 CRL (lead time 이내이므로 다음 주기에 갱신 대상)
+     */
+    private static X509CRL crl(KeyPair signerKeys, Instant thisUpdate, boolean withRevocation) throws Exception {
+        X509v2CRLBuilder builder = new X509v2CRLBuilder(CSCA_NAME, Date.from(thisUpdate));
+        builder.setNextUpdate(Date.from(Instant.now().plus(30, ChronoUnit.MINUTES)));
+        if (withRevocation) {
+            builder.addCRLEntry(REVOKED_SERIAL, Date.from(thisUpdate), CRLReason.keyCompromise);
+        }
+        return new JcaX509CRLConverter().getCRL(
+            builder.build(new JcaContentSignerBuilder("SHA256withRSA").build(signerKeys.getPrivate())));
+    }
+
+    private static KeyPair generateKeyPair() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        return generator.generateKeyPair();
+    }
+}
@@ -0,0 +1,103 @@
+package com.smartcoreinc.localpkd.shared.blob;
+
+import com.smartcoreinc.localpkd.certificatevalidation.domain.model.Certificate;
+import com.smartcoreinc.localpkd.certificatevalidation.domain.model.CertificateId;
+import com.smartcoreinc.localpkd.certificatevalidation.domain.model.CertificateStatus;
+import com.smartcoreinc.localpkd.certificatevalidation.domain.model.CertificateType;
+import com.smartcoreinc.localpkd.certificatevalidation.domain.model.IssuerInfo;
+import com.smartcoreinc.localpkd.certificatevalidation.domain.model.SubjectInfo;
+import com.smartcoreinc.localpkd.certificatevalidation.domain.model.ValidityPeriod;
+import com.smartcoreinc.localpkd.certificatevalidation.domain.model.X509Data;
+import com.smartcoreinc.localpkd.fileupload.domain.model.UploadId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CertificateBlobGarbageCollectorTest - 참조되지 않고 유예 시간이 지난 blob만 삭제되는지 검증
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@EntityScan(basePackages = "com.smartcoreinc.localpkd")
+@Import(CertificateBlobGarbageCollector.class)
+@TestPropertySource(properties = {
+    "app.certificate-blob.gc.grace-period-hours=24",
+    "app.certificate-blob.gc.batch-size=1"
+})
+@DisplayName("CertificateBlobGarbageCollector - 미참조 blob 정리")
+class CertificateBlobGarbageCollectorTest {
+
+    @Autowired
+    private CertificateBlobGarbageCollector garbageCollector;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    @DisplayName("유예 시간이 지난 미참조 blob만 삭제 (참조 중이거나 최근 저장된 blob은 유지)")
+    void collect_DeletesOnlyUnreferencedBlobsPastGracePeriod() {
+        // Given
+        LocalDateTime expired = LocalDateTime.now().minusHours(48);
+        insertBlob(fingerprint('a'), expired);                          // 미참조 + 유예 경과 → 삭제
+        insertBlob(fingerprint('b'), expired);                          // 미참조 + 유예 경과 → 삭제
+        insertBlob(fingerprint('c'), LocalDateTime.now().minusHours(1)); // 미참조 + 유예 중 → 유지
+        insertBlob(fingerprint('d'), expired);                          // certificate 참조 → 유지
+        entityManager.persist(certificate(fingerprint('d')));
+        entityManager.flush();
+        entityManager.clear();
+
+        // When: batch-size=1 → 여러 배치로 반복 삭제
+        garbageCollector.collect();
+        entityManager.clear();
+
+        // Then
+        assertThat(remainingFingerprints()).containsExactlyInAnyOrder(fingerprint('c'), fingerprint('d'));
+    }
+
+    private void insertBlob(String sha256, LocalDateTime lastSeenAt) {
+        entityManager.getEntityManager()
+            .createNativeQuery("INSERT INTO certificate_blob (sha256, der, last_seen_at) VALUES (:sha256, :der, :seen)")
+            .setParameter("sha256", sha256)
+            .setParameter("der", new byte[] {0x30, 0x00})
+            .setParameter("seen", lastSeenAt)
+            .executeUpdate();
+    }
+
+    private List<String> remainingFingerprints() {
+        return entityManager.getEntityManager()
+            .createQuery("SELECT b.sha256 FROM CertificateBlob b", String.class)
+            .getResultList();
+    }
+
+    private static Certificate certificate(String fingerprint) {
+        LocalDateTime now = LocalDateTime.now();
+        X509Data x509Data = X509Data.ofIncomplete(new byte[] {0x30, 0x00}, null, "01", fingerprint);
+        return Certificate.createForTest(
+            CertificateId.newId(),
+            UploadId.newId(),
+            CertificateType.DSC,
+            SubjectInfo.of("CN=DSC,C=KR", "KR", null, null, "DSC"),
+            IssuerInfo.of("CN=CSCA,C=KR", "KR", null, null, "CSCA", true),
+            ValidityPeriod.of(now.minusDays(1), now.plusYears(1)),
+            x509Data,
+            CertificateStatus.VALID
+        );
+    }
+
+    private static String fingerprint(char key) {
+        return String.valueOf(key).repeat(64);
+    }
+}
@@ -0,0 +1,101 @@
+package com.smartcoreinc.localpkd.shared.blob;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CertificateBlobStoreTest - H2 MERGE 경로의 content-addressed 저장 통합 테스트
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@EntityScan(basePackages = "com.smartcoreinc.localpkd")
+@Import(CertificateBlobStore.class)
+@TestPropertySource(properties = "app.certificate-blob.batch-size=2")
+@DisplayName("CertificateBlobStore - 지문 기준 DER 저장 (H2 MERGE)")
+class CertificateBlobStoreTest {
+
+    @Autowired
+    private CertificateBlobStore blobStore;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    @DisplayName("배치 크기를 넘는 blob을 모두 저장")
+    void storeAll_StoresEveryBlobAcrossBatches() {
+        // Given: batch-size=2 → executeBatch 2회
+        Map<String, byte[]> blobs = new LinkedHashMap<>();
+        blobs.put(fingerprint('a'), new byte[] {0x30, 1});
+        blobs.put(fingerprint('b'), new byte[] {0x30, 2});
+        blobs.put(fingerprint('c'), new byte[] {0x30, 3});
+
+        // When
+        blobStore.storeAll(blobs);
+        entityManager.clear();
+
+        // Then
+        assertThat(countBlobs()).isEqualTo(3);
+        assertThat(entityManager.find(CertificateBlob.class, fingerprint('b')).getDer()).containsExactly(0x30, 2);
+    }
+
+    @Test
+    @DisplayName("같은 지문을 다시 저장해도 행은 하나이고 DER은 그대로")
+    void storeAll_SameFingerprintTwice_KeepsSingleRow() {
+        // Given
+        byte[] der = {0x30, (byte) 0x82, 0x01};
+        blobStore.storeAll(Map.of(fingerprint('d'), der));
+
+        // When: 재업로드된 컬렉션의 같은 인증서
+        blobStore.storeAll(Map.of(fingerprint('d'), der, fingerprint('e'), new byte[] {0x30, 5}));
+        entityManager.clear();
+
+        // Then
+        assertThat(countBlobs()).isEqualTo(2);
+        CertificateBlob blob = entityManager.find(CertificateBlob.class, fingerprint('d'));
+        assertThat(blob.getDer()).containsExactly(der);
+        assertThat(blob.getLastSeenAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("지문 또는 DER이 null인 항목은 건너뜀")
+    void storeAll_SkipsNullEntries() {
+        // Given
+        Map<String, byte[]> blobs = new HashMap<>();
+        blobs.put(fingerprint('f'), null);
+        blobs.put(null, new byte[] {0x30});
+        blobs.put(fingerprint('g'), new byte[] {0x30, 7});
+
+        // When
+        blobStore.storeAll(blobs);
+        entityManager.clear();
+
+        // Then
+        assertThat(countBlobs()).isEqualTo(1);
+        assertThat(entityManager.find(CertificateBlob.class, fingerprint('g'))).isNotNull();
+    }
+
+    private long countBlobs() {
+        return entityManager.getEntityManager()
+            .createQuery("SELECT COUNT(b) FROM CertificateBlob b", Long.class)
+            .getSingleResult();
+    }
+
+    private static String fingerprint(char key) {
+        return String.valueOf(key).repeat(64);
+    }
+}
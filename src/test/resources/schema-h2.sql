@@ -1,5 +1,50 @@
 -- H2-specific schema overrides for testing
--- This file is applied AFTER Flyway migrations to modify constraints for test data
+-- This file is applied AFTER Hibernate schema creation (spring.jpa.defer-datasource-initialization=true)
+-- to modify constraints for test data and to create tables that are not JPA-mapped
 
 -- Make upload_id nullable in certificate table for test fixtures
 ALTER TABLE certificate ALTER COLUMN upload_id SET NULL;
+
+-- ============================================================================
+-- ParsedFile extracted content (ParsedFileContentStore, JDBC only - see V1, V9)
+-- ============================================================================
+
+DROP TABLE IF EXISTS parsed_certificate;
+CREATE TABLE parsed_certificate (
+    parsed_file_id UUID NOT NULL REFERENCES parsed_file(id) ON DELETE CASCADE,
+    cert_type VARCHAR(20) NOT NULL,
+    country_code VARCHAR(3),
+    subject_dn VARCHAR(500) NOT NULL,
+    issuer_dn VARCHAR(500) NOT NULL,
+    serial_number VARCHAR(100) NOT NULL,
+    not_before TIMESTAMP NOT NULL,
+    not_after TIMESTAMP NOT NULL,
+    fingerprint_sha256 VARCHAR(64) NOT NULL REFERENCES certificate_blob(sha256),
+    is_valid BOOLEAN NOT NULL DEFAULT TRUE,
+    all_attributes JSON,
+    PRIMARY KEY (parsed_file_id, fingerprint_sha256)
+);
+
+DROP TABLE IF EXISTS parsed_crl;
+CREATE TABLE parsed_crl (
+    parsed_file_id UUID NOT NULL REFERENCES parsed_file(id) ON DELETE CASCADE,
+    crl_country_code VARCHAR(2),
+    crl_issuer_dn VARCHAR(500) NOT NULL,
+    crl_number VARCHAR(50),
+    crl_this_update TIMESTAMP NOT NULL,
+    crl_next_update TIMESTAMP,
+    crl_binary VARBINARY NOT NULL,
+    revoked_certs_count INT,
+    crl_is_valid BOOLEAN NOT NULL DEFAULT TRUE,
+    PRIMARY KEY (parsed_file_id, crl_issuer_dn)
+);
+
+DROP TABLE IF EXISTS parsing_error;
+CREATE TABLE parsing_error (
+    parsed_file_id UUID NOT NULL REFERENCES parsed_file(id) ON DELETE CASCADE,
+    error_type VARCHAR(50) NOT NULL,
+    error_location VARCHAR(500),
+    error_message VARCHAR(1000) NOT NULL,
+    error_occurred_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (parsed_file_id, error_occurred_at)
+);